@@ -15,9 +15,17 @@
  */
 package com.dattack.jtoolbox.jdbc;
 
+import com.dattack.jtoolbox.jdbc.internal.FetchSizeAdvisor;
+import com.dattack.jtoolbox.jdbc.internal.JdbcMetrics;
+import com.dattack.jtoolbox.jdbc.internal.ResultCache;
+import com.dattack.jtoolbox.jdbc.internal.SlowQueryLog;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
+
 import java.io.PrintWriter;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 import javax.sql.DataSource;
 
@@ -31,12 +39,120 @@ public abstract class AbstractDataSource implements DataSource {
 
     private transient int loginTimeout;
     private transient PrintWriter logWriter;
+    private transient volatile FetchSizeAdvisor fetchSizeAdvisor;
+    private transient volatile JdbcMetrics metrics;
+    private transient volatile SlowQueryLog slowQueryLog;
+    private transient volatile Executor asyncExecutor;
+    private transient volatile ResultCache resultCache;
 
     public AbstractDataSource() {
         this.loginTimeout = 0; // zero means that the timeout is the default system timeout
         // When a DataSource object is created, the log writer is initially null
     }
 
+    /**
+     * Applies the settings of this datasource to a connection before handing it out.
+     *
+     * @param connection the connection
+     * @return the same connection
+     * @throws SQLException if a database access error occurs
+     */
+    protected ProxyConnection configure(final ProxyConnection connection) throws SQLException {
+        final FetchSizeAdvisor advisor = fetchSizeAdvisor;
+        if (Objects.nonNull(advisor)) {
+            connection.setFetchSizeAdvisor(advisor);
+        }
+        final JdbcMetrics registry = metrics;
+        if (Objects.nonNull(registry)) {
+            connection.setMetrics(registry);
+        }
+        final SlowQueryLog log = slowQueryLog;
+        if (Objects.nonNull(log)) {
+            connection.setSlowQueryLog(log);
+        }
+        final Executor executor = asyncExecutor;
+        if (Objects.nonNull(executor)) {
+            connection.setAsyncExecutor(executor);
+        }
+        final ResultCache cache = resultCache;
+        if (Objects.nonNull(cache)) {
+            connection.setResultCache(cache);
+        }
+        return connection;
+    }
+
+    public FetchSizeAdvisor getFetchSizeAdvisor() {
+        return fetchSizeAdvisor;
+    }
+
+    /**
+     * Sets the advisor that tunes the fetch size of the queries executed through the connections obtained from this
+     * datasource. The advisor is shared by all the connections, so the statistics of a SQL statement are collected
+     * across connections.
+     *
+     * @param fetchSizeAdvisor the fetch-size advisor or null to disable the tuning of new connections
+     */
+    public void setFetchSizeAdvisor(final FetchSizeAdvisor fetchSizeAdvisor) {
+        this.fetchSizeAdvisor = fetchSizeAdvisor;
+    }
+
+    public JdbcMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Enables the instrumentation of the statements executed through the connections obtained from this datasource.
+     * The registry is shared by all the connections, so the metrics of a SQL statement are collected across
+     * connections.
+     *
+     * @param metrics the metrics registry or null to disable the instrumentation of new connections
+     */
+    public void setMetrics(final JdbcMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    /**
+     * Sets the log where the named statements executed through the connections obtained from this datasource report
+     * their slow executions. The log is not closed by the datasource.
+     *
+     * @param slowQueryLog the slow query log or null to stop reporting the slow executions of new connections
+     */
+    public void setSlowQueryLog(final SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the executor that runs the asynchronous executions of the named statements created by the connections
+     * obtained from this datasource. The executor is not shut down by the datasource.
+     *
+     * @param asyncExecutor the executor or null to use the default executor in new connections
+     */
+    public void setAsyncExecutor(final Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Sets the cache of the results of the cacheable named statements created by the connections obtained from this
+     * datasource. The cache is shared by all the connections.
+     *
+     * @param resultCache the result cache or null to disable the caching in new connections
+     */
+    public void setResultCache(final ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
     @Override
     public int getLoginTimeout() {
         return loginTimeout;
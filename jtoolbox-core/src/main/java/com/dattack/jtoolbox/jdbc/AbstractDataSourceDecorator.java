@@ -15,6 +15,7 @@
  */
 package com.dattack.jtoolbox.jdbc;
 
+import com.dattack.jtoolbox.jdbc.internal.DialectResolver;
 import com.dattack.jtoolbox.jdbc.internal.ProxyConnectionFactory;
 
 import java.io.PrintWriter;
@@ -33,6 +34,7 @@ import javax.sql.DataSource;
 public abstract class AbstractDataSourceDecorator implements DataSource, JdbcObjectProxy<DataSource> {
 
     private final transient DataSource delegate;
+    private final transient DialectResolver dialectResolver = new DialectResolver();
 
     public AbstractDataSourceDecorator(final DataSource delegate) {
         this.delegate = delegate;
@@ -45,12 +47,12 @@ public abstract class AbstractDataSourceDecorator implements DataSource, JdbcObj
 
     @Override
     public Connection getConnection() throws SQLException {
-        return ProxyConnectionFactory.build(getDelegate().getConnection());
+        return ProxyConnectionFactory.build(getDelegate().getConnection(), dialectResolver);
     }
 
     @Override
     public Connection getConnection(final String username, final String password) throws SQLException {
-        return ProxyConnectionFactory.build(getDelegate().getConnection(username, password));
+        return ProxyConnectionFactory.build(getDelegate().getConnection(username, password), dialectResolver);
     }
 
     @Override
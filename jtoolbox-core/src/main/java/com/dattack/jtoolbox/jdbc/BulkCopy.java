@@ -0,0 +1,523 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import com.dattack.jtoolbox.jdbc.QueryPipeline.Failure;
+import com.dattack.jtoolbox.jdbc.internal.AbstractDisconnectedResultSet;
+import com.dattack.jtoolbox.jdbc.internal.ExtendedStatement;
+import com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatement;
+import com.dattack.jtoolbox.jdbc.internal.ParameterHandle;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+
+/**
+ * Copies the rows of a query executed on a source {@link DataSource} into a table of a target {@link DataSource}. The
+ * rows are read by a background thread and written by the calling thread with batched inserts of a
+ * {@link NamedPreparedStatement}, so the reading and the writing overlap. Both threads exchange batches of rows
+ * through a bounded buffer: a slow target stops the reading instead of filling the memory.
+ *
+ * <p>The target transaction is committed every a given number of rows and at the end of the copy. When the copy
+ * fails, the rows written since the last commit are rolled back and the rows already committed are kept.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class BulkCopy {
+
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final int DEFAULT_BUFFER_SIZE = 4;
+    private static final int DEFAULT_COMMIT_INTERVAL = 10_000;
+    private static final int DEFAULT_FETCH_SIZE = 1_000;
+
+    private final transient DataSource source;
+    private final transient String query;
+    private final transient DataSource target;
+    private final transient String table;
+    private final transient String[] columns;
+    private final transient int batchSize;
+    private final transient int commitInterval;
+    private final transient int fetchSize;
+    private final transient int bufferSize;
+    private final transient ExecutorService executor;
+    private final transient Consumer<? super Progress> progressListener;
+
+    /* default */ BulkCopy(final BulkCopyBuilder builder) {
+        this.source = builder.source;
+        this.query = builder.query;
+        this.target = builder.target;
+        this.table = builder.table;
+        this.columns = builder.columns;
+        this.batchSize = builder.batchSize;
+        this.commitInterval = builder.commitInterval;
+        this.fetchSize = builder.fetchSize;
+        this.bufferSize = builder.bufferSize;
+        this.executor = builder.executor;
+        this.progressListener = builder.progressListener;
+    }
+
+    /**
+     * Copies all the rows of the source query into the target table.
+     *
+     * @return the final progress of the copy
+     * @throws SQLException if the rows can't be read or written
+     */
+    public Progress execute() throws SQLException {
+        final Counters counters = new Counters();
+        final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean closed = new AtomicBoolean();
+        final ExecutorService service = getExecutorService();
+        final Future<?> reader;
+        try {
+            reader = service.submit(() -> read(queue, closed, counters));
+        } finally {
+            QueryPipeline.release(service, executor);
+        }
+
+        try {
+            write(queue, counters);
+        } finally {
+            closed.set(true);
+            reader.cancel(true);
+            queue.clear();
+        }
+        return counters.snapshot();
+    }
+
+    private ExecutorService getExecutorService() {
+        return QueryPipeline.getExecutorService(executor, 1, "bulk-copy");
+    }
+
+    private static void put(final BlockingQueue<Object> queue, final Object item, final AtomicBoolean closed,
+        final Counters counters)
+    {
+        final long start = System.nanoTime();
+        try {
+            QueryPipeline.put(queue, item, closed);
+        } finally {
+            counters.readerWaitNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private static Object take(final BlockingQueue<Object> queue, final Counters counters) throws SQLException {
+        final long start = System.nanoTime();
+        try {
+            return QueryPipeline.unwrap(queue.take());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the source rows", e);
+        } finally {
+            counters.writerWaitNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Reads the source rows and sends them to the buffer: first the columns, then the batches of rows and, at last,
+     * the end marker.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void read(final BlockingQueue<Object> queue, final AtomicBoolean closed, final Counters counters) {
+        try {
+            QueryPipeline.readInTransaction(source, connection -> {
+                try (Statement statement = QueryPipeline.createStatement(connection)) {
+                    QueryPipeline.enableStreaming(statement, fetchSize);
+                    try (ResultSet resultSet = statement.executeQuery(query)) {
+                        readRows(resultSet, queue, closed, counters);
+                    }
+                }
+                return null;
+            });
+        } catch (final SQLException | RuntimeException e) {
+            put(queue, new Failure(e), closed, counters);
+        } finally {
+            put(queue, QueryPipeline.END, closed, counters);
+        }
+    }
+
+    private void readRows(final ResultSet resultSet, final BlockingQueue<Object> queue, final AtomicBoolean closed,
+        final Counters counters) throws SQLException
+    {
+        final Header header = new Header(resultSet.getMetaData());
+        put(queue, header, closed, counters);
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        while (!closed.get() && resultSet.next()) {
+            final Object[] row = new Object[header.types.length];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = AbstractDisconnectedResultSet.readValue(resultSet, i + 1, header.types[i]);
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                counters.rowsRead.addAndGet(batch.size());
+                put(queue, batch, closed, counters);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            counters.rowsRead.addAndGet(batch.size());
+            put(queue, batch, closed, counters);
+        }
+    }
+
+    private void write(final BlockingQueue<Object> queue, final Counters counters) throws SQLException {
+        final Object first = take(queue, counters);
+        if (first == QueryPipeline.END) { // NOPMD - the marker is compared by reference
+            return;
+        }
+        final Header header = (Header) first;
+
+        try (Connection connection = target.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (NamedPreparedStatement statement = QueryPipeline.prepare(connection, createInsert(header))) {
+                writeRows(connection, statement, header, queue, counters);
+            } catch (final SQLException | RuntimeException e) {
+                rollback(connection, e);
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeRows(final Connection connection, final NamedPreparedStatement statement, final Header header,
+        final BlockingQueue<Object> queue, final Counters counters) throws SQLException
+    {
+        final ParameterHandle[] handles = new ParameterHandle[header.types.length];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = statement.handle(parameterName(i));
+        }
+
+        long uncommitted = 0;
+        Object item = take(queue, counters);
+        while (item != QueryPipeline.END) { // NOPMD - the marker is compared by reference
+            final List<Object[]> batch = (List<Object[]>) item;
+            for (final Object[] row : batch) {
+                for (int i = 0; i < row.length; i++) {
+                    if (Objects.isNull(row[i])) {
+                        statement.setNull(handles[i], header.types[i]);
+                    } else {
+                        statement.setObject(handles[i], row[i]);
+                    }
+                }
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            counters.rowsWritten += batch.size();
+            uncommitted += batch.size();
+            if (commitInterval > 0 && uncommitted >= commitInterval) {
+                commit(connection, counters);
+                uncommitted = 0;
+            }
+            item = take(queue, counters);
+        }
+        if (uncommitted > 0 || counters.commitCount == 0) {
+            commit(connection, counters);
+        }
+    }
+
+    private void commit(final Connection connection, final Counters counters) throws SQLException {
+        connection.commit();
+        counters.commitCount++;
+        if (Objects.nonNull(progressListener)) {
+            progressListener.accept(counters.snapshot());
+        }
+    }
+
+    private static void rollback(final Connection connection, final Exception cause) {
+        try {
+            connection.rollback();
+        } catch (final SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static String parameterName(final int index) {
+        return "c" + (index + 1);
+    }
+
+    private String createInsert(final Header header) throws SQLException {
+        final String[] names = Objects.isNull(columns) ? header.labels : columns;
+        if (names.length != header.types.length) {
+            throw new SQLException(String.format("The source query returns %d columns but %d target columns are set",
+                header.types.length, names.length));
+        }
+
+        final StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (");
+        final StringBuilder values = new StringBuilder(") VALUES (");
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+                values.append(", ");
+            }
+            sql.append(names[i]);
+            values.append(':').append(parameterName(i));
+        }
+        return sql.append(values).append(')').toString();
+    }
+
+    /**
+     * The labels and types of the source columns, sent through the buffer before the rows.
+     */
+    private static final class Header {
+
+        private final transient String[] labels;
+        private final transient int[] types;
+
+        private Header(final ResultSetMetaData metaData) throws SQLException {
+            final int count = metaData.getColumnCount();
+            this.labels = new String[count];
+            this.types = new int[count];
+            for (int i = 0; i < count; i++) {
+                labels[i] = metaData.getColumnLabel(i + 1);
+                types[i] = metaData.getColumnType(i + 1);
+            }
+        }
+    }
+
+    /**
+     * The counters of an execution. The rows read and the waits of the reader are updated by the reading thread; the
+     * rest of the counters, only by the writing thread.
+     */
+    private static final class Counters {
+
+        private final transient long start = System.nanoTime();
+        private final transient AtomicLong rowsRead = new AtomicLong();
+        private final transient AtomicLong readerWaitNanos = new AtomicLong();
+        private transient long rowsWritten;
+        private transient long commitCount;
+        private transient long writerWaitNanos;
+
+        private Progress snapshot() {
+            return new Progress(rowsRead.get(), rowsWritten, commitCount, System.nanoTime() - start,
+                readerWaitNanos.get(), writerWaitNanos);
+        }
+    }
+
+    /**
+     * The progress of a copy. The time the reader waits for free space in the buffer is time lost to a slow target;
+     * the time the writer waits for rows is time lost to a slow source.
+     */
+    public static final class Progress {
+
+        private final long rowsRead;
+        private final long rowsWritten;
+        private final long commitCount;
+        private final long elapsedNanos;
+        private final long readerWaitNanos;
+        private final long writerWaitNanos;
+
+        public Progress(final long rowsRead, final long rowsWritten, final long commitCount, final long elapsedNanos,
+            final long readerWaitNanos, final long writerWaitNanos)
+        {
+            this.rowsRead = rowsRead;
+            this.rowsWritten = rowsWritten;
+            this.commitCount = commitCount;
+            this.elapsedNanos = elapsedNanos;
+            this.readerWaitNanos = readerWaitNanos;
+            this.writerWaitNanos = writerWaitNanos;
+        }
+
+        public long getCommitCount() {
+            return commitCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public long getReaderWaitNanos() {
+            return readerWaitNanos;
+        }
+
+        public long getRowsRead() {
+            return rowsRead;
+        }
+
+        /**
+         * Returns the number of rows written per second since the copy started.
+         *
+         * @return the throughput of the copy
+         */
+        public double getRowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rowsWritten * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        public long getRowsWritten() {
+            return rowsWritten;
+        }
+
+        public long getWriterWaitNanos() {
+            return writerWaitNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Progress[read=%d, written=%d, commits=%d, elapsed=%d ms, rows/s=%.1f, "
+                    + "reader wait=%d ms, writer wait=%d ms]", rowsRead, rowsWritten, commitCount,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getRowsPerSecond(),
+                TimeUnit.NANOSECONDS.toMillis(readerWaitNanos), TimeUnit.NANOSECONDS.toMillis(writerWaitNanos));
+        }
+    }
+
+    /**
+     * Builder used to create {@link BulkCopy} instances.
+     */
+    public static final class BulkCopyBuilder {
+
+        private transient DataSource source;
+        private transient String query;
+        private transient DataSource target;
+        private transient String table;
+        private transient String[] columns;
+        private transient int batchSize = DEFAULT_BATCH_SIZE;
+        private transient int commitInterval = DEFAULT_COMMIT_INTERVAL;
+        private transient int fetchSize = DEFAULT_FETCH_SIZE;
+        private transient int bufferSize = DEFAULT_BUFFER_SIZE;
+        private transient ExecutorService executor;
+        private transient Consumer<? super Progress> progressListener;
+
+        /**
+         * Creates the bulk copy.
+         *
+         * @return the bulk copy
+         * @throws IllegalArgumentException if the configuration is not valid
+         */
+        public BulkCopy build() {
+            if (Objects.isNull(source) || Objects.isNull(query) || Objects.isNull(target) || Objects.isNull(table)) {
+                throw new IllegalArgumentException("The source DataSource and query, and the target DataSource and "
+                    + "table are required");
+            }
+            if (batchSize <= 0 || commitInterval < 0 || fetchSize < 0 || bufferSize <= 0) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid sizes (batch: %d, commit interval: %d, fetch: %d, buffer: %d)", batchSize,
+                        commitInterval, fetchSize, bufferSize));
+            }
+            return new BulkCopy(this);
+        }
+
+        public BulkCopyBuilder withBatchSize(final int value) {
+            this.batchSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches read in advance of the writing.
+         *
+         * @param value the size of the buffer, in batches
+         * @return this builder object
+         */
+        public BulkCopyBuilder withBufferSize(final int value) {
+            this.bufferSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the names of the target columns, in the order of the columns of the source query. By default, the
+         * labels of the source columns.
+         *
+         * @param values the names of the target columns
+         * @return this builder object
+         */
+        public BulkCopyBuilder withColumns(final String... values) {
+            this.columns = Objects.isNull(values) ? null : values.clone();
+            return this;
+        }
+
+        /**
+         * Sets the number of rows written between commits. The commits happen after a whole batch, so the interval is
+         * rounded up to a multiple of the batch size. Zero means a single commit at the end of the copy.
+         *
+         * @param value the number of rows
+         * @return this builder object
+         */
+        public BulkCopyBuilder withCommitInterval(final int value) {
+            this.commitInterval = value;
+            return this;
+        }
+
+        /**
+         * Sets the executor that reads the source rows. By default, a thread is created for each execution.
+         *
+         * @param value the executor, not shut down by this object
+         * @return this builder object
+         */
+        public BulkCopyBuilder withExecutor(final ExecutorService value) {
+            this.executor = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of source rows fetched on each round trip, 1000 by default. The rows are streamed with the
+         * mechanism of the dialect of the source database; a zero value keeps the fetch size of the driver.
+         *
+         * @param value the fetch size
+         * @return this builder object
+         * @see ExtendedStatement#enableStreaming(int)
+         */
+        public BulkCopyBuilder withFetchSize(final int value) {
+            this.fetchSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the listener notified with the progress of the copy after every commit, from the writing thread.
+         *
+         * @param value the listener
+         * @return this builder object
+         */
+        public BulkCopyBuilder withProgressListener(final Consumer<? super Progress> value) {
+            this.progressListener = value;
+            return this;
+        }
+
+        public BulkCopyBuilder withQuery(final String value) {
+            this.query = value;
+            return this;
+        }
+
+        public BulkCopyBuilder withSource(final DataSource value) {
+            this.source = value;
+            return this;
+        }
+
+        public BulkCopyBuilder withTable(final String value) {
+            this.table = value;
+            return this;
+        }
+
+        public BulkCopyBuilder withTarget(final DataSource value) {
+            this.target = value;
+            return this;
+        }
+    }
+}
@@ -15,15 +15,23 @@
  */
 package com.dattack.jtoolbox.jdbc;
 
+import com.dattack.jtoolbox.jdbc.internal.DialectResolver;
+import com.dattack.jtoolbox.jdbc.internal.ExtendedConnection;
+import com.dattack.jtoolbox.jdbc.internal.JdbcDialect;
 import com.dattack.jtoolbox.jdbc.internal.ProxyConnectionFactory;
 import com.dattack.jtoolbox.util.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
 import javax.sql.DataSource;
 
 /**
@@ -38,10 +46,15 @@ public final class InitializableDataSource extends AbstractDataSourceDecorator {
     private static final Logger LOGGER = LoggerFactory.getLogger(InitializableDataSource.class);
 
     private final transient List<String> onConnectStatements;
+    private final transient DialectResolver dialectResolver;
+    private final transient Set<Connection> initializedConnections;
+    private transient volatile Boolean batchSupported;
 
     public InitializableDataSource(final DataSource delegate, final List<String> onConnectStatements) {
         super(delegate);
         this.onConnectStatements = onConnectStatements;
+        this.dialectResolver = new DialectResolver();
+        this.initializedConnections = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
     }
 
     @Override
@@ -60,15 +73,67 @@ public final class InitializableDataSource extends AbstractDataSourceDecorator {
         return ProxyConnectionFactory.build(connection);
     }
 
+    /**
+     * Runs the initialization statements on a connection, unless the physical connection has already been
+     * initialized (for example, a pooled connection handed out again). The statements are sent in a single round
+     * trip when possible: as an anonymous block when the dialect of the connection can combine them, or as a batch
+     * when the driver supports batch updates.
+     */
     private void initialize(final Connection connection) throws SQLException {
 
-        if (CollectionUtils.isNotEmpty(onConnectStatements)) {
-            for (final String sqlStatement : onConnectStatements) {
-                try (Statement stmt = connection.createStatement()) {
-                    execute(stmt, sqlStatement);
+        if (CollectionUtils.isEmpty(onConnectStatements)) {
+            return;
+        }
+
+        final Connection physicalConnection = getPhysicalConnection(connection);
+        if (initializedConnections.contains(physicalConnection)) {
+            LOGGER.trace("Connection already initialized: {}", physicalConnection);
+            return;
+        }
+
+        try (Statement stmt = connection.createStatement()) {
+            if (onConnectStatements.size() == 1) {
+                execute(stmt, onConnectStatements.get(0));
+            } else {
+                final String block = getDialect(connection).toAnonymousBlock(onConnectStatements);
+                if (Objects.nonNull(block)) {
+                    execute(stmt, block);
+                } else if (isBatchSupported(connection)) {
+                    executeBatch(stmt);
+                } else {
+                    for (final String sqlStatement : onConnectStatements) {
+                        execute(stmt, sqlStatement);
+                    }
                 }
             }
         }
+        initializedConnections.add(physicalConnection);
+    }
+
+    private static Connection getPhysicalConnection(final Connection connection) {
+        if (connection instanceof JdbcObjectProxy) {
+            final Object innermost = ((JdbcObjectProxy<?>) connection).getInnermostDelegate();
+            if (innermost instanceof Connection) {
+                return (Connection) innermost;
+            }
+        }
+        return connection;
+    }
+
+    private JdbcDialect getDialect(final Connection connection) throws SQLException {
+        if (connection instanceof ExtendedConnection) {
+            return ((ExtendedConnection) connection).getDialect();
+        }
+        return dialectResolver.resolve(connection);
+    }
+
+    private boolean isBatchSupported(final Connection connection) throws SQLException {
+        Boolean result = batchSupported;
+        if (Objects.isNull(result)) {
+            result = connection.getMetaData().supportsBatchUpdates();
+            batchSupported = result;
+        }
+        return result;
     }
 
     private void execute(final Statement stmt, final String sql) throws SQLException {
@@ -80,4 +145,37 @@ public final class InitializableDataSource extends AbstractDataSourceDecorator {
                     sql, e.getMessage()), e);
         }
     }
+
+    /**
+     * Returns the index of the statement that failed in a batch. Drivers that stop at the first failure report the
+     * update counts of the previous statements; drivers that continue report {@link Statement#EXECUTE_FAILED} for
+     * the statements that failed.
+     */
+    private static int getFailedIndex(final int[] updateCounts) {
+        if (Objects.isNull(updateCounts)) {
+            return -1;
+        }
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                return i;
+            }
+        }
+        return updateCounts.length;
+    }
+
+    private void executeBatch(final Statement stmt) throws SQLException {
+        for (final String sqlStatement : onConnectStatements) {
+            LOGGER.debug("Adding statement to the initialization batch: {}", sqlStatement);
+            stmt.addBatch(sqlStatement);
+        }
+        try {
+            stmt.executeBatch();
+        } catch (final BatchUpdateException e) {
+            final int index = getFailedIndex(e.getUpdateCounts());
+            final String sql = index >= 0 && index < onConnectStatements.size() ? onConnectStatements.get(index)
+                : String.join("; ", onConnectStatements);
+            throw new SQLException(String.format("Error executing initialization statement '%s': %s",
+                    sql, e.getMessage()), e);
+        }
+    }
 }
@@ -15,11 +15,19 @@
  */
 package com.dattack.jtoolbox.jdbc;
 
+import com.dattack.jtoolbox.jdbc.internal.DialectResolver;
 import com.dattack.jtoolbox.jdbc.internal.ProxyConnectionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
 import javax.sql.DataSource;
@@ -27,59 +35,286 @@ import javax.sql.DataSource;
 /**
  * Implementation of a <code>DataSource</code> that references a object registered in a JNDI context.
  *
+ * <p>The object looked up is cached and, when a time-to-live is set, looked up again once it expires; meanwhile,
+ * the expired object is still used. Several JNDI names can be given in order of preference: the first one that
+ * resolves to a <code>DataSource</code> is used. When no name can be resolved, the failure is cached and the lookup
+ * is not retried until an exponential backoff elapses, so the callers fail fast during a JNDI outage instead of
+ * queueing on the lookup.</p>
+ *
  * @author cvarela
  * @since 0.1
  */
 @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
 public final class JNDIDataSource extends AbstractDataSource {
 
-    private final transient String jndiName;
-    private transient volatile DataSource dataSource;
+    private static final Logger LOGGER = LoggerFactory.getLogger(JNDIDataSource.class);
+
+    private final transient List<String> jndiNames;
+    private final transient long ttlNanos;
+    private final transient long initialBackoffNanos;
+    private final transient long maxBackoffNanos;
+    private final transient DialectResolver dialectResolver = new DialectResolver();
+    private final transient ReentrantLock lock = new ReentrantLock();
+    private transient volatile LookupState state = LookupState.EMPTY;
 
     public JNDIDataSource(final String jndiName) {
+        this(new JNDIDataSourceBuilder().withJndiName(jndiName));
+    }
+
+    /* default */ JNDIDataSource(final JNDIDataSourceBuilder builder) {
         super();
-        this.jndiName = jndiName;
+        this.jndiNames = Collections.unmodifiableList(new ArrayList<>(builder.jndiNames));
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(builder.ttlMillis);
+        this.initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(builder.initialBackoffMillis);
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(builder.maxBackoffMillis);
     }
 
-    private void lookup() throws SQLException {
+    private static DataSource lookup(final String jndiName) throws SQLException {
         try {
             final InitialContext context = new InitialContext();
-            final Object obj = context.lookup(jndiName);
-            if (Objects.isNull(obj)) {
-                throw new SQLException("Unknown JNDI resource '" + jndiName + "'");
-            }
+            try {
+                final Object obj = context.lookup(jndiName);
+                if (Objects.isNull(obj)) {
+                    throw new SQLException("Unknown JNDI resource '" + jndiName + "'");
+                }
 
-            if (obj instanceof DataSource) {
-                this.dataSource = (DataSource) obj;
-            } else {
-                throw new SQLException(String.format("Unable to get a Connection (JNDI-name: %s, Class: %s)", jndiName,
-                        obj.getClass()));
+                if (obj instanceof DataSource) {
+                    return (DataSource) obj;
+                }
+                throw new SQLException(String.format("Unable to get a Connection (JNDI-name: %s, Class: %s)",
+                        jndiName, obj.getClass()));
+            } finally {
+                context.close();
             }
-
         } catch (final NamingException e) {
             throw new SQLException(
                     String.format("Unable to get a connection from JNDI name '%s': %s", jndiName, e.getMessage()), e);
         }
     }
 
-    private DataSource getDataSource() throws SQLException {
-        if (Objects.isNull(dataSource)) {
-            synchronized (this) {
-                if (Objects.isNull(dataSource)) {
-                    lookup();
+    /**
+     * Looks up the JNDI names in order and returns the first <code>DataSource</code> found.
+     */
+    private DataSource lookup() throws SQLException {
+        SQLException failure = null;
+        for (final String jndiName : jndiNames) {
+            try {
+                final DataSource result = lookup(jndiName);
+                if (Objects.nonNull(failure)) {
+                    LOGGER.warn("Failing over to JNDI name '{}': {}", jndiName, failure.getMessage());
+                }
+                return result;
+            } catch (final SQLException e) {
+                if (Objects.isNull(failure)) {
+                    failure = e;
+                } else {
+                    failure.setNextException(e);
                 }
             }
         }
-        return dataSource;
+        throw Objects.isNull(failure) ? new SQLException("No JNDI name configured") : failure;
+    }
+
+    private DataSource getDataSource() throws SQLException {
+        LookupState current = state;
+        final long now = System.nanoTime();
+        if (current.isValid(now)) {
+            return current.dataSource;
+        }
+        if (current.isBackingOff(now)) {
+            throw failFast(current);
+        }
+
+        if (lock.tryLock()) {
+            try {
+                current = refresh();
+            } finally {
+                lock.unlock();
+            }
+        } else if (Objects.nonNull(current.dataSource)) {
+            // another thread is refreshing the expired DataSource
+            return current.dataSource;
+        } else if (Objects.nonNull(current.failure)) {
+            throw failFast(current);
+        } else {
+            // first lookup in progress
+            lock.lock();
+            try {
+                current = refresh();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        if (Objects.isNull(current.dataSource)) {
+            throw failFast(current);
+        }
+        return current.dataSource;
+    }
+
+    private static SQLException failFast(final LookupState current) {
+        return new SQLException(String.format("JNDI lookup unavailable after %d failed attempt(s): %s",
+                current.failures, current.failure.getMessage()), current.failure);
+    }
+
+    /**
+     * Looks up the DataSource, unless another thread did it while this one was waiting for the lock. Must be called
+     * holding the lock.
+     */
+    private LookupState refresh() {
+        final LookupState current = state;
+        final long now = System.nanoTime();
+        if (current.isValid(now) || current.isBackingOff(now)) {
+            return current;
+        }
+
+        LookupState next;
+        try {
+            final DataSource dataSource = lookup();
+            if (dataSource != current.dataSource) { // NOPMD - compared by reference is needed
+                dialectResolver.reset();
+            }
+            next = new LookupState(dataSource, ttlNanos > 0 ? now + ttlNanos : Long.MAX_VALUE, null, 0, 0);
+        } catch (final SQLException e) {
+            final int failures = current.failures + 1;
+            final long retryAt = now + getBackoffNanos(failures);
+            if (Objects.isNull(current.dataSource)) {
+                LOGGER.warn("JNDI lookup failed ({} attempt(s)): {}", failures, e.getMessage());
+            } else {
+                LOGGER.warn("JNDI lookup failed ({} attempt(s)), using the DataSource found previously: {}", failures,
+                        e.getMessage());
+            }
+            // an expired DataSource is still used until the lookup succeeds
+            next = new LookupState(current.dataSource, retryAt, e, failures, retryAt);
+        }
+        state = next;
+        return next;
+    }
+
+    private long getBackoffNanos(final int failures) {
+        final int shift = Math.min(failures - 1, 30);
+        final long backoff = initialBackoffNanos << shift;
+        return backoff < 0 || backoff > maxBackoffNanos ? maxBackoffNanos : backoff;
     }
 
     @Override
     public Connection getConnection() throws SQLException {
-        return ProxyConnectionFactory.build(getDataSource().getConnection());
+        return configure(ProxyConnectionFactory.build(getDataSource().getConnection(), dialectResolver));
     }
 
     @Override
     public Connection getConnection(final String username, final String password) throws SQLException {
-        return ProxyConnectionFactory.build(getDataSource().getConnection(username, password));
+        return configure(
+            ProxyConnectionFactory.build(getDataSource().getConnection(username, password), dialectResolver));
+    }
+
+    /**
+     * The outcome of the last lookup.
+     */
+    private static final class LookupState {
+
+        private static final LookupState EMPTY = new LookupState(null, 0, null, 0, 0);
+
+        private final DataSource dataSource;
+        private final long expiresAt;
+        private final SQLException failure;
+        private final int failures;
+        private final long retryAt;
+
+        private LookupState(final DataSource dataSource, final long expiresAt, final SQLException failure,
+            final int failures, final long retryAt)
+        {
+            this.dataSource = dataSource;
+            this.expiresAt = expiresAt;
+            this.failure = failure;
+            this.failures = failures;
+            this.retryAt = retryAt;
+        }
+
+        private boolean isBackingOff(final long now) {
+            return Objects.nonNull(failure) && now - retryAt < 0;
+        }
+
+        private boolean isValid(final long now) {
+            return Objects.nonNull(dataSource) && (expiresAt == Long.MAX_VALUE || now - expiresAt < 0);
+        }
+    }
+
+    /**
+     * The Builder pattern implementation.
+     */
+    public static class JNDIDataSourceBuilder {
+
+        private static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 500;
+        private static final long DEFAULT_MAX_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+        private final transient List<String> jndiNames = new ArrayList<>();
+        private transient long ttlMillis;
+        private transient long initialBackoffMillis = DEFAULT_INITIAL_BACKOFF_MILLIS;
+        private transient long maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+
+        /**
+         * Creates the DataSource.
+         *
+         * @return the DataSource
+         * @throws IllegalArgumentException if no JNDI name has been set or the backoff is not valid
+         */
+        public JNDIDataSource build() {
+            if (jndiNames.isEmpty()) {
+                throw new IllegalArgumentException("At least one JNDI name is required");
+            }
+            if (initialBackoffMillis <= 0 || maxBackoffMillis < initialBackoffMillis) {
+                throw new IllegalArgumentException(String.format("Invalid backoff (initial: %d ms, max: %d ms)",
+                        initialBackoffMillis, maxBackoffMillis));
+            }
+            return new JNDIDataSource(this);
+        }
+
+        /**
+         * Sets the time to wait before retrying a failed lookup. The time doubles after each consecutive failure,
+         * up to the maximum backoff.
+         *
+         * @param value the initial backoff in milliseconds
+         * @return this builder object
+         */
+        public JNDIDataSourceBuilder withInitialBackoff(final long value) {
+            this.initialBackoffMillis = value;
+            return this;
+        }
+
+        /**
+         * Adds a JNDI name to look up. The names are tried in the order they are added, so the following names act
+         * as failover of the previous ones.
+         *
+         * @param value the JNDI name
+         * @return this builder object
+         */
+        public JNDIDataSourceBuilder withJndiName(final String value) {
+            this.jndiNames.add(Objects.requireNonNull(value, "jndiName must not be null"));
+            return this;
+        }
+
+        /**
+         * Sets the maximum time to wait before retrying a failed lookup.
+         *
+         * @param value the maximum backoff in milliseconds
+         * @return this builder object
+         */
+        public JNDIDataSourceBuilder withMaxBackoff(final long value) {
+            this.maxBackoffMillis = value;
+            return this;
+        }
+
+        /**
+         * Sets the time the DataSource looked up is cached before looking it up again, which also allows returning
+         * to a preferred JNDI name after a failover.
+         *
+         * @param value the time-to-live in milliseconds, 0 or a negative value to cache the DataSource forever
+         * @return this builder object
+         */
+        public JNDIDataSourceBuilder withTtl(final long value) {
+            this.ttlMillis = value;
+            return this;
+        }
     }
 }
@@ -0,0 +1,536 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import com.dattack.jtoolbox.concurrent.SimpleThreadFactory;
+import com.dattack.jtoolbox.jdbc.internal.AbstractProxyConnection;
+import com.dattack.jtoolbox.jdbc.internal.DialectResolver;
+import com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatement;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnectionFactory;
+import com.dattack.jtoolbox.util.function.ThrowingSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+/**
+ * A {@link DataSource} decorator that keeps alive the connections it hands out. A background task validates the
+ * connections that have been idle for the keep-alive interval, with {@link Connection#isValid(int)} or a validation
+ * query, so the firewalls don't drop them. When a connection is found broken, it is replaced with a new one the next
+ * time it is used, unless a transaction was in progress, restoring the auto-commit mode, the read-only mode, the
+ * transaction isolation, the catalog and the schema set through the connection.
+ *
+ * <p>A connection is idle when none of its methods has been called for the keep-alive interval and none of its
+ * statements is open, so a statement or a result set in use is never disturbed by the validation. The statements
+ * report the decorated connection as their connection. A connection broken while it's being used is not replaced, and
+ * the statements obtained from a replaced connection keep failing.</p>
+ *
+ * <p>Only the state set through the JDBC methods is restored on the replacement. The session state set with SQL, such
+ * as the <code>ALTER SESSION</code> statements of an {@link InitializableDataSource}, is only restored when the
+ * decorated DataSource sets it on every new physical connection: decorate the {@link InitializableDataSource} with
+ * this class, not the other way round.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class KeepAliveDataSource extends AbstractDataSourceDecorator implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeepAliveDataSource.class);
+
+    private final transient long keepAliveIntervalNanos;
+    private final transient int validationTimeoutSeconds;
+    private final transient String validationQuery;
+    private final transient DialectResolver dialectResolver;
+    private final transient Set<KeepAliveConnection> connections;
+    private final transient ScheduledExecutorService scheduler;
+
+    /* default */ KeepAliveDataSource(final KeepAliveDataSourceBuilder builder) {
+        super(Objects.requireNonNull(builder.dataSource, "dataSource must not be null"));
+        this.keepAliveIntervalNanos = TimeUnit.MILLISECONDS.toNanos(builder.keepAliveIntervalMillis);
+        this.validationTimeoutSeconds = builder.validationTimeoutSeconds;
+        this.validationQuery = builder.validationQuery;
+        this.dialectResolver = new DialectResolver();
+        this.connections = ConcurrentHashMap.newKeySet();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new SimpleThreadFactory.ThreadFactoryBuilder()
+            .withThreadNamePrefix("keep-alive-datasource") //
+            .withDaemon(true) //
+            .build());
+        // checking twice per interval, a connection is never idle for more than 1.5 intervals without validation
+        final long delayMillis = Math.max(1, builder.keepAliveIntervalMillis / 2);
+        this.scheduler.scheduleWithFixedDelay(this::keepAlive, delayMillis, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background task. The connections handed out remain open and are no longer validated.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        connections.clear();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return register(() -> getDelegate().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return register(() -> getDelegate().getConnection(username, password));
+    }
+
+    private Connection register(final ThrowingSupplier<Connection, SQLException> opener) throws SQLException {
+        final KeepAliveConnection connection = new KeepAliveConnection(this, opener);
+        connections.add(connection);
+        return connection;
+    }
+
+    /* default */ ProxyConnection open(final ThrowingSupplier<Connection, SQLException> opener,
+        final Connection logicalConnection) throws SQLException
+    {
+        final ProxyConnection connection = ProxyConnectionFactory.build(opener.get(), dialectResolver);
+        if (connection instanceof AbstractProxyConnection) {
+            // tracks the open statements, which make the connection busy
+            ((AbstractProxyConnection) connection).setOwner(logicalConnection);
+        }
+        return connection;
+    }
+
+    /* default */ void unregister(final KeepAliveConnection connection) {
+        connections.remove(connection);
+    }
+
+    private void keepAlive() {
+        try {
+            final long now = System.nanoTime();
+            for (final KeepAliveConnection connection : connections) {
+                connection.keepAlive(now, keepAliveIntervalNanos);
+            }
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Connection keep-alive failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /* default */ boolean validate(final Connection connection) {
+        try {
+            if (Objects.isNull(validationQuery)) {
+                return connection.isValid(validationTimeoutSeconds);
+            }
+            try (Statement stmt = connection.createStatement()) {
+                stmt.setQueryTimeout(validationTimeoutSeconds);
+                stmt.execute(validationQuery);
+                return true;
+            }
+        } catch (final SQLException e) {
+            LOGGER.debug("Connection {} is not valid: {}", connection, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * The connection handed out by the datasource. All methods go through {@link #getDelegate()}, that records the
+     * use of the connection and replaces the physical connection when it has been found broken.
+     */
+    @SuppressWarnings("PMD.TooManyMethods")
+    /* default */ static final class KeepAliveConnection implements ProxyConnection {
+
+        private final KeepAliveDataSource owner;
+        private final ThrowingSupplier<Connection, SQLException> opener;
+        private final Object validationLock = new Object();
+        private volatile ProxyConnection delegate;
+        private volatile long lastUsedNanos;
+        private volatile long lastValidatedNanos;
+        private volatile boolean validating;
+        private volatile boolean broken;
+        private volatile boolean closed;
+
+        // session state restored when the physical connection is replaced
+        private volatile boolean autoCommit = true;
+        private volatile boolean transactionPending;
+        private volatile Boolean readOnly;
+        private volatile Integer transactionIsolation;
+        private volatile String catalog;
+        private volatile String schema;
+
+        /* default */ KeepAliveConnection(final KeepAliveDataSource owner,
+            final ThrowingSupplier<Connection, SQLException> opener) throws SQLException
+        {
+            this.owner = owner;
+            this.opener = opener;
+            this.delegate = owner.open(opener, this);
+            this.lastUsedNanos = System.nanoTime();
+        }
+
+        private boolean isInUse() {
+            final ProxyConnection current = delegate;
+            return current instanceof AbstractProxyConnection
+                && ((AbstractProxyConnection) current).hasOpenStatements();
+        }
+
+        /**
+         * Validates the physical connection when it has been idle for the keep-alive interval and none of its
+         * statements is open. The application threads that use the connection meanwhile wait for the validation.
+         *
+         * @param now           the current value of {@link System#nanoTime()}
+         * @param intervalNanos the keep-alive interval
+         */
+        /* default */ void keepAlive(final long now, final long intervalNanos) {
+            final long lastUsed = lastUsedNanos;
+            if (closed || broken || now - Math.max(lastUsed, lastValidatedNanos) < intervalNanos || isInUse()) {
+                return;
+            }
+
+            validating = true;
+            try {
+                // getDelegate() records the use before checking the flag, so either the application thread waits
+                // for the validation or the validation sees the use
+                if (lastUsed != lastUsedNanos || isInUse()) {
+                    return;
+                }
+                lastValidatedNanos = now;
+                if (!owner.validate(delegate)) {
+                    LOGGER.debug("Idle connection {} is broken, it will be replaced on its next use", delegate);
+                    broken = true;
+                }
+            } finally {
+                synchronized (validationLock) {
+                    validating = false;
+                    validationLock.notifyAll();
+                }
+            }
+        }
+
+        private void awaitValidation() {
+            synchronized (validationLock) {
+                while (validating) {
+                    try {
+                        validationLock.wait();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Replaces a broken physical connection. The connection is validated again first, since the background
+         * validation fails too when the connection was running a long statement.
+         */
+        private synchronized void recover() {
+            if (!broken) {
+                return;
+            }
+            broken = false;
+            final ProxyConnection current = delegate;
+            if (owner.validate(current)) {
+                return;
+            }
+            if (transactionPending) {
+                LOGGER.warn("Connection {} is broken with a transaction in progress, it can't be replaced", current);
+                return;
+            }
+            try {
+                final ProxyConnection replacement = owner.open(opener, this);
+                restore(replacement);
+                delegate = replacement;
+                LOGGER.info("Broken connection {} replaced with {}", current, replacement);
+                JDBCUtils.closeQuietly(current);
+            } catch (final SQLException e) {
+                LOGGER.warn("Unable to replace the broken connection {}: {}", current, e.getMessage());
+            }
+        }
+
+        /**
+         * Restores on a replacement the state set through the JDBC methods. The session state set with SQL is not
+         * known, so it must be set by the DataSource that opens the physical connections.
+         */
+        private void restore(final Connection replacement) throws SQLException {
+            if (!autoCommit) {
+                replacement.setAutoCommit(false);
+            }
+            if (Objects.nonNull(readOnly)) {
+                replacement.setReadOnly(readOnly);
+            }
+            if (Objects.nonNull(transactionIsolation)) {
+                replacement.setTransactionIsolation(transactionIsolation);
+            }
+            if (Objects.nonNull(catalog)) {
+                replacement.setCatalog(catalog);
+            }
+            if (Objects.nonNull(schema)) {
+                replacement.setSchema(schema);
+            }
+        }
+
+        /**
+         * Returns the physical connection, replacing it first when it has been found broken.
+         *
+         * @return the physical connection
+         * @throws IllegalStateException if this connection has been closed
+         */
+        @Override
+        public ProxyConnection getDelegate() {
+            if (closed) {
+                throw new IllegalStateException("Connection is closed");
+            }
+            lastUsedNanos = System.nanoTime();
+            if (validating) {
+                awaitValidation();
+            }
+            if (broken) {
+                recover();
+            }
+            if (!autoCommit) {
+                transactionPending = true;
+            }
+            return delegate;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!closed) {
+                closed = true;
+                owner.unregister(this);
+                delegate.close();
+            }
+        }
+
+        @Override
+        public void commit() throws SQLException {
+            getDelegate().commit();
+            transactionPending = false;
+        }
+
+        @Override
+        public void rollback() throws SQLException {
+            getDelegate().rollback();
+            transactionPending = false;
+        }
+
+        @Override
+        public void setAutoCommit(final boolean value) throws SQLException {
+            getDelegate().setAutoCommit(value);
+            autoCommit = value;
+            if (value) {
+                transactionPending = false;
+            }
+        }
+
+        @Override
+        public void setCatalog(final String value) throws SQLException {
+            getDelegate().setCatalog(value);
+            catalog = value;
+        }
+
+        @Override
+        public void setReadOnly(final boolean value) throws SQLException {
+            getDelegate().setReadOnly(value);
+            readOnly = value;
+        }
+
+        @Override
+        public void setSchema(final String value) throws SQLException {
+            getDelegate().setSchema(value);
+            schema = value;
+        }
+
+        @Override
+        public void setTransactionIsolation(final int value) throws SQLException {
+            getDelegate().setTransactionIsolation(value);
+            transactionIsolation = value;
+        }
+
+        @Override
+        public Statement createStatement() throws SQLException {
+            return getDelegate().createStatement();
+        }
+
+        @Override
+        public Statement createStatement(final int resultSetType, final int resultSetConcurrency)
+            throws SQLException
+        {
+            return getDelegate().createStatement(resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public Statement createStatement(final int resultSetType, final int resultSetConcurrency,
+            final int resultSetHoldability) throws SQLException
+        {
+            return getDelegate().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        @Override
+        public boolean isClosed() throws SQLException {
+            return closed || delegate.isClosed();
+        }
+
+        @Override
+        public CallableStatement prepareCall(final String sql) throws SQLException {
+            return getDelegate().prepareCall(sql);
+        }
+
+        @Override
+        public CallableStatement prepareCall(final String sql, final int resultSetType,
+            final int resultSetConcurrency) throws SQLException
+        {
+            return getDelegate().prepareCall(sql, resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public CallableStatement prepareCall(final String sql, final int resultSetType,
+            final int resultSetConcurrency, final int resultSetHoldability) throws SQLException
+        {
+            return getDelegate().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        @Override
+        public NamedPreparedStatement prepareNamedStatement(final String sql) throws SQLException {
+            return getDelegate().prepareNamedStatement(sql);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql) throws SQLException {
+            return getDelegate().prepareStatement(sql);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql, final int autoGeneratedKeys)
+            throws SQLException
+        {
+            return getDelegate().prepareStatement(sql, autoGeneratedKeys);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql, final int[] columnIndexes) throws SQLException {
+            return getDelegate().prepareStatement(sql, columnIndexes);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql, final String[] columnNames)
+            throws SQLException
+        {
+            return getDelegate().prepareStatement(sql, columnNames);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql, final int resultSetType,
+            final int resultSetConcurrency) throws SQLException
+        {
+            return getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql, final int resultSetType,
+            final int resultSetConcurrency, final int resultSetHoldability) throws SQLException
+        {
+            return getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        @Override
+        public String toString() {
+            return "KeepAliveConnection[" + delegate + "]";
+        }
+    }
+
+    /**
+     * The Builder pattern implementation.
+     */
+    public static class KeepAliveDataSourceBuilder {
+
+        private static final long DEFAULT_KEEP_ALIVE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+        private static final int DEFAULT_VALIDATION_TIMEOUT_SECONDS = 5;
+
+        private transient DataSource dataSource;
+        private transient long keepAliveIntervalMillis = DEFAULT_KEEP_ALIVE_INTERVAL_MILLIS;
+        private transient int validationTimeoutSeconds = DEFAULT_VALIDATION_TIMEOUT_SECONDS;
+        private transient String validationQuery;
+
+        /**
+         * Creates the DataSource and starts the keep-alive task.
+         *
+         * @return the DataSource
+         * @throws IllegalArgumentException if the DataSource is missing or the keep-alive interval is not valid
+         */
+        public KeepAliveDataSource build() {
+            if (Objects.isNull(dataSource)) {
+                throw new IllegalArgumentException("The DataSource that provides the connections is required");
+            }
+            if (keepAliveIntervalMillis <= 0) {
+                throw new IllegalArgumentException("Invalid keep-alive interval: " + keepAliveIntervalMillis);
+            }
+            return new KeepAliveDataSource(this);
+        }
+
+        /**
+         * Sets the DataSource used to open the physical connections.
+         *
+         * @param value the DataSource
+         * @return this builder object
+         */
+        public KeepAliveDataSourceBuilder withDataSource(final DataSource value) {
+            this.dataSource = value;
+            return this;
+        }
+
+        /**
+         * Sets the time a connection can stay idle before it's validated.
+         *
+         * @param value the keep-alive interval in milliseconds
+         * @return this builder object
+         */
+        public KeepAliveDataSourceBuilder withKeepAliveInterval(final long value) {
+            this.keepAliveIntervalMillis = value;
+            return this;
+        }
+
+        /**
+         * Sets the query used to validate the connections instead of {@link Connection#isValid(int)}. The query
+         * runs in the transaction mode of the connection.
+         *
+         * @param value the validation query
+         * @return this builder object
+         */
+        public KeepAliveDataSourceBuilder withValidationQuery(final String value) {
+            this.validationQuery = value;
+            return this;
+        }
+
+        /**
+         * Sets the timeout of the validation of a connection.
+         *
+         * @param value the timeout in seconds
+         * @return this builder object
+         */
+        public KeepAliveDataSourceBuilder withValidationTimeout(final int value) {
+            this.validationTimeoutSeconds = value;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import com.dattack.jtoolbox.jdbc.QueryPipeline.Failure;
+import com.dattack.jtoolbox.jdbc.internal.ExtendedStatement;
+import com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatement;
+import com.dattack.jtoolbox.jdbc.internal.RowMapper;
+import com.dattack.jtoolbox.jdbc.internal.RowMapperFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.sql.DataSource;
+
+/**
+ * Runs a query over a range of keys split into partitions, each one on its own connection and thread. The query is a
+ * {@link NamedPreparedStatement} with two parameters that receive the bounds of a partition, such as
+ * <code>SELECT * FROM orders WHERE id &gt;= :lo AND id &lt; :hi</code>. The lower bound is inclusive and the upper
+ * bound is exclusive.
+ *
+ * <p>The rows can be sent to a sink, called concurrently from the threads that read the partitions, or merged into a
+ * single stream. The stream is fed through a bounded buffer, so the partitions are read at the pace of the
+ * consumer.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class PartitionedQueryExecutor {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1_024;
+    private static final Object NULL = new Object();
+
+    private final transient DataSource dataSource;
+    private final transient String sql;
+    private final transient String lowerBoundParameter;
+    private final transient String upperBoundParameter;
+    private final transient List<long[]> partitions;
+    private final transient int fetchSize;
+    private final transient int bufferSize;
+    private final transient ExecutorService executor;
+
+    /* default */ PartitionedQueryExecutor(final PartitionedQueryExecutorBuilder builder) {
+        this.dataSource = builder.dataSource;
+        this.sql = builder.sql;
+        this.lowerBoundParameter = builder.lowerBoundParameter;
+        this.upperBoundParameter = builder.upperBoundParameter;
+        this.partitions = split(builder.lowerBound, builder.upperBound, builder.partitionCount);
+        this.fetchSize = builder.fetchSize;
+        this.bufferSize = builder.bufferSize;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Splits the range [lowerBound, upperBound) into partitions whose sizes differ in one key at most.
+     */
+    private static List<long[]> split(final long lowerBound, final long upperBound, final int partitionCount) {
+        final long span = Math.subtractExact(upperBound, lowerBound);
+        final int count = (int) Math.min(partitionCount, Math.max(1, span));
+        final List<long[]> list = new ArrayList<>(count);
+        long lo = lowerBound;
+        for (int i = 0; i < count; i++) {
+            final long hi = lo + span / count + (i < span % count ? 1 : 0);
+            list.add(new long[] { lo, hi });
+            lo = hi;
+        }
+        return list;
+    }
+
+    /**
+     * Returns the number of partitions. It can be lower than the requested number when the range is too small.
+     *
+     * @return the number of partitions
+     */
+    public int getPartitionCount() {
+        return partitions.size();
+    }
+
+    /**
+     * Reads all the partitions and sends every row to the sink. The sink is called concurrently from the threads that
+     * read the partitions, so it must be thread-safe. This method returns when all the partitions have been read.
+     *
+     * @param factory the factory of the row mapper, called once per partition
+     * @param sink    the consumer of the rows
+     * @param <T>     the type of the objects created from the rows
+     * @return the number of rows read
+     * @throws SQLException if a partition can't be read; the errors of the other partitions are suppressed
+     */
+    public <T> long forEach(final RowMapperFactory<T> factory, final Consumer<? super T> sink) throws SQLException {
+        final ExecutorService service = getExecutorService();
+        try {
+            final List<Future<Long>> futures = new ArrayList<>(partitions.size());
+            for (final long[] partition : partitions) {
+                futures.add(service.submit(() -> read(partition, factory, sink, new AtomicBoolean())));
+            }
+            return await(futures);
+        } finally {
+            QueryPipeline.release(service, executor);
+        }
+    }
+
+    /**
+     * Returns a stream with the rows of all the partitions. The partitions are read in parallel and the order of the
+     * rows is not defined. Closing the stream stops the threads that read the partitions, so the stream should be
+     * used in a try-with-resources block. The errors are thrown by the stream wrapped with
+     * {@link UncheckedSQLException}.
+     *
+     * @param factory the factory of the row mapper, called once per partition
+     * @param <T>     the type of the objects created from the rows
+     * @return the stream
+     */
+    public <T> Stream<T> stream(final RowMapperFactory<T> factory) {
+        final ExecutorService service = getExecutorService();
+        final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean closed = new AtomicBoolean();
+        final List<Future<?>> futures = new ArrayList<>(partitions.size());
+        for (final long[] partition : partitions) {
+            futures.add(service.submit(() -> {
+                try {
+                    read(partition, factory, row -> QueryPipeline.put(queue, Objects.isNull(row) ? NULL : row, closed),
+                        closed);
+                } catch (final SQLException | RuntimeException e) {
+                    QueryPipeline.put(queue, new Failure(e), closed);
+                } finally {
+                    QueryPipeline.put(queue, QueryPipeline.END, closed);
+                }
+                return null;
+            }));
+        }
+        QueryPipeline.release(service, executor);
+
+        final Spliterator<T> spliterator = new MergingSpliterator<>(queue, partitions.size());
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            closed.set(true);
+            for (final Future<?> future : futures) {
+                future.cancel(true);
+            }
+            queue.clear();
+        });
+    }
+
+    private static long await(final List<Future<Long>> futures) throws SQLException {
+        long rows = 0;
+        SQLException error = null;
+        for (final Future<Long> future : futures) {
+            try {
+                rows += future.get();
+            } catch (final ExecutionException e) {
+                final SQLException exception = QueryPipeline.toSQLException(e.getCause());
+                if (Objects.isNull(error)) {
+                    error = exception;
+                } else {
+                    error.addSuppressed(exception);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for the partitions", e);
+            }
+        }
+        if (Objects.nonNull(error)) {
+            throw error;
+        }
+        return rows;
+    }
+
+    private ExecutorService getExecutorService() {
+        return QueryPipeline.getExecutorService(executor, partitions.size(), "partitioned-query");
+    }
+
+    private <T> long read(final long[] partition, final RowMapperFactory<T> factory, final Consumer<? super T> sink,
+        final AtomicBoolean closed) throws SQLException
+    {
+        return QueryPipeline.readInTransaction(dataSource, connection -> {
+            try (NamedPreparedStatement statement = QueryPipeline.prepare(connection, sql)) {
+                statement.setLong(lowerBoundParameter, partition[0]);
+                statement.setLong(upperBoundParameter, partition[1]);
+                QueryPipeline.enableStreaming(statement, fetchSize);
+                long rows = 0;
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    final RowMapper<T> mapper = factory.compile(resultSet.getMetaData());
+                    while (!closed.get() && resultSet.next()) {
+                        sink.accept(mapper.mapRow(resultSet));
+                        rows++;
+                    }
+                }
+                return rows;
+            }
+        });
+    }
+
+    /**
+     * Takes the rows of all the partitions from the buffer, until every partition has ended.
+     */
+    private static final class MergingSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final transient BlockingQueue<Object> queue;
+        private transient int pendingPartitions;
+
+        private MergingSpliterator(final BlockingQueue<Object> queue, final int partitionCount) {
+            super(Long.MAX_VALUE, 0);
+            this.queue = queue;
+            this.pendingPartitions = partitionCount;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            while (pendingPartitions > 0) {
+                final Object item;
+                try {
+                    item = QueryPipeline.unwrap(queue.take());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedSQLException(new SQLException("Interrupted while reading the partitions", e));
+                } catch (final SQLException e) {
+                    throw new UncheckedSQLException(e);
+                }
+
+                if (item == QueryPipeline.END) { // NOPMD - the marker is compared by reference
+                    pendingPartitions--;
+                } else {
+                    action.accept(item == NULL ? null : (T) item); // NOPMD - the marker is compared by reference
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Builder used to create {@link PartitionedQueryExecutor} instances.
+     */
+    public static final class PartitionedQueryExecutorBuilder {
+
+        private transient DataSource dataSource;
+        private transient String sql;
+        private transient String lowerBoundParameter = "lo";
+        private transient String upperBoundParameter = "hi";
+        private transient long lowerBound;
+        private transient long upperBound;
+        private transient int partitionCount = Runtime.getRuntime().availableProcessors();
+        private transient int fetchSize;
+        private transient int bufferSize = DEFAULT_BUFFER_SIZE;
+        private transient ExecutorService executor;
+
+        /**
+         * Creates the executor.
+         *
+         * @return the executor
+         * @throws IllegalArgumentException if the configuration is not valid
+         */
+        public PartitionedQueryExecutor build() {
+            if (Objects.isNull(dataSource) || Objects.isNull(sql)) {
+                throw new IllegalArgumentException("The DataSource and the SQL are required");
+            }
+            if (upperBound <= lowerBound || partitionCount <= 0 || bufferSize <= 0) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid partitioning (range: [%d, %d), partitions: %d, buffer size: %d)",
+                        lowerBound, upperBound, partitionCount, bufferSize));
+            }
+            return new PartitionedQueryExecutor(this);
+        }
+
+        /**
+         * Sets the maximum number of rows read in advance by the merged stream.
+         *
+         * @param value the size of the buffer
+         * @return this builder object
+         */
+        public PartitionedQueryExecutorBuilder withBufferSize(final int value) {
+            this.bufferSize = value;
+            return this;
+        }
+
+        public PartitionedQueryExecutorBuilder withDataSource(final DataSource value) {
+            this.dataSource = value;
+            return this;
+        }
+
+        /**
+         * Sets the executor that reads the partitions. By default, a thread per partition is created for each
+         * execution. An executor with fewer threads than partitions reads some partitions after the others.
+         *
+         * @param value the executor, not shut down by this object
+         * @return this builder object
+         */
+        public PartitionedQueryExecutorBuilder withExecutor(final ExecutorService value) {
+            this.executor = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows fetched on each round trip. The rows are streamed with the mechanism of the dialect
+         * of the connection, so a partition is not loaded in memory by the driver. By default, the fetch size of the
+         * driver is used.
+         *
+         * @param value the fetch size
+         * @return this builder object
+         * @see ExtendedStatement#enableStreaming(int)
+         */
+        public PartitionedQueryExecutorBuilder withFetchSize(final int value) {
+            this.fetchSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the names of the parameters that receive the bounds of a partition. By default, <code>lo</code> and
+         * <code>hi</code>.
+         *
+         * @param lower the name of the inclusive lower bound
+         * @param upper the name of the exclusive upper bound
+         * @return this builder object
+         */
+        public PartitionedQueryExecutorBuilder withParameters(final String lower, final String upper) {
+            this.lowerBoundParameter = lower;
+            this.upperBoundParameter = upper;
+            return this;
+        }
+
+        /**
+         * Sets the number of partitions. By default, the number of available processors.
+         *
+         * @param value the number of partitions
+         * @return this builder object
+         */
+        public PartitionedQueryExecutorBuilder withPartitions(final int value) {
+            this.partitionCount = value;
+            return this;
+        }
+
+        /**
+         * Sets the range of keys to read.
+         *
+         * @param lower the inclusive lower bound
+         * @param upper the exclusive upper bound
+         * @return this builder object
+         */
+        public PartitionedQueryExecutorBuilder withRange(final long lower, final long upper) {
+            this.lowerBound = lower;
+            this.upperBound = upper;
+            return this;
+        }
+
+        /**
+         * Sets the query, with the named parameters that receive the bounds of a partition.
+         *
+         * @param value the SQL text
+         * @return this builder object
+         */
+        public PartitionedQueryExecutorBuilder withSql(final String value) {
+            this.sql = value;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,798 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import com.dattack.jtoolbox.concurrent.SimpleThreadFactory;
+import com.dattack.jtoolbox.jdbc.internal.AbstractProxyConnection;
+import com.dattack.jtoolbox.jdbc.internal.ClosedObjects;
+import com.dattack.jtoolbox.jdbc.internal.DialectResolver;
+import com.dattack.jtoolbox.jdbc.internal.FetchSizeAdvisor;
+import com.dattack.jtoolbox.jdbc.internal.JdbcMetrics;
+import com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatement;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnectionFactory;
+import com.dattack.jtoolbox.jdbc.internal.ResultCache;
+import com.dattack.jtoolbox.jdbc.internal.SlowQueryLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+
+/**
+ * A lightweight connection pool. The physical connections are obtained from another {@link DataSource} (for
+ * example, a {@link SimpleDataSource}) and wrapped with {@link ProxyConnectionFactory}, so the pooled connections
+ * support the jToolbox extensions such as {@link ProxyConnection#prepareNamedStatement(String)}.
+ *
+ * <p>Idle connections are kept in a lock-free LIFO queue, so borrowing an idle connection doesn't block. A background
+ * task closes the connections that have been idle for too long or have exceeded their maximum lifetime, keeps the
+ * minimum number of connections open and reports the connections that have been borrowed for longer than the leak
+ * detection threshold.</p>
+ *
+ * <p>The statements created through a pooled connection report it as their connection, and are closed when the
+ * connection is returned to the pool. The auto-commit, read-only, transaction isolation, catalog and schema settings
+ * of a returned connection are restored to their values when it was opened.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class PooledDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledDataSource.class);
+
+    /**
+     * Connections used within this period are not validated again when borrowed.
+     */
+    private static final long VALIDATION_BYPASS_MILLIS = 500;
+
+    private final transient DataSource dataSource;
+    private final transient int minSize;
+    private final transient int maxSize;
+    private final transient long idleTimeoutMillis;
+    private final transient long maxLifetimeMillis;
+    private final transient long borrowTimeoutMillis;
+    private final transient long leakDetectionThresholdMillis;
+    private final transient int validationTimeoutSeconds;
+    private final transient int statementCacheSize;
+    private final transient DialectResolver dialectResolver;
+
+    private final transient ConcurrentLinkedDeque<PoolEntry> idleEntries;
+    private final transient Set<PoolEntry> borrowedEntries;
+    private final transient AtomicInteger totalConnections;
+    private final transient AtomicInteger waiters;
+    private final transient ReentrantLock lock;
+    private final transient Condition entryAvailable;
+    private final transient ScheduledExecutorService housekeeper;
+    private transient volatile boolean closed;
+
+    /* default */ PooledDataSource(final PooledDataSourceBuilder builder) {
+        super();
+        this.dataSource = Objects.requireNonNull(builder.dataSource, "dataSource must not be null");
+        this.minSize = builder.minSize;
+        this.maxSize = builder.maxSize;
+        this.idleTimeoutMillis = builder.idleTimeoutMillis;
+        this.maxLifetimeMillis = builder.maxLifetimeMillis;
+        this.borrowTimeoutMillis = builder.borrowTimeoutMillis;
+        this.leakDetectionThresholdMillis = builder.leakDetectionThresholdMillis;
+        this.validationTimeoutSeconds = builder.validationTimeoutSeconds;
+        this.statementCacheSize = builder.statementCacheSize;
+        this.dialectResolver = new DialectResolver();
+        setFetchSizeAdvisor(builder.fetchSizeAdvisor);
+        setMetrics(builder.metrics);
+        setSlowQueryLog(builder.slowQueryLog);
+        setAsyncExecutor(builder.asyncExecutor);
+        setResultCache(builder.resultCache);
+
+        this.idleEntries = new ConcurrentLinkedDeque<>();
+        this.borrowedEntries = ConcurrentHashMap.newKeySet();
+        this.totalConnections = new AtomicInteger();
+        this.waiters = new AtomicInteger();
+        this.lock = new ReentrantLock();
+        this.entryAvailable = lock.newCondition();
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(new SimpleThreadFactory.ThreadFactoryBuilder()
+            .withThreadNamePrefix("pooled-datasource-housekeeper") //
+            .withDaemon(true) //
+            .build());
+        this.housekeeper.scheduleWithFixedDelay(this::housekeeping, 0, builder.housekeepingIntervalMillis,
+                                                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Closes all the idle connections and stops the background tasks. The connections currently borrowed are closed
+     * when they are returned to the pool.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PoolEntry entry = idleEntries.pollFirst();
+        while (Objects.nonNull(entry)) {
+            destroy(entry);
+            entry = idleEntries.pollFirst();
+        }
+        signalWaiters();
+    }
+
+    public int getActiveConnections() {
+        return borrowedEntries.size();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        while (true) {
+            checkOpen();
+
+            final PoolEntry entry = idleEntries.pollFirst();
+            if (Objects.nonNull(entry)) {
+                if (isUsable(entry)) {
+                    return borrow(entry);
+                }
+                destroy(entry);
+            } else if (reserve()) {
+                return borrow(createEntry());
+            } else {
+                awaitEntry(deadline);
+            }
+        }
+    }
+
+    /**
+     * Not supported: all the pooled connections share the credentials of the underlying DataSource.
+     *
+     * @throws SQLFeatureNotSupportedException always
+     */
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("A pooled DataSource doesn't support per-user connections");
+    }
+
+    public int getIdleConnections() {
+        return idleEntries.size();
+    }
+
+    public int getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void awaitEntry(final long deadline) throws SQLException {
+        waiters.incrementAndGet();
+        lock.lock();
+        try {
+            // re-checked while holding the lock: a release after this point will find this waiter
+            if (idleEntries.isEmpty() && totalConnections.get() >= maxSize && !closed) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new SQLTimeoutException(String.format(
+                        "Unable to get a connection from the pool in %d ms (active: %d, idle: %d, total: %d)",
+                        borrowTimeoutMillis, getActiveConnections(), getIdleConnections(), getTotalConnections()));
+                }
+                entryAvailable.awaitNanos(remaining);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        } finally {
+            lock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+
+    private Connection borrow(final PoolEntry entry) {
+        entry.borrowed(leakDetectionThresholdMillis > 0);
+        borrowedEntries.add(entry);
+        final PooledConnection connection = new PooledConnection(this, entry);
+        if (entry.connection instanceof AbstractProxyConnection) {
+            ((AbstractProxyConnection) entry.connection).setOwner(connection);
+        }
+        return connection;
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("The connection pool is closed");
+        }
+    }
+
+    private PoolEntry createEntry() throws SQLException {
+        ProxyConnection connection = null;
+        try {
+            connection = ProxyConnectionFactory.build(dataSource.getConnection(), dialectResolver);
+            if (statementCacheSize > 0) {
+                connection.setStatementCacheSize(statementCacheSize);
+            }
+            configure(connection);
+            return new PoolEntry(connection);
+        } catch (final SQLException | RuntimeException e) {
+            JDBCUtils.closeQuietly(connection);
+            totalConnections.decrementAndGet();
+            signalWaiters();
+            throw e;
+        }
+    }
+
+    private void destroy(final PoolEntry entry) {
+        totalConnections.decrementAndGet();
+        JDBCUtils.closeQuietly(entry.connection);
+        signalWaiters();
+    }
+
+    private void detectLeaks(final long now) {
+        for (final PoolEntry entry : borrowedEntries) {
+            if (!entry.leakReported && now - entry.borrowedAt > leakDetectionThresholdMillis) {
+                entry.leakReported = true;
+                LOGGER.warn("Connection {} has been borrowed for more than {} ms, possible leak", entry.connection,
+                            leakDetectionThresholdMillis, entry.borrowStackTrace);
+            }
+        }
+    }
+
+    private void fillPool() {
+        while (!closed && totalConnections.get() < minSize && reserve()) {
+            try {
+                idleEntries.offerLast(createEntry());
+                signalWaiters();
+            } catch (final SQLException e) {
+                LOGGER.warn("Unable to open a new pooled connection: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void housekeeping() {
+        try {
+            final long now = System.currentTimeMillis();
+            for (final PoolEntry entry : idleEntries) {
+                final boolean expired = isExpired(entry, now);
+                final boolean idleTooLong = idleTimeoutMillis > 0 && now - entry.lastAccess > idleTimeoutMillis
+                    && totalConnections.get() > minSize;
+                if ((expired || idleTooLong) && idleEntries.removeFirstOccurrence(entry)) {
+                    LOGGER.debug("Closing pooled connection {} (expired: {}, idle: {})", entry.connection, expired,
+                                 idleTooLong);
+                    destroy(entry);
+                }
+            }
+
+            if (leakDetectionThresholdMillis > 0) {
+                detectLeaks(now);
+            }
+
+            fillPool();
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Connection pool housekeeping failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean isExpired(final PoolEntry entry, final long now) {
+        return maxLifetimeMillis > 0 && now - entry.createdAt > maxLifetimeMillis;
+    }
+
+    private boolean isUsable(final PoolEntry entry) {
+        final long now = System.currentTimeMillis();
+        if (isExpired(entry, now)) {
+            return false;
+        }
+        if (now - entry.lastAccess < VALIDATION_BYPASS_MILLIS) {
+            return true;
+        }
+        try {
+            return entry.connection.isValid(validationTimeoutSeconds);
+        } catch (final SQLException e) {
+            LOGGER.debug("Pooled connection {} is not valid: {}", entry.connection, e.getMessage());
+            return false;
+        }
+    }
+
+    /* default */ void release(final PoolEntry entry) {
+        borrowedEntries.remove(entry);
+        entry.lastAccess = System.currentTimeMillis();
+
+        if (closed || isExpired(entry, entry.lastAccess) || !reset(entry)) {
+            destroy(entry);
+        } else {
+            idleEntries.offerFirst(entry);
+            signalWaiters();
+        }
+    }
+
+    private boolean reserve() {
+        int current = totalConnections.get();
+        while (current < maxSize) {
+            if (totalConnections.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = totalConnections.get();
+        }
+        return false;
+    }
+
+    /**
+     * Restores the state of a connection returned to the pool.
+     *
+     * @param entry the returned entry
+     * @return true if the connection can be reused
+     */
+    private boolean reset(final PoolEntry entry) {
+        try {
+            final Connection connection = entry.connection;
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            } else if (connection instanceof AbstractProxyConnection) {
+                // with auto-commit, the rows still batched would have been committed without batching
+                ((AbstractProxyConnection) connection).flushPendingBatches();
+            }
+            if (connection instanceof AbstractProxyConnection) {
+                ((AbstractProxyConnection) connection).closeStatements();
+                ((AbstractProxyConnection) connection).setOwner(null);
+            }
+            if (connection.getAutoCommit() != entry.initialAutoCommit) {
+                connection.setAutoCommit(entry.initialAutoCommit);
+            }
+            entry.restoreSessionState();
+            connection.clearWarnings();
+            return true;
+        } catch (final SQLException e) {
+            LOGGER.debug("Unable to reset pooled connection {}: {}", entry.connection, e.getMessage());
+            return false;
+        }
+    }
+
+    private void signalWaiters() {
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                entryAvailable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A physical connection owned by the pool.
+     */
+    /* default */ static final class PoolEntry {
+
+        private final ProxyConnection connection;
+        private final long createdAt;
+        private final boolean initialAutoCommit;
+        private final boolean initialReadOnly;
+        private final int initialTransactionIsolation;
+        private final String initialCatalog;
+        private final String initialSchema;
+        private volatile long lastAccess;
+        private volatile long borrowedAt;
+        private volatile Throwable borrowStackTrace;
+        private volatile boolean leakReported;
+
+        /* default */ PoolEntry(final ProxyConnection connection) throws SQLException {
+            this.connection = connection;
+            this.createdAt = System.currentTimeMillis();
+            this.lastAccess = createdAt;
+            this.initialAutoCommit = connection.getAutoCommit();
+            this.initialReadOnly = connection.isReadOnly();
+            this.initialTransactionIsolation = connection.getTransactionIsolation();
+            this.initialCatalog = connection.getCatalog();
+            this.initialSchema = getSchema(connection);
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private static String getSchema(final Connection connection) throws SQLException {
+            try {
+                return connection.getSchema();
+            } catch (final SQLFeatureNotSupportedException | AbstractMethodError e) { //NOPMD - pre JDBC 4.1 drivers
+                return null;
+            }
+        }
+
+        /**
+         * Restores the settings of the session changed by the last borrower. The transaction must have ended.
+         *
+         * @throws SQLException if a database access error occurs
+         */
+        /* default */ void restoreSessionState() throws SQLException {
+            if (connection.isReadOnly() != initialReadOnly) {
+                connection.setReadOnly(initialReadOnly);
+            }
+            if (connection.getTransactionIsolation() != initialTransactionIsolation) {
+                connection.setTransactionIsolation(initialTransactionIsolation);
+            }
+            if (Objects.nonNull(initialCatalog) && !initialCatalog.equals(connection.getCatalog())) {
+                connection.setCatalog(initialCatalog);
+            }
+            if (Objects.nonNull(initialSchema) && !initialSchema.equals(getSchema(connection))) {
+                connection.setSchema(initialSchema);
+            }
+        }
+
+        /* default */ void borrowed(final boolean captureStackTrace) {
+            this.borrowedAt = System.currentTimeMillis();
+            this.leakReported = false;
+            this.borrowStackTrace = captureStackTrace ? new Throwable("Connection borrowed here") : null;
+        }
+    }
+
+    /**
+     * The connection handed out by the pool. Closing it returns the physical connection to the pool; every method
+     * called after closing it fails with a {@link SQLException}.
+     */
+    @SuppressWarnings("PMD.TooManyMethods")
+    /* default */ static final class PooledConnection implements ProxyConnection {
+
+        private static final Connection CLOSED_CONNECTION = ClosedObjects.of(Connection.class, "Connection");
+
+        private final PooledDataSource pool;
+        private final PoolEntry entry;
+        private final AtomicInteger state;
+
+        /* default */ PooledConnection(final PooledDataSource pool, final PoolEntry entry) {
+            this.pool = pool;
+            this.entry = entry;
+            this.state = new AtomicInteger();
+        }
+
+        @Override
+        public void close() {
+            if (state.compareAndSet(0, 1)) {
+                pool.release(entry);
+            }
+        }
+
+        @Override
+        public Statement createStatement() throws SQLException {
+            return getDelegate().createStatement();
+        }
+
+        @Override
+        public Statement createStatement(final int resultSetType, final int resultSetConcurrency)
+            throws SQLException
+        {
+            return getDelegate().createStatement(resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public Statement createStatement(final int resultSetType, final int resultSetConcurrency,
+            final int resultSetHoldability) throws SQLException
+        {
+            return getDelegate().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        /**
+         * Returns the pooled connection, or a connection that fails on every call once this one has been returned
+         * to the pool.
+         *
+         * @return the pooled connection while this one is open
+         */
+        @Override
+        public Connection getDelegate() {
+            return state.get() == 0 ? entry.connection : CLOSED_CONNECTION;
+        }
+
+        private ProxyConnection getPooledConnection() throws SQLException {
+            if (state.get() != 0) {
+                throw new SQLException("Connection is closed");
+            }
+            return entry.connection;
+        }
+
+        @Override
+        public boolean isClosed() throws SQLException {
+            return state.get() != 0 || entry.connection.isClosed();
+        }
+
+        @Override
+        public CallableStatement prepareCall(final String sql) throws SQLException {
+            return getDelegate().prepareCall(sql);
+        }
+
+        @Override
+        public CallableStatement prepareCall(final String sql, final int resultSetType,
+            final int resultSetConcurrency) throws SQLException
+        {
+            return getDelegate().prepareCall(sql, resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public CallableStatement prepareCall(final String sql, final int resultSetType,
+            final int resultSetConcurrency, final int resultSetHoldability) throws SQLException
+        {
+            return getDelegate().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        @Override
+        public NamedPreparedStatement prepareNamedStatement(final String sql) throws SQLException {
+            return getPooledConnection().prepareNamedStatement(sql);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql) throws SQLException {
+            return getDelegate().prepareStatement(sql);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql, final int autoGeneratedKeys)
+            throws SQLException
+        {
+            return getDelegate().prepareStatement(sql, autoGeneratedKeys);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql, final int[] columnIndexes) throws SQLException {
+            return getDelegate().prepareStatement(sql, columnIndexes);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql, final String[] columnNames)
+            throws SQLException
+        {
+            return getDelegate().prepareStatement(sql, columnNames);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql, final int resultSetType,
+            final int resultSetConcurrency) throws SQLException
+        {
+            return getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(final String sql, final int resultSetType,
+            final int resultSetConcurrency, final int resultSetHoldability) throws SQLException
+        {
+            return getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        @Override
+        public String toString() {
+            return "PooledConnection[" + entry.connection + "]";
+        }
+    }
+
+    /**
+     * The Builder pattern implementation.
+     */
+    public static class PooledDataSourceBuilder {
+
+        private static final int DEFAULT_MAX_SIZE = 10;
+        private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+        private static final long DEFAULT_MAX_LIFETIME_MILLIS = TimeUnit.MINUTES.toMillis(30);
+        private static final long DEFAULT_BORROW_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+        private static final long DEFAULT_HOUSEKEEPING_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+        private static final int DEFAULT_VALIDATION_TIMEOUT_SECONDS = 5;
+
+        private transient DataSource dataSource;
+        private transient int minSize;
+        private transient int maxSize = DEFAULT_MAX_SIZE;
+        private transient long idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+        private transient long maxLifetimeMillis = DEFAULT_MAX_LIFETIME_MILLIS;
+        private transient long borrowTimeoutMillis = DEFAULT_BORROW_TIMEOUT_MILLIS;
+        private transient long housekeepingIntervalMillis = DEFAULT_HOUSEKEEPING_INTERVAL_MILLIS;
+        private transient long leakDetectionThresholdMillis;
+        private transient int validationTimeoutSeconds = DEFAULT_VALIDATION_TIMEOUT_SECONDS;
+        private transient int statementCacheSize;
+        private transient FetchSizeAdvisor fetchSizeAdvisor;
+        private transient JdbcMetrics metrics;
+        private transient SlowQueryLog slowQueryLog;
+        private transient Executor asyncExecutor;
+        private transient ResultCache resultCache;
+
+        /**
+         * Creates the pool.
+         *
+         * @return the pool
+         * @throws IllegalArgumentException if the DataSource is missing or the sizes are not valid
+         */
+        public PooledDataSource build() {
+            if (Objects.isNull(dataSource)) {
+                throw new IllegalArgumentException("The DataSource that provides the connections is required");
+            }
+            if (maxSize <= 0 || minSize < 0 || minSize > maxSize) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid pool size (min: %d, max: %d)", minSize, maxSize));
+            }
+            return new PooledDataSource(this);
+        }
+
+        /**
+         * Sets the maximum time that {@link PooledDataSource#getConnection()} waits for a connection.
+         *
+         * @param value the timeout in milliseconds
+         * @return this builder object
+         */
+        public PooledDataSourceBuilder withBorrowTimeout(final long value) {
+            this.borrowTimeoutMillis = value;
+            return this;
+        }
+
+        /**
+         * Sets the DataSource used to open the physical connections.
+         *
+         * @param value the DataSource
+         * @return this builder object
+         */
+        public PooledDataSourceBuilder withDataSource(final DataSource value) {
+            this.dataSource = value;
+            return this;
+        }
+
+        /**
+         * Sets the interval between two executions of the background task that evicts idle and expired
+         * connections, opens the minimum number of connections and detects leaks.
+         *
+         * @param value the interval in milliseconds
+         * @return this builder object
+         */
+        public PooledDataSourceBuilder withHousekeepingInterval(final long value) {
+            this.housekeepingIntervalMillis = value;
+            return this;
+        }
+
+        /**
+         * Sets the time after which an idle connection is closed, as long as the pool keeps its minimum size.
+         *
+         * @param value the timeout in milliseconds; 0 disables the eviction of idle connections
+         * @return this builder object
+         */
+        public PooledDataSourceBuilder withIdleTimeout(final long value) {
+            this.idleTimeoutMillis = value;
+            return this;
+        }
+
+        /**
+         * Sets the time after which a borrowed connection is reported as a possible leak.
+         *
+         * @param value the threshold in milliseconds; 0 disables the leak detection
+         * @return this builder object
+         */
+        public PooledDataSourceBuilder withLeakDetectionThreshold(final long value) {
+            this.leakDetectionThresholdMillis = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum lifetime of a connection. Expired connections are closed when they are idle.
+         *
+         * @param value the lifetime in milliseconds; 0 means no limit
+         * @return this builder object
+         */
+        public PooledDataSourceBuilder withMaxLifetime(final long value) {
+            this.maxLifetimeMillis = value;
+            return this;
+        }
+
+        public PooledDataSourceBuilder withMaxSize(final int value) {
+            this.maxSize = value;
+            return this;
+        }
+
+        public PooledDataSourceBuilder withMinSize(final int value) {
+            this.minSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the advisor that tunes the fetch size of the queries executed through the pooled connections.
+         *
+         * @param value the fetch-size advisor
+         * @return this builder object
+         * @see AbstractDataSource#setFetchSizeAdvisor(FetchSizeAdvisor)
+         */
+        public PooledDataSourceBuilder withFetchSizeAdvisor(final FetchSizeAdvisor value) {
+            this.fetchSizeAdvisor = value;
+            return this;
+        }
+
+        /**
+         * Sets the registry where the statements executed through the pooled connections record their metrics.
+         *
+         * @param value the metrics registry
+         * @return this builder object
+         * @see AbstractDataSource#setMetrics(JdbcMetrics)
+         */
+        public PooledDataSourceBuilder withMetrics(final JdbcMetrics value) {
+            this.metrics = value;
+            return this;
+        }
+
+        /**
+         * Sets the cache of the results of the cacheable named statements created by the pooled connections.
+         *
+         * @param value the result cache
+         * @return this builder object
+         * @see AbstractDataSource#setResultCache(ResultCache)
+         */
+        public PooledDataSourceBuilder withResultCache(final ResultCache value) {
+            this.resultCache = value;
+            return this;
+        }
+
+        /**
+         * Sets the log where the named statements executed through the pooled connections report their slow
+         * executions.
+         *
+         * @param value the slow query log
+         * @return this builder object
+         * @see AbstractDataSource#setSlowQueryLog(SlowQueryLog)
+         */
+        public PooledDataSourceBuilder withSlowQueryLog(final SlowQueryLog value) {
+            this.slowQueryLog = value;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the asynchronous executions of the named statements created by the pooled
+         * connections.
+         *
+         * @param value the executor
+         * @return this builder object
+         * @see AbstractDataSource#setAsyncExecutor(Executor)
+         */
+        public PooledDataSourceBuilder withAsyncExecutor(final Executor value) {
+            this.asyncExecutor = value;
+            return this;
+        }
+
+        /**
+         * Enables the statement cache of every pooled connection.
+         *
+         * @param value the size of the statement cache of each connection
+         * @return this builder object
+         * @see com.dattack.jtoolbox.jdbc.internal.ExtendedConnection#setStatementCacheSize(int)
+         */
+        public PooledDataSourceBuilder withStatementCacheSize(final int value) {
+            this.statementCacheSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the timeout used to validate an idle connection when it is borrowed.
+         *
+         * @param value the timeout in seconds
+         * @return this builder object
+         */
+        public PooledDataSourceBuilder withValidationTimeout(final int value) {
+            this.validationTimeoutSeconds = value;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import com.dattack.jtoolbox.concurrent.SimpleThreadFactory;
+import com.dattack.jtoolbox.jdbc.internal.ExtendedConnection;
+import com.dattack.jtoolbox.jdbc.internal.ExtendedStatement;
+import com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatement;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnectionFactory;
+import com.dattack.jtoolbox.util.function.ThrowingFunction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+
+/**
+ * The pieces shared by the classes that read the rows of a query in background threads and hand them to a consumer
+ * through a bounded buffer: the executor of the readers, the buffer operations and the streaming read of a query.
+ *
+ * <p>The readers send an item of type {@link Failure} when they fail and the {@link #END} marker when they end. A
+ * reader stops sending items when the consumer closes the pipeline.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+/* default */ final class QueryPipeline {
+
+    /* default */ static final Object END = new Object();
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private QueryPipeline() {
+        // utility class
+    }
+
+    /* default */ static SQLException toSQLException(final Throwable throwable) {
+        if (throwable instanceof SQLException) {
+            return (SQLException) throwable;
+        }
+        if (throwable instanceof UncheckedSQLException) {
+            return ((UncheckedSQLException) throwable).getCause();
+        }
+        return new SQLException(throwable.getMessage(), throwable);
+    }
+
+    /**
+     * Returns the given executor or, when it is null, a new pool of daemon threads that must be released with
+     * {@link #release(ExecutorService, ExecutorService)}.
+     */
+    /* default */ static ExecutorService getExecutorService(final ExecutorService executor, final int threadCount,
+        final String threadNamePrefix)
+    {
+        if (Objects.nonNull(executor)) {
+            return executor;
+        }
+        return Executors.newFixedThreadPool(threadCount, new SimpleThreadFactory.ThreadFactoryBuilder() //
+            .withThreadNamePrefix(threadNamePrefix) //
+            .withDaemon(true) //
+            .build());
+    }
+
+    /**
+     * Shuts down the executor created for an execution, after the submitted tasks end. The executor given by the user
+     * is not shut down.
+     */
+    /* default */ static void release(final ExecutorService service, final ExecutorService executor) {
+        if (service != executor) { // NOPMD - compared by reference
+            service.shutdown();
+        }
+    }
+
+    /**
+     * Sends an item to the buffer, waiting for free space until the pipeline is closed. The interruption of the
+     * reader closes the pipeline.
+     */
+    /* default */ static void put(final BlockingQueue<Object> queue, final Object item, final AtomicBoolean closed) {
+        try {
+            while (!closed.get()) {
+                if (queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closed.set(true);
+        }
+    }
+
+    /**
+     * Returns the item taken from the buffer, or throws the error of the reader when the item is a {@link Failure}.
+     */
+    /* default */ static Object unwrap(final Object item) throws SQLException {
+        if (item instanceof Failure) {
+            throw toSQLException(((Failure) item).exception);
+        }
+        return item;
+    }
+
+    /**
+     * Gets a connection of the data source and calls the reader inside a transaction, rolled back at the end. Some
+     * drivers only fetch the rows in chunks inside a transaction.
+     */
+    /* default */ static <R> R readInTransaction(final DataSource dataSource,
+        final ThrowingFunction<Connection, R, SQLException> reader) throws SQLException
+    {
+        try (Connection connection = dataSource.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                return reader.apply(connection);
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Asks the driver to stream the rows of the statement, with the mechanism of the dialect when the statement is an
+     * {@link ExtendedStatement}. A zero fetch size keeps the configuration of the driver.
+     */
+    /* default */ static void enableStreaming(final Statement statement, final int fetchSize) throws SQLException {
+        if (fetchSize <= 0) {
+            return;
+        }
+        if (statement instanceof ExtendedStatement) {
+            ((ExtendedStatement) statement).enableStreaming(fetchSize);
+        } else {
+            statement.setFetchSize(fetchSize);
+        }
+    }
+
+    /**
+     * Creates a statement through a proxy when the connection is not an {@link ExtendedConnection}, so the rows are
+     * streamed as the dialect of the database requires.
+     */
+    /* default */ static Statement createStatement(final Connection connection) throws SQLException {
+        if (connection instanceof ExtendedConnection) {
+            return connection.createStatement();
+        }
+        return ProxyConnectionFactory.build(connection).createStatement();
+    }
+
+    /* default */ static NamedPreparedStatement prepare(final Connection connection, final String sql)
+        throws SQLException
+    {
+        if (connection instanceof ExtendedConnection) {
+            return ((ExtendedConnection) connection).prepareNamedStatement(sql);
+        }
+        return ProxyConnectionFactory.build(connection).prepareNamedStatement(sql);
+    }
+
+    /**
+     * The error of a reader, sent through the buffer.
+     */
+    /* default */ static final class Failure {
+
+        private final transient Exception exception;
+
+        /* default */ Failure(final Exception exception) {
+            this.exception = exception;
+        }
+    }
+}
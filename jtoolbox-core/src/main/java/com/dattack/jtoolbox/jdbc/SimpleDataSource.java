@@ -15,16 +15,21 @@
  */
 package com.dattack.jtoolbox.jdbc;
 
+import com.dattack.jtoolbox.jdbc.internal.DialectRegistry;
+import com.dattack.jtoolbox.jdbc.internal.DialectResolver;
+import com.dattack.jtoolbox.jdbc.internal.JdbcDialect;
 import com.dattack.jtoolbox.jdbc.internal.ProxyConnectionFactory;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.Properties;
 
 /**
  * A basic implementation of the standard JDBC DataSource interface that returns a new Connection from every
- * getConnection call.
+ * getConnection call. The connection properties recommended by the {@link JdbcDialect} that matches the JDBC URL
+ * are applied automatically.
  *
  * @author cvarela
  * @since 0.1
@@ -35,6 +40,8 @@ public final class SimpleDataSource extends AbstractDataSource {
     private final transient String password;
     private final transient String url;
     private final transient String driver;
+    private final transient JdbcDialect dialect;
+    private final transient DialectResolver dialectResolver;
 
     private transient volatile boolean ensureDriverLoadedNeeded;
 
@@ -52,6 +59,8 @@ public final class SimpleDataSource extends AbstractDataSource {
         this.url = url;
         this.username = username;
         this.password = password;
+        this.dialect = DialectRegistry.resolveByUrl(url);
+        this.dialectResolver = new DialectResolver();
         ensureDriverLoadedNeeded = true;
     }
 
@@ -82,12 +91,14 @@ public final class SimpleDataSource extends AbstractDataSource {
 
         ensureDriverLoaded();
 
-        final Connection connection;
-        if (Objects.isNull(user) || Objects.isNull(pass)) {
-            connection = DriverManager.getConnection(url);
-        } else {
-            connection = DriverManager.getConnection(url, user, pass);
+        final Properties properties = new Properties();
+        if (Objects.nonNull(user) && Objects.nonNull(pass)) {
+            properties.setProperty("user", user);
+            properties.setProperty("password", pass);
         }
-        return ProxyConnectionFactory.build(connection);
+        dialect.configureProperties(properties);
+
+        final Connection connection = DriverManager.getConnection(url, properties);
+        return configure(ProxyConnectionFactory.build(connection, dialectResolver));
     }
 }
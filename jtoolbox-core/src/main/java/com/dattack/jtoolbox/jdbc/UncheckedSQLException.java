@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Wraps a {@link SQLException} with an unchecked exception, to propagate it through the APIs that don't allow checked
+ * exceptions, such as {@link java.util.stream.Stream}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public class UncheckedSQLException extends RuntimeException {
+
+    private static final long serialVersionUID = -1582478916340532419L;
+
+    public UncheckedSQLException(final SQLException cause) {
+        super(Objects.requireNonNull(cause));
+    }
+
+    public UncheckedSQLException(final String message, final SQLException cause) {
+        super(message, Objects.requireNonNull(cause));
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
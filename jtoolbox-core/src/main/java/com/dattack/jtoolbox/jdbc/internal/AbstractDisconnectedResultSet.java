@@ -0,0 +1,1565 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+
+/**
+ * Base class of the read-only, scrollable {@link ResultSet} implementations that keep their rows in memory, so they
+ * can be read once the statement and the connection that produced them have been closed. The subclasses provide
+ * the storage of the values; this class implements the cursor, the conversions between types and the metadata.
+ *
+ * <p>The values are read from the source result set according to the type of their columns: dates, times and
+ * timestamps as <code>java.sql</code> objects, character LOBs as strings, binary LOBs as byte arrays, arrays as
+ * Java arrays and the rest of the columns with {@link ResultSet#getObject(int)}.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings({"PMD.ExcessivePublicCount", "PMD.GodClass", "PMD.TooManyMethods", "PMD.CyclomaticComplexity"})
+public abstract class AbstractDisconnectedResultSet implements ResultSet {
+
+    private final transient DisconnectedResultSetMetaData metaData;
+    private final transient Statement statement;
+    private transient Map<String, Integer> columnIndexes;
+    private transient int row;
+    private transient boolean wasNull;
+    private transient boolean closed;
+    private transient int fetchDirection = FETCH_FORWARD;
+    private transient int fetchSize;
+
+    protected AbstractDisconnectedResultSet(final DisconnectedResultSetMetaData metaData, final Statement statement) {
+        this.metaData = metaData;
+        this.statement = statement;
+    }
+
+    /**
+     * Returns the number of rows of this result set.
+     *
+     * @return the number of rows
+     */
+    protected abstract int getRowCount();
+
+    /**
+     * Returns a stored value.
+     *
+     * @param rowIndex    the index of the row, starting at 0
+     * @param columnIndex the index of the column, starting at 0
+     * @return the value or null for SQL <code>NULL</code>
+     */
+    protected abstract Object getValue(int rowIndex, int columnIndex);
+
+    /**
+     * Returns a stored value as a double. Storages that keep the numbers as primitive values override this method
+     * to avoid boxing them.
+     *
+     * @param rowIndex    the index of the row, starting at 0
+     * @param columnIndex the index of the column, starting at 0
+     * @return the value or 0 for SQL <code>NULL</code>
+     * @throws SQLException if the value can't be converted
+     */
+    protected double getDoubleValue(final int rowIndex, final int columnIndex) throws SQLException {
+        return toDouble(getValue(rowIndex, columnIndex));
+    }
+
+    /**
+     * Returns a stored value as a long. Storages that keep the numbers as primitive values override this method to
+     * avoid boxing them.
+     *
+     * @param rowIndex    the index of the row, starting at 0
+     * @param columnIndex the index of the column, starting at 0
+     * @return the value or 0 for SQL <code>NULL</code>
+     * @throws SQLException if the value can't be converted
+     */
+    protected long getLongValue(final int rowIndex, final int columnIndex) throws SQLException {
+        return toLong(getValue(rowIndex, columnIndex));
+    }
+
+    /**
+     * Checks if a stored value is SQL <code>NULL</code>.
+     *
+     * @param rowIndex    the index of the row, starting at 0
+     * @param columnIndex the index of the column, starting at 0
+     * @return true if the value is SQL <code>NULL</code>
+     */
+    protected boolean isNullValue(final int rowIndex, final int columnIndex) {
+        return Objects.isNull(getValue(rowIndex, columnIndex));
+    }
+
+    /**
+     * Returns the copy of the metadata of the source result set.
+     *
+     * @return the metadata
+     */
+    protected final DisconnectedResultSetMetaData getDisconnectedMetaData() {
+        return metaData;
+    }
+
+    /**
+     * Reads the value of a column of the current row of a result set, in the form kept by the disconnected result
+     * sets. The dates, LOBs and arrays are read into objects that remain valid after the result set is closed.
+     *
+     * @param resultSet  the source result set
+     * @param column     the index of the column, starting at 1
+     * @param columnType the type of the column, as defined in {@link Types}
+     * @return the value or null for SQL <code>NULL</code>
+     * @throws SQLException if a database access error occurs
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public static Object readValue(final ResultSet resultSet, final int column, final int columnType)
+        throws SQLException
+    {
+        switch (columnType) {
+            case Types.DATE:
+                return resultSet.getDate(column);
+            case Types.TIME:
+                return resultSet.getTime(column);
+            case Types.TIMESTAMP:
+                return resultSet.getTimestamp(column);
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.LONGVARCHAR:
+            case Types.LONGNVARCHAR:
+                return resultSet.getString(column);
+            case Types.BLOB:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return resultSet.getBytes(column);
+            case Types.ARRAY:
+                final Array array = resultSet.getArray(column);
+                if (Objects.isNull(array)) {
+                    return null;
+                }
+                try {
+                    return array.getArray();
+                } finally {
+                    array.free();
+                }
+            default:
+                return resultSet.getObject(column);
+        }
+    }
+
+    private static SQLException readOnly() {
+        return new SQLFeatureNotSupportedException("The result set is read-only");
+    }
+
+    private static SQLException conversionError(final Object value, final String type) {
+        return new SQLException(String.format("Unable to convert a value of type %s to %s",
+            value.getClass().getName(), type));
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("The result set is closed");
+        }
+    }
+
+    private int checkColumn(final int columnIndex) throws SQLException {
+        checkOpen();
+        if (row < 1 || row > getRowCount()) {
+            throw new SQLException("The cursor is not positioned on a row");
+        }
+        if (columnIndex < 1 || columnIndex > metaData.getColumnCount()) {
+            throw new SQLException("Invalid column index: " + columnIndex);
+        }
+        return columnIndex - 1;
+    }
+
+    private Object value(final int columnIndex) throws SQLException {
+        final Object value = getValue(row - 1, checkColumn(columnIndex));
+        wasNull = Objects.isNull(value);
+        return value;
+    }
+
+    private boolean isNull(final int columnIndex) throws SQLException {
+        wasNull = isNullValue(row - 1, checkColumn(columnIndex));
+        return wasNull;
+    }
+
+    // conversions
+
+    private static boolean toBoolean(final Object value) throws SQLException {
+        if (Objects.isNull(value)) {
+            return false;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).signum() != 0;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue() != 0;
+        }
+        if (value instanceof String) {
+            final String text = ((String) value).trim();
+            return "1".equals(text) || "true".equalsIgnoreCase(text) || "y".equalsIgnoreCase(text)
+                || "yes".equalsIgnoreCase(text);
+        }
+        throw conversionError(value, "boolean");
+    }
+
+    private static long toLong(final Object value) throws SQLException {
+        if (Objects.isNull(value)) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        if (value instanceof String) {
+            try {
+                return new BigDecimal(((String) value).trim()).longValue();
+            } catch (final NumberFormatException e) {
+                throw conversionError(value, "long"); // NOPMD - the value is the relevant information
+            }
+        }
+        throw conversionError(value, "long");
+    }
+
+    private static double toDouble(final Object value) throws SQLException {
+        if (Objects.isNull(value)) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        if (value instanceof String) {
+            try {
+                return Double.parseDouble(((String) value).trim());
+            } catch (final NumberFormatException e) {
+                throw conversionError(value, "double"); // NOPMD - the value is the relevant information
+            }
+        }
+        throw conversionError(value, "double");
+    }
+
+    private static BigDecimal toBigDecimal(final Object value) throws SQLException {
+        if (Objects.isNull(value) || value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return BigDecimal.valueOf(((Number) value).doubleValue());
+        }
+        if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+        if (value instanceof String) {
+            try {
+                return new BigDecimal(((String) value).trim());
+            } catch (final NumberFormatException e) {
+                throw conversionError(value, "BigDecimal"); // NOPMD - the value is the relevant information
+            }
+        }
+        throw conversionError(value, "BigDecimal");
+    }
+
+    private static Timestamp toTimestamp(final Object value) throws SQLException {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        if (value instanceof Timestamp) {
+            return (Timestamp) ((Timestamp) value).clone();
+        }
+        if (value instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) value).getTime());
+        }
+        if (value instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) value);
+        }
+        if (value instanceof LocalDate) {
+            return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+        }
+        if (value instanceof OffsetDateTime) {
+            return Timestamp.from(((OffsetDateTime) value).toInstant());
+        }
+        if (value instanceof ZonedDateTime) {
+            return Timestamp.from(((ZonedDateTime) value).toInstant());
+        }
+        if (value instanceof Instant) {
+            return Timestamp.from((Instant) value);
+        }
+        if (value instanceof String) {
+            try {
+                return Timestamp.valueOf(((String) value).trim());
+            } catch (final IllegalArgumentException e) {
+                throw conversionError(value, "Timestamp"); // NOPMD - the value is the relevant information
+            }
+        }
+        throw conversionError(value, "Timestamp");
+    }
+
+    private static Date toDate(final Object value) throws SQLException {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        if (value instanceof Date) {
+            return (Date) ((Date) value).clone();
+        }
+        if (value instanceof LocalDate) {
+            return Date.valueOf((LocalDate) value);
+        }
+        if (value instanceof String) {
+            try {
+                return Date.valueOf(((String) value).trim());
+            } catch (final IllegalArgumentException e) {
+                throw conversionError(value, "Date"); // NOPMD - the value is the relevant information
+            }
+        }
+        return new Date(toTimestamp(value).getTime());
+    }
+
+    private static Time toTime(final Object value) throws SQLException {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        if (value instanceof Time) {
+            return (Time) ((Time) value).clone();
+        }
+        if (value instanceof LocalTime) {
+            return Time.valueOf((LocalTime) value);
+        }
+        if (value instanceof String) {
+            try {
+                return Time.valueOf(((String) value).trim());
+            } catch (final IllegalArgumentException e) {
+                throw conversionError(value, "Time"); // NOPMD - the value is the relevant information
+            }
+        }
+        return new Time(toTimestamp(value).getTime());
+    }
+
+    /**
+     * Interprets the fields of a date-time value, expressed in the default time zone, in the time zone of the given
+     * calendar.
+     */
+    private static long toMillis(final java.util.Date value, final Calendar calendar) {
+        final Calendar local = Calendar.getInstance();
+        local.setTime(value);
+        final Calendar target = (Calendar) calendar.clone();
+        target.clear();
+        target.set(local.get(Calendar.YEAR), local.get(Calendar.MONTH), local.get(Calendar.DAY_OF_MONTH),
+            local.get(Calendar.HOUR_OF_DAY), local.get(Calendar.MINUTE), local.get(Calendar.SECOND));
+        target.set(Calendar.MILLISECOND, local.get(Calendar.MILLISECOND));
+        target.set(Calendar.ERA, local.get(Calendar.ERA));
+        return target.getTimeInMillis();
+    }
+
+    private static Object copyOf(final Object value) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        if (value instanceof java.util.Date) {
+            return ((java.util.Date) value).clone();
+        }
+        return value;
+    }
+
+    // cursor
+
+    @Override
+    public boolean absolute(final int rowNumber) throws SQLException {
+        checkOpen();
+        final int count = getRowCount();
+        if (rowNumber > 0) {
+            row = Math.min(rowNumber, count + 1);
+        } else if (rowNumber < 0) {
+            row = Math.max(count + 1 + rowNumber, 0);
+        } else {
+            row = 0;
+        }
+        return row >= 1 && row <= count;
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        checkOpen();
+        row = getRowCount() + 1;
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        checkOpen();
+        row = 0;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        checkOpen();
+        if (Objects.isNull(columnIndexes)) {
+            final Map<String, Integer> indexes = new HashMap<>();
+            for (int i = metaData.getColumnCount(); i >= 1; i--) {
+                // the first column wins when several columns have the same label
+                final String label = metaData.getColumnLabel(i);
+                indexes.put(label, i);
+                indexes.put(label.toUpperCase(Locale.ROOT), i);
+            }
+            columnIndexes = indexes;
+        }
+
+        Integer index = columnIndexes.get(columnLabel);
+        if (Objects.isNull(index)) {
+            index = columnIndexes.get(columnLabel.toUpperCase(Locale.ROOT));
+            if (Objects.isNull(index)) {
+                throw new SQLException("Invalid column label: " + columnLabel);
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        return absolute(1);
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        checkOpen();
+        return row <= getRowCount() ? row : 0;
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        checkOpen();
+        return getRowCount() > 0 && row > getRowCount();
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        checkOpen();
+        return getRowCount() > 0 && row == 0;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        checkOpen();
+        return getRowCount() > 0 && row == 1;
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        checkOpen();
+        return getRowCount() > 0 && row == getRowCount();
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        return absolute(-1);
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        checkOpen();
+        if (row <= getRowCount()) {
+            row++;
+        }
+        return row <= getRowCount();
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        checkOpen();
+        if (row > 0) {
+            row--;
+        }
+        return row > 0;
+    }
+
+    @Override
+    public boolean relative(final int rows) throws SQLException {
+        checkOpen();
+        final long target = (long) row + rows;
+        if (target <= 0) {
+            row = 0;
+            return false;
+        }
+        return absolute((int) Math.min(target, getRowCount() + 1L));
+    }
+
+    // getters by index
+
+    @Override
+    public Array getArray(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getArray is not supported, use getObject instead");
+    }
+
+    @Override
+    public InputStream getAsciiStream(final int columnIndex) throws SQLException {
+        final String value = getString(columnIndex);
+        return Objects.isNull(value) ? null : new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+        return toBigDecimal(value(columnIndex));
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
+        final BigDecimal value = getBigDecimal(columnIndex);
+        return Objects.isNull(value) ? null : value.setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+        final byte[] value = getBytes(columnIndex);
+        return Objects.isNull(value) ? null : new ByteArrayInputStream(value);
+    }
+
+    @Override
+    public Blob getBlob(final int columnIndex) throws SQLException {
+        final byte[] value = getBytes(columnIndex);
+        return Objects.isNull(value) ? null : new SerialBlob(value);
+    }
+
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        return toBoolean(value(columnIndex));
+    }
+
+    @Override
+    public byte getByte(final int columnIndex) throws SQLException {
+        return (byte) getLong(columnIndex);
+    }
+
+    @Override
+    public byte[] getBytes(final int columnIndex) throws SQLException {
+        final Object value = value(columnIndex);
+        if (Objects.isNull(value) || value instanceof byte[]) {
+            return (byte[]) copyOf(value);
+        }
+        throw conversionError(value, "byte[]");
+    }
+
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        final String value = getString(columnIndex);
+        return Objects.isNull(value) ? null : new StringReader(value);
+    }
+
+    @Override
+    public Clob getClob(final int columnIndex) throws SQLException {
+        final String value = getString(columnIndex);
+        return Objects.isNull(value) ? null : new SerialClob(value.toCharArray());
+    }
+
+    @Override
+    public Date getDate(final int columnIndex) throws SQLException {
+        return toDate(value(columnIndex));
+    }
+
+    @Override
+    public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
+        final Date value = getDate(columnIndex);
+        return Objects.isNull(value) || Objects.isNull(cal) ? value : new Date(toMillis(value, cal));
+    }
+
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        if (isNull(columnIndex)) {
+            return 0;
+        }
+        return getDoubleValue(row - 1, columnIndex - 1);
+    }
+
+    @Override
+    public float getFloat(final int columnIndex) throws SQLException {
+        return (float) getDouble(columnIndex);
+    }
+
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return (int) getLong(columnIndex);
+    }
+
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        if (isNull(columnIndex)) {
+            return 0;
+        }
+        return getLongValue(row - 1, columnIndex - 1);
+    }
+
+    @Override
+    public Reader getNCharacterStream(final int columnIndex) throws SQLException {
+        return getCharacterStream(columnIndex);
+    }
+
+    @Override
+    public NClob getNClob(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNClob is not supported, use getClob instead");
+    }
+
+    @Override
+    public String getNString(final int columnIndex) throws SQLException {
+        return getString(columnIndex);
+    }
+
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        return copyOf(value(columnIndex));
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "PMD.NPathComplexity"})
+    public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+        if (isNull(columnIndex)) {
+            return null;
+        }
+        final Object result;
+        if (type == String.class) {
+            result = getString(columnIndex);
+        } else if (type == BigDecimal.class) {
+            result = getBigDecimal(columnIndex);
+        } else if (type == Boolean.class) {
+            result = getBoolean(columnIndex);
+        } else if (type == Integer.class) {
+            result = getInt(columnIndex);
+        } else if (type == Long.class) {
+            result = getLong(columnIndex);
+        } else if (type == Short.class) {
+            result = getShort(columnIndex);
+        } else if (type == Byte.class) {
+            result = getByte(columnIndex);
+        } else if (type == Double.class) {
+            result = getDouble(columnIndex);
+        } else if (type == Float.class) {
+            result = getFloat(columnIndex);
+        } else if (type == byte[].class) {
+            result = getBytes(columnIndex);
+        } else if (type == Date.class) {
+            result = getDate(columnIndex);
+        } else if (type == Time.class) {
+            result = getTime(columnIndex);
+        } else if (type == Timestamp.class) {
+            result = getTimestamp(columnIndex);
+        } else if (type == LocalDate.class) {
+            result = getDate(columnIndex).toLocalDate();
+        } else if (type == LocalTime.class) {
+            result = getTime(columnIndex).toLocalTime();
+        } else if (type == LocalDateTime.class) {
+            result = getTimestamp(columnIndex).toLocalDateTime();
+        } else {
+            final Object value = getObject(columnIndex);
+            if (!type.isInstance(value)) {
+                throw conversionError(value, type.getName());
+            }
+            result = value;
+        }
+        return (T) result;
+    }
+
+    @Override
+    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+        return getObject(columnIndex);
+    }
+
+    @Override
+    public Ref getRef(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getRef is not supported");
+    }
+
+    @Override
+    public RowId getRowId(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getRowId is not supported");
+    }
+
+    @Override
+    public SQLXML getSQLXML(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getSQLXML is not supported");
+    }
+
+    @Override
+    public short getShort(final int columnIndex) throws SQLException {
+        return (short) getLong(columnIndex);
+    }
+
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        final Object value = value(columnIndex);
+        if (Objects.isNull(value) || value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof byte[]) {
+            throw conversionError(value, "String");
+        }
+        return value.toString();
+    }
+
+    @Override
+    public Time getTime(final int columnIndex) throws SQLException {
+        return toTime(value(columnIndex));
+    }
+
+    @Override
+    public Time getTime(final int columnIndex, final Calendar cal) throws SQLException {
+        final Time value = getTime(columnIndex);
+        return Objects.isNull(value) || Objects.isNull(cal) ? value : new Time(toMillis(value, cal));
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex) throws SQLException {
+        return toTimestamp(value(columnIndex));
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex, final Calendar cal) throws SQLException {
+        final Timestamp value = getTimestamp(columnIndex);
+        if (Objects.isNull(value) || Objects.isNull(cal)) {
+            return value;
+        }
+        final Timestamp result = new Timestamp(toMillis(value, cal));
+        result.setNanos(value.getNanos());
+        return result;
+    }
+
+    @Override
+    public URL getURL(final int columnIndex) throws SQLException {
+        final String value = getString(columnIndex);
+        try {
+            return Objects.isNull(value) ? null : new URL(value);
+        } catch (final MalformedURLException e) {
+            throw new SQLException("Invalid URL: " + value, e);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getUnicodeStream is not supported");
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        checkOpen();
+        return wasNull;
+    }
+
+    // getters by label
+
+    @Override
+    public Array getArray(final String columnLabel) throws SQLException {
+        return getArray(findColumn(columnLabel));
+    }
+
+    @Override
+    public InputStream getAsciiStream(final String columnLabel) throws SQLException {
+        return getAsciiStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel));
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel), scale);
+    }
+
+    @Override
+    public InputStream getBinaryStream(final String columnLabel) throws SQLException {
+        return getBinaryStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public Blob getBlob(final String columnLabel) throws SQLException {
+        return getBlob(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        return getBoolean(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte getByte(final String columnLabel) throws SQLException {
+        return getByte(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte[] getBytes(final String columnLabel) throws SQLException {
+        return getBytes(findColumn(columnLabel));
+    }
+
+    @Override
+    public Reader getCharacterStream(final String columnLabel) throws SQLException {
+        return getCharacterStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public Clob getClob(final String columnLabel) throws SQLException {
+        return getClob(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(final String columnLabel) throws SQLException {
+        return getDate(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(final String columnLabel, final Calendar cal) throws SQLException {
+        return getDate(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    @Override
+    public float getFloat(final String columnLabel) throws SQLException {
+        return getFloat(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        return getLong(findColumn(columnLabel));
+    }
+
+    @Override
+    public Reader getNCharacterStream(final String columnLabel) throws SQLException {
+        return getNCharacterStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public NClob getNClob(final String columnLabel) throws SQLException {
+        return getNClob(findColumn(columnLabel));
+    }
+
+    @Override
+    public String getNString(final String columnLabel) throws SQLException {
+        return getNString(findColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(final String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
+        return getObject(findColumn(columnLabel), type);
+    }
+
+    @Override
+    public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
+        return getObject(findColumn(columnLabel), map);
+    }
+
+    @Override
+    public Ref getRef(final String columnLabel) throws SQLException {
+        return getRef(findColumn(columnLabel));
+    }
+
+    @Override
+    public RowId getRowId(final String columnLabel) throws SQLException {
+        return getRowId(findColumn(columnLabel));
+    }
+
+    @Override
+    public SQLXML getSQLXML(final String columnLabel) throws SQLException {
+        return getSQLXML(findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(final String columnLabel) throws SQLException {
+        return getShort(findColumn(columnLabel));
+    }
+
+    @Override
+    public String getString(final String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(final String columnLabel) throws SQLException {
+        return getTime(findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
+        return getTime(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel) throws SQLException {
+        return getTimestamp(findColumn(columnLabel));
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel, final Calendar cal) throws SQLException {
+        return getTimestamp(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public URL getURL(final String columnLabel) throws SQLException {
+        return getURL(findColumn(columnLabel));
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(final String columnLabel) throws SQLException {
+        return getUnicodeStream(findColumn(columnLabel));
+    }
+
+    // properties
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        checkOpen();
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        checkOpen();
+        return CONCUR_READ_ONLY;
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        throw new SQLFeatureNotSupportedException("Disconnected result sets have no cursor name");
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        checkOpen();
+        return fetchDirection;
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        checkOpen();
+        return fetchSize;
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        checkOpen();
+        return HOLD_CURSORS_OVER_COMMIT;
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        checkOpen();
+        return metaData;
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        checkOpen();
+        return statement;
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        checkOpen();
+        return TYPE_SCROLL_INSENSITIVE;
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        checkOpen();
+        return null;
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public void setFetchDirection(final int direction) throws SQLException {
+        checkOpen();
+        this.fetchDirection = direction;
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        checkOpen();
+        if (rows < 0) {
+            throw new SQLException("Invalid fetch size: " + rows);
+        }
+        this.fetchSize = rows;
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface);
+    }
+
+    // updates are not supported
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean rowDeleted() {
+        return false;
+    }
+
+    @Override
+    public boolean rowInserted() {
+        return false;
+    }
+
+    @Override
+    public boolean rowUpdated() {
+        return false;
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateArray(final String columnLabel, final Array value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateArray(final int columnIndex, final Array value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream value,
+        final int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream value,
+        final long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream value,
+        final int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream value,
+        final long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBigDecimal(final String columnLabel, final BigDecimal value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBigDecimal(final int columnIndex, final BigDecimal value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream value,
+        final int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream value,
+        final long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream value,
+        final int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream value,
+        final long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final InputStream value, final long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final InputStream value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final Blob value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final InputStream value, final long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final InputStream value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final Blob value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBoolean(final String columnLabel, final boolean value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBoolean(final int columnIndex, final boolean value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateByte(final String columnLabel, final byte value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateByte(final int columnIndex, final byte value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBytes(final String columnLabel, final byte[] value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBytes(final int columnIndex, final byte[] value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader value,
+        final int length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader value,
+        final long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader value, final int length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader value,
+        final long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Reader value, final long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Reader value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Clob value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Reader value, final long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Reader value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Clob value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDate(final String columnLabel, final Date value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDate(final int columnIndex, final Date value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDouble(final String columnLabel, final double value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDouble(final int columnIndex, final double value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateFloat(final String columnLabel, final float value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateFloat(final int columnIndex, final float value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateInt(final String columnLabel, final int value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateInt(final int columnIndex, final int value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateLong(final String columnLabel, final long value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateLong(final int columnIndex, final long value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(final String columnLabel, final Reader value,
+        final long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(final String columnLabel, final Reader value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(final int columnIndex, final Reader value,
+        final long length) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(final int columnIndex, final Reader value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final Reader value, final long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final Reader value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final NClob value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final Reader value, final long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final Reader value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final NClob value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNString(final String columnLabel, final String value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNString(final int columnIndex, final String value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNull(final String columnLabel) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNull(final int columnIndex) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object value,
+        final int scaleOrLength) throws SQLException
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object value, final int scaleOrLength) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRef(final String columnLabel, final Ref value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRef(final int columnIndex, final Ref value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRowId(final String columnLabel, final RowId value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRowId(final int columnIndex, final RowId value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateSQLXML(final String columnLabel, final SQLXML value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateSQLXML(final int columnIndex, final SQLXML value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateShort(final String columnLabel, final short value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateShort(final int columnIndex, final short value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateString(final String columnLabel, final String value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateString(final int columnIndex, final String value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTime(final String columnLabel, final Time value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTime(final int columnIndex, final Time value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTimestamp(final String columnLabel, final Timestamp value) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTimestamp(final int columnIndex, final Timestamp value) throws SQLException {
+        throw readOnly();
+    }
+}
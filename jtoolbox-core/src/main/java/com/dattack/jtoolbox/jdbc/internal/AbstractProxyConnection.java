@@ -15,11 +15,24 @@
  */
 package com.dattack.jtoolbox.jdbc.internal;
 
+import com.dattack.jtoolbox.jdbc.internal.generic.GenericDialect;
+import com.dattack.jtoolbox.util.LruCache;
+import com.dattack.jtoolbox.util.function.ThrowingFunction;
+
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * {@link ProxyConnection} generic implementation for an underlying connection.
@@ -31,17 +44,65 @@ import java.sql.Statement;
 @SuppressWarnings("PMD.TooManyMethods")
 public abstract class AbstractProxyConnection implements ProxyConnection {
 
+    /**
+     * Holdability value used in the cache keys of the statements prepared without an explicit holdability.
+     */
+    private static final int DEFAULT_HOLDABILITY = 0;
+
     private final Connection delegate;
+    private final transient JdbcDialect dialect;
+    private transient volatile StatementCache statementCache;
+    private transient volatile FetchSizeAdvisor fetchSizeAdvisor;
+    private transient volatile JdbcMetrics metrics;
+    private transient volatile SlowQueryLog slowQueryLog;
+    private transient volatile Executor asyncExecutor;
+    private transient volatile ResultCache resultCache;
+    private final transient Set<AbstractProxyStatement<?>> pendingBatches = new LinkedHashSet<>();
+    private transient volatile boolean hasPendingBatches;
+    private transient volatile Connection owner;
+    private final transient Set<AbstractProxyStatement<?>> openStatements = ConcurrentHashMap.newKeySet();
 
     protected AbstractProxyConnection(final Connection delegate) {
+        this(delegate, GenericDialect.INSTANCE);
+    }
+
+    protected AbstractProxyConnection(final Connection delegate, final JdbcDialect dialect) {
         this.delegate = delegate;
+        this.dialect = Objects.requireNonNull(dialect, "dialect must not be null");
     }
 
     protected abstract Statement doCreateStatement(final Statement statement);
 
-    protected abstract CallableStatement doPrepareCall(final CallableStatement callableStatement);
+    protected abstract CallableStatement doPrepareCall(final String sql, final CallableStatement callableStatement);
+
+    protected abstract PreparedStatement doPrepareStatement(final String sql,
+        final PreparedStatement preparedStatement);
+
+    /**
+     * Discards the rows of the statements in auto-batching mode that have not been sent to the database yet.
+     */
+    private void clearPendingBatches() throws SQLException {
+        for (final AbstractProxyStatement<?> statement : takePendingBatches(null)) {
+            statement.clearBatch();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        flushPendingBatches();
+        final StatementCache cache = statementCache;
+        if (Objects.nonNull(cache)) {
+            statementCache = null;
+            cache.close();
+        }
+        getDelegate().close();
+    }
 
-    protected abstract PreparedStatement doPrepareStatement(final PreparedStatement preparedStatement);
+    @Override
+    public void commit() throws SQLException {
+        flushPendingBatches();
+        getDelegate().commit();
+    }
 
     @Override
     public Statement createStatement() throws SQLException {
@@ -61,62 +122,314 @@ public abstract class AbstractProxyConnection implements ProxyConnection {
             getDelegate().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
     }
 
+    /**
+     * Sends to the database the rows of the statements in auto-batching mode, in the order in which the statements
+     * received their first pending row.
+     *
+     * @throws SQLException if a database access error occurs
+     */
+    public void flushPendingBatches() throws SQLException {
+        flushPendingBatches(null);
+    }
+
+    /**
+     * Sends to the database the rows of the statements in auto-batching mode, except those of the given statement.
+     * It is called before every execution, so the statements of this connection see the rows batched before.
+     *
+     * @param excluded the statement whose rows are kept pending, may be null
+     * @throws SQLException if a database access error occurs
+     */
+    /* default */ void flushPendingBatches(final AbstractProxyStatement<?> excluded) throws SQLException {
+        if (hasPendingBatches) {
+            for (final AbstractProxyStatement<?> statement : takePendingBatches(excluded)) {
+                statement.flushAutoBatch();
+            }
+        }
+    }
+
+    /* default */ synchronized void registerPendingBatch(final AbstractProxyStatement<?> statement) {
+        pendingBatches.add(statement);
+        hasPendingBatches = true;
+    }
+
+    /* default */ synchronized void unregisterPendingBatch(final AbstractProxyStatement<?> statement) {
+        pendingBatches.remove(statement);
+        hasPendingBatches = !pendingBatches.isEmpty();
+    }
+
+    private synchronized List<AbstractProxyStatement<?>> takePendingBatches(final AbstractProxyStatement<?> excluded) {
+        final List<AbstractProxyStatement<?>> list = new ArrayList<>(pendingBatches);
+        list.remove(excluded);
+        return list;
+    }
+
+    /**
+     * Closes the statements created since the last call to {@link #setOwner(Connection)} with a non-null owner.
+     *
+     * @throws SQLException if a statement can't be closed; the errors of the other statements are suppressed
+     */
+    public void closeStatements() throws SQLException {
+        SQLException error = null;
+        for (final AbstractProxyStatement<?> statement : openStatements) {
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                if (Objects.isNull(error)) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        openStatements.clear();
+        if (Objects.nonNull(error)) {
+            throw error;
+        }
+    }
+
+    /**
+     * Checks if a statement created since the last call to {@link #setOwner(Connection)} with a non-null owner is
+     * still open. The result sets of a statement are closed along with it, so no cursor is open when this method
+     * returns false.
+     *
+     * @return true when a statement is open
+     */
+    public boolean hasOpenStatements() {
+        return !openStatements.isEmpty();
+    }
+
+    /**
+     * Returns the connection reported by the statements created now.
+     *
+     * @param statement the new statement
+     * @return the owner of this connection, or this connection when it has no owner
+     */
+    /* default */ Connection registerStatement(final AbstractProxyStatement<?> statement) {
+        final Connection current = owner;
+        if (Objects.isNull(current)) {
+            return this;
+        }
+        openStatements.add(statement);
+        return current;
+    }
+
+    /* default */ void unregisterStatement(final AbstractProxyStatement<?> statement) {
+        openStatements.remove(statement);
+    }
+
+    /**
+     * Sets the connection that owns this one, such as the logical connection handed out by a pool for each borrow of
+     * this physical connection. The statements created while the owner is set report it as their connection and can
+     * be closed with {@link #closeStatements()}.
+     *
+     * @param owner the owner or null to clear it
+     */
+    public void setOwner(final Connection owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public final JdbcDialect getDialect() {
+        return dialect;
+    }
+
+    @Override
+    public FetchSizeAdvisor getFetchSizeAdvisor() {
+        return fetchSizeAdvisor;
+    }
+
+    @Override
+    public void setFetchSizeAdvisor(final FetchSizeAdvisor advisor) {
+        this.fetchSizeAdvisor = advisor;
+    }
+
+    @Override
+    public JdbcMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void setMetrics(final JdbcMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @Override
     public final Connection getDelegate() {
         return delegate;
     }
 
+    @Override
+    public void rollback() throws SQLException {
+        clearPendingBatches();
+        getDelegate().rollback();
+    }
+
+    @Override
+    public void rollback(final Savepoint savepoint) throws SQLException {
+        // the rows batched before the savepoint must survive the rollback
+        flushPendingBatches();
+        getDelegate().rollback(savepoint);
+    }
+
+    @Override
+    public void setAutoCommit(final boolean autoCommit) throws SQLException {
+        flushPendingBatches();
+        getDelegate().setAutoCommit(autoCommit);
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        flushPendingBatches();
+        return getDelegate().setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(final String name) throws SQLException {
+        flushPendingBatches();
+        return getDelegate().setSavepoint(name);
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    @Override
+    public void setAsyncExecutor(final Executor executor) {
+        this.asyncExecutor = executor;
+    }
+
+    @Override
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    @Override
+    public void setResultCache(final ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    @Override
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    @Override
+    public void setSlowQueryLog(final SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public int getStatementCacheSize() {
+        final StatementCache cache = statementCache;
+        return Objects.isNull(cache) ? 0 : cache.getMaxSize();
+    }
+
+    @Override
+    public LruCache.Stats getStatementCacheStats() {
+        final StatementCache cache = statementCache;
+        return Objects.isNull(cache) ? new LruCache.Stats(0, 0, 0, 0) : cache.getStats();
+    }
+
+    @Override
+    public synchronized void setStatementCacheSize(final int size) {
+        final StatementCache cache = statementCache;
+        if (size <= 0) {
+            if (Objects.nonNull(cache)) {
+                statementCache = null;
+                cache.close();
+            }
+        } else if (Objects.isNull(cache)) {
+            statementCache = new StatementCache(size);
+        } else {
+            cache.setMaxSize(size);
+        }
+    }
+
     @Override
     public CallableStatement prepareCall(final String sql) throws SQLException {
-        return doPrepareCall(getDelegate().prepareCall(sql));
+        return doPrepareCall(sql, getDelegate().prepareCall(sql));
     }
 
     @Override
     public CallableStatement prepareCall(final String sql, final int resultSetType,
         final int resultSetConcurrency) throws SQLException
     {
-        return doPrepareCall(getDelegate().prepareCall(sql, resultSetType, resultSetConcurrency));
+        return doPrepareCall(sql, getDelegate().prepareCall(sql, resultSetType, resultSetConcurrency));
     }
 
     @Override
     public CallableStatement prepareCall(final String sql, final int resultSetType, final int resultSetConcurrency,
         int resultSetHoldability) throws SQLException
     {
-        return doPrepareCall(getDelegate().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+        return doPrepareCall(sql,
+            getDelegate().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
     }
 
     @Override
     public PreparedStatement prepareStatement(final String sql) throws SQLException {
-        return doPrepareStatement(getDelegate().prepareStatement(sql));
+        if (Objects.isNull(statementCache)) {
+            return doPrepareStatement(sql, getDelegate().prepareStatement(sql));
+        }
+        return prepareCachedStatement(new StatementCache.Key(sql, ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY, DEFAULT_HOLDABILITY), connection -> connection.prepareStatement(sql));
     }
 
     @Override
     public PreparedStatement prepareStatement(final String sql, final int resultSetType,
         final int resultSetConcurrency) throws SQLException
     {
-        return doPrepareStatement(getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
+        if (Objects.isNull(statementCache)) {
+            return doPrepareStatement(sql,
+                getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
+        }
+        return prepareCachedStatement(
+            new StatementCache.Key(sql, resultSetType, resultSetConcurrency, DEFAULT_HOLDABILITY),
+            connection -> connection.prepareStatement(sql, resultSetType, resultSetConcurrency));
     }
 
     @Override
     public PreparedStatement prepareStatement(final String sql, final int resultSetType, final int resultSetConcurrency,
         final int resultSetHoldability) throws SQLException
     {
-        return doPrepareStatement(
-            getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+        if (Objects.isNull(statementCache)) {
+            return doPrepareStatement(sql,
+                getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+        }
+        return prepareCachedStatement(
+            new StatementCache.Key(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+            connection -> connection.prepareStatement(sql, resultSetType, resultSetConcurrency,
+                                                      resultSetHoldability));
     }
 
     @Override
     public PreparedStatement prepareStatement(final String sql, final int autoGeneratedKeys) throws SQLException {
-        return doPrepareStatement(getDelegate().prepareStatement(sql, autoGeneratedKeys));
+        return doPrepareStatement(sql, getDelegate().prepareStatement(sql, autoGeneratedKeys));
     }
 
     @Override
     public PreparedStatement prepareStatement(final String sql, final int[] columnIndexes) throws SQLException {
-        return doPrepareStatement(getDelegate().prepareStatement(sql, columnIndexes));
+        return doPrepareStatement(sql, getDelegate().prepareStatement(sql, columnIndexes));
     }
 
     @Override
     public PreparedStatement prepareStatement(final String sql, final String[] columnNames) throws SQLException {
-        return doPrepareStatement(getDelegate().prepareStatement(sql, columnNames));
+        return doPrepareStatement(sql, getDelegate().prepareStatement(sql, columnNames));
+    }
+
+    private PreparedStatement prepareCachedStatement(final StatementCache.Key key,
+        final ThrowingFunction<Connection, PreparedStatement, SQLException> preparer) throws SQLException
+    {
+        final StatementCache cache = statementCache;
+        if (Objects.isNull(cache)) {
+            return doPrepareStatement(key.getSql(), preparer.apply(getDelegate()));
+        }
+
+        CachedPreparedStatement cached = cache.take(key);
+        if (Objects.isNull(cached)) {
+            cached = cache.register(key, preparer.apply(getDelegate()));
+        }
+        // a new proxy for every checkout, so the references to a closed statement can't reach the next user
+        return doPrepareStatement(key.getSql(), cached);
     }
 }
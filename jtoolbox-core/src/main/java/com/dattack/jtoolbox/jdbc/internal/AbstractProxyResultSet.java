@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link ProxyResultSet} base implementation that counts the rows read through {@link #next()} and notifies a
+ * listener when the result set is exhausted or closed. When the statement is instrumented, the time spent in
+ * {@link #next()} is measured too.
+ *
+ * <p>The column labels are resolved to indexes with a table built from the metadata on first use, so the getters by
+ * label don't depend on the cost of <code>findColumn</code> in the driver.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public abstract class AbstractProxyResultSet implements ProxyResultSet {
+
+    private final Statement statement;
+    private final ResultSet delegate;
+    private transient ResultSetListener listener;
+    private transient SqlMetrics metrics;
+    private transient long fetchNanos;
+    private transient Map<String, Integer> columnIndexes;
+    private transient long rowCount;
+    private transient boolean completed;
+
+    protected AbstractProxyResultSet(final Statement statement, final ResultSet delegate) {
+        this.statement = statement;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        complete();
+        getDelegate().close();
+    }
+
+    private void complete() {
+        if (!completed) {
+            completed = true;
+            if (Objects.nonNull(listener)) {
+                listener.onComplete(this, rowCount);
+            }
+            if (Objects.nonNull(metrics)) {
+                metrics.recordFetch(rowCount, fetchNanos);
+            }
+        }
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        if (Objects.isNull(columnIndexes)) {
+            columnIndexes = buildColumnIndexes(getDelegate().getMetaData());
+        }
+
+        Integer index = columnIndexes.get(columnLabel);
+        if (Objects.isNull(index)) {
+            index = columnIndexes.get(columnLabel.toUpperCase(Locale.ROOT));
+            if (Objects.isNull(index)) {
+                // let the driver report the error
+                return getDelegate().findColumn(columnLabel);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Maps every column label, as returned by the driver and in upper case, to the index of the first column with
+     * that label.
+     */
+    private static Map<String, Integer> buildColumnIndexes(final ResultSetMetaData metaData) throws SQLException {
+        final int columnCount = metaData.getColumnCount();
+        final Map<String, Integer> map = new HashMap<>(4 * columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            final String label = metaData.getColumnLabel(i);
+            if (Objects.nonNull(label)) {
+                map.putIfAbsent(label, i);
+                map.putIfAbsent(label.toUpperCase(Locale.ROOT), i);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public final ResultSet getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the number of rows read through {@link #next()}.
+     *
+     * @return the number of rows read
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public Statement getStatement() {
+        return statement;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        final boolean hasNext;
+        if (Objects.isNull(metrics)) {
+            hasNext = getDelegate().next();
+        } else {
+            final long start = System.nanoTime();
+            hasNext = getDelegate().next();
+            fetchNanos += System.nanoTime() - start;
+        }
+        if (hasNext) {
+            rowCount++;
+        } else {
+            complete();
+        }
+        return hasNext;
+    }
+
+    /* default */ void setListener(final ResultSetListener listener) {
+        this.listener = listener;
+    }
+
+    /* default */ void setMetrics(final SqlMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Callback invoked once, when a result set is exhausted or closed.
+     */
+    @FunctionalInterface
+    /* default */ interface ResultSetListener {
+
+        void onComplete(AbstractProxyResultSet resultSet, long rowCount);
+    }
+}
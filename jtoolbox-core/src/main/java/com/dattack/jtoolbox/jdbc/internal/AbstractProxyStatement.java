@@ -0,0 +1,557 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.util.function.ThrowingSupplier;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link ProxyStatement} base implementation. It keeps the SQL text of the statement (when known), applies the
+ * fetch size suggested by the {@link FetchSizeAdvisor} of the connection, unless the fetch size has been set
+ * explicitly, and records the executions in the {@link JdbcMetrics} of the connection.
+ *
+ * <p>A prepared statement can work in auto-batching mode (see {@link #setAutoBatch(int, long)}): its updates are
+ * added to a batch that is sent to the database when it reaches a size limit, when the transaction ends, or before
+ * any other execution on the same connection.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public abstract class AbstractProxyStatement<S extends Statement> implements ProxyStatement<S> {
+
+    private final S delegate;
+    private final AbstractProxyConnection connection;
+    private final Connection owner;
+    private final String sql;
+    private transient String lastSql;
+    private transient boolean fetchSizeSet;
+    private transient int advisedFetchSize;
+    private transient String batchSql;
+    private transient JdbcMetrics metricsOwner;
+    private transient String metricsSql;
+    private transient SqlMetrics sqlMetrics;
+    private transient int autoBatchMaxRows;
+    private transient long autoBatchMaxBytes;
+    private transient int autoBatchRows;
+    private transient long autoBatchBytes;
+    private transient int[] autoBatchUpdateCounts = new int[0];
+    private transient int autoBatchUpdateCountSize;
+
+    protected AbstractProxyStatement(final AbstractProxyConnection connection, final S delegate, final String sql) {
+        this.connection = connection;
+        this.delegate = delegate;
+        this.sql = sql;
+        this.owner = connection.registerStatement(this); //NOPMD - the statement is only tracked by the connection
+    }
+
+    /**
+     * Adds the current parameters to the batch of a statement in auto-batching mode, and sends the batch to the
+     * database when it reaches the size limits.
+     *
+     * @return {@link Statement#SUCCESS_NO_INFO}, since the update count is not known until the batch is executed
+     * @throws SQLException if a database access error occurs
+     * @see #getAutoBatchUpdateCounts()
+     */
+    protected final int addAutoBatchRow() throws SQLException {
+        if (autoBatchRows == 0) {
+            // the pending rows of other statements are executed first, to keep the order of the updates
+            connection.flushPendingBatches(this);
+        }
+        ((PreparedStatement) this).addBatch();
+        autoBatchRows++;
+        autoBatchBytes += estimateBatchRowSize();
+        if (autoBatchRows == 1) {
+            connection.registerPendingBatch(this);
+        }
+        if (autoBatchRows >= autoBatchMaxRows || autoBatchMaxBytes > 0 && autoBatchBytes >= autoBatchMaxBytes) {
+            flushAutoBatch();
+        }
+        return SUCCESS_NO_INFO;
+    }
+
+    /**
+     * Estimates the size of the parameters of a row added to the batch in auto-batching mode.
+     *
+     * @return the estimated size in bytes, or 0 when it is unknown
+     */
+    protected long estimateBatchRowSize() {
+        return 0;
+    }
+
+    /**
+     * Sends the batch of commands to the database. By default, the batch of the delegate is executed.
+     *
+     * @return the update count of each command
+     * @throws SQLException if a database access error occurs
+     */
+    protected int[] executeDelegateBatch() throws SQLException {
+        return getDelegate().executeBatch();
+    }
+
+    /**
+     * Sends the batch of commands to the database, when the update counts may exceed {@link Integer#MAX_VALUE}. By
+     * default, the batch of the delegate is executed.
+     *
+     * @return the update count of each command
+     * @throws SQLException if a database access error occurs
+     */
+    protected long[] executeDelegateLargeBatch() throws SQLException {
+        return getDelegate().executeLargeBatch();
+    }
+
+    private void appendAutoBatchUpdateCounts(final int[] counts) {
+        final int size = autoBatchUpdateCountSize + counts.length;
+        if (size > autoBatchUpdateCounts.length) {
+            autoBatchUpdateCounts = Arrays.copyOf(autoBatchUpdateCounts,
+                Math.max(size, autoBatchUpdateCounts.length * 2));
+        }
+        System.arraycopy(counts, 0, autoBatchUpdateCounts, autoBatchUpdateCountSize, counts.length);
+        autoBatchUpdateCountSize = size;
+    }
+
+    /**
+     * Sends to the database the rows added to the batch in auto-batching mode. The update count of each row is
+     * available through {@link #getAutoBatchUpdateCounts()}.
+     *
+     * @throws SQLException if a database access error occurs
+     */
+    public void flushAutoBatch() throws SQLException {
+        if (autoBatchRows > 0) {
+            appendAutoBatchUpdateCounts(executeBatch());
+        }
+    }
+
+    /**
+     * Returns the update counts of the rows sent to the database in auto-batching mode since the last call to this
+     * method. The counts of every flush are kept, in the order in which the rows were added, whether the flush was
+     * explicit, caused by the size limits, by a commit or by the execution of another statement.
+     *
+     * @return the update counts, one per row sent
+     */
+    public int[] getAutoBatchUpdateCounts() {
+        final int[] counts = Arrays.copyOf(autoBatchUpdateCounts, autoBatchUpdateCountSize);
+        autoBatchUpdateCountSize = 0;
+        return counts;
+    }
+
+    /**
+     * Returns true when the updates of this statement are batched.
+     *
+     * @return true in auto-batching mode
+     */
+    public boolean isAutoBatch() {
+        return autoBatchMaxRows > 0;
+    }
+
+    private void resetAutoBatch() {
+        if (autoBatchRows > 0) {
+            autoBatchRows = 0;
+            autoBatchBytes = 0;
+            connection.unregisterPendingBatch(this);
+        }
+    }
+
+    /**
+     * Enables or disables the auto-batching mode. In this mode, <code>executeUpdate()</code> adds the parameters to
+     * a batch instead of executing the statement, and returns {@link Statement#SUCCESS_NO_INFO}. The batch is sent to
+     * the database when it reaches <code>maxRows</code> rows or the estimated size of its parameters reaches
+     * <code>maxBytes</code>, on commit, when the statement or the connection is closed and before any other
+     * execution on the same connection. A rollback discards the rows not sent yet.
+     *
+     * @param maxRows  the maximum number of rows of a batch, 0 disables the auto-batching mode
+     * @param maxBytes the maximum estimated size of a batch, 0 or a negative value to ignore it
+     * @throws SQLException if the pending rows can't be sent to the database
+     */
+    public void setAutoBatch(final int maxRows, final long maxBytes) throws SQLException {
+        if (maxRows < 0) {
+            throw new IllegalArgumentException("Invalid auto-batch size: " + maxRows);
+        }
+        flushAutoBatch();
+        this.autoBatchUpdateCounts = new int[0];
+        this.autoBatchUpdateCountSize = 0;
+        this.autoBatchMaxRows = maxRows;
+        this.autoBatchMaxBytes = maxBytes;
+    }
+
+    /**
+     * Wraps a result set obtained from the delegate with the vendor-specific {@link ProxyResultSet} implementation.
+     *
+     * @param resultSet the result set to wrap, not null
+     * @return the proxy result set
+     */
+    protected abstract ResultSet doWrapResultSet(ResultSet resultSet);
+
+    /**
+     * Applies the fetch size suggested by the {@link FetchSizeAdvisor} of the connection before executing a query.
+     * Nothing is done when the fetch size has been set explicitly or when the delegate is another proxy statement,
+     * that will apply the advice itself.
+     *
+     * @param query the SQL text to execute
+     * @throws SQLException if a database access error occurs
+     */
+    protected final void adviseFetchSize(final String query) throws SQLException {
+        lastSql = query;
+        final FetchSizeAdvisor advisor = connection.getFetchSizeAdvisor();
+        if (Objects.isNull(advisor) || Objects.isNull(query) || fetchSizeSet
+            || getDelegate() instanceof AbstractProxyStatement)
+        {
+            return;
+        }
+
+        final int fetchSize = advisor.getFetchSize(query);
+        if (fetchSize > 0 && fetchSize != advisedFetchSize) {
+            getDelegate().setFetchSize(fetchSize);
+            advisedFetchSize = fetchSize;
+        }
+    }
+
+    /**
+     * Returns the metrics of the given SQL text, or null when the connection is not instrumented. The metrics of the
+     * last SQL text are kept, so a prepared statement resolves them once.
+     */
+    private SqlMetrics getSqlMetrics(final String query) {
+        final JdbcMetrics metrics = connection.getMetrics();
+        if (Objects.isNull(metrics) || Objects.isNull(query) || getDelegate() instanceof AbstractProxyStatement) {
+            return null;
+        }
+
+        if (metrics != metricsOwner || !query.equals(metricsSql)) { // NOPMD - the registry is compared by identity
+            sqlMetrics = metrics.forSql(query);
+            metricsOwner = metrics;
+            metricsSql = query;
+        }
+        return sqlMetrics;
+    }
+
+    /**
+     * Returns the slow query log of the connection. Only the named statements report their slow executions, since
+     * they know the names of the parameters.
+     */
+    private SlowQueryLog getSlowQueryLog() {
+        return this instanceof ProxyNamedPreparedStatement ? connection.getSlowQueryLog() : null;
+    }
+
+    /**
+     * Returns the proxy connection that created this statement, even when {@link #getConnection()} returns its owner.
+     *
+     * @return the proxy connection
+     */
+    protected final AbstractProxyConnection getProxyConnection() {
+        return connection;
+    }
+
+    /**
+     * Returns the result cache of the connection.
+     *
+     * @return the result cache or null when the connection doesn't cache results
+     */
+    protected final ResultCache getResultCache() {
+        return connection.getResultCache();
+    }
+
+    /**
+     * Executes an action against the delegate and, when the connection has {@link JdbcMetrics}, records its latency
+     * under the given SQL text. The slow executions of named statements are reported to the {@link SlowQueryLog} of
+     * the connection.
+     *
+     * @param query  the SQL text executed
+     * @param action the action to execute
+     * @param <T>    the type of the result of the action
+     * @return the result of the action
+     * @throws SQLException if a database access error occurs
+     */
+    protected final <T> T measure(final String query, final ThrowingSupplier<T, SQLException> action)
+        throws SQLException
+    {
+        if (autoBatchRows > 0) {
+            flushAutoBatch();
+        }
+        connection.flushPendingBatches(this);
+
+        final SqlMetrics metrics = getSqlMetrics(query);
+        final SlowQueryLog slowQueryLog = getSlowQueryLog();
+        if (Objects.isNull(metrics) && Objects.isNull(slowQueryLog)) {
+            return action.get();
+        }
+
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final T result = action.get();
+            failed = false;
+            return result;
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            if (Objects.nonNull(metrics)) {
+                if (failed) {
+                    metrics.recordError(elapsed);
+                } else {
+                    metrics.recordExecution(elapsed);
+                }
+            }
+            if (Objects.nonNull(slowQueryLog)) {
+                slowQueryLog.record((ProxyNamedPreparedStatement) this, elapsed, failed);
+            }
+        }
+    }
+
+    /**
+     * Records the update counts of a batch executed with the given SQL text.
+     *
+     * @param query  the SQL text executed
+     * @param counts the update counts returned by the driver
+     * @return the same update counts
+     */
+    protected final int[] recordBatch(final String query, final int[] counts) {
+        final SqlMetrics metrics = getSqlMetrics(query);
+        if (Objects.nonNull(metrics) && Objects.nonNull(counts)) {
+            long updates = 0;
+            for (final int count : counts) {
+                updates += Math.max(0, count);
+            }
+            metrics.recordBatch(counts.length, updates);
+        }
+        return counts;
+    }
+
+    /**
+     * Records the update counts of a batch executed with the given SQL text.
+     *
+     * @param query  the SQL text executed
+     * @param counts the update counts returned by the driver
+     * @return the same update counts
+     */
+    protected final long[] recordBatch(final String query, final long[] counts) {
+        final SqlMetrics metrics = getSqlMetrics(query);
+        if (Objects.nonNull(metrics) && Objects.nonNull(counts)) {
+            long updates = 0;
+            for (final long count : counts) {
+                updates += Math.max(0, count);
+            }
+            metrics.recordBatch(counts.length, updates);
+        }
+        return counts;
+    }
+
+    /**
+     * Records the update count of an execution of the given SQL text.
+     *
+     * @param query the SQL text executed
+     * @param count the update count returned by the driver
+     * @return the same update count
+     */
+    protected final long recordUpdateCount(final String query, final long count) {
+        final SqlMetrics metrics = getSqlMetrics(query);
+        if (Objects.nonNull(metrics)) {
+            metrics.recordUpdateCount(count);
+        }
+        return count;
+    }
+
+    /**
+     * Wraps a result set obtained by executing the given SQL and, when the connection has a
+     * {@link FetchSizeAdvisor} or {@link JdbcMetrics}, records the rows read from it.
+     *
+     * @param query     the SQL text executed
+     * @param resultSet the result set to wrap, may be null
+     * @return the proxy result set or null
+     */
+    protected final ResultSet wrapResultSet(final String query, final ResultSet resultSet) {
+        if (Objects.isNull(resultSet)) {
+            return null;
+        }
+
+        final ResultSet result = doWrapResultSet(resultSet);
+        final FetchSizeAdvisor advisor = connection.getFetchSizeAdvisor();
+        if (Objects.nonNull(advisor) && Objects.nonNull(query) && result instanceof AbstractProxyResultSet
+            && !(resultSet instanceof ProxyResultSet))
+        {
+            ((AbstractProxyResultSet) result).setListener((rs, rows) -> advisor.record(query, rows, rs));
+        }
+        final SqlMetrics metrics = getSqlMetrics(query);
+        if (Objects.nonNull(metrics) && result instanceof AbstractProxyResultSet) {
+            ((AbstractProxyResultSet) result).setMetrics(metrics);
+        }
+        return result;
+    }
+
+    @Override
+    public void addBatch(final String query) throws SQLException {
+        getDelegate().addBatch(query);
+        if (Objects.isNull(batchSql)) {
+            batchSql = query;
+        }
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        batchSql = null;
+        resetAutoBatch();
+        getDelegate().clearBatch();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flushAutoBatch();
+        } finally {
+            // the rows not sent are discarded, so the connection doesn't flush this statement again
+            resetAutoBatch();
+            autoBatchMaxRows = 0;
+            batchSql = null;
+            connection.unregisterStatement(this);
+            getDelegate().close();
+        }
+    }
+
+    @Override
+    public boolean execute(final String query) throws SQLException {
+        adviseFetchSize(query);
+        return measure(query, () -> getDelegate().execute(query));
+    }
+
+    @Override
+    public boolean execute(final String query, final int autoGeneratedKeys) throws SQLException {
+        lastSql = query;
+        return measure(query, () -> getDelegate().execute(query, autoGeneratedKeys));
+    }
+
+    @Override
+    public boolean execute(final String query, final int[] columnIndexes) throws SQLException {
+        lastSql = query;
+        return measure(query, () -> getDelegate().execute(query, columnIndexes));
+    }
+
+    @Override
+    public boolean execute(final String query, final String[] columnNames) throws SQLException {
+        lastSql = query;
+        return measure(query, () -> getDelegate().execute(query, columnNames));
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        // a plain statement may batch different SQL texts: the batch is recorded under the first one
+        final String query = Objects.isNull(sql) ? batchSql : sql;
+        batchSql = null;
+        resetAutoBatch();
+        return recordBatch(query, measure(query, this::executeDelegateBatch));
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        final String query = Objects.isNull(sql) ? batchSql : sql;
+        batchSql = null;
+        resetAutoBatch();
+        return recordBatch(query, measure(query, this::executeDelegateLargeBatch));
+    }
+
+    @Override
+    public long executeLargeUpdate(final String query) throws SQLException {
+        return recordUpdateCount(query, measure(query, () -> getDelegate().executeLargeUpdate(query)));
+    }
+
+    @Override
+    public long executeLargeUpdate(final String query, final int autoGeneratedKeys) throws SQLException {
+        return recordUpdateCount(query,
+            measure(query, () -> getDelegate().executeLargeUpdate(query, autoGeneratedKeys)));
+    }
+
+    @Override
+    public long executeLargeUpdate(final String query, final int[] columnIndexes) throws SQLException {
+        return recordUpdateCount(query, measure(query, () -> getDelegate().executeLargeUpdate(query, columnIndexes)));
+    }
+
+    @Override
+    public long executeLargeUpdate(final String query, final String[] columnNames) throws SQLException {
+        return recordUpdateCount(query, measure(query, () -> getDelegate().executeLargeUpdate(query, columnNames)));
+    }
+
+    @Override
+    public ResultSet executeQuery(final String query) throws SQLException {
+        adviseFetchSize(query);
+        return wrapResultSet(query, measure(query, () -> getDelegate().executeQuery(query)));
+    }
+
+    @Override
+    public int executeUpdate(final String query) throws SQLException {
+        return (int) recordUpdateCount(query, measure(query, () -> getDelegate().executeUpdate(query)));
+    }
+
+    @Override
+    public int executeUpdate(final String query, final int autoGeneratedKeys) throws SQLException {
+        return (int) recordUpdateCount(query,
+            measure(query, () -> getDelegate().executeUpdate(query, autoGeneratedKeys)));
+    }
+
+    @Override
+    public int executeUpdate(final String query, final int[] columnIndexes) throws SQLException {
+        return (int) recordUpdateCount(query, measure(query, () -> getDelegate().executeUpdate(query, columnIndexes)));
+    }
+
+    @Override
+    public int executeUpdate(final String query, final String[] columnNames) throws SQLException {
+        return (int) recordUpdateCount(query, measure(query, () -> getDelegate().executeUpdate(query, columnNames)));
+    }
+
+    /**
+     * Returns the connection that created this statement, or its owner when it belongs to a pool.
+     *
+     * @return the connection of this statement
+     * @see AbstractProxyConnection#setOwner(Connection)
+     */
+    @Override
+    public Connection getConnection() {
+        return owner;
+    }
+
+    @Override
+    public S getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        final ResultSet resultSet = getDelegate().getGeneratedKeys();
+        return Objects.isNull(resultSet) ? null : doWrapResultSet(resultSet);
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return wrapResultSet(lastSql, getDelegate().getResultSet());
+    }
+
+    /**
+     * Returns the SQL text used to prepare this statement.
+     *
+     * @return the SQL text, or null for plain statements
+     */
+    protected String getSql() {
+        return sql;
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        fetchSizeSet = true;
+        getDelegate().setFetchSize(rows);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.concurrent.SimpleThreadFactory;
+import com.dattack.jtoolbox.jdbc.JDBCUtils;
+import com.dattack.jtoolbox.util.function.ThrowingSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the executions of a statement on an {@link Executor} and exposes their outcome as a
+ * {@link CompletableFuture}. Cancelling the future before the execution starts skips it, and cancelling it while the
+ * execution is in progress calls {@link Statement#cancel()}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+/* default */ final class AsyncExecution {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncExecution.class);
+
+    private AsyncExecution() {
+        // utility class
+    }
+
+    /**
+     * Returns the executor used when the connection doesn't provide one: a virtual thread per execution when the
+     * JVM supports them (JDK 21 or later) or a bounded pool of daemon threads otherwise.
+     *
+     * @return the default executor
+     */
+    /* default */ static Executor defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Returns the executor configured in the connection of a statement, or the default one.
+     *
+     * @param statement the statement
+     * @return the executor for the asynchronous executions of the statement
+     * @throws SQLException if a database access error occurs
+     */
+    /* default */ static Executor executorOf(final Statement statement) throws SQLException {
+        final Connection connection = statement.getConnection();
+        if (connection instanceof ExtendedConnection) {
+            final Executor executor = ((ExtendedConnection) connection).getAsyncExecutor();
+            if (Objects.nonNull(executor)) {
+                return executor;
+            }
+        }
+        return defaultExecutor();
+    }
+
+    /**
+     * Submits an execution of a statement.
+     *
+     * @param statement the statement to cancel when the future is cancelled during the execution
+     * @param executor  the executor
+     * @param action    the execution
+     * @param <T>       the type of the result
+     * @return the future result of the execution
+     */
+    /* default */ static <T> CompletableFuture<T> submit(final Statement statement, final Executor executor,
+        final ThrowingSupplier<T, SQLException> action)
+    {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final AtomicBoolean running = new AtomicBoolean();
+        try {
+            executor.execute(() -> run(future, running, action));
+        } catch (final RejectedExecutionException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled() && running.get()) {
+                cancel(statement);
+            }
+        });
+        return future;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static <T> void run(final CompletableFuture<T> future, final AtomicBoolean running,
+        final ThrowingSupplier<T, SQLException> action)
+    {
+        running.set(true);
+        try {
+            if (future.isDone()) {
+                return; // cancelled before starting
+            }
+            final T result = action.get();
+            if (!future.complete(result) && result instanceof ResultSet) {
+                // nobody is going to read the rows of a cancelled query
+                JDBCUtils.closeQuietly((ResultSet) result);
+            }
+        } catch (final SQLException | RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private static void cancel(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (final SQLException e) {
+            LOGGER.warn("Unable to cancel the statement: {}", e.getMessage());
+        }
+    }
+
+    private static final class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = createExecutor();
+
+        private static Executor createExecutor() {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (final ReflectiveOperationException | RuntimeException e) { // NOPMD: virtual threads unavailable
+                final int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+                final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new SimpleThreadFactory.ThreadFactoryBuilder() //
+                        .withThreadNamePrefix("jdbc-async") //
+                        .withDaemon(true) //
+                        .build());
+                executor.allowCoreThreadTimeOut(true);
+                return executor;
+            }
+        }
+    }
+}
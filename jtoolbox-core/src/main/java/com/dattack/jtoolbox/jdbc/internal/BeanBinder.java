@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Reads the values of the properties of the objects of a class, to bind them to the named parameters of a
+ * {@link NamedPreparedStatement}. The accessors are resolved once per class into {@link MethodHandle}s, so no
+ * reflection is done when an object is bound.
+ *
+ * <p>The properties are read through the JavaBeans getters, the public no-arg methods named like the property (such
+ * as the accessors of a record) and the public fields, in that order of precedence. Names are matched ignoring the
+ * case and the underscores, so the parameter <code>:customer_id</code> is bound to the property
+ * <code>customerId</code>.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+/* default */ final class BeanBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanBinder.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<BeanBinder> BINDERS = new ClassValue<BeanBinder>() {
+        @Override
+        protected BeanBinder computeValue(final Class<?> type) {
+            return new BeanBinder(type);
+        }
+    };
+
+    private final transient Class<?> type;
+    private final transient Map<String, MethodHandle> getters;
+    // a class may be bound to several statements: the accessors are resolved once per configuration
+    private final transient Map<NamedPreparedStatementConfig, MethodHandle[]> slotGetters;
+
+    private BeanBinder(final Class<?> type) {
+        this.type = type;
+        this.getters = new HashMap<>();
+        this.slotGetters = Collections.synchronizedMap(new WeakHashMap<>());
+        for (final Field field : type.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                putGetter(field.getName(), field, null);
+            }
+        }
+        for (final Method method : type.getMethods()) {
+            if (method.getParameterCount() == 0 && method.getReturnType() != void.class
+                && !Modifier.isStatic(method.getModifiers()) && method.getDeclaringClass() != Object.class)
+            {
+                putGetter(method.getName(), null, method);
+            }
+        }
+        try {
+            final BeanInfo beanInfo = Introspector.getBeanInfo(type, Object.class);
+            for (final PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+                if (Objects.nonNull(descriptor.getReadMethod())) {
+                    putGetter(descriptor.getName(), null, descriptor.getReadMethod());
+                }
+            }
+        } catch (final IntrospectionException e) {
+            throw new IllegalArgumentException("Unable to introspect " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Returns the binder of a class.
+     *
+     * @param type the class of the objects to bind
+     * @return the binder
+     */
+    /* default */ static BeanBinder of(final Class<?> type) {
+        return BINDERS.get(type);
+    }
+
+    private static String normalize(final String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static SQLException missingValues(final NamedPreparedStatementConfig config, final BitSet bound,
+        final String source)
+    {
+        final List<String> names = new ArrayList<>();
+        for (int slot = bound.nextClearBit(0); slot < config.getSlotCount(); slot = bound.nextClearBit(slot + 1)) {
+            names.add(config.getSlotName(slot));
+        }
+        return new SQLException(String.format("No value for parameters %s in %s", names, source));
+    }
+
+    /**
+     * Binds the values of a map to the named parameters with the same name.
+     *
+     * @param statement the statement
+     * @param config    the configuration of the statement
+     * @param values    the values to bind, by parameter name
+     * @param complete  true when every parameter must have a value, as in a batch row, where a parameter left
+     *                  unchanged would silently repeat the value of the previous row
+     * @throws SQLException if a key doesn't match a parameter, a parameter has no value and <code>complete</code> is
+     *                      true, or a database access error occurs
+     */
+    /* default */ static void bindValues(final NamedPreparedStatement statement,
+        final NamedPreparedStatementConfig config, final Map<String, ?> values, final boolean complete)
+        throws SQLException
+    {
+        final BitSet bound = new BitSet(config.getSlotCount());
+        for (final Map.Entry<String, ?> entry : values.entrySet()) {
+            final int slot;
+            try {
+                slot = config.getSlot(entry.getKey());
+            } catch (final IllegalArgumentException e) {
+                throw new SQLException(e.getMessage(), e);
+            }
+            bindValue(statement, config.getHandle(slot), entry.getValue());
+            bound.set(slot);
+        }
+        if (complete && bound.cardinality() < config.getSlotCount()) {
+            throw missingValues(config, bound, "the map");
+        }
+    }
+
+    private void putGetter(final String name, final Field field, final Method method) {
+        try {
+            final MethodHandle handle;
+            if (Objects.isNull(field)) {
+                method.setAccessible(true); // the class itself can be non-public
+                handle = MethodHandles.lookup().unreflect(method);
+            } else {
+                field.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectGetter(field);
+            }
+            getters.put(normalize(name), handle.asType(GETTER_TYPE));
+        } catch (final IllegalAccessException | RuntimeException e) {
+            // the accessor is not usable, the property is read through another accessor or not bound
+            LOGGER.trace("Ignoring accessor '{}' of {}: {}", name, type.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Binds a value to a named parameter. Null values are bound with <code>setNull</code>, since some drivers reject
+     * <code>setObject(index, null)</code>.
+     *
+     * @param statement the statement
+     * @param handle    the handle of the parameter
+     * @param value     the value to bind, may be null
+     * @throws SQLException if a database access error occurs
+     */
+    /* default */ static void bindValue(final NamedPreparedStatement statement, final ParameterHandle handle,
+        final Object value) throws SQLException
+    {
+        if (Objects.isNull(value)) {
+            statement.setNull(handle, Types.NULL);
+        } else {
+            statement.setObject(handle, value);
+        }
+    }
+
+    /**
+     * Binds the properties of an object to the named parameters of a statement with the same name.
+     *
+     * @param statement the statement
+     * @param config    the configuration of the statement
+     * @param bean      the object to bind, which must be an instance of the class of this binder
+     * @param complete  true when every parameter must have a matching property, as in a batch row; otherwise, the
+     *                  parameters without a matching property are left unchanged
+     * @throws SQLException if a parameter has no matching property and <code>complete</code> is true, a property
+     *                      can't be read or a database access error occurs
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    /* default */ void bind(final NamedPreparedStatement statement, final NamedPreparedStatementConfig config,
+        final Object bean, final boolean complete) throws SQLException
+    {
+        // the accessors don't reference the configuration, so it can still be collected
+        final MethodHandle[] slotGetters = this.slotGetters.computeIfAbsent(config, this::resolveGetters);
+        if (complete) {
+            checkComplete(config, slotGetters);
+        }
+
+        for (int slot = 0; slot < slotGetters.length; slot++) {
+            final MethodHandle getter = slotGetters[slot];
+            if (Objects.nonNull(getter)) {
+                final Object value;
+                try {
+                    value = (Object) getter.invokeExact(bean);
+                } catch (final Throwable e) { // NOPMD - invokeExact declares Throwable
+                    throw new SQLException(String.format("Unable to read property '%s' of %s",
+                        config.getSlotName(slot), type.getName()), e);
+                }
+                bindValue(statement, config.getHandle(slot), value);
+            }
+        }
+    }
+
+    private void checkComplete(final NamedPreparedStatementConfig config, final MethodHandle[] slotGetters)
+        throws SQLException
+    {
+        final BitSet bound = new BitSet(slotGetters.length);
+        for (int slot = 0; slot < slotGetters.length; slot++) {
+            if (Objects.nonNull(slotGetters[slot])) {
+                bound.set(slot);
+            }
+        }
+        if (bound.cardinality() < slotGetters.length) {
+            throw missingValues(config, bound, type.getName());
+        }
+    }
+
+    /**
+     * Resolves the accessors of this class against the parameters of a statement.
+     *
+     * @param config the configuration of the statement
+     * @return the accessors indexed by slot, null when the parameter has no matching property
+     */
+    private MethodHandle[] resolveGetters(final NamedPreparedStatementConfig config) {
+        final MethodHandle[] slotGetters = new MethodHandle[config.getSlotCount()];
+        for (int slot = 0; slot < slotGetters.length; slot++) {
+            slotGetters[slot] = getters.get(normalize(config.getSlotName(slot)));
+        }
+        return slotGetters;
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.JDBCUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * A {@link PreparedStatement} checked out from a {@link StatementCache}. Closing it returns the underlying statement to
+ * the cache instead of closing it. A new instance is created every time the underlying statement is checked out, so
+ * a reference kept after closing it fails with a {@link SQLException} instead of using a statement that may belong
+ * to another caller.
+ *
+ * <p>The settings changed through this object are restored when the statement is returned to the cache. The
+ * statements whose cursor name or close-on-completion flag have been set are not reused, since those settings can't
+ * be restored.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+/* default */ final class CachedPreparedStatement implements ProxyPreparedStatement<PreparedStatement> {
+
+    private static final int UNCHANGED = -1;
+
+    private static final PreparedStatement CLOSED_STATEMENT = ClosedObjects.of(PreparedStatement.class, "Statement");
+
+    private final transient StatementCache cache;
+    private final transient StatementCache.Key key;
+    private final transient PreparedStatement delegate;
+    private transient volatile boolean closed;
+    private transient boolean reusable;
+    private transient ResultSet resultSet;
+    private transient ResultSet generatedKeys;
+    private transient int initialFetchSize;
+    private transient int initialFetchDirection;
+    private transient int initialMaxFieldSize;
+    private transient int initialMaxRows;
+    private transient int initialQueryTimeout;
+    private transient boolean escapeProcessingChanged;
+    private transient boolean poolableChanged;
+    private transient boolean initialPoolable;
+
+    /* default */ CachedPreparedStatement(final StatementCache cache, final StatementCache.Key key,
+        final PreparedStatement delegate)
+    {
+        this.cache = cache;
+        this.key = key;
+        this.delegate = delegate;
+        this.reusable = true;
+        this.initialFetchSize = UNCHANGED;
+        this.initialFetchDirection = UNCHANGED;
+        this.initialMaxFieldSize = UNCHANGED;
+        this.initialMaxRows = UNCHANGED;
+        this.initialQueryTimeout = UNCHANGED;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            cache.release(this);
+        }
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        getDelegate().closeOnCompletion();
+        reusable = false;
+    }
+
+    /* default */ void closeDelegate() {
+        JDBCUtils.closeQuietly(delegate);
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        final boolean result = getDelegate().execute();
+        if (result) {
+            resultSet = delegate.getResultSet();
+        }
+        return result;
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        resultSet = getDelegate().executeQuery();
+        return resultSet;
+    }
+
+    @Override
+    public ResultSet executeQuery(final String sql) throws SQLException {
+        resultSet = getDelegate().executeQuery(sql);
+        return resultSet;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getDelegate().getConnection();
+    }
+
+    /**
+     * Returns the underlying statement, or a statement that fails on every call once this one is closed.
+     *
+     * @return the underlying statement while this one is open
+     */
+    @Override
+    public PreparedStatement getDelegate() {
+        return closed ? CLOSED_STATEMENT : delegate;
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        generatedKeys = getDelegate().getGeneratedKeys();
+        return generatedKeys;
+    }
+
+    /* default */ StatementCache.Key getKey() {
+        return key;
+    }
+
+    /* default */ PreparedStatement getPhysicalStatement() {
+        return delegate;
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        resultSet = getDelegate().getResultSet();
+        return resultSet;
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return closed || delegate.isClosed();
+    }
+
+    /**
+     * Checks if the underlying statement can be handed out again once this one is closed.
+     *
+     * @return false when a setting that can't be restored has been changed
+     */
+    /* default */ boolean isReusable() {
+        return reusable;
+    }
+
+    /**
+     * Creates the object that checks out the underlying statement again.
+     *
+     * @return a new cached statement for the same underlying statement
+     */
+    /* default */ CachedPreparedStatement reopen() {
+        return new CachedPreparedStatement(cache, key, delegate);
+    }
+
+    /**
+     * Clears the state left by the previous user so the statement can be handed out again: closes its result sets,
+     * clears the parameters, the batch and the warnings, and restores the settings changed.
+     *
+     * @throws SQLException if a database access error occurs
+     */
+    /* default */ void reset() throws SQLException {
+        if (Objects.nonNull(resultSet)) {
+            resultSet.close();
+        }
+        if (Objects.nonNull(generatedKeys)) {
+            generatedKeys.close();
+        }
+        delegate.clearParameters();
+        delegate.clearBatch();
+        delegate.clearWarnings();
+        // the maximum number of rows first, since some drivers reject a fetch size greater than it
+        if (initialMaxRows != UNCHANGED) {
+            delegate.setMaxRows(initialMaxRows);
+        }
+        if (initialFetchSize != UNCHANGED) {
+            delegate.setFetchSize(initialFetchSize);
+        }
+        if (initialFetchDirection != UNCHANGED) {
+            delegate.setFetchDirection(initialFetchDirection);
+        }
+        if (initialMaxFieldSize != UNCHANGED) {
+            delegate.setMaxFieldSize(initialMaxFieldSize);
+        }
+        if (initialQueryTimeout != UNCHANGED) {
+            delegate.setQueryTimeout(initialQueryTimeout);
+        }
+        if (escapeProcessingChanged) {
+            delegate.setEscapeProcessing(true); // the default value of every statement
+        }
+        if (poolableChanged) {
+            delegate.setPoolable(initialPoolable);
+        }
+    }
+
+    @Override
+    public void setCursorName(final String name) throws SQLException {
+        getDelegate().setCursorName(name);
+        reusable = false;
+    }
+
+    @Override
+    public void setEscapeProcessing(final boolean enable) throws SQLException {
+        getDelegate().setEscapeProcessing(enable);
+        escapeProcessingChanged = true;
+    }
+
+    @Override
+    public void setFetchDirection(final int direction) throws SQLException {
+        if (initialFetchDirection == UNCHANGED) {
+            initialFetchDirection = getDelegate().getFetchDirection();
+        }
+        delegate.setFetchDirection(direction);
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        if (initialFetchSize == UNCHANGED) {
+            initialFetchSize = getDelegate().getFetchSize();
+        }
+        delegate.setFetchSize(rows);
+    }
+
+    @Override
+    public void setLargeMaxRows(final long max) throws SQLException {
+        if (initialMaxRows == UNCHANGED) {
+            initialMaxRows = getDelegate().getMaxRows();
+        }
+        delegate.setLargeMaxRows(max);
+    }
+
+    @Override
+    public void setMaxFieldSize(final int max) throws SQLException {
+        if (initialMaxFieldSize == UNCHANGED) {
+            initialMaxFieldSize = getDelegate().getMaxFieldSize();
+        }
+        delegate.setMaxFieldSize(max);
+    }
+
+    @Override
+    public void setMaxRows(final int max) throws SQLException {
+        if (initialMaxRows == UNCHANGED) {
+            initialMaxRows = getDelegate().getMaxRows();
+        }
+        delegate.setMaxRows(max);
+    }
+
+    @Override
+    public void setPoolable(final boolean poolable) throws SQLException {
+        if (!poolableChanged) {
+            initialPoolable = getDelegate().isPoolable();
+            poolableChanged = true;
+        }
+        delegate.setPoolable(poolable);
+    }
+
+    @Override
+    public void setQueryTimeout(final int seconds) throws SQLException {
+        if (initialQueryTimeout == UNCHANGED) {
+            initialQueryTimeout = getDelegate().getQueryTimeout();
+        }
+        delegate.setQueryTimeout(seconds);
+    }
+}
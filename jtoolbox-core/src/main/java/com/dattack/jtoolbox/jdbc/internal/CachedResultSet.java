@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A disconnected {@link ResultSet} that keeps its rows in memory as arrays of objects. The rows are shared by the
+ * copies obtained with {@link #copy(Statement)}, each one with its own cursor, so a cached result can be read by
+ * several threads at the same time.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class CachedResultSet extends AbstractDisconnectedResultSet {
+
+    private final transient Object[][] rows;
+
+    private CachedResultSet(final DisconnectedResultSetMetaData metaData, final Object[][] rows,
+        final Statement statement)
+    {
+        super(metaData, statement);
+        this.rows = rows;
+    }
+
+    /**
+     * Reads the remaining rows of a result set. The source result set is not closed.
+     *
+     * @param resultSet the source result set
+     * @param statement the statement returned by {@link ResultSet#getStatement()}, may be null
+     * @return the disconnected result set, positioned before its first row
+     * @throws SQLException if a database access error occurs
+     */
+    public static CachedResultSet of(final ResultSet resultSet, final Statement statement) throws SQLException {
+        final DisconnectedResultSetMetaData metaData = DisconnectedResultSetMetaData.of(resultSet.getMetaData());
+        final int columnCount = metaData.getColumnCount();
+        final int[] types = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            types[i] = metaData.getColumnType(i + 1);
+        }
+
+        final List<Object[]> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            final Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = readValue(resultSet, i + 1, types[i]);
+            }
+            rows.add(row);
+        }
+        return new CachedResultSet(metaData, rows.toArray(new Object[0][]), statement);
+    }
+
+    /**
+     * Returns a new result set with the same rows, positioned before the first row.
+     *
+     * @param statement the statement returned by {@link ResultSet#getStatement()}, may be null
+     * @return the copy
+     */
+    public CachedResultSet copy(final Statement statement) {
+        return new CachedResultSet(getDisconnectedMetaData(), rows, statement);
+    }
+
+    @Override
+    protected int getRowCount() {
+        return rows.length;
+    }
+
+    @Override
+    protected Object getValue(final int rowIndex, final int columnIndex) {
+        return rows[rowIndex][columnIndex];
+    }
+}
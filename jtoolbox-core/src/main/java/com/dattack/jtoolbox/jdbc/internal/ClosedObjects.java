@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.Wrapper;
+
+/**
+ * Factory of the JDBC objects that stand in for a closed object: every method fails with a {@link SQLException},
+ * except <code>close()</code>, that does nothing, <code>isClosed()</code>, that returns true, and
+ * <code>isValid(int)</code>, that returns false. A proxy replaces its delegate with one of these objects when it is
+ * closed, so a reference kept after closing it can't reach an object that may already belong to another user.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class ClosedObjects {
+
+    private ClosedObjects() {
+        // static class
+    }
+
+    /**
+     * Creates a closed object of the given type.
+     *
+     * @param type the JDBC interface of the object
+     * @param name the name of the object used in the error messages, such as "Statement"
+     * @param <T>  the type of the object
+     * @return the closed object
+     */
+    public static <T extends Wrapper> T of(final Class<T> type, final String name) {
+        final String message = name + " is closed";
+        return type.cast(Proxy.newProxyInstance(ClosedObjects.class.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        return null;
+                    case "isClosed":
+                        return Boolean.TRUE;
+                    case "isValid":
+                        return Boolean.FALSE;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0]; //NOPMD - compared by reference is needed
+                    case "toString":
+                        return "Closed" + name;
+                    default:
+                        throw closed(method, message);
+                }
+            }));
+    }
+
+    private static Exception closed(final Method method, final String message) {
+        for (final Class<?> exceptionType : method.getExceptionTypes()) {
+            if (exceptionType.isAssignableFrom(SQLException.class)) {
+                return new SQLException(message);
+            }
+        }
+        // Connection.setClientInfo only declares this subclass
+        return new SQLClientInfoException(message, null);
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A disconnected {@link ResultSet} that keeps its rows in memory by column: integers, booleans and floating point
+ * numbers in primitive arrays, strings encoded with a dictionary of their distinct values and the rest of the values
+ * as objects. The SQL <code>NULL</code> values of the primitive columns are tracked with a bitmap. This layout needs
+ * far less memory than a list of rows when a result has many rows or repeated values, and the numeric getters don't
+ * box the values.
+ *
+ * <p>The columns are shared by the copies obtained with {@link #copy(Statement)}, each one with its own cursor, so a
+ * result can be read by several threads at the same time.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class ColumnarResultSet extends AbstractDisconnectedResultSet {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_LONG_PRECISION = 18;
+
+    private final transient Column[] columns;
+    private final transient int rowCount;
+
+    private ColumnarResultSet(final DisconnectedResultSetMetaData metaData, final Column[] columns,
+        final int rowCount, final Statement statement)
+    {
+        super(metaData, statement);
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Reads the remaining rows of a result set. The source result set is not closed.
+     *
+     * @param resultSet the source result set
+     * @param statement the statement returned by {@link ResultSet#getStatement()}, may be null
+     * @return the disconnected result set, positioned before its first row
+     * @throws SQLException if a database access error occurs
+     */
+    public static ColumnarResultSet of(final ResultSet resultSet, final Statement statement) throws SQLException {
+        final DisconnectedResultSetMetaData metaData = DisconnectedResultSetMetaData.of(resultSet.getMetaData());
+        final Column[] columns = new Column[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = createColumn(metaData, i + 1);
+        }
+
+        int rowCount = 0;
+        int capacity = INITIAL_CAPACITY;
+        for (final Column column : columns) {
+            column.resize(capacity);
+        }
+        while (resultSet.next()) {
+            if (rowCount == capacity) {
+                capacity = capacity << 1;
+                for (final Column column : columns) {
+                    column.resize(capacity);
+                }
+            }
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].read(resultSet, i + 1, rowCount);
+            }
+            rowCount++;
+        }
+
+        for (final Column column : columns) {
+            column.resize(rowCount);
+            column.seal();
+        }
+        return new ColumnarResultSet(metaData, columns, rowCount, statement);
+    }
+
+    private static Column createColumn(final DisconnectedResultSetMetaData metaData, final int column)
+        throws SQLException
+    {
+        final int type = metaData.getColumnType(column);
+        switch (type) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongColumn(type);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                // integers that fit in a long are kept as such and returned as BigDecimal by getObject
+                final int precision = metaData.getPrecision(column);
+                if (metaData.getScale(column) == 0 && precision > 0 && precision <= MAX_LONG_PRECISION) {
+                    return new LongColumn(type);
+                }
+                return new ObjectColumn(type);
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumn(type);
+            case Types.BOOLEAN:
+                return new BooleanColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.CLOB:
+            case Types.NCLOB:
+                return new StringColumn();
+            default:
+                return new ObjectColumn(type);
+        }
+    }
+
+    /**
+     * Returns a new result set with the same rows, positioned before the first row.
+     *
+     * @param statement the statement returned by {@link ResultSet#getStatement()}, may be null
+     * @return the copy
+     */
+    public ColumnarResultSet copy(final Statement statement) {
+        return new ColumnarResultSet(getDisconnectedMetaData(), columns, rowCount, statement);
+    }
+
+    @Override
+    protected double getDoubleValue(final int rowIndex, final int columnIndex) throws SQLException {
+        final Column column = columns[columnIndex];
+        if (column instanceof DoubleColumn) {
+            return ((DoubleColumn) column).values[rowIndex];
+        }
+        if (column instanceof LongColumn) {
+            return ((LongColumn) column).values[rowIndex];
+        }
+        return super.getDoubleValue(rowIndex, columnIndex);
+    }
+
+    @Override
+    protected long getLongValue(final int rowIndex, final int columnIndex) throws SQLException {
+        final Column column = columns[columnIndex];
+        if (column instanceof LongColumn) {
+            return ((LongColumn) column).values[rowIndex];
+        }
+        if (column instanceof DoubleColumn) {
+            return (long) ((DoubleColumn) column).values[rowIndex];
+        }
+        return super.getLongValue(rowIndex, columnIndex);
+    }
+
+    @Override
+    protected int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    protected Object getValue(final int rowIndex, final int columnIndex) {
+        return columns[columnIndex].get(rowIndex);
+    }
+
+    @Override
+    protected boolean isNullValue(final int rowIndex, final int columnIndex) {
+        return columns[columnIndex].isNull(rowIndex);
+    }
+
+    /**
+     * The storage of the values of a column.
+     */
+    private abstract static class Column {
+
+        protected final BitSet nulls = new BitSet();
+
+        /* default */ abstract Object get(int row);
+
+        /* default */ boolean isNull(final int row) {
+            return nulls.get(row);
+        }
+
+        /* default */ abstract void read(ResultSet resultSet, int column, int row) throws SQLException;
+
+        /* default */ abstract void resize(int capacity);
+
+        /* default */ void seal() {
+            // nothing to release by default
+        }
+    }
+
+    /**
+     * A column of integers.
+     */
+    private static final class LongColumn extends Column {
+
+        private final int type;
+        private long[] values = new long[0];
+
+        private LongColumn(final int type) {
+            super();
+            this.type = type;
+        }
+
+        @Override
+        /* default */ Object get(final int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            switch (type) {
+                case Types.BIGINT:
+                    return values[row];
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return BigDecimal.valueOf(values[row]);
+                default:
+                    return (int) values[row];
+            }
+        }
+
+        @Override
+        /* default */ void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            values[row] = resultSet.getLong(column);
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        /* default */ void resize(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    /**
+     * A column of floating point numbers.
+     */
+    private static final class DoubleColumn extends Column {
+
+        private final int type;
+        private double[] values = new double[0];
+
+        private DoubleColumn(final int type) {
+            super();
+            this.type = type;
+        }
+
+        @Override
+        /* default */ Object get(final int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            return type == Types.REAL ? (Object) (float) values[row] : (Object) values[row];
+        }
+
+        @Override
+        /* default */ void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            values[row] = resultSet.getDouble(column);
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        /* default */ void resize(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    /**
+     * A column of booleans.
+     */
+    private static final class BooleanColumn extends Column {
+
+        private final BitSet values = new BitSet();
+
+        @Override
+        /* default */ Object get(final int row) {
+            return nulls.get(row) ? null : values.get(row);
+        }
+
+        @Override
+        /* default */ void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            final boolean value = resultSet.getBoolean(column);
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            } else if (value) {
+                values.set(row);
+            }
+        }
+
+        @Override
+        /* default */ void resize(final int capacity) {
+            // bit sets grow on demand
+        }
+    }
+
+    /**
+     * A column of strings, encoded with a dictionary of their distinct values.
+     */
+    private static final class StringColumn extends Column {
+
+        private static final int NULL_CODE = -1;
+
+        private int[] codes = new int[0];
+        private String[] dictionary;
+        private List<String> entries = new ArrayList<>();
+        private Map<String, Integer> index = new HashMap<>();
+
+        @Override
+        /* default */ Object get(final int row) {
+            final int code = codes[row];
+            return code == NULL_CODE ? null : dictionary[code];
+        }
+
+        @Override
+        /* default */ boolean isNull(final int row) {
+            return codes[row] == NULL_CODE;
+        }
+
+        @Override
+        /* default */ void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            final String value = resultSet.getString(column);
+            if (Objects.isNull(value)) {
+                codes[row] = NULL_CODE;
+                return;
+            }
+            Integer code = index.get(value);
+            if (Objects.isNull(code)) {
+                code = entries.size();
+                entries.add(value);
+                index.put(value, code);
+            }
+            codes[row] = code;
+        }
+
+        @Override
+        /* default */ void resize(final int capacity) {
+            codes = Arrays.copyOf(codes, capacity);
+        }
+
+        @Override
+        /* default */ void seal() {
+            dictionary = entries.toArray(new String[0]);
+            entries = null;
+            index = null;
+        }
+    }
+
+    /**
+     * A column of values of any other type.
+     */
+    private static final class ObjectColumn extends Column {
+
+        private final int type;
+        private Object[] values = new Object[0];
+
+        private ObjectColumn(final int type) {
+            super();
+            this.type = type;
+        }
+
+        @Override
+        /* default */ Object get(final int row) {
+            return values[row];
+        }
+
+        @Override
+        /* default */ boolean isNull(final int row) {
+            return Objects.isNull(values[row]);
+        }
+
+        @Override
+        /* default */ void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            values[row] = readValue(resultSet, column, type);
+        }
+
+        @Override
+        /* default */ void resize(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+}
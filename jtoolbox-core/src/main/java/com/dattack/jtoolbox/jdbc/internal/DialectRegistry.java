@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.internal.generic.GenericDialect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the available {@link JdbcDialect} implementations. The dialects are discovered with a
+ * {@link ServiceLoader} when this class is initialized and can also be registered programmatically. The dialect
+ * associated to a driver name is computed once and memoised; the {@link GenericDialect} is used when no other dialect
+ * supports the driver.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class DialectRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DialectRegistry.class);
+
+    private static final List<JdbcDialect> DIALECTS = new CopyOnWriteArrayList<>();
+    private static final Map<String, JdbcDialect> DRIVER_CACHE = new ConcurrentHashMap<>();
+
+    static {
+        loadServices();
+    }
+
+    private DialectRegistry() {
+        // static class
+    }
+
+    /**
+     * Registers a new dialect. Dialects registered later take precedence over the previous ones.
+     *
+     * @param dialect the dialect to register
+     */
+    public static void register(final JdbcDialect dialect) {
+        Objects.requireNonNull(dialect, "dialect must not be null");
+        DIALECTS.add(0, dialect);
+        DRIVER_CACHE.clear();
+    }
+
+    /**
+     * Returns the dialect for the driver with the given name.
+     *
+     * @param driverName the name of the driver
+     * @return the dialect for the driver, never null
+     */
+    public static JdbcDialect resolve(final String driverName) {
+        if (Objects.isNull(driverName)) {
+            return GenericDialect.INSTANCE;
+        }
+        return DRIVER_CACHE.computeIfAbsent(driverName, DialectRegistry::lookup);
+    }
+
+    /**
+     * Returns the dialect for the given connection, inspecting its metadata.
+     *
+     * @param connection the connection
+     * @return the dialect for the connection, never null
+     * @throws SQLException if a database access error occurs
+     */
+    public static JdbcDialect resolve(final Connection connection) throws SQLException {
+        final DatabaseMetaData metaData = connection.getMetaData();
+        final JdbcDialect dialect = resolve(metaData.getDriverName());
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Using the {} dialect for connection {}", dialect.getName(), metaData.getURL());
+        }
+        return dialect;
+    }
+
+    /**
+     * Returns the dialect for the given JDBC URL, so the dialect can be used before opening a connection.
+     *
+     * @param url the JDBC URL
+     * @return the dialect for the URL, never null
+     */
+    public static JdbcDialect resolveByUrl(final String url) {
+        if (Objects.nonNull(url)) {
+            for (final JdbcDialect dialect : DIALECTS) {
+                if (dialect.acceptsUrl(url)) {
+                    return dialect;
+                }
+            }
+        }
+        return GenericDialect.INSTANCE;
+    }
+
+    private static void loadServices() {
+        try {
+            final ServiceLoader<JdbcDialect> loader = ServiceLoader.load(JdbcDialect.class,
+                                                                         DialectRegistry.class.getClassLoader());
+            for (final JdbcDialect dialect : loader) {
+                LOGGER.debug("Loaded JDBC dialect: {} ({})", dialect.getName(), dialect.getClass().getName());
+                DIALECTS.add(dialect);
+            }
+        } catch (final ServiceConfigurationError e) {
+            LOGGER.warn("Unable to load the JDBC dialects: {}", e.getMessage(), e);
+        }
+    }
+
+    private static JdbcDialect lookup(final String driverName) {
+        for (final JdbcDialect dialect : DIALECTS) {
+            if (dialect.supports(driverName)) {
+                return dialect;
+            }
+        }
+        return GenericDialect.INSTANCE;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Memoises the {@link JdbcDialect} of the connections provided by a single source (usually a DataSource), so the
+ * metadata of the driver is inspected only for the first connection.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class DialectResolver {
+
+    private transient volatile JdbcDialect dialect;
+
+    public DialectResolver() {
+        // the dialect is resolved from the first connection
+    }
+
+    /**
+     * Creates a new resolver that always returns the given dialect.
+     *
+     * @param dialect the dialect to use
+     */
+    public DialectResolver(final JdbcDialect dialect) {
+        this.dialect = Objects.requireNonNull(dialect, "dialect must not be null");
+    }
+
+    /**
+     * Returns the dialect already resolved, or null if no connection has been resolved yet.
+     *
+     * @return the dialect or null
+     */
+    public JdbcDialect getDialect() {
+        return dialect;
+    }
+
+    /**
+     * Forgets the resolved dialect, so it will be computed again from the next connection.
+     */
+    public void reset() {
+        this.dialect = null;
+    }
+
+    /**
+     * Returns the dialect of the given connection, inspecting its metadata only the first time.
+     *
+     * @param connection the connection
+     * @return the dialect
+     * @throws SQLException if a database access error occurs
+     */
+    public JdbcDialect resolve(final Connection connection) throws SQLException {
+        JdbcDialect result = dialect;
+        if (Objects.isNull(result)) {
+            result = DialectRegistry.resolve(connection);
+            dialect = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * A copy of the {@link ResultSetMetaData} of a result set that remains available once the result set is closed.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+/* default */ final class DisconnectedResultSetMetaData implements ResultSetMetaData {
+
+    private final transient Column[] columns;
+
+    private DisconnectedResultSetMetaData(final Column... columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Copies the description of the columns of a result set.
+     *
+     * @param metaData the metadata to copy
+     * @return the copy
+     * @throws SQLException if a database access error occurs
+     */
+    /* default */ static DisconnectedResultSetMetaData of(final ResultSetMetaData metaData) throws SQLException {
+        final Column[] columns = new Column[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column(metaData, i + 1);
+        }
+        return new DisconnectedResultSetMetaData(columns);
+    }
+
+    private Column column(final int column) throws SQLException {
+        if (column < 1 || column > columns.length) {
+            throw new SQLException("Invalid column index: " + column);
+        }
+        return columns[column - 1];
+    }
+
+    @Override
+    public String getCatalogName(final int column) throws SQLException {
+        return column(column).catalogName;
+    }
+
+    @Override
+    public String getColumnClassName(final int column) throws SQLException {
+        return column(column).className;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public int getColumnDisplaySize(final int column) throws SQLException {
+        return column(column).displaySize;
+    }
+
+    @Override
+    public String getColumnLabel(final int column) throws SQLException {
+        return column(column).label;
+    }
+
+    @Override
+    public String getColumnName(final int column) throws SQLException {
+        return column(column).name;
+    }
+
+    @Override
+    public int getColumnType(final int column) throws SQLException {
+        return column(column).type;
+    }
+
+    @Override
+    public String getColumnTypeName(final int column) throws SQLException {
+        return column(column).typeName;
+    }
+
+    @Override
+    public int getPrecision(final int column) throws SQLException {
+        return column(column).precision;
+    }
+
+    @Override
+    public int getScale(final int column) throws SQLException {
+        return column(column).scale;
+    }
+
+    @Override
+    public String getSchemaName(final int column) throws SQLException {
+        return column(column).schemaName;
+    }
+
+    @Override
+    public String getTableName(final int column) throws SQLException {
+        return column(column).tableName;
+    }
+
+    @Override
+    public boolean isAutoIncrement(final int column) throws SQLException {
+        return column(column).autoIncrement;
+    }
+
+    @Override
+    public boolean isCaseSensitive(final int column) throws SQLException {
+        return column(column).caseSensitive;
+    }
+
+    @Override
+    public boolean isCurrency(final int column) throws SQLException {
+        return column(column).currency;
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(final int column) throws SQLException {
+        column(column);
+        return false;
+    }
+
+    @Override
+    public int isNullable(final int column) throws SQLException {
+        return column(column).nullable;
+    }
+
+    @Override
+    public boolean isReadOnly(final int column) throws SQLException {
+        column(column);
+        return true;
+    }
+
+    @Override
+    public boolean isSearchable(final int column) throws SQLException {
+        return column(column).searchable;
+    }
+
+    @Override
+    public boolean isSigned(final int column) throws SQLException {
+        return column(column).signed;
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public boolean isWritable(final int column) throws SQLException {
+        column(column);
+        return false;
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface);
+    }
+
+    /**
+     * The description of a column.
+     */
+    @SuppressWarnings("PMD.TooManyFields")
+    private static final class Column {
+
+        private final String catalogName;
+        private final String className;
+        private final int displaySize;
+        private final String label;
+        private final String name;
+        private final int type;
+        private final String typeName;
+        private final int precision;
+        private final int scale;
+        private final String schemaName;
+        private final String tableName;
+        private final boolean autoIncrement;
+        private final boolean caseSensitive;
+        private final boolean currency;
+        private final int nullable;
+        private final boolean searchable;
+        private final boolean signed;
+
+        private Column(final ResultSetMetaData metaData, final int column) throws SQLException {
+            this.label = metaData.getColumnLabel(column);
+            this.name = metaData.getColumnName(column);
+            this.type = metaData.getColumnType(column);
+            this.typeName = metaData.getColumnTypeName(column);
+            this.className = metaData.getColumnClassName(column);
+            this.displaySize = metaData.getColumnDisplaySize(column);
+            this.precision = metaData.getPrecision(column);
+            this.scale = metaData.getScale(column);
+            this.catalogName = metaData.getCatalogName(column);
+            this.schemaName = metaData.getSchemaName(column);
+            this.tableName = metaData.getTableName(column);
+            this.autoIncrement = metaData.isAutoIncrement(column);
+            this.caseSensitive = metaData.isCaseSensitive(column);
+            this.currency = metaData.isCurrency(column);
+            this.nullable = metaData.isNullable(column);
+            this.searchable = metaData.isSearchable(column);
+            this.signed = metaData.isSigned(column);
+        }
+    }
+}
@@ -15,8 +15,11 @@
  */
 package com.dattack.jtoolbox.jdbc.internal;
 
+import com.dattack.jtoolbox.util.LruCache;
+
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
 
 /**
  * This interface defines the extensions to the standard JDBC interface {@link java.sql.Connection}.
@@ -34,4 +37,146 @@ public interface ExtendedConnection extends Connection {
      * @throws SQLException if a database access error occurs or this method is called on a closed connection
      */
     NamedPreparedStatement prepareNamedStatement(String sql) throws SQLException;
+
+    /**
+     * Returns the dialect used to handle the vendor-specific features of this connection.
+     *
+     * @return the dialect of this connection
+     */
+    JdbcDialect getDialect();
+
+    /**
+     * Returns the advisor that suggests the fetch size of the queries executed through this connection.
+     *
+     * @return the fetch-size advisor or null when the fetch size is not tuned
+     * @throws SQLException if a database access error occurs
+     */
+    FetchSizeAdvisor getFetchSizeAdvisor() throws SQLException;
+
+    /**
+     * Sets the advisor that suggests the fetch size of the queries executed through this connection. The fetch size
+     * set explicitly on a statement always takes precedence over the advice.
+     *
+     * @param advisor the fetch-size advisor, or null to stop tuning the fetch size
+     * @throws SQLException if a database access error occurs
+     */
+    void setFetchSizeAdvisor(FetchSizeAdvisor advisor) throws SQLException;
+
+    /**
+     * Returns the registry where the statements executed through this connection record their metrics.
+     *
+     * @return the metrics registry or null when the connection is not instrumented
+     * @throws SQLException if a database access error occurs
+     */
+    JdbcMetrics getMetrics() throws SQLException;
+
+    /**
+     * Sets the registry where the statements executed through this connection record their metrics. It applies to
+     * the statements executed after this call, including those of statements already created.
+     *
+     * @param metrics the metrics registry, or null to stop recording
+     * @throws SQLException if a database access error occurs
+     */
+    void setMetrics(JdbcMetrics metrics) throws SQLException;
+
+    /**
+     * Returns the executor that runs the asynchronous executions of the named statements created by this connection.
+     *
+     * @return the executor or null when the default executor is used
+     * @throws SQLException if a database access error occurs
+     */
+    Executor getAsyncExecutor() throws SQLException;
+
+    /**
+     * Sets the executor that runs the asynchronous executions of the named statements created by this connection.
+     * By default, they run on a virtual thread per execution when the JVM supports them, or on a bounded pool of
+     * daemon threads otherwise.
+     *
+     * @param executor the executor, or null to use the default executor
+     * @throws SQLException if a database access error occurs
+     * @see NamedPreparedStatement#executeQueryAsync()
+     */
+    void setAsyncExecutor(Executor executor) throws SQLException;
+
+    /**
+     * Returns the cache of the results of the cacheable named statements created by this connection.
+     *
+     * @return the result cache or null when the results are not cached
+     * @throws SQLException if a database access error occurs
+     */
+    ResultCache getResultCache() throws SQLException;
+
+    /**
+     * Sets the cache of the results of the cacheable named statements created by this connection.
+     *
+     * @param resultCache the result cache, or null to stop caching
+     * @throws SQLException if a database access error occurs
+     * @see NamedPreparedStatement#setCacheable(boolean, String...)
+     */
+    void setResultCache(ResultCache resultCache) throws SQLException;
+
+    /**
+     * Returns the log where the named statements created by this connection report their slow executions.
+     *
+     * @return the slow query log or null when slow executions are not reported
+     * @throws SQLException if a database access error occurs
+     */
+    SlowQueryLog getSlowQueryLog() throws SQLException;
+
+    /**
+     * Sets the log where the named statements created by this connection report their slow executions. The named
+     * statements keep the values bound to their parameters only when they are created with a log in place.
+     *
+     * @param slowQueryLog the slow query log, or null to stop reporting
+     * @throws SQLException if a database access error occurs
+     */
+    void setSlowQueryLog(SlowQueryLog slowQueryLog) throws SQLException;
+
+    /**
+     * <p>Returns the size of the statement cache managed by the driver.</p>
+     * <p><b>This is an Oracle driver exclusive property.</b> See
+     * <code>oracle.jdbc.OracleConnection#getStatementCacheSize()</code> for details.</p>
+     *
+     * @return the size of the implicit statement cache; 0 when the feature is not supported
+     * @throws SQLException if a database access error occurs
+     */
+    int getImplicitStatementCacheSize() throws SQLException;
+
+    /**
+     * Returns the maximum number of idle prepared statements kept by the statement cache of this connection.
+     *
+     * @return the size of the statement cache or 0 when the cache is disabled
+     * @throws SQLException if a database access error occurs
+     */
+    int getStatementCacheSize() throws SQLException;
+
+    /**
+     * Returns the statistics (hits, misses, evictions) of the statement cache of this connection.
+     *
+     * @return the statistics of the statement cache
+     * @throws SQLException if a database access error occurs
+     */
+    LruCache.Stats getStatementCacheStats() throws SQLException;
+
+    /**
+     * Enables, resizes or disables the statement cache of this connection. When the cache is enabled, the prepared
+     * statements are looked up by their SQL text, result set type, concurrency and holdability, and closing them
+     * returns them to the cache instead of closing them; the least recently used statements are closed when the
+     * cache exceeds its size. Parameters, batches, warnings, fetch size, max rows and query timeout are reset when a
+     * statement is returned to the cache.
+     *
+     * @param size the maximum number of idle statements to keep; 0 or a negative value disables the cache
+     * @throws SQLException if a database access error occurs
+     */
+    void setStatementCacheSize(int size) throws SQLException;
+
+    /**
+     * <p>Enables, resizes or disables the statement cache managed by the driver.</p>
+     * <p><b>This is an Oracle driver exclusive property</b>, ignored by other drivers. See
+     * <code>oracle.jdbc.OracleConnection#setImplicitCachingEnabled(boolean)</code> for details.</p>
+     *
+     * @param size the size of the implicit statement cache; 0 or a negative value disables the cache
+     * @throws SQLException if a database access error occurs
+     */
+    void setImplicitStatementCacheSize(int size) throws SQLException;
 }
@@ -26,6 +26,30 @@ import java.sql.Statement;
  */
 public interface ExtendedStatement extends Statement {
 
+    /**
+     * <p>Defines the type used by the driver to fetch the data of a column, avoiding a round trip to describe the
+     * column.</p>
+     * <p><b>This is an Oracle driver exclusive property</b>, ignored by other drivers. See
+     * <code>oracle.jdbc.OracleStatement#defineColumnType(int, int)</code> for details.</p>
+     *
+     * @param columnIndex the index of the column (first is 1)
+     * @param type        the type to be used when fetching the column, as defined in {@link java.sql.Types}
+     * @throws SQLException if a database access error occurs
+     */
+    void defineColumnType(int columnIndex, int type) throws SQLException;
+
+    /**
+     * <p>Defines the type and the maximum size used by the driver to fetch the data of a column.</p>
+     * <p><b>This is an Oracle driver exclusive property</b>, ignored by other drivers. See
+     * <code>oracle.jdbc.OracleStatement#defineColumnType(int, int, int)</code> for details.</p>
+     *
+     * @param columnIndex the index of the column (first is 1)
+     * @param type        the type to be used when fetching the column, as defined in {@link java.sql.Types}
+     * @param maxSize     the maximum length of the data to fetch
+     * @throws SQLException if a database access error occurs
+     */
+    void defineColumnType(int columnIndex, int type, int maxSize) throws SQLException;
+
     /**
      * <p>Returns the LOB prefetch size.</p>
      * <p><b>This is an Oracle driver exclusive property.</b></p>
@@ -36,6 +60,47 @@ public interface ExtendedStatement extends Statement {
      */
     int getLobPrefetchSize() throws SQLException;
 
+    /**
+     * <p>Returns the number of rows to prefetch on each round trip.</p>
+     * <p>See <code>oracle.jdbc.OracleStatement#getRowPrefetch()</code> for details. Drivers other than Oracle return
+     * the fetch size.</p>
+     *
+     * @return the row prefetch value
+     * @throws SQLException if a database access error occurs
+     */
+    int getRowPrefetch() throws SQLException;
+
+    /**
+     * <p>Sets the number of executions accumulated by the driver before sending them to the database.</p>
+     * <p><b>This is an Oracle driver exclusive property</b>, ignored by other drivers. See
+     * <code>oracle.jdbc.OraclePreparedStatement#setExecuteBatch(int)</code> for details.</p>
+     *
+     * @param value the batch value, must be &gt;= 1
+     * @throws SQLException if a database access error occurs
+     */
+    void setExecuteBatch(int value) throws SQLException;
+
+    /**
+     * Asks the driver to stream the rows of the result sets of this statement instead of loading them in memory,
+     * using the mechanism provided by the dialect of the connection (for example, server-side cursors on PostgreSQL
+     * or row-by-row streaming on MySQL). Some dialects must disable the auto-commit mode of the connection to do so.
+     *
+     * @param fetchSize the number of rows to fetch on each round trip, when supported by the driver
+     * @throws SQLException if a database access error occurs
+     * @see JdbcDialect#enableStreaming(Statement, int)
+     */
+    void enableStreaming(int fetchSize) throws SQLException;
+
+    /**
+     * <p>Returns the number of executions accumulated by the driver before sending them to the database.</p>
+     * <p><b>This is an Oracle driver exclusive property.</b> See
+     * <code>oracle.jdbc.OraclePreparedStatement#getExecuteBatch()</code> for details.</p>
+     *
+     * @return the batch value; 1 when the feature is not supported
+     * @throws SQLException if a database access error occurs
+     */
+    int getExecuteBatch() throws SQLException;
+
     /**
      * <p>Overrides the LOB prefetch size for this statement.</p>
      * <p><b>This is an Oracle driver exclusive property.</b> See <code>oracle.jdbc.OracleStatement#setLobPrefetchSize
@@ -47,4 +112,14 @@ public interface ExtendedStatement extends Statement {
      * @throws SQLException if value &lt; -1
      */
     void setLobPrefetchSize(int value) throws SQLException;
+
+    /**
+     * <p>Sets the number of rows to prefetch on each round trip.</p>
+     * <p>See <code>oracle.jdbc.OracleStatement#setRowPrefetch(int)</code> for details. Drivers other than Oracle set
+     * the fetch size.</p>
+     *
+     * @param value the number of rows to prefetch
+     * @throws SQLException if a database access error occurs
+     */
+    void setRowPrefetch(int value) throws SQLException;
 }
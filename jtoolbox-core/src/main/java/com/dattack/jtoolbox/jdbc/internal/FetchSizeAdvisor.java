@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.util.LruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+/**
+ * Adaptive fetch-size policy shared by the statements of one or more connections. The statements created by a
+ * connection that has an advisor ask it for the fetch size to use before executing a query, unless the fetch size has
+ * been set explicitly. Each time a result set is exhausted or closed, the number of rows read and the estimated row
+ * width are recorded, so the following executions of the same SQL use a fetch size large enough to read the usual
+ * number of rows in a single round trip, without exceeding the memory ceiling of a fetch.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class FetchSizeAdvisor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FetchSizeAdvisor.class);
+
+    private static final int DEFAULT_INITIAL_FETCH_SIZE = 100;
+    private static final int DEFAULT_MAX_FETCH_SIZE = 10_000;
+    private static final long DEFAULT_MAX_BYTES_PER_FETCH = 8L * 1024 * 1024;
+    private static final int DEFAULT_MAX_STATEMENTS = 1_024;
+
+    private static final int ROW_OVERHEAD_BYTES = 16;
+    private static final int MAX_INLINE_COLUMN_LENGTH = 4_000;
+    private static final int DEFAULT_COLUMN_LENGTH = 255;
+    private static final int LOB_LOCATOR_BYTES = 128;
+    private static final int NUMBER_BYTES = 24;
+    private static final int TEMPORAL_BYTES = 16;
+    private static final int DEFAULT_BYTES = 32;
+
+    private final transient int initialFetchSize;
+    private final transient int maxFetchSize;
+    private final transient long maxBytesPerFetch;
+    private final transient LruCache<String, SqlStats> statsBySql;
+
+    /* default */ FetchSizeAdvisor(final FetchSizeAdvisorBuilder builder) {
+        this.initialFetchSize = builder.initialFetchSize;
+        this.maxFetchSize = builder.maxFetchSize;
+        this.maxBytesPerFetch = builder.maxBytesPerFetch;
+        this.statsBySql = new LruCache<>(builder.maxStatements);
+    }
+
+    /**
+     * Estimates the memory needed to hold a row of a result set with the given metadata.
+     *
+     * @param metaData the metadata of the result set
+     * @return the estimated size of a row, in bytes
+     * @throws SQLException if a database access error occurs
+     */
+    public static int estimateRowWidth(final ResultSetMetaData metaData) throws SQLException {
+        int width = ROW_OVERHEAD_BYTES;
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            width += estimateColumnWidth(metaData.getColumnType(i), metaData.getPrecision(i));
+        }
+        return width;
+    }
+
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static int estimateColumnWidth(final int type, final int precision) {
+        final int length = precision > 0 ? Math.min(precision, MAX_INLINE_COLUMN_LENGTH) : DEFAULT_COLUMN_LENGTH;
+        switch (type) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return 2 * length;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return length;
+            case Types.BLOB:
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.SQLXML:
+                return LOB_LOCATOR_BYTES;
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return NUMBER_BYTES;
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+            case Types.TIME_WITH_TIMEZONE:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return TEMPORAL_BYTES;
+            default:
+                return DEFAULT_BYTES;
+        }
+    }
+
+    /**
+     * Returns the fetch size to use for the next execution of the given SQL.
+     *
+     * @param sql the SQL text
+     * @return the fetch size, or 0 to keep the driver default
+     */
+    public int getFetchSize(final String sql) {
+        final SqlStats stats = statsBySql.get(sql);
+        return Objects.isNull(stats) ? initialFetchSize : stats.fetchSize;
+    }
+
+    public int getInitialFetchSize() {
+        return initialFetchSize;
+    }
+
+    public long getMaxBytesPerFetch() {
+        return maxBytesPerFetch;
+    }
+
+    public int getMaxFetchSize() {
+        return maxFetchSize;
+    }
+
+    /**
+     * Records the number of rows read from a result set obtained by executing the given SQL. The row width is
+     * estimated from the metadata of the result set the first time the SQL is recorded.
+     *
+     * @param sql       the SQL text
+     * @param rows      the number of rows read
+     * @param resultSet the result set, still open; when null, a default row width is assumed
+     */
+    public void record(final String sql, final long rows, final ResultSet resultSet) {
+        final SqlStats stats = statsBySql.computeIfAbsent(sql, key -> new SqlStats(initialFetchSize));
+        if (stats.rowWidth == 0) {
+            stats.rowWidth = rowWidth(resultSet);
+        }
+        stats.update(rows, this);
+    }
+
+    private int rowWidth(final ResultSet resultSet) {
+        if (Objects.isNull(resultSet)) {
+            return ROW_OVERHEAD_BYTES + DEFAULT_BYTES;
+        }
+        try {
+            return estimateRowWidth(resultSet.getMetaData());
+        } catch (final SQLException e) {
+            LOGGER.debug("Unable to estimate the row width: {}", e.getMessage());
+            return ROW_OVERHEAD_BYTES + DEFAULT_BYTES;
+        }
+    }
+
+    private int computeFetchSize(final double averageRows, final int rowWidth) {
+        // one extra row allows the driver to detect the end of the result set in the same round trip
+        final long wanted = Long.highestOneBit((long) Math.ceil(averageRows)) << 1;
+        long fetchSize = Math.max(initialFetchSize, Math.min(wanted, maxFetchSize));
+        if (maxBytesPerFetch > 0) {
+            fetchSize = Math.min(fetchSize, Math.max(1, maxBytesPerFetch / Math.max(1, rowWidth)));
+        }
+        return (int) fetchSize;
+    }
+
+    /**
+     * Statistics of the executions of a SQL statement.
+     */
+    private static final class SqlStats {
+
+        private static final double WEIGHT = 0.5;
+
+        private transient volatile int fetchSize;
+        private transient volatile int rowWidth;
+        private transient double averageRows;
+        private transient boolean initialized;
+
+        private SqlStats(final int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+
+        private synchronized void update(final long rows, final FetchSizeAdvisor advisor) {
+            // exponentially weighted moving average, so the advice follows the recent executions
+            averageRows = initialized ? averageRows + WEIGHT * (rows - averageRows) : rows;
+            initialized = true;
+            fetchSize = advisor.computeFetchSize(averageRows, rowWidth);
+        }
+    }
+
+    /**
+     * Builder used to create {@link FetchSizeAdvisor} instances.
+     */
+    public static final class FetchSizeAdvisorBuilder {
+
+        private transient int initialFetchSize = DEFAULT_INITIAL_FETCH_SIZE;
+        private transient int maxFetchSize = DEFAULT_MAX_FETCH_SIZE;
+        private transient long maxBytesPerFetch = DEFAULT_MAX_BYTES_PER_FETCH;
+        private transient int maxStatements = DEFAULT_MAX_STATEMENTS;
+
+        public FetchSizeAdvisor build() {
+            if (initialFetchSize < 0 || maxFetchSize <= 0 || initialFetchSize > maxFetchSize) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid fetch size (initial: %d, max: %d)", initialFetchSize, maxFetchSize));
+            }
+            return new FetchSizeAdvisor(this);
+        }
+
+        /**
+         * Sets the fetch size used the first time a SQL is executed. 0 keeps the driver default.
+         *
+         * @param value the initial fetch size
+         * @return the builder
+         */
+        public FetchSizeAdvisorBuilder withInitialFetchSize(final int value) {
+            this.initialFetchSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the memory ceiling of a single fetch. The fetch size is limited so that the estimated size of the rows
+         * of a fetch does not exceed this value. 0 or a negative value disables the ceiling.
+         *
+         * @param value the maximum number of bytes per fetch
+         * @return the builder
+         */
+        public FetchSizeAdvisorBuilder withMaxBytesPerFetch(final long value) {
+            this.maxBytesPerFetch = value;
+            return this;
+        }
+
+        public FetchSizeAdvisorBuilder withMaxFetchSize(final int value) {
+            this.maxFetchSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of SQL statements whose statistics are retained.
+         *
+         * @param value the maximum number of statements
+         * @return the builder
+         */
+        public FetchSizeAdvisorBuilder withMaxStatements(final int value) {
+            this.maxStatements = value;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Describes the database-specific behaviour used when wrapping a {@link Connection}. The dialect of a connection is
+ * resolved from the name of its driver (or from the JDBC URL, before connecting) through the {@link DialectRegistry}.
+ * New dialects can be provided by registering their implementations as a {@link java.util.ServiceLoader} service.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public interface JdbcDialect {
+
+    /**
+     * Returns the name of this dialect, used for logging purposes.
+     *
+     * @return the name of this dialect
+     */
+    String getName();
+
+    /**
+     * Checks if this dialect handles the connections obtained from the given JDBC URL.
+     *
+     * @param url the JDBC URL
+     * @return true if this dialect supports the URL
+     */
+    default boolean acceptsUrl(final String url) {
+        return false;
+    }
+
+    /**
+     * Adds to the connection properties the driver settings recommended by this dialect. The properties already
+     * present are not overwritten, so the user settings always take precedence.
+     *
+     * @param properties the properties that will be used to open a new connection
+     */
+    default void configureProperties(final Properties properties) {
+        // no recommended settings
+    }
+
+    /**
+     * Creates an array with the elements of a collection bound to a named parameter, so the collection is bound as a
+     * single parameter and the SQL text doesn't depend on its size. By default, the collections are not bound as
+     * arrays.
+     *
+     * @param connection the connection
+     * @param elements   the elements of the collection
+     * @return the array or null when the collection must be expanded into one parameter marker per element
+     * @throws SQLException if a database access error occurs
+     * @see NamedPreparedStatement#setList(String, java.util.Collection)
+     * @see #getInListArraySql()
+     */
+    default Array createInListArray(final Connection connection, final Object[] elements) throws SQLException {
+        return null;
+    }
+
+    /**
+     * Configures the statement so the rows of its result sets are streamed from the server instead of being loaded in
+     * memory. By default, only the fetch size is set.
+     *
+     * @param statement the statement to configure
+     * @param fetchSize the number of rows to fetch on each round trip
+     * @throws SQLException if a database access error occurs
+     */
+    default void enableStreaming(final Statement statement, final int fetchSize) throws SQLException {
+        statement.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Returns the SQL that replaces the parameter marker of a collection bound as an array, between the parentheses
+     * of an <code>IN</code> list. It must contain a single parameter marker, for the array.
+     *
+     * @return the SQL that reads the elements of the array or null when the collections are not bound as arrays
+     * @see #createInListArray(Connection, Object[])
+     */
+    default String getInListArraySql() {
+        return null;
+    }
+
+    /**
+     * Returns the maximum number of parameter markers of a statement. It limits the number of rows of the multi-row
+     * inserts created from the batches of a named statement. By default, a limit accepted by most databases.
+     *
+     * @return the maximum number of parameter markers
+     * @see NamedPreparedStatement#setMultiRowInsert(boolean)
+     */
+    default int getMaxBindVariables() {
+        return 2_000; // NOPMD - below the limit of SQL Server, the lowest of the common databases
+    }
+
+    /**
+     * Returns the maximum number of elements of an <code>IN (...)</code> list. It limits the collections bound to a
+     * named parameter that are expanded into one parameter marker per element. By default, only the number of
+     * parameter markers of the statement is limited.
+     *
+     * @return the maximum number of elements
+     * @see NamedPreparedStatement#setList(String, java.util.Collection)
+     * @see #getMaxBindVariables()
+     */
+    default int getMaxInListElements() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Combines several statements into a single one, such as an anonymous block, so all of them are sent to the
+     * database in one round trip. By default, the statements can't be combined.
+     *
+     * @param statements the statements to combine
+     * @return the combined statement or null when this dialect can't combine statements
+     */
+    default String toAnonymousBlock(final List<String> statements) {
+        return null;
+    }
+
+    /**
+     * Checks if this dialect can handle the connections created by the driver with the given name.
+     *
+     * @param driverName the name of the driver as returned by {@link java.sql.DatabaseMetaData#getDriverName()}
+     * @return true if this dialect supports the driver
+     */
+    boolean supports(String driverName);
+
+    /**
+     * Checks if the database accepts several rows in the <code>VALUES</code> clause of an <code>INSERT</code>
+     * statement. By default, the standard multi-row syntax is assumed to be supported.
+     *
+     * @return true if the batches of simple inserts can be rewritten into multi-row inserts
+     * @see NamedPreparedStatement#setMultiRowInsert(boolean)
+     */
+    default boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * Wraps the given connection with the {@link ProxyConnection} implementation of this dialect.
+     *
+     * @param connection the connection to wrap
+     * @return the proxy connection
+     * @throws SQLException if a database access error occurs
+     */
+    ProxyConnection wrap(Connection connection) throws SQLException;
+}
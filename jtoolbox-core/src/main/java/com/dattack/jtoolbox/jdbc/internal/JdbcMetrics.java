@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.util.LruCache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Instrumentation of the statements executed through one or more connections. The statements created by a connection
+ * that has a metrics registry record, per normalised SQL text, the execution latency, the time spent fetching rows,
+ * the rows read, the batch sizes and the update counts. The counters are striped
+ * ({@link java.util.concurrent.atomic.LongAdder}), so recording does not contend between threads and the registry can
+ * stay enabled in production.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class JdbcMetrics {
+
+    private static final int DEFAULT_MAX_STATEMENTS = 1_024;
+
+    private final transient LruCache<String, SqlMetrics> metricsBySql;
+
+    public JdbcMetrics() {
+        this(DEFAULT_MAX_STATEMENTS);
+    }
+
+    /**
+     * Creates a registry that retains the metrics of, at most, the given number of SQL statements. The least recently
+     * executed statements are discarded first.
+     *
+     * @param maxStatements the maximum number of statements
+     */
+    public JdbcMetrics(final int maxStatements) {
+        if (maxStatements <= 0) {
+            throw new IllegalArgumentException("Invalid number of statements: " + maxStatements);
+        }
+        this.metricsBySql = new LruCache<>(maxStatements);
+    }
+
+    /**
+     * Normalises a SQL text so that the executions of the same statement with different literals are grouped
+     * together: comments are removed, consecutive whitespaces are collapsed and the string and numeric literals are
+     * replaced with <code>?</code>.
+     *
+     * @param sql the SQL text
+     * @return the normalised SQL text
+     */
+    @SuppressWarnings({ "PMD.CyclomaticComplexity", "PMD.CognitiveComplexity", "PMD.AvoidReassigningLoopVariables" })
+    public static String normalize(final String sql) {
+        final StringBuilder builder = new StringBuilder(sql.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < sql.length(); i++) {
+            final char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (c == '-' && i + 1 < sql.length() && sql.charAt(i + 1) == '-') {
+                i = skipUntil(sql, i + 2, "\n");
+                pendingSpace = true;
+                continue;
+            }
+            if (c == '/' && i + 1 < sql.length() && sql.charAt(i + 1) == '*') {
+                i = skipUntil(sql, i + 2, "*/");
+                pendingSpace = true;
+                continue;
+            }
+
+            if (pendingSpace && builder.length() > 0) {
+                builder.append(' ');
+            }
+            pendingSpace = false;
+
+            if (c == '\'') {
+                i = skipQuoted(sql, i, '\'');
+                builder.append('?');
+            } else if (c == '"') {
+                final int end = skipQuoted(sql, i, '"');
+                builder.append(sql, i, Math.min(end + 1, sql.length()));
+                i = end;
+            } else if (Character.isDigit(c) && !isIdentifierPart(builder)) {
+                while (i + 1 < sql.length() && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.')) {
+                    i++;
+                }
+                builder.append('?');
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isIdentifierPart(final StringBuilder builder) {
+        if (builder.length() == 0) {
+            return false;
+        }
+        final char last = builder.charAt(builder.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$' || last == '#';
+    }
+
+    /**
+     * Returns the index of the last character of a quoted text starting at the given position. Doubled quotes are
+     * part of the text.
+     */
+    private static int skipQuoted(final String sql, final int start, final char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i++;
+                } else {
+                    return i;
+                }
+            }
+            i++;
+        }
+        return sql.length() - 1;
+    }
+
+    /**
+     * Returns the index of the last character of the given terminator, or the last index of the text.
+     */
+    private static int skipUntil(final String sql, final int start, final String terminator) {
+        final int index = sql.indexOf(terminator, start);
+        return index < 0 ? sql.length() - 1 : index + terminator.length() - 1;
+    }
+
+    /**
+     * Returns the metrics of the given SQL text, creating them when needed.
+     *
+     * @param sql the SQL text, not normalised
+     * @return the metrics of the normalised SQL text
+     */
+    /* default */ SqlMetrics forSql(final String sql) {
+        return metricsBySql.computeIfAbsent(normalize(sql), SqlMetrics::new);
+    }
+
+    /**
+     * Returns a snapshot of the metrics of the given SQL text.
+     *
+     * @param sql the SQL text; it is normalised before the lookup
+     * @return the snapshot, or null when the statement has not been executed
+     */
+    public SqlStatistics getStatistics(final String sql) {
+        final SqlMetrics metrics = metricsBySql.get(normalize(sql));
+        return Objects.isNull(metrics) ? null : metrics.snapshot();
+    }
+
+    /**
+     * Returns a snapshot of the metrics of every statement, sorted by the total execution time in descending order.
+     * The counters keep running while the snapshot is taken, so the figures of different statements can be slightly
+     * out of step.
+     *
+     * @return the statistics of the statements
+     */
+    public List<SqlStatistics> getStatistics() {
+        final List<SqlStatistics> list = new ArrayList<>();
+        for (final SqlMetrics metrics : metricsBySql.values()) {
+            list.add(metrics.snapshot());
+        }
+        list.sort(Comparator.comparingLong(SqlStatistics::getTotalExecutionNanos).reversed());
+        return list;
+    }
+
+    /**
+     * Discards the metrics collected so far.
+     */
+    public void reset() {
+        metricsBySql.clear();
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The collections bound to the <code>IN (...)</code> lists of a named statement. A statement with collections is
+ * executed through another statement, where the marker of each collection is replaced by an array, when the dialect
+ * supports it, or by one marker per element. The number of markers is rounded up to a power of two and the extra
+ * markers repeat the last element, so the different sizes of the collections only produce a few SQL texts and their
+ * execution plans are reused. The padding never exceeds the limits of the dialect on the elements of an
+ * <code>IN</code> list and on the parameter markers of a statement; the collections that don't fit them are rejected.
+ * An empty collection is bound as a single null, which matches no row, so it is rejected in a <code>NOT IN</code>
+ * list.
+ *
+ * @author cvarela
+ * @see NamedPreparedStatement#setList(String, Collection)
+ * @since 0.7
+ */
+public final class ListParameters implements AutoCloseable {
+
+    private final transient NamedPreparedStatementConfig config;
+    private final transient Object[] lists;
+    private final transient int[] positionSlots;
+    private final transient Map<String, PreparedStatement> statements = new HashMap<>();
+    private final transient List<Array> arrays = new ArrayList<>();
+
+    public ListParameters(final NamedPreparedStatementConfig config) {
+        this.config = config;
+        this.lists = new Object[config.getSlotCount()];
+        this.positionSlots = new int[config.getParameterCount()];
+        for (int slot = 0; slot < lists.length; slot++) {
+            for (final int position : config.getParameterPositions(config.getSlotName(slot))) {
+                positionSlots[position - 1] = slot;
+            }
+        }
+    }
+
+    private static int bucketSize(final int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    private static String markers(final int count) {
+        final StringBuilder builder = new StringBuilder(count * 3);
+        builder.append('?');
+        for (int i = 1; i < count; i++) {
+            builder.append(", ?");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Closes the statements prepared for the collections and frees their arrays.
+     *
+     * @throws SQLException if a statement can't be closed or an array can't be freed; the other errors are suppressed
+     */
+    @Override
+    public void close() throws SQLException {
+        SQLException error = null;
+        try {
+            release();
+        } catch (final SQLException e) {
+            error = e;
+        }
+        for (final PreparedStatement statement : statements.values()) {
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                if (Objects.isNull(error)) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        statements.clear();
+        if (Objects.nonNull(error)) {
+            throw error;
+        }
+    }
+
+    /**
+     * Checks if a collection is still bound to any parameter, that is, no other value has been bound to it since.
+     *
+     * @param values the values bound to the parameters of the statement
+     * @return true if the statement must be executed with {@link #prepare(Connection, JdbcDialect, ParameterValues)}
+     */
+    public boolean isBound(final ParameterValues values) {
+        for (int slot = 0; slot < lists.length; slot++) {
+            if (Objects.nonNull(lists[slot]) && values.get(slot) == lists[slot]) { // NOPMD - compared by reference
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Prepares the statement that reads the collections and binds to it the values of all the parameters. The arrays
+     * created for the collections must be freed with {@link #release()} once the statement has been executed.
+     *
+     * @param connection the connection of the named statement
+     * @param dialect    the dialect of the connection
+     * @param values     the values bound to the parameters of the statement
+     * @return the statement, ready to be executed
+     * @throws SQLException if a parameter has no value, a collection exceeds the limits of the dialect or a database
+     *                      access error occurs
+     */
+    public PreparedStatement prepare(final Connection connection, final JdbcDialect dialect,
+        final ParameterValues values) throws SQLException
+    {
+        release();
+        try {
+            return doPrepare(connection, dialect, values);
+        } catch (final SQLException | RuntimeException e) {
+            try {
+                release();
+            } catch (final SQLException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    private PreparedStatement doPrepare(final Connection connection, final JdbcDialect dialect,
+        final ParameterValues values) throws SQLException
+    {
+        final Object[] bindings = new Object[lists.length];
+        final String[] fragments = new String[lists.length];
+        final int[] exactMarkers = new int[lists.length];
+        final int[] paddedMarkers = new int[lists.length];
+        for (int slot = 0; slot < lists.length; slot++) {
+            exactMarkers[slot] = 1;
+            paddedMarkers[slot] = 1;
+            if (Objects.nonNull(lists[slot]) && values.get(slot) == lists[slot]) { // NOPMD - compared by reference
+                final Object[] elements = ((List<?>) lists[slot]).toArray();
+                final String arraySql = dialect.getInListArraySql();
+                final Array array = Objects.isNull(arraySql) ? null : dialect.createInListArray(connection, elements);
+                if (Objects.isNull(array)) {
+                    if (elements.length == 0 && config.isNotInListParameter(slot)) {
+                        // the single null of an empty collection would make the NOT IN list match no row
+                        throw new SQLException(String.format(
+                            "An empty collection can't be bound to the NOT IN list of '%s'", config.getSlotName(slot)));
+                    }
+                    if (elements.length > dialect.getMaxInListElements()) {
+                        throw new SQLException(String.format(
+                            "The collection bound to '%s' has %d elements, above the limit of %d of an IN list",
+                            config.getSlotName(slot), elements.length, dialect.getMaxInListElements()));
+                    }
+                    bindings[slot] = elements;
+                    exactMarkers[slot] = Math.max(1, elements.length);
+                    paddedMarkers[slot] = Math.min(bucketSize(elements.length), dialect.getMaxInListElements());
+                } else {
+                    arrays.add(array);
+                    bindings[slot] = array;
+                    fragments[slot] = arraySql;
+                }
+            } else if (!values.isSet(slot)) {
+                throw new SQLException(String.format("Parameter '%s' has not been bound", config.getSlotName(slot)));
+            }
+        }
+
+        // the collections are not padded when the padding exceeds the parameter markers accepted by the database
+        final int maxMarkers = dialect.getMaxBindVariables();
+        final int[] markers = countMarkers(paddedMarkers) <= maxMarkers ? paddedMarkers : exactMarkers;
+        if (countMarkers(markers) > maxMarkers) {
+            throw new SQLException(String.format(
+                "The collections bound need %d parameter markers, above the limit of %d of the database",
+                countMarkers(markers), maxMarkers));
+        }
+        for (int slot = 0; slot < lists.length; slot++) {
+            if (bindings[slot] instanceof Object[]) {
+                bindings[slot] = pad((Object[]) bindings[slot], markers[slot]);
+                fragments[slot] = markers(markers[slot]);
+            }
+        }
+
+        final String sql = config.getCompiledSql(fragments);
+        PreparedStatement statement = statements.get(sql);
+        // the statement is closed along with the connection or by the users of the result sets
+        if (Objects.isNull(statement) || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+
+        int index = 1;
+        for (final int slot : positionSlots) {
+            if (bindings[slot] instanceof Array) {
+                statement.setArray(index++, (Array) bindings[slot]);
+            } else if (bindings[slot] instanceof Object[]) {
+                // an empty collection is bound as a single null, which matches no row
+                for (final Object element : (Object[]) bindings[slot]) {
+                    ParameterValues.bind(statement, index++, element, Types.NULL);
+                }
+            } else {
+                values.bind(slot, statement, index++);
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * Returns the number of parameter markers of the statement, given the markers of each slot.
+     */
+    private int countMarkers(final int... slotMarkers) {
+        int count = 0;
+        for (final int slot : positionSlots) {
+            count += slotMarkers[slot];
+        }
+        return count;
+    }
+
+    /**
+     * Repeats the last element until the given size.
+     */
+    private static Object[] pad(final Object[] elements, final int size) {
+        final Object[] padded = new Object[size];
+        for (int i = 0; i < padded.length && elements.length > 0; i++) {
+            padded[i] = elements[Math.min(i, elements.length - 1)];
+        }
+        return padded;
+    }
+
+    /**
+     * Frees the arrays created for the last execution.
+     *
+     * @throws SQLException if an array can't be freed; the errors of the other arrays are suppressed
+     */
+    public void release() throws SQLException {
+        SQLException error = null;
+        for (final Array array : arrays) {
+            try {
+                array.free();
+            } catch (final SQLException e) {
+                if (Objects.isNull(error)) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        arrays.clear();
+        if (Objects.nonNull(error)) {
+            throw error;
+        }
+    }
+
+    /**
+     * Keeps the collection bound to a parameter.
+     *
+     * @param parameterName the parameter name
+     * @param collection    the elements of the collection
+     * @return an immutable copy of the collection, to keep as the value of the parameter
+     * @throws SQLException if the parameter is not the only element of an <code>IN</code> list
+     */
+    public List<Object> set(final String parameterName, final Collection<?> collection) throws SQLException {
+        final int slot;
+        try {
+            slot = config.getSlot(parameterName);
+        } catch (final IllegalArgumentException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+        if (!config.isInListParameter(slot)) {
+            throw new SQLException(
+                String.format("Parameter '%s' is not the only element of an IN (...) list", parameterName));
+        }
+        final List<Object> list = Collections.unmodifiableList(new ArrayList<>(collection));
+        lists[slot] = list;
+        return list;
+    }
+}
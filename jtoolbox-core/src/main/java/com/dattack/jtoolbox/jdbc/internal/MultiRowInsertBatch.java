@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The rows of a batch of a simple insert, sent to the database as multi-row inserts. The rows are split into
+ * statements with a power of two number of rows, so a batch of any size only needs a few different statements, which
+ * are prepared once and reused until this object is closed.
+ *
+ * @author cvarela
+ * @see NamedPreparedStatement#setMultiRowInsert(boolean)
+ * @since 0.7
+ */
+public final class MultiRowInsertBatch implements AutoCloseable {
+
+    // the largest power of two below the limit of rows of the VALUES clause of SQL Server
+    private static final int MAX_ROWS_PER_STATEMENT = 512;
+
+    private final transient NamedPreparedStatementConfig config;
+    private final transient int[][] slotPositions;
+    private final transient int maxRows;
+    private final transient List<Object[]> rows = new ArrayList<>();
+    private final transient Map<Integer, PreparedStatement> statements = new HashMap<>();
+
+    private MultiRowInsertBatch(final NamedPreparedStatementConfig config, final int maxRows) {
+        this.config = config;
+        this.maxRows = maxRows;
+        this.slotPositions = new int[config.getSlotCount()][];
+        for (int slot = 0; slot < slotPositions.length; slot++) {
+            slotPositions[slot] = config.getParameterPositions(config.getSlotName(slot));
+        }
+    }
+
+    /**
+     * Creates the batch of a statement, when its rows can be sent as multi-row inserts.
+     *
+     * @param config  the configuration of the named statement
+     * @param dialect the dialect of the connection
+     * @return the batch or null when the statement is not a simple insert, the dialect doesn't support multi-row
+     *         inserts or a statement can't contain two rows
+     */
+    public static MultiRowInsertBatch of(final NamedPreparedStatementConfig config, final JdbcDialect dialect) {
+        if (!config.isSimpleInsert() || !dialect.supportsMultiRowInsert()) {
+            return null;
+        }
+        final int limit = Math.min(MAX_ROWS_PER_STATEMENT, dialect.getMaxBindVariables() / config.getParameterCount());
+        return limit < 2 ? null : new MultiRowInsertBatch(config, Integer.highestOneBit(limit));
+    }
+
+    /**
+     * Adds a row with the values currently bound to the named parameters.
+     *
+     * @param values the values bound to the parameters
+     * @throws SQLException if a parameter has not been bound
+     */
+    public void add(final ParameterValues values) throws SQLException {
+        final Object[] row = new Object[values.size()];
+        for (int slot = 0; slot < row.length; slot++) {
+            if (!values.isSet(slot)) {
+                throw new SQLException(String.format("Parameter '%s' has not been bound", config.getSlotName(slot)));
+            }
+            final Object value = values.get(slot);
+            row[slot] = Objects.isNull(value) ? new SqlNull(values.getNullType(slot)) : value;
+        }
+        rows.add(row);
+    }
+
+    /**
+     * Discards the rows added so far.
+     */
+    public void clear() {
+        rows.clear();
+    }
+
+    /**
+     * Closes the statements prepared by this batch and discards its rows.
+     *
+     * @throws SQLException if a statement can't be closed; the errors of the other statements are suppressed
+     */
+    @Override
+    public void close() throws SQLException {
+        rows.clear();
+        SQLException error = null;
+        for (final PreparedStatement statement : statements.values()) {
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                if (Objects.isNull(error)) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        statements.clear();
+        if (Objects.nonNull(error)) {
+            throw error;
+        }
+    }
+
+    /**
+     * Sends the rows to the database and empties the batch.
+     *
+     * @param connection the connection used to prepare the multi-row inserts
+     * @return the update count of each row
+     * @throws BatchUpdateException if a statement fails; its update counts are those of the rows inserted before
+     */
+    public int[] execute(final Connection connection) throws SQLException {
+        final int[] counts = new int[rows.size()];
+        int done = 0;
+        try {
+            while (done < counts.length) {
+                final int count = Math.min(maxRows, Integer.highestOneBit(counts.length - done));
+                final int updated = executeRows(connection, done, count);
+                Arrays.fill(counts, done, done + count, updated == count ? 1 : Statement.SUCCESS_NO_INFO);
+                done += count;
+            }
+            return counts;
+        } catch (final SQLException e) {
+            throw new BatchUpdateException(e.getMessage(), e.getSQLState(), e.getErrorCode(),
+                Arrays.copyOf(counts, done), e);
+        } finally {
+            rows.clear();
+        }
+    }
+
+    private int executeRows(final Connection connection, final int from, final int count) throws SQLException {
+        PreparedStatement statement = statements.get(count);
+        if (Objects.isNull(statement)) {
+            statement = connection.prepareStatement(config.getMultiRowInsertSql(count));
+            statements.put(count, statement);
+        }
+
+        final int parameterCount = config.getParameterCount();
+        for (int i = 0; i < count; i++) {
+            final Object[] row = rows.get(from + i);
+            final int offset = i * parameterCount;
+            for (int slot = 0; slot < row.length; slot++) {
+                for (final int position : slotPositions[slot]) {
+                    if (row[slot] instanceof SqlNull) {
+                        ParameterValues.bind(statement, offset + position, null, ((SqlNull) row[slot]).sqlType);
+                    } else {
+                        ParameterValues.bind(statement, offset + position, row[slot], Types.NULL);
+                    }
+                }
+            }
+        }
+        return statement.executeUpdate();
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * A null value, along with the SQL type it was bound with.
+     */
+    private static final class SqlNull {
+
+        private final transient int sqlType;
+
+        private SqlNull(final int sqlType) {
+            this.sqlType = sqlType;
+        }
+    }
+}
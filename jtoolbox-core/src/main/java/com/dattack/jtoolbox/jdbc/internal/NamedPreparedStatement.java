@@ -26,6 +26,7 @@ import java.sql.Date;
 import java.sql.NClob;
 import java.sql.PreparedStatement;
 import java.sql.Ref;
+import java.sql.ResultSet;
 import java.sql.RowId;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
@@ -33,6 +34,9 @@ import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A {@link java.sql.PreparedStatement} with named parameter markers instead of standard parameter markers. A
@@ -44,10 +48,188 @@ import java.util.Calendar;
 @SuppressWarnings({"PMD.ExcessivePublicCount", "checkstyle:AbbreviationAsWordInName"})
 public interface NamedPreparedStatement extends PreparedStatement {
 
+    /**
+     * Binds the values of a map to the named parameters with the same name, and adds them to the batch of commands.
+     * Every parameter must have a key, since a parameter left unchanged would repeat the value of the previous row.
+     *
+     * @param values the values to bind, by parameter name
+     * @throws SQLException if a key doesn't match a parameter, a parameter has no key or a database access error
+     *                      occurs
+     * @see #setParameters(Map)
+     */
+    void addBatch(Map<String, ?> values) throws SQLException;
+
+    /**
+     * Adds a row to the batch of commands for every map of values.
+     *
+     * @param rows the values of every row, by parameter name
+     * @throws SQLException if a database access error occurs
+     * @see #addBatch(Map)
+     */
+    void addBatch(Iterable<? extends Map<String, ?>> rows) throws SQLException;
+
+    /**
+     * Binds the properties of an object to the named parameters with the same name, and adds them to the batch of
+     * commands. Every parameter must have a matching property, since a parameter left unchanged would repeat the
+     * value of the previous row.
+     *
+     * @param bean the object to bind
+     * @throws SQLException if a parameter has no matching property, a property can't be read or a database access
+     *                      error occurs
+     * @see #setBeanParameters(Object)
+     */
+    void addBeanBatch(Object bean) throws SQLException;
+
+    /**
+     * Adds a row to the batch of commands for every object.
+     *
+     * @param beans the objects to bind
+     * @throws SQLException if a database access error occurs
+     * @see #addBeanBatch(Object)
+     */
+    void addBeanBatch(Iterable<?> beans) throws SQLException;
+
+    /**
+     * Executes the query of this statement on the asynchronous executor of the connection, with the parameters bound
+     * when this method is called. The statement must not be used until the future completes, and the returned result
+     * set must be closed by the caller. Cancelling the future cancels the execution through
+     * {@link java.sql.Statement#cancel()}.
+     *
+     * <p>A connection can't run several statements at the same time, so the executions that must run concurrently
+     * have to use their own connections.</p>
+     *
+     * @return the future result set of the query
+     * @throws SQLException if the executor of the connection can't be obtained
+     * @see ExtendedConnection#setAsyncExecutor(java.util.concurrent.Executor)
+     */
+    CompletableFuture<ResultSet> executeQueryAsync() throws SQLException;
+
+    /**
+     * Executes the update of this statement on the asynchronous executor of the connection, with the parameters
+     * bound when this method is called. The statement must not be used until the future completes. Cancelling the
+     * future cancels the execution through {@link java.sql.Statement#cancel()}.
+     *
+     * @return the future row count of the update
+     * @throws SQLException if the executor of the connection can't be obtained
+     * @see #executeQueryAsync()
+     */
+    CompletableFuture<Integer> executeUpdateAsync() throws SQLException;
+
+    /**
+     * Sends to the database the rows batched in auto-batching mode.
+     *
+     * @throws SQLException if a database access error occurs
+     * @see #setAutoBatch(int, long)
+     */
+    void flushAutoBatch() throws SQLException;
+
+    /**
+     * Returns the update counts of the rows sent to the database in auto-batching mode since the last call to this
+     * method, including the rows sent by the size limits, by a commit or before the execution of another statement.
+     * The counts are discarded when the auto-batching mode is changed.
+     *
+     * @return the update counts, one per row sent
+     * @see #setAutoBatch(int, long)
+     */
+    int[] getAutoBatchUpdateCounts();
+
     boolean hasNamedParameter(final String parameter);
 
     boolean hasNamedParameters();
 
+    /**
+     * Resolves a parameter name to a {@link ParameterHandle}. The handle can be used with the
+     * <code>setXxx(ParameterHandle, ...)</code> methods to avoid the lookup of the parameter name on every call.
+     *
+     * @param parameterName the parameter name
+     * @return the handle of the parameter
+     * @throws SQLException if parameterName does not correspond to a parameter marker in the SQL statement
+     */
+    ParameterHandle handle(final String parameterName) throws SQLException;
+
+    boolean isAutoBatch();
+
+    /**
+     * Checks if the results of this statement are cached.
+     *
+     * @return true if the results are cached
+     * @see #setCacheable(boolean, String...)
+     */
+    boolean isCacheable();
+
+    /**
+     * Checks if the batches of this statement are sent as multi-row inserts.
+     *
+     * @return true if the batches are rewritten
+     * @see #setMultiRowInsert(boolean)
+     */
+    boolean isMultiRowInsert();
+
+    /**
+     * Enables or disables the auto-batching mode. In this mode, {@link #executeUpdate()} adds the parameters to a
+     * batch instead of executing the statement, and returns {@link java.sql.Statement#SUCCESS_NO_INFO}. The batch is
+     * sent to the database when it reaches <code>maxRows</code> rows or the estimated size of its parameters reaches
+     * <code>maxBytes</code>, on commit, when the statement or the connection is closed and before any other execution
+     * on the same connection. A rollback discards the rows not sent yet.
+     *
+     * @param maxRows  the maximum number of rows of a batch, 0 disables the auto-batching mode
+     * @param maxBytes the maximum estimated size of a batch, 0 or a negative value to ignore it
+     * @throws SQLException if the pending rows can't be sent to the database
+     * @see #getAutoBatchUpdateCounts()
+     */
+    void setAutoBatch(int maxRows, long maxBytes) throws SQLException;
+
+    /**
+     * Binds the properties of an object to the named parameters with the same name. The properties are read through
+     * the JavaBeans getters, the public no-arg methods named like the property (such as the accessors of a record)
+     * and the public fields. Names are matched ignoring the case and the underscores, so the parameter
+     * <code>:customer_id</code> is bound to the property <code>customerId</code>. The accessors are resolved once per
+     * class. The parameters without a matching property are left unchanged.
+     *
+     * @param bean the object to bind
+     * @throws SQLException if a database access error occurs or a property can't be read
+     */
+    void setBeanParameters(Object bean) throws SQLException;
+
+    /**
+     * Marks the results of this statement as cacheable in the {@link ResultCache} of the connection, keyed by the SQL
+     * text and the values bound to the named parameters. The results are cached only when all the parameters are
+     * bound through their names with immutable values, after calling this method. Use it for read-mostly data,
+     * such as reference tables.
+     *
+     * @param cacheable true to cache the results of this statement
+     * @param tags      the tags of the query, usually the names of the tables it reads, that allow to invalidate its
+     *                  results with {@link ResultCache#invalidate(String)}
+     * @see ExtendedConnection#setResultCache(ResultCache)
+     */
+    void setCacheable(boolean cacheable, String... tags);
+
+    /**
+     * Sends the batches of this statement as multi-row <code>INSERT ... VALUES (...), (...)</code> statements,
+     * instead of one statement per row. It is useful with drivers that don't rewrite the batches themselves. The rows
+     * of a batch are split into statements with a power of two number of rows, so only a few different statements are
+     * prepared, and within the {@link JdbcDialect#getMaxBindVariables() limit of parameter markers} of the database.
+     *
+     * <p>The rewriting is only done for simple inserts (see {@link NamedPreparedStatementConfig#isSimpleInsert()})
+     * whose parameters are bound by name, and when the dialect of the connection
+     * {@link JdbcDialect#supportsMultiRowInsert() supports it}; otherwise, this method has no effect. The update count
+     * of each row is {@link java.sql.Statement#SUCCESS_NO_INFO} unless all the rows of a statement were inserted.</p>
+     *
+     * @param enabled true to rewrite the batches
+     * @throws SQLException if the pending rows can't be sent to the database when the rewriting is disabled
+     * @see #isMultiRowInsert()
+     */
+    void setMultiRowInsert(boolean enabled) throws SQLException;
+
+    /**
+     * Binds the values of a map to the named parameters with the same name. The parameters without a key are left
+     * unchanged.
+     *
+     * @param values the values to bind, by parameter name
+     * @throws SQLException if a key doesn't match a parameter or a database access error occurs
+     */
+    void setParameters(Map<String, ?> values) throws SQLException;
+
     /**
      * {@link java.sql.PreparedStatement#setArray(int, Array)}.
      *
@@ -312,6 +494,22 @@ public interface NamedPreparedStatement extends PreparedStatement {
      */
     void setFloat(final String parameterName, final float value) throws SQLException;
 
+    /**
+     * Binds the elements of a collection to a parameter that is the only element of an <code>IN</code> list, such as
+     * <code>WHERE id IN (:ids)</code>. The statement is then executed through another statement, where the parameter
+     * is bound as an array when the dialect of the connection supports it (see
+     * {@link JdbcDialect#createInListArray(java.sql.Connection, Object[])}) or expanded into a number of markers
+     * rounded up to a power of two, so the SQL text only depends on the size of the collection through a few buckets.
+     * An empty collection matches no row. The statements with collections bound must be run with
+     * <code>executeQuery</code> or <code>executeUpdate</code>; they can't be batched and their results are not cached.
+     *
+     * @param parameterName the parameter name
+     * @param values        the elements of the collection
+     * @throws SQLException if parameterName does not correspond to a parameter marker in the SQL statement or the
+     *                      parameter is not the only element of an <code>IN</code> list
+     */
+    void setList(final String parameterName, final Collection<?> values) throws SQLException;
+
     /**
      * {@link java.sql.PreparedStatement#setInt(int, int)}.
      *
@@ -576,4 +774,169 @@ public interface NamedPreparedStatement extends PreparedStatement {
      */
     @Deprecated
     void setUnicodeStream(final String parameterName, final InputStream value, final int length) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setBigDecimal(int, BigDecimal)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setBigDecimal(final ParameterHandle handle, final BigDecimal value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setBoolean(int, boolean)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setBoolean(final ParameterHandle handle, final boolean value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setByte(int, byte)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setByte(final ParameterHandle handle, final byte value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setBytes(int, byte[])}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setBytes(final ParameterHandle handle, final byte[] value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setDate(int, Date)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setDate(final ParameterHandle handle, final Date value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setDouble(int, double)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setDouble(final ParameterHandle handle, final double value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setFloat(int, float)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setFloat(final ParameterHandle handle, final float value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setInt(int, int)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setInt(final ParameterHandle handle, final int value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setLong(int, long)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setLong(final ParameterHandle handle, final long value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setNull(int, int)}.
+     *
+     * @param handle the parameter handle
+     * @param sqlType the SQL type code defined in <code>java.sql.Types</code>
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setNull(final ParameterHandle handle, final int sqlType) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setObject(int, Object)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setObject(final ParameterHandle handle, final Object value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setShort(int, short)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setShort(final ParameterHandle handle, final short value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setString(int, String)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setString(final ParameterHandle handle, final String value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setTime(int, Time)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setTime(final ParameterHandle handle, final Time value) throws SQLException;
+
+    /**
+     * {@link java.sql.PreparedStatement#setTimestamp(int, Timestamp)}.
+     *
+     * @param handle the parameter handle
+     * @param value  the parameter value
+     * @throws SQLException             if a database access error occurs or this method is called on a closed
+     *                                  PreparedStatement
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    void setTimestamp(final ParameterHandle handle, final Timestamp value) throws SQLException;
 }
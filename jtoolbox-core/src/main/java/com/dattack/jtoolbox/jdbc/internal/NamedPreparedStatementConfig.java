@@ -15,15 +15,21 @@
  */
 package com.dattack.jtoolbox.jdbc.internal;
 
+import com.dattack.jtoolbox.util.LruCache;
 import org.apache.commons.lang.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * A representation of a PreparedStatement using parameter-name instead of parameter-index. The parameter-name is
@@ -34,12 +40,189 @@ import java.util.Map;
  */
 public final class NamedPreparedStatementConfig {
 
-    private final transient Map<String, List<Integer>> parameterName2IndexMap;
+    private static final int DEFAULT_CACHE_SIZE = 512;
+
+    private static final LruCache<String, NamedPreparedStatementConfig> CACHE = new LruCache<>(DEFAULT_CACHE_SIZE);
+
+    private static final Pattern INSERT_PATTERN = Pattern.compile("\\s*INSERT\\s+INTO\\s", Pattern.CASE_INSENSITIVE);
+    private static final String VALUES_KEYWORD = "VALUES";
+
+    /**
+     * Maps every parameter name to its slot. It contains the normalized names and also the names exactly as they are
+     * written in the query, so the usual lookups don't need to normalize the name.
+     */
+    private final transient Map<String, Integer> parameterName2SlotMap;
+    private final transient String[] slotNames;
+    private final transient int[][] slotPositions;
+    private final transient ParameterHandle[] slotHandles;
+    private final transient int parameterCount;
     private final transient String compiledSql;
+    private final transient String sql;
+    private final transient String insertPrefix;
+    private final transient String insertRow;
+    private final transient int[] markerOffsets;
+    private final transient boolean[] inListSlots;
+    private final transient boolean[] notInListSlots;
+    private final transient boolean inListParameters;
 
     /* default */ NamedPreparedStatementConfig(final Builder builder) {
-        this.parameterName2IndexMap = builder.parameterName2IndexMap;
         this.compiledSql = builder.compiledSql;
+        this.sql = builder.sql;
+        this.parameterCount = builder.parameterIndex - 1;
+        this.markerOffsets = toArray(builder.markerOffsets);
+        this.parameterName2SlotMap = new HashMap<>();
+        this.slotNames = new String[builder.parameterName2IndexMap.size()];
+        this.slotPositions = new int[slotNames.length][];
+        this.slotHandles = new ParameterHandle[slotNames.length];
+
+        int slot = 0;
+        for (final Map.Entry<String, List<Integer>> entry : builder.parameterName2IndexMap.entrySet()) {
+            slotNames[slot] = entry.getKey();
+            slotPositions[slot] = toArray(entry.getValue());
+            slotHandles[slot] = new ParameterHandle(this, slot, slotPositions[slot]);
+            parameterName2SlotMap.put(entry.getKey(), slot);
+            slot++;
+        }
+        for (final String rawName : builder.rawNames) {
+            parameterName2SlotMap.putIfAbsent(rawName, parameterName2SlotMap.get(normalizeParameterName(rawName)));
+        }
+
+        final int[] row = parameterCount > 0 ? findInsertRow(compiledSql) : null;
+        this.insertPrefix = Objects.isNull(row) ? null : compiledSql.substring(0, row[0]);
+        this.insertRow = Objects.isNull(row) ? null : compiledSql.substring(row[0], row[1]);
+
+        this.inListSlots = new boolean[slotNames.length];
+        this.notInListSlots = new boolean[slotNames.length];
+        boolean anyInList = false;
+        for (int i = 0; i < inListSlots.length; i++) {
+            inListSlots[i] = isInListMarker(compiledSql, markerOffsets, slotPositions[i]);
+            notInListSlots[i] = inListSlots[i] && isNotInListMarker(compiledSql, markerOffsets, slotPositions[i]);
+            anyInList |= inListSlots[i];
+        }
+        this.inListParameters = anyInList;
+    }
+
+    /**
+     * Checks if all the markers of a parameter are the only element of an <code>IN (...)</code> list.
+     */
+    private static boolean isInListMarker(final String compiledSql, final int[] markerOffsets, final int[] positions) {
+        for (final int position : positions) {
+            final int offset = markerOffsets[position - 1];
+            final int next = skipWhitespace(compiledSql, offset + 1, 1);
+            int previous = skipWhitespace(compiledSql, offset - 1, -1);
+            if (next >= compiledSql.length() || compiledSql.charAt(next) != ')' || previous < 0
+                || compiledSql.charAt(previous) != '(')
+            {
+                return false;
+            }
+            previous = skipWhitespace(compiledSql, previous - 1, -1);
+            if (previous < 1 || !compiledSql.regionMatches(true, previous - 1, "IN", 0, 2)
+                || previous > 1 && Character.isJavaIdentifierPart(compiledSql.charAt(previous - 2)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if any marker of an <code>IN (...)</code> list parameter belongs to a <code>NOT IN (...)</code> list.
+     */
+    private static boolean isNotInListMarker(final String compiledSql, final int[] markerOffsets,
+        final int[] positions)
+    {
+        for (final int position : positions) {
+            final int parenthesis = skipWhitespace(compiledSql, markerOffsets[position - 1] - 1, -1);
+            final int in = skipWhitespace(compiledSql, parenthesis - 1, -1) - 1;
+            final int previous = skipWhitespace(compiledSql, in - 1, -1);
+            if (previous >= 2 && compiledSql.regionMatches(true, previous - 2, "NOT", 0, 3)
+                && (previous < 3 || !Character.isJavaIdentifierPart(compiledSql.charAt(previous - 3))))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(final String text, final int start, final int step) {
+        int index = start;
+        while (index >= 0 && index < text.length() && Character.isWhitespace(text.charAt(index))) {
+            index += step;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the row of values of a simple <code>INSERT INTO ... VALUES (...)</code> statement: a statement with a
+     * single row of values, no parameter markers out of it and no comments.
+     *
+     * @return the start and end of the row of values, or null when the statement is not a simple insert
+     */
+    @SuppressWarnings({"PMD.AvoidLiteralsInIfCondition", "PMD.CyclomaticComplexity", "PMD.NPathComplexity"})
+    private static int[] findInsertRow(final String compiledSql) {
+        if (!INSERT_PATTERN.matcher(compiledSql).lookingAt()) {
+            return null;
+        }
+
+        final int length = compiledSql.length();
+        boolean values = false;
+        int depth = 0;
+        int start = -1;
+        int end = -1;
+        for (int index = 0; index < length; index++) {
+            final char currentChar = compiledSql.charAt(index);
+            final char nextChar = index < length - 1 ? compiledSql.charAt(index + 1) : ' ';
+            if (currentChar == '\'' || currentChar == '"') {
+                index = compiledSql.indexOf(currentChar, index + 1); // NOPMD - skips the quoted text
+                if (index < 0) {
+                    return null;
+                }
+            } else if (currentChar == '-' && nextChar == '-' || currentChar == '/' && nextChar == '*') {
+                return null;
+            } else if (end >= 0) {
+                if (currentChar != ';' && !Character.isWhitespace(currentChar)) {
+                    return null; // another row or clause after the values
+                }
+            } else if (currentChar == '(') {
+                if (depth == 0 && values) {
+                    start = index;
+                }
+                depth++;
+            } else if (currentChar == ')') {
+                depth--;
+                if (depth == 0 && start >= 0) {
+                    end = index + 1;
+                }
+            } else if (currentChar == '?' && start < 0) {
+                return null;
+            } else if (depth == 0 && !values) {
+                if (isValuesKeyword(compiledSql, index)) {
+                    values = true;
+                    index += VALUES_KEYWORD.length() - 1; // NOPMD - skips the keyword
+                }
+            } else if (depth == 0 && !Character.isWhitespace(currentChar)) {
+                return null;
+            }
+        }
+        return end < 0 ? null : new int[] { start, end };
+    }
+
+    private static boolean isValuesKeyword(final String sql, final int index) {
+        if (!sql.regionMatches(true, index, VALUES_KEYWORD, 0, VALUES_KEYWORD.length())
+            || index > 0 && Character.isJavaIdentifierPart(sql.charAt(index - 1)))
+        {
+            return false;
+        }
+        final int next = index + VALUES_KEYWORD.length();
+        return next == sql.length() || !Character.isJavaIdentifierPart(sql.charAt(next));
+    }
+
+    private static int[] toArray(final List<Integer> list) {
+        final int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
     }
 
     /* default */ static String normalizeParameterName(final String parameterName) {
@@ -50,35 +233,271 @@ public final class NamedPreparedStatementConfig {
      * Parse the query string containing named parameter markers and result a parse result, which holds the parsed sql
      * (named
      * parameters replaced by standard '?' parameters and an ordered list of the named parameters.
+     * The parse results are immutable, so they are kept in a shared LRU cache keyed by the query text and the same
+     * instance is returned for repeated calls with the same query.
      *
      * @param query Query containing named parameters
      * @return ParseResult
      */
     public static NamedPreparedStatementConfig parse(final String query) {
-        return new Builder().withSql(query).build();
+        Objects.requireNonNull(query, "query must not be null");
+        return CACHE.computeIfAbsent(query, sql -> new Builder().withSql(sql).build());
+    }
+
+    /**
+     * Returns the statistics (hits, misses, evictions) of the shared parse cache.
+     *
+     * @return the statistics of the parse cache
+     */
+    public static LruCache.Stats getCacheStats() {
+        return CACHE.getStats();
+    }
+
+    /**
+     * Changes the maximum number of parse results kept in the shared cache.
+     *
+     * @param maxSize the maximum number of cached queries
+     * @throws IllegalArgumentException if <code>maxSize</code> is not a positive number
+     */
+    public static void setCacheSize(final int maxSize) {
+        CACHE.setMaxSize(maxSize);
     }
 
     public String getCompiledSql() {
         return compiledSql;
     }
 
-    public Collection<Integer> getParameterIndexes(final String parameterName) {
+    /**
+     * Returns the compiled SQL with the parameter markers of some parameters replaced by other SQL fragments, such as
+     * the markers of the elements of a list.
+     *
+     * @param fragments the fragment that replaces the markers of each slot, or null to keep its markers
+     * @return the compiled SQL with the fragments
+     * @see #getSlot(String)
+     */
+    public String getCompiledSql(final String[] fragments) {
+        final StringBuilder builder = new StringBuilder(compiledSql.length() * 2);
+        // the fragments are inserted in the order of the markers
+        final String[] byPosition = new String[parameterCount];
+        for (int slot = 0; slot < slotPositions.length; slot++) {
+            for (final int position : slotPositions[slot]) {
+                byPosition[position - 1] = fragments[slot];
+            }
+        }
+        int start = 0;
+        for (int i = 0; i < parameterCount; i++) {
+            if (Objects.nonNull(byPosition[i])) {
+                builder.append(compiledSql, start, markerOffsets[i]).append(byPosition[i]);
+                start = markerOffsets[i] + 1;
+            }
+        }
+        return builder.append(compiledSql, start, compiledSql.length()).toString();
+    }
 
-        final String normalizedName = normalizeParameterName(parameterName);
-        final List<Integer> indexes = parameterName2IndexMap.get(normalizedName);
+    /**
+     * Returns the compiled SQL of an insert of several rows, built by repeating the row of values of this simple
+     * insert. The parameter markers of each row follow those of the previous one, so the index of a marker of the row
+     * <code>r</code> (starting at 0) is its index in the compiled SQL plus <code>r * getParameterCount()</code>.
+     *
+     * @param rows the number of rows
+     * @return the compiled SQL of the multi-row insert
+     * @throws IllegalStateException    if this statement is not a simple insert
+     * @throws IllegalArgumentException if the number of rows is not positive
+     * @see #isSimpleInsert()
+     */
+    public String getMultiRowInsertSql(final int rows) {
+        if (!isSimpleInsert()) {
+            throw new IllegalStateException("Not a simple INSERT ... VALUES statement: " + sql);
+        }
+        if (rows <= 0) {
+            throw new IllegalArgumentException("Invalid number of rows: " + rows);
+        }
+        final StringBuilder builder = new StringBuilder(insertPrefix.length() + rows * (insertRow.length() + 2));
+        builder.append(insertPrefix).append(insertRow);
+        for (int i = 1; i < rows; i++) {
+            builder.append(", ").append(insertRow);
+        }
+        return builder.toString();
+    }
 
-        if (indexes.isEmpty()) {
-            throw new IllegalArgumentException(String.format("Parameter not found: '%s'", normalizedName));
+    /**
+     * Returns the handle of a parameter name. Handles are created once per configuration, so this method doesn't
+     * allocate.
+     *
+     * @param parameterName the parameter name
+     * @return the handle of the parameter
+     * @throws IllegalArgumentException if the query doesn't contain a parameter with the given name
+     */
+    public ParameterHandle getHandle(final String parameterName) {
+        return slotHandles[getSlot(parameterName)];
+    }
+
+    /**
+     * Returns the handle of the parameter assigned to a slot.
+     *
+     * @param slot the slot
+     * @return the handle of the parameter
+     */
+    /* default */ ParameterHandle getHandle(final int slot) {
+        return slotHandles[slot];
+    }
+
+    /**
+     * Returns the number of standard '?' parameter markers of the compiled SQL.
+     *
+     * @return the number of parameter markers
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Returns the indexes of the standard parameter markers that correspond to a parameter name.
+     *
+     * @param parameterName the parameter name
+     * @return an unmodifiable collection of indexes
+     * @throws IllegalArgumentException if the query doesn't contain a parameter with the given name
+     * @see #getParameterPositions(String)
+     */
+    public Collection<Integer> getParameterIndexes(final String parameterName) {
+
+        final int[] positions = getParameterPositions(parameterName);
+        final List<Integer> indexes = new ArrayList<>(positions.length);
+        for (final int position : positions) {
+            indexes.add(position);
         }
         return Collections.unmodifiableList(indexes);
     }
 
+    /**
+     * Returns the indexes of the standard parameter markers that correspond to a parameter name. The returned array
+     * is shared by all the callers and <b>must not be modified</b>.
+     *
+     * @param parameterName the parameter name
+     * @return the indexes of the parameter markers
+     * @throws IllegalArgumentException if the query doesn't contain a parameter with the given name
+     */
+    public int[] getParameterPositions(final String parameterName) {
+        return slotPositions[getSlot(parameterName)];
+    }
+
+    /**
+     * Returns the indexes of the standard parameter markers that correspond to a handle. The handle must have been
+     * obtained from this configuration or from another one with the same SQL text; the compiled SQL is not enough
+     * because it doesn't depend on the names of the parameters. The returned array is shared by all the callers and
+     * <b>must not be modified</b>.
+     *
+     * @param handle the parameter handle
+     * @return the indexes of the parameter markers
+     * @throws IllegalArgumentException if the handle belongs to a different SQL statement
+     */
+    public int[] getParameterPositions(final ParameterHandle handle) {
+        final NamedPreparedStatementConfig other = handle.getConfig();
+        if (other != this && !sql.equals(other.sql)) { //NOPMD - compared by reference is needed
+            throw new IllegalArgumentException(
+                String.format("Parameter handle '%s' belongs to a different statement", handle.getName()));
+        }
+        return handle.getPositions();
+    }
+
+    /**
+     * Returns the dense identifier (in range [0..number of distinct names)) assigned to a parameter name.
+     *
+     * @param parameterName the parameter name
+     * @return the slot of the parameter
+     * @throws IllegalArgumentException if the query doesn't contain a parameter with the given name
+     */
+    public int getSlot(final String parameterName) {
+
+        Integer slot = parameterName2SlotMap.get(parameterName);
+        if (slot == null) {
+            slot = parameterName2SlotMap.get(normalizeParameterName(parameterName));
+            if (slot == null) {
+                throw new IllegalArgumentException(String.format("Parameter not found: '%s'", parameterName));
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the normalized name of the parameter assigned to a slot.
+     *
+     * @param slot the slot
+     * @return the normalized parameter name
+     */
+    public String getSlotName(final int slot) {
+        return slotNames[slot];
+    }
+
+    /**
+     * Returns the number of distinct parameter names.
+     *
+     * @return the number of slots
+     */
+    public int getSlotCount() {
+        return slotNames.length;
+    }
+
+    /**
+     * Returns the SQL text, with the named parameters, that has been parsed.
+     *
+     * @return the original SQL text
+     */
+    public String getSql() {
+        return sql;
+    }
+
     public boolean hasNamedParameter(final String parameterName) {
-        return parameterName2IndexMap.containsKey(normalizeParameterName(parameterName));
+        return parameterName2SlotMap.containsKey(parameterName)
+            || parameterName2SlotMap.containsKey(normalizeParameterName(parameterName));
     }
 
     public boolean hasNamedParameters() {
-        return !parameterName2IndexMap.isEmpty();
+        return slotNames.length > 0;
+    }
+
+    /**
+     * Checks if any parameter is the only element of an <code>IN (...)</code> list, so a collection can be bound to it.
+     *
+     * @return true if the statement has list parameters
+     * @see #isInListParameter(int)
+     */
+    public boolean hasInListParameters() {
+        return inListParameters;
+    }
+
+    /**
+     * Checks if all the occurrences of a parameter are the only element of an <code>IN (...)</code> list, such as
+     * <code>id IN (:ids)</code>.
+     *
+     * @param slot the slot of the parameter
+     * @return true if a collection can be bound to the parameter
+     */
+    public boolean isInListParameter(final int slot) {
+        return inListSlots[slot];
+    }
+
+    /**
+     * Checks if any occurrence of a list parameter is the only element of a <code>NOT IN (...)</code> list, such as
+     * <code>id NOT IN (:ids)</code>.
+     *
+     * @param slot the slot of the parameter
+     * @return true if the parameter is negated
+     * @see #isInListParameter(int)
+     */
+    public boolean isNotInListParameter(final int slot) {
+        return notInListSlots[slot];
+    }
+
+    /**
+     * Checks if the statement is an <code>INSERT INTO ... VALUES (...)</code> of a single row with parameters, and
+     * without comments or clauses after the values, so it can be rewritten into a multi-row insert.
+     *
+     * @return true if the statement is a simple insert
+     * @see #getMultiRowInsertSql(int)
+     */
+    public boolean isSimpleInsert() {
+        return Objects.nonNull(insertRow);
     }
 
     /**
@@ -87,12 +506,17 @@ public final class NamedPreparedStatementConfig {
     /* default */ static class Builder {
 
         private final transient Map<String, List<Integer>> parameterName2IndexMap;
+        private final transient Set<String> rawNames;
+        private final transient List<Integer> markerOffsets;
         private transient int parameterIndex;
         private transient String compiledSql;
+        private transient String sql;
 
         /* default */ Builder() {
             this.parameterIndex = 1;
-            this.parameterName2IndexMap = new HashMap<>();
+            this.parameterName2IndexMap = new LinkedHashMap<>();
+            this.rawNames = new HashSet<>();
+            this.markerOffsets = new ArrayList<>();
         }
 
         public NamedPreparedStatementConfig build() {
@@ -110,6 +534,7 @@ public final class NamedPreparedStatementConfig {
         @SuppressWarnings({"PMD.AvoidLiteralsInIfCondition", "PMD.CyclomaticComplexity"})
         public Builder withSql(final String query) {
 
+            this.sql = query;
             final int length = query.length();
             boolean inSingleQuote = false;
             boolean inDoubleQuote = false;
@@ -158,6 +583,7 @@ public final class NamedPreparedStatementConfig {
                         }
                         final String name = query.substring(index + 1, skipCharacters);
                         addParameter(name);
+                        markerOffsets.add(compiledSql.length());
                         currentChar = '?';
                         index += name.length();
                     }
@@ -171,6 +597,7 @@ public final class NamedPreparedStatementConfig {
         }
 
         private void addParameter(final String parameterName) {
+            rawNames.add(parameterName);
             final String normalizedName = normalizeParameterName(parameterName);
             final List<Integer> list = parameterName2IndexMap.computeIfAbsent(normalizedName, k -> new ArrayList<>());
             list.add(parameterIndex++);
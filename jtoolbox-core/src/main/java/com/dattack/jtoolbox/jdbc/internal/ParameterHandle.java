@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+/**
+ * A parameter name already resolved against a {@link NamedPreparedStatementConfig}. A handle avoids the name lookup
+ * made by every <code>setXxx(String, ...)</code> call and can be reused by all the statements that share the same SQL.
+ *
+ * @author cvarela
+ * @see NamedPreparedStatement#handle(String)
+ * @since 0.7
+ */
+public final class ParameterHandle {
+
+    private final transient NamedPreparedStatementConfig config;
+    private final transient int slot;
+    private final transient int[] positions;
+
+    /* default */ ParameterHandle(final NamedPreparedStatementConfig config, final int slot, final int[] positions) {
+        this.config = config;
+        this.slot = slot;
+        this.positions = positions;
+    }
+
+    public NamedPreparedStatementConfig getConfig() {
+        return config;
+    }
+
+    public String getName() {
+        return config.getSlotName(slot);
+    }
+
+    /* default */ int[] getPositions() {
+        return positions;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public String toString() {
+        return "ParameterHandle[" + getName() + "]";
+    }
+}
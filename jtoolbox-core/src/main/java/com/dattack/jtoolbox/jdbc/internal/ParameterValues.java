@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * The values bound to the named parameters of a {@link NamedPreparedStatement}, indexed by the slot of the parameter
+ * name. Only the last value bound to each parameter is kept.
+ *
+ * @author cvarela
+ * @see NamedPreparedStatementConfig#getSlot(String)
+ * @since 0.7
+ */
+public final class ParameterValues {
+
+    private static final Object UNSET = new Object();
+    private static final int DEFAULT_VALUE_SIZE = 16;
+
+    private final transient Object[] values;
+    private final transient int[] nullTypes;
+    private transient boolean indexBound;
+
+    public ParameterValues(final int slotCount) {
+        this.values = new Object[slotCount];
+        this.nullTypes = new int[slotCount];
+        clear();
+    }
+
+    /**
+     * Binds a value kept by this class to a parameter marker of a statement.
+     *
+     * @param statement the statement
+     * @param index     the index of the parameter marker
+     * @param value     the value
+     * @param nullType  the SQL type of a null value, as defined in {@link Types}
+     * @throws SQLException if a database access error occurs
+     */
+    public static void bind(final PreparedStatement statement, final int index, final Object value,
+        final int nullType) throws SQLException
+    {
+        if (Objects.isNull(value)) {
+            statement.setNull(index, nullType);
+        } else if (value instanceof InputStream) {
+            statement.setBinaryStream(index, (InputStream) value);
+        } else if (value instanceof Reader) {
+            statement.setCharacterStream(index, (Reader) value);
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    /**
+     * Binds the value of a slot to a parameter marker of a statement.
+     *
+     * @param slot      the slot of the parameter
+     * @param statement the statement
+     * @param index     the index of the parameter marker
+     * @throws SQLException if the slot has no value or a database access error occurs
+     */
+    public void bind(final int slot, final PreparedStatement statement, final int index) throws SQLException {
+        if (!isSet(slot)) {
+            throw new SQLException("No value bound to the parameter of slot " + slot);
+        }
+        bind(statement, index, get(slot), nullTypes[slot]);
+    }
+
+    /**
+     * Forgets the values bound so far.
+     */
+    public void clear() {
+        Arrays.fill(values, UNSET);
+        Arrays.fill(nullTypes, Types.NULL);
+        indexBound = false;
+    }
+
+    /**
+     * Estimates the memory needed to send the values bound so far.
+     *
+     * @return the estimated size, in bytes
+     */
+    public long estimateSize() {
+        long size = 0;
+        for (final Object value : values) {
+            size += estimateSize(value);
+        }
+        return size;
+    }
+
+    private static long estimateSize(final Object value) {
+        if (value == UNSET || Objects.isNull(value)) { // NOPMD - the marker is compared by reference
+            return 1;
+        }
+        if (value instanceof CharSequence) {
+            return 2L * ((CharSequence) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Date) {
+            return Long.BYTES;
+        }
+        return DEFAULT_VALUE_SIZE;
+    }
+
+    /**
+     * Returns the value bound to a slot.
+     *
+     * @param slot the slot of the parameter
+     * @return the value, which can be null
+     * @see #isSet(int)
+     */
+    public Object get(final int slot) {
+        final Object value = values[slot];
+        return value == UNSET ? null : value; // NOPMD - the marker is compared by reference
+    }
+
+    /**
+     * Returns the SQL type of a null value bound with <code>setNull</code>.
+     *
+     * @param slot the slot of the parameter
+     * @return the SQL type code defined in {@link Types}, or {@link Types#NULL} when it is not known
+     */
+    public int getNullType(final int slot) {
+        return nullTypes[slot];
+    }
+
+    /**
+     * Returns whether a value has been bound through the index of a parameter marker since the last
+     * {@link #clear()}. Those values are not kept, so the values of this object don't describe the execution.
+     *
+     * @return true when a value has been bound by index
+     */
+    public boolean isIndexBound() {
+        return indexBound;
+    }
+
+    public boolean isSet(final int slot) {
+        return values[slot] != UNSET; // NOPMD - the marker is compared by reference
+    }
+
+    public void set(final int slot, final Object value) {
+        values[slot] = value;
+        nullTypes[slot] = Types.NULL;
+    }
+
+    /**
+     * Notes that a value has been bound through the index of a parameter marker.
+     *
+     * @see #isIndexBound()
+     */
+    public void setIndexBound() {
+        indexBound = true;
+    }
+
+    /**
+     * Keeps a null value bound to a slot along with its SQL type.
+     *
+     * @param slot    the slot of the parameter
+     * @param sqlType the SQL type code defined in {@link Types}
+     */
+    public void setNull(final int slot, final int sqlType) {
+        values[slot] = null;
+        nullTypes[slot] = sqlType;
+    }
+
+    public int size() {
+        return values.length;
+    }
+}
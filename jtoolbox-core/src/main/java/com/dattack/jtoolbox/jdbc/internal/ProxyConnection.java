@@ -16,6 +16,8 @@
 package com.dattack.jtoolbox.jdbc.internal;
 
 import com.dattack.jtoolbox.jdbc.JdbcObjectProxy;
+import com.dattack.jtoolbox.jdbc.internal.generic.GenericDialect;
+import com.dattack.jtoolbox.util.LruCache;
 
 import java.sql.Array;
 import java.sql.Blob;
@@ -25,11 +27,13 @@ import java.sql.DatabaseMetaData;
 import java.sql.NClob;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Struct;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 
@@ -134,6 +138,115 @@ public interface ProxyConnection extends ExtendedConnection, JdbcObjectProxy<Con
         getDelegate().setClientInfo(name, value);
     }
 
+    @Override
+    default JdbcDialect getDialect() {
+        if (getDelegate() instanceof ExtendedConnection) {
+            return ((ExtendedConnection) getDelegate()).getDialect();
+        }
+        return GenericDialect.INSTANCE;
+    }
+
+    @Override
+    default int getImplicitStatementCacheSize() throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            return ((ExtendedConnection) getDelegate()).getImplicitStatementCacheSize();
+        }
+        return 0;
+    }
+
+    @Override
+    default void setImplicitStatementCacheSize(final int size) throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            ((ExtendedConnection) getDelegate()).setImplicitStatementCacheSize(size);
+        }
+    }
+
+    @Override
+    default FetchSizeAdvisor getFetchSizeAdvisor() throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            return ((ExtendedConnection) getDelegate()).getFetchSizeAdvisor();
+        }
+        return null;
+    }
+
+    @Override
+    default void setFetchSizeAdvisor(final FetchSizeAdvisor advisor) throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            ((ExtendedConnection) getDelegate()).setFetchSizeAdvisor(advisor);
+        } else if (Objects.nonNull(advisor)) {
+            throw new SQLFeatureNotSupportedException(
+                "Fetch-size advisor not supported by " + getDelegate().getClass());
+        }
+    }
+
+    @Override
+    default JdbcMetrics getMetrics() throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            return ((ExtendedConnection) getDelegate()).getMetrics();
+        }
+        return null;
+    }
+
+    @Override
+    default void setMetrics(final JdbcMetrics metrics) throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            ((ExtendedConnection) getDelegate()).setMetrics(metrics);
+        } else if (Objects.nonNull(metrics)) {
+            throw new SQLFeatureNotSupportedException("Metrics not supported by " + getDelegate().getClass());
+        }
+    }
+
+    @Override
+    default Executor getAsyncExecutor() throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            return ((ExtendedConnection) getDelegate()).getAsyncExecutor();
+        }
+        return null;
+    }
+
+    @Override
+    default void setAsyncExecutor(final Executor executor) throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            ((ExtendedConnection) getDelegate()).setAsyncExecutor(executor);
+        } else if (Objects.nonNull(executor)) {
+            throw new SQLFeatureNotSupportedException("Async executor not supported by " + getDelegate().getClass());
+        }
+    }
+
+    @Override
+    default ResultCache getResultCache() throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            return ((ExtendedConnection) getDelegate()).getResultCache();
+        }
+        return null;
+    }
+
+    @Override
+    default void setResultCache(final ResultCache resultCache) throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            ((ExtendedConnection) getDelegate()).setResultCache(resultCache);
+        } else if (Objects.nonNull(resultCache)) {
+            throw new SQLFeatureNotSupportedException("Result cache not supported by " + getDelegate().getClass());
+        }
+    }
+
+    @Override
+    default SlowQueryLog getSlowQueryLog() throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            return ((ExtendedConnection) getDelegate()).getSlowQueryLog();
+        }
+        return null;
+    }
+
+    @Override
+    default void setSlowQueryLog(final SlowQueryLog slowQueryLog) throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            ((ExtendedConnection) getDelegate()).setSlowQueryLog(slowQueryLog);
+        } else if (Objects.nonNull(slowQueryLog)) {
+            throw new SQLFeatureNotSupportedException("Slow query log not supported by " + getDelegate().getClass());
+        }
+    }
+
     @Override
     default int getHoldability() throws SQLException {
         return getDelegate().getHoldability();
@@ -144,6 +257,31 @@ public interface ProxyConnection extends ExtendedConnection, JdbcObjectProxy<Con
         getDelegate().setHoldability(holdability);
     }
 
+    @Override
+    default int getStatementCacheSize() throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            return ((ExtendedConnection) getDelegate()).getStatementCacheSize();
+        }
+        return 0;
+    }
+
+    @Override
+    default LruCache.Stats getStatementCacheStats() throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            return ((ExtendedConnection) getDelegate()).getStatementCacheStats();
+        }
+        return new LruCache.Stats(0, 0, 0, 0);
+    }
+
+    @Override
+    default void setStatementCacheSize(final int size) throws SQLException {
+        if (getDelegate() instanceof ExtendedConnection) {
+            ((ExtendedConnection) getDelegate()).setStatementCacheSize(size);
+        } else if (size > 0) {
+            throw new SQLFeatureNotSupportedException("Statement cache not supported by " + getDelegate().getClass());
+        }
+    }
+
     @Override
     default DatabaseMetaData getMetaData() throws SQLException {
         return getDelegate().getMetaData();
@@ -15,30 +15,30 @@
  */
 package com.dattack.jtoolbox.jdbc.internal;
 
-import com.dattack.jtoolbox.jdbc.internal.generic.GenericProxyConnection;
-import com.dattack.jtoolbox.jdbc.internal.oracle.OracleProxyConnection;
-import org.apache.commons.lang.StringUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Objects;
 
 /**
- * Factory used to instantiate concrete {@link ProxyConnection} objects.
+ * Factory used to instantiate concrete {@link ProxyConnection} objects. The kind of proxy is determined by the
+ * {@link JdbcDialect} of the connection.
  *
  * @author cvarela
  * @since 0.6
  */
 public final class ProxyConnectionFactory {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ProxyConnectionFactory.class);
-
     private ProxyConnectionFactory() {
         // static class
     }
 
+    /**
+     * Wraps the given connection, resolving its dialect from the connection metadata.
+     *
+     * @param connection the connection to wrap
+     * @return the proxy connection
+     * @throws SQLException if a database access error occurs
+     */
     @SuppressWarnings("PMD.CloseResource")
     public static ProxyConnection build(final Connection connection) throws SQLException {
 
@@ -46,24 +46,35 @@ public final class ProxyConnectionFactory {
 
         ProxyConnection proxy = tryCast(connection);
         if (proxy == null) {
-            proxy = createProxy(connection);
+            proxy = DialectRegistry.resolve(connection).wrap(connection);
         }
         return proxy;
     }
 
-    private static ProxyConnection tryCast(final Connection connection) {
-        return connection instanceof ProxyConnection ? (ProxyConnection) connection : null;
-    }
+    /**
+     * Wraps the given connection using the dialect memoised by the resolver, so the connection metadata is only
+     * inspected the first time.
+     *
+     * @param connection the connection to wrap
+     * @param resolver   the resolver of the dialect
+     * @return the proxy connection
+     * @throws SQLException if a database access error occurs
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public static ProxyConnection build(final Connection connection, final DialectResolver resolver)
+        throws SQLException
+    {
+
+        Objects.requireNonNull(connection, "connection must not be null");
 
-    private static ProxyConnection createProxy(final Connection connection) throws SQLException {
-        ProxyConnection proxy;
-        if (StringUtils.containsIgnoreCase(connection.getMetaData().getDriverName(), "Oracle")) {
-            LOGGER.trace("Creating an Oracle-proxy for connection {}", connection.getMetaData().getURL());
-            proxy = OracleProxyConnection.build(connection);
-        } else {
-            LOGGER.trace("Creating an Generic-proxy for connection {}", connection.getMetaData().getURL());
-            proxy = GenericProxyConnection.build(connection);
+        ProxyConnection proxy = tryCast(connection);
+        if (proxy == null) {
+            proxy = resolver.resolve(connection).wrap(connection);
         }
         return proxy;
     }
+
+    private static ProxyConnection tryCast(final Connection connection) {
+        return connection instanceof ProxyConnection ? (ProxyConnection) connection : null;
+    }
 }
@@ -26,12 +26,17 @@ import java.sql.Date;
 import java.sql.NClob;
 import java.sql.PreparedStatement;
 import java.sql.Ref;
+import java.sql.ResultSet;
 import java.sql.RowId;
 import java.sql.SQLException;
+import java.sql.SQLType;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface defines and provides a default implementation of a proxy to the interface
@@ -46,6 +51,148 @@ public interface ProxyNamedPreparedStatement extends NamedPreparedStatement, Pro
 
     NamedPreparedStatementConfig getNamedPreparedStatementConfig();
 
+    /**
+     * Returns the values bound to the named parameters. They are only kept when the connection has a
+     * {@link SlowQueryLog}, so the slow executions can be logged along with their parameters.
+     *
+     * @return the bound values or null when they are not kept
+     */
+    default ParameterValues getParameterValues() {
+        return null;
+    }
+
+    /**
+     * Keeps the value bound to a named parameter, when the statement keeps the bound values.
+     *
+     * @param parameterName the parameter name
+     * @param value         the value bound
+     */
+    default void recordValue(final String parameterName, final Object value) {
+        final ParameterValues values = getParameterValues();
+        if (Objects.nonNull(values)) {
+            values.set(getNamedPreparedStatementConfig().getSlot(parameterName), value);
+        }
+    }
+
+    /**
+     * Keeps the value bound to a named parameter, when the statement keeps the bound values. The setters of primitive
+     * values check {@link #getParameterValues()} before calling this method, so the value is only boxed when it is
+     * kept.
+     *
+     * @param handle the parameter handle
+     * @param value  the value bound
+     */
+    default void recordValue(final ParameterHandle handle, final Object value) {
+        final ParameterValues values = getParameterValues();
+        if (Objects.nonNull(values)) {
+            values.set(handle.getSlot(), value);
+        }
+    }
+
+    /**
+     * Keeps a null value bound to a named parameter, along with its SQL type, when the statement keeps the bound
+     * values.
+     *
+     * @param parameterName the parameter name
+     * @param sqlType       the SQL type code defined in <code>java.sql.Types</code>
+     */
+    default void recordNull(final String parameterName, final int sqlType) {
+        final ParameterValues values = getParameterValues();
+        if (Objects.nonNull(values)) {
+            values.setNull(getNamedPreparedStatementConfig().getSlot(parameterName), sqlType);
+        }
+    }
+
+    /**
+     * Keeps a null value bound to a named parameter, along with its SQL type, when the statement keeps the bound
+     * values.
+     *
+     * @param handle  the parameter handle
+     * @param sqlType the SQL type code defined in <code>java.sql.Types</code>
+     */
+    default void recordNull(final ParameterHandle handle, final int sqlType) {
+        final ParameterValues values = getParameterValues();
+        if (Objects.nonNull(values)) {
+            values.setNull(handle.getSlot(), sqlType);
+        }
+    }
+
+    /**
+     * Notes that a value has been bound through the index of a parameter marker. Those values are not kept, so the
+     * statement is not cached, nor rewritten with the kept values, until its parameters are cleared.
+     */
+    default void recordIndexValue() {
+        final ParameterValues values = getParameterValues();
+        if (Objects.nonNull(values)) {
+            values.setIndexBound();
+        }
+    }
+
+    @Override
+    default void addBatch(final Map<String, ?> values) throws SQLException {
+        BeanBinder.bindValues(this, getNamedPreparedStatementConfig(), values, true);
+        addBatch();
+    }
+
+    @Override
+    default void addBatch(final Iterable<? extends Map<String, ?>> rows) throws SQLException {
+        for (final Map<String, ?> row : rows) {
+            addBatch(row);
+        }
+    }
+
+    @Override
+    default void addBeanBatch(final Object bean) throws SQLException {
+        BeanBinder.of(bean.getClass()).bind(this, getNamedPreparedStatementConfig(), bean, true);
+        addBatch();
+    }
+
+    @Override
+    default void addBeanBatch(final Iterable<?> beans) throws SQLException {
+        for (final Object bean : beans) {
+            addBeanBatch(bean);
+        }
+    }
+
+    @Override
+    default CompletableFuture<ResultSet> executeQueryAsync() throws SQLException {
+        return AsyncExecution.submit(this, AsyncExecution.executorOf(this), this::executeQuery);
+    }
+
+    @Override
+    default CompletableFuture<Integer> executeUpdateAsync() throws SQLException {
+        return AsyncExecution.submit(this, AsyncExecution.executorOf(this), this::executeUpdate);
+    }
+
+    @Override
+    default void setBeanParameters(final Object bean) throws SQLException {
+        BeanBinder.of(bean.getClass()).bind(this, getNamedPreparedStatementConfig(), bean, false);
+    }
+
+    @Override
+    default void setParameters(final Map<String, ?> values) throws SQLException {
+        BeanBinder.bindValues(this, getNamedPreparedStatementConfig(), values, false);
+    }
+
+    @Override
+    default void clearParameters() throws SQLException {
+        getDelegate().clearParameters();
+        final ParameterValues values = getParameterValues();
+        if (Objects.nonNull(values)) {
+            values.clear();
+        }
+    }
+
+    @Override
+    default boolean isMultiRowInsert() {
+        return false;
+    }
+
+    @Override
+    default void setMultiRowInsert(final boolean enabled) throws SQLException {
+        // the batches are not rewritten by default
+    }
+
     @Override
     default boolean hasNamedParameter(final String parameter) {
         return getNamedPreparedStatementConfig().hasNamedParameter(parameter);
@@ -56,44 +203,58 @@ public interface ProxyNamedPreparedStatement extends NamedPreparedStatement, Pro
         return getNamedPreparedStatementConfig().hasNamedParameters();
     }
 
+    @Override
+    default ParameterHandle handle(final String parameterName) throws SQLException {
+        try {
+            return getNamedPreparedStatementConfig().getHandle(parameterName);
+        } catch (final IllegalArgumentException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+
     @Override
     default void setArray(final String parameterName, final Array value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setArray(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setAsciiStream(final String parameterName, final InputStream value) throws SQLException {
 
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setAsciiStream(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setAsciiStream(final String parameterName, final InputStream value,
             final int length) throws SQLException
     {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setAsciiStream(i, value, length);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setAsciiStream(final String parameterName, final InputStream value,
             final long length) throws SQLException
     {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setAsciiStream(index, value, length);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setBigDecimal(final String parameterName, final BigDecimal value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setBigDecimal(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
@@ -101,113 +262,122 @@ public interface ProxyNamedPreparedStatement extends NamedPreparedStatement, Pro
             final int length) throws SQLException
     {
 
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setBinaryStream(i, value, length);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setBinaryStream(final String parameterName, final InputStream value,
             final long length) throws SQLException
     {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setBinaryStream(index, value, length);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setBinaryStream(final String parameterName, final InputStream value) throws SQLException {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setBinaryStream(index, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setBlob(final String parameterName, final Blob value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setBlob(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setBlob(final String parameterName, final InputStream value, final long length) throws SQLException {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setBlob(index, value, length);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setBlob(final String parameterName, final InputStream value) throws SQLException {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setBlob(index, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setBoolean(final String parameterName, final boolean value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
-            getDelegate().setBoolean(i, value);
-        }
+        setBoolean(getNamedPreparedStatementConfig().getHandle(parameterName), value);
     }
 
     @Override
     default void setByte(final String parameterName, final byte value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
-            getDelegate().setByte(i, value);
-        }
+        setByte(getNamedPreparedStatementConfig().getHandle(parameterName), value);
     }
 
     @Override
     default void setBytes(final String parameterName, final byte[] value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setBytes(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setCharacterStream(final String parameterName, final Reader value,
             final int length) throws SQLException
     {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setCharacterStream(i, value, length);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setCharacterStream(final String parameterName, final Reader value,
             final long length) throws SQLException
     {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setCharacterStream(index, value, length);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setCharacterStream(final String parameterName, final Reader value) throws SQLException {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setCharacterStream(index, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setClob(final String parameterName, final Clob value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setClob(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setClob(final String parameterName, final Reader value, final long length) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setClob(i, value, length);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setClob(final String parameterName, final Reader value) throws SQLException {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setClob(index, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
@@ -220,199 +390,211 @@ public interface ProxyNamedPreparedStatement extends NamedPreparedStatement, Pro
 
     @Override
     default void setDate(final String parameterName, final Date value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setDate(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setDate(final String parameterName, final Date value, final Calendar cal) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setDate(i, value, cal);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setDouble(final String parameterName, final double value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
-            getDelegate().setDouble(i, value);
-        }
+        setDouble(getNamedPreparedStatementConfig().getHandle(parameterName), value);
     }
 
     @Override
     default void setFloat(final String parameterName, final float value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
-            getDelegate().setFloat(i, value);
-        }
+        setFloat(getNamedPreparedStatementConfig().getHandle(parameterName), value);
     }
 
     @Override
     default void setInt(final String parameterName, final int value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
-            getDelegate().setInt(i, value);
-        }
+        setInt(getNamedPreparedStatementConfig().getHandle(parameterName), value);
     }
 
     @Override
     default void setLong(final String parameterName, final long value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
-            getDelegate().setLong(i, value);
-        }
+        setLong(getNamedPreparedStatementConfig().getHandle(parameterName), value);
     }
 
     @Override
     default void setNCharacterStream(final String parameterName, final Reader value,
             final long length) throws SQLException
     {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setNCharacterStream(i, value, length);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setNCharacterStream(final String parameterName, final Reader value) throws SQLException {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setNCharacterStream(index, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setNClob(final String parameterName, final NClob value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setNClob(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setNClob(final String parameterName, final Reader value, final long length) throws SQLException {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setNClob(index, value, length);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setNClob(final String parameterName, final Reader value) throws SQLException {
-        for (final Integer index : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int index : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setNClob(index, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setNString(final String parameterName, final String value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setNString(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setNull(final String parameterName, final int sqlType) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setNull(i, sqlType);
         }
+        recordNull(parameterName, sqlType);
     }
 
     @Override
     default void setNull(final String parameterName, final int value, final String typeName) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setNull(i, value, typeName);
         }
+        recordNull(parameterName, value);
     }
 
     @Override
     default void setObject(final String parameterName, final Object value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setObject(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setObject(final String parameterName, final Object value,
             final int targetSqlType) throws SQLException
     {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setObject(i, value, targetSqlType);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setObject(final String parameterName, final Object value, final int targetSqlType,
             final int scaleOrLength) throws SQLException
     {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setObject(i, value, targetSqlType, scaleOrLength);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setRef(final String parameterName, final Ref value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setRef(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setRowId(final String parameterName, final RowId value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setRowId(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setSQLXML(final String parameterName, final SQLXML value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setSQLXML(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setShort(final String parameterName, final short value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
-            getDelegate().setShort(i, value);
-        }
+        setShort(getNamedPreparedStatementConfig().getHandle(parameterName), value);
     }
 
     @Override
     default void setString(final String parameterName, final String value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setString(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setTime(final String parameterName, final Time value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setTime(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setTime(final String parameterName, final Time value, final Calendar cal) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setTime(i, value, cal);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setTimestamp(final String parameterName, final Timestamp value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setTimestamp(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setTimestamp(final String parameterName, final Timestamp value,
             final Calendar cal) throws SQLException
     {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setTimestamp(i, value, cal);
         }
+        recordValue(parameterName, value);
     }
 
     @Override
     default void setURL(final String parameterName, final URL value) throws SQLException {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setURL(i, value);
         }
+        recordValue(parameterName, value);
     }
 
     @Deprecated
@@ -420,8 +602,456 @@ public interface ProxyNamedPreparedStatement extends NamedPreparedStatement, Pro
     default void setUnicodeStream(final String parameterName, final InputStream value,
             final int length) throws SQLException
     {
-        for (final Integer i : getNamedPreparedStatementConfig().getParameterIndexes(parameterName)) {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(parameterName)) {
             getDelegate().setUnicodeStream(i, value, length);
         }
+        recordValue(parameterName, value);
+    }
+
+    @Override
+    default void setBigDecimal(final ParameterHandle handle, final BigDecimal value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setBigDecimal(i, value);
+        }
+        recordValue(handle, value);
+    }
+
+    @Override
+    default void setBoolean(final ParameterHandle handle, final boolean value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setBoolean(i, value);
+        }
+        if (Objects.nonNull(getParameterValues())) {
+            recordValue(handle, value);
+        }
+    }
+
+    @Override
+    default void setByte(final ParameterHandle handle, final byte value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setByte(i, value);
+        }
+        if (Objects.nonNull(getParameterValues())) {
+            recordValue(handle, value);
+        }
+    }
+
+    @Override
+    default void setBytes(final ParameterHandle handle, final byte[] value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setBytes(i, value);
+        }
+        recordValue(handle, value);
+    }
+
+    @Override
+    default void setDate(final ParameterHandle handle, final Date value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setDate(i, value);
+        }
+        recordValue(handle, value);
+    }
+
+    @Override
+    default void setDouble(final ParameterHandle handle, final double value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setDouble(i, value);
+        }
+        if (Objects.nonNull(getParameterValues())) {
+            recordValue(handle, value);
+        }
+    }
+
+    @Override
+    default void setFloat(final ParameterHandle handle, final float value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setFloat(i, value);
+        }
+        if (Objects.nonNull(getParameterValues())) {
+            recordValue(handle, value);
+        }
+    }
+
+    @Override
+    default void setInt(final ParameterHandle handle, final int value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setInt(i, value);
+        }
+        if (Objects.nonNull(getParameterValues())) {
+            recordValue(handle, value);
+        }
+    }
+
+    @Override
+    default void setLong(final ParameterHandle handle, final long value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setLong(i, value);
+        }
+        if (Objects.nonNull(getParameterValues())) {
+            recordValue(handle, value);
+        }
+    }
+
+    @Override
+    default void setNull(final ParameterHandle handle, final int sqlType) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setNull(i, sqlType);
+        }
+        recordNull(handle, sqlType);
+    }
+
+    @Override
+    default void setObject(final ParameterHandle handle, final Object value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setObject(i, value);
+        }
+        recordValue(handle, value);
+    }
+
+    @Override
+    default void setShort(final ParameterHandle handle, final short value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setShort(i, value);
+        }
+        if (Objects.nonNull(getParameterValues())) {
+            recordValue(handle, value);
+        }
+    }
+
+    @Override
+    default void setString(final ParameterHandle handle, final String value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setString(i, value);
+        }
+        recordValue(handle, value);
+    }
+
+    @Override
+    default void setTime(final ParameterHandle handle, final Time value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setTime(i, value);
+        }
+        recordValue(handle, value);
+    }
+
+    @Override
+    default void setTimestamp(final ParameterHandle handle, final Timestamp value) throws SQLException {
+        for (final int i : getNamedPreparedStatementConfig().getParameterPositions(handle)) {
+            getDelegate().setTimestamp(i, value);
+        }
+        recordValue(handle, value);
+    }
+
+    @Override
+    default void setArray(final int parameterIndex, final Array x) throws SQLException {
+        getDelegate().setArray(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setAsciiStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+        getDelegate().setAsciiStream(parameterIndex, x, length);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setAsciiStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
+        getDelegate().setAsciiStream(parameterIndex, x, length);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setAsciiStream(final int parameterIndex, final InputStream x) throws SQLException {
+        getDelegate().setAsciiStream(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setBigDecimal(final int parameterIndex, final BigDecimal x) throws SQLException {
+        getDelegate().setBigDecimal(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setBinaryStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+        getDelegate().setBinaryStream(parameterIndex, x, length);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setBinaryStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
+        getDelegate().setBinaryStream(parameterIndex, x, length);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setBinaryStream(final int parameterIndex, final InputStream x) throws SQLException {
+        getDelegate().setBinaryStream(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setBlob(final int parameterIndex, final Blob x) throws SQLException {
+        getDelegate().setBlob(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setBlob(final int parameterIndex, final InputStream inputStream,
+            final long length) throws SQLException
+    {
+        getDelegate().setBlob(parameterIndex, inputStream, length);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setBlob(final int parameterIndex, final InputStream inputStream) throws SQLException {
+        getDelegate().setBlob(parameterIndex, inputStream);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setBoolean(final int parameterIndex, final boolean x) throws SQLException {
+        getDelegate().setBoolean(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setByte(final int parameterIndex, final byte x) throws SQLException {
+        getDelegate().setByte(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setBytes(final int parameterIndex, final byte[] x) throws SQLException {
+        getDelegate().setBytes(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setCharacterStream(final int parameterIndex, final Reader reader,
+            final int length) throws SQLException
+    {
+        getDelegate().setCharacterStream(parameterIndex, reader, length);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setCharacterStream(final int parameterIndex, final Reader reader,
+            final long length) throws SQLException
+    {
+        getDelegate().setCharacterStream(parameterIndex, reader, length);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setCharacterStream(final int parameterIndex, final Reader reader) throws SQLException {
+        getDelegate().setCharacterStream(parameterIndex, reader);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setClob(final int parameterIndex, final Clob x) throws SQLException {
+        getDelegate().setClob(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+        getDelegate().setClob(parameterIndex, reader, length);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setClob(final int parameterIndex, final Reader reader) throws SQLException {
+        getDelegate().setClob(parameterIndex, reader);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setDate(final int parameterIndex, final Date x) throws SQLException {
+        getDelegate().setDate(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setDate(final int parameterIndex, final Date x, final Calendar cal) throws SQLException {
+        getDelegate().setDate(parameterIndex, x, cal);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setDouble(final int parameterIndex, final double x) throws SQLException {
+        getDelegate().setDouble(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setFloat(final int parameterIndex, final float x) throws SQLException {
+        getDelegate().setFloat(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setInt(final int parameterIndex, final int x) throws SQLException {
+        getDelegate().setInt(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setLong(final int parameterIndex, final long x) throws SQLException {
+        getDelegate().setLong(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setNCharacterStream(final int parameterIndex, final Reader value,
+            final long length) throws SQLException
+    {
+        getDelegate().setNCharacterStream(parameterIndex, value, length);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setNCharacterStream(final int parameterIndex, final Reader value) throws SQLException {
+        getDelegate().setNCharacterStream(parameterIndex, value);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setNClob(final int parameterIndex, final NClob value) throws SQLException {
+        getDelegate().setNClob(parameterIndex, value);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setNClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+        getDelegate().setNClob(parameterIndex, reader, length);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setNClob(final int parameterIndex, final Reader reader) throws SQLException {
+        getDelegate().setNClob(parameterIndex, reader);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setNString(final int parameterIndex, final String value) throws SQLException {
+        getDelegate().setNString(parameterIndex, value);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setNull(final int parameterIndex, final int sqlType) throws SQLException {
+        getDelegate().setNull(parameterIndex, sqlType);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setNull(final int parameterIndex, final int sqlType, final String typeName) throws SQLException {
+        getDelegate().setNull(parameterIndex, sqlType, typeName);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setObject(final int parameterIndex, final Object x, final int targetSqlType) throws SQLException {
+        getDelegate().setObject(parameterIndex, x, targetSqlType);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setObject(final int parameterIndex, final Object x) throws SQLException {
+        getDelegate().setObject(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setObject(final int parameterIndex, final Object x, final int targetSqlType,
+            final int scaleOrLength) throws SQLException
+    {
+        getDelegate().setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setObject(final int parameterIndex, final Object x, final SQLType targetSqlType,
+            final int scaleOrLength) throws SQLException
+    {
+        getDelegate().setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setObject(final int parameterIndex, final Object x, final SQLType targetSqlType) throws SQLException {
+        getDelegate().setObject(parameterIndex, x, targetSqlType);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setRef(final int parameterIndex, final Ref x) throws SQLException {
+        getDelegate().setRef(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setRowId(final int parameterIndex, final RowId x) throws SQLException {
+        getDelegate().setRowId(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setSQLXML(final int parameterIndex, final SQLXML xmlObject) throws SQLException {
+        getDelegate().setSQLXML(parameterIndex, xmlObject);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setShort(final int parameterIndex, final short x) throws SQLException {
+        getDelegate().setShort(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setString(final int parameterIndex, final String x) throws SQLException {
+        getDelegate().setString(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setTime(final int parameterIndex, final Time x) throws SQLException {
+        getDelegate().setTime(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setTime(final int parameterIndex, final Time x, final Calendar cal) throws SQLException {
+        getDelegate().setTime(parameterIndex, x, cal);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setTimestamp(final int parameterIndex, final Timestamp x) throws SQLException {
+        getDelegate().setTimestamp(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setTimestamp(final int parameterIndex, final Timestamp x, final Calendar cal) throws SQLException {
+        getDelegate().setTimestamp(parameterIndex, x, cal);
+        recordIndexValue();
+    }
+
+    @Override
+    default void setURL(final int parameterIndex, final URL x) throws SQLException {
+        getDelegate().setURL(parameterIndex, x);
+        recordIndexValue();
+    }
+
+    @Deprecated
+    @Override
+    default void setUnicodeStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+        getDelegate().setUnicodeStream(parameterIndex, x, length);
+        recordIndexValue();
     }
 }
@@ -38,6 +38,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * This interface defines and provides a default implementation of a proxy to the standard JDBC interface
@@ -102,7 +103,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Array getArray(String columnLabel) throws SQLException {
-        return getDelegate().getArray(columnLabel);
+        return getDelegate().getArray(findColumn(columnLabel));
     }
 
     @Override
@@ -112,7 +113,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default InputStream getAsciiStream(String columnLabel) throws SQLException {
-        return getDelegate().getAsciiStream(columnLabel);
+        return getDelegate().getAsciiStream(findColumn(columnLabel));
     }
 
     @Deprecated
@@ -124,7 +125,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
     @Deprecated
     @Override
     default BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
-        return getDelegate().getBigDecimal(columnLabel, scale);
+        return getDelegate().getBigDecimal(findColumn(columnLabel), scale);
     }
 
     @Override
@@ -134,7 +135,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default BigDecimal getBigDecimal(String columnLabel) throws SQLException {
-        return getDelegate().getBigDecimal(columnLabel);
+        return getDelegate().getBigDecimal(findColumn(columnLabel));
     }
 
     @Override
@@ -144,7 +145,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default InputStream getBinaryStream(String columnLabel) throws SQLException {
-        return getDelegate().getBinaryStream(columnLabel);
+        return getDelegate().getBinaryStream(findColumn(columnLabel));
     }
 
     @Override
@@ -154,7 +155,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Blob getBlob(String columnLabel) throws SQLException {
-        return getDelegate().getBlob(columnLabel);
+        return getDelegate().getBlob(findColumn(columnLabel));
     }
 
     @Override
@@ -164,7 +165,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default boolean getBoolean(String columnLabel) throws SQLException {
-        return getDelegate().getBoolean(columnLabel);
+        return getDelegate().getBoolean(findColumn(columnLabel));
     }
 
     @Override
@@ -174,7 +175,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default byte getByte(String columnLabel) throws SQLException {
-        return getDelegate().getByte(columnLabel);
+        return getDelegate().getByte(findColumn(columnLabel));
     }
 
     @Override
@@ -184,7 +185,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default byte[] getBytes(String columnLabel) throws SQLException {
-        return getDelegate().getBytes(columnLabel);
+        return getDelegate().getBytes(findColumn(columnLabel));
     }
 
     @Override
@@ -194,7 +195,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Reader getCharacterStream(String columnLabel) throws SQLException {
-        return getDelegate().getCharacterStream(columnLabel);
+        return getDelegate().getCharacterStream(findColumn(columnLabel));
     }
 
     @Override
@@ -204,7 +205,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Clob getClob(String columnLabel) throws SQLException {
-        return getDelegate().getClob(columnLabel);
+        return getDelegate().getClob(findColumn(columnLabel));
     }
 
     @Override
@@ -224,7 +225,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Date getDate(String columnLabel) throws SQLException {
-        return getDelegate().getDate(columnLabel);
+        return getDelegate().getDate(findColumn(columnLabel));
     }
 
     @Override
@@ -234,7 +235,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Date getDate(String columnLabel, Calendar cal) throws SQLException {
-        return getDelegate().getDate(columnLabel, cal);
+        return getDelegate().getDate(findColumn(columnLabel), cal);
     }
 
     @Override
@@ -244,7 +245,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default double getDouble(String columnLabel) throws SQLException {
-        return getDelegate().getDouble(columnLabel);
+        return getDelegate().getDouble(findColumn(columnLabel));
     }
 
     @Override
@@ -274,7 +275,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default float getFloat(String columnLabel) throws SQLException {
-        return getDelegate().getFloat(columnLabel);
+        return getDelegate().getFloat(findColumn(columnLabel));
     }
 
     @Override
@@ -289,7 +290,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default int getInt(String columnLabel) throws SQLException {
-        return getDelegate().getInt(columnLabel);
+        return getDelegate().getInt(findColumn(columnLabel));
     }
 
     @Override
@@ -299,7 +300,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default long getLong(String columnLabel) throws SQLException {
-        return getDelegate().getLong(columnLabel);
+        return getDelegate().getLong(findColumn(columnLabel));
     }
 
     @Override
@@ -314,7 +315,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Reader getNCharacterStream(String columnLabel) throws SQLException {
-        return getDelegate().getNCharacterStream(columnLabel);
+        return getDelegate().getNCharacterStream(findColumn(columnLabel));
     }
 
     @Override
@@ -324,7 +325,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default NClob getNClob(String columnLabel) throws SQLException {
-        return getDelegate().getNClob(columnLabel);
+        return getDelegate().getNClob(findColumn(columnLabel));
     }
 
     @Override
@@ -334,7 +335,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default String getNString(String columnLabel) throws SQLException {
-        return getDelegate().getNString(columnLabel);
+        return getDelegate().getNString(findColumn(columnLabel));
     }
 
     @Override
@@ -344,7 +345,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Object getObject(String columnLabel) throws SQLException {
-        return getDelegate().getObject(columnLabel);
+        return getDelegate().getObject(findColumn(columnLabel));
     }
 
     @Override
@@ -354,7 +355,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
-        return getDelegate().getObject(columnLabel, map);
+        return getDelegate().getObject(findColumn(columnLabel), map);
     }
 
     @Override
@@ -364,7 +365,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
-        return getDelegate().getObject(columnLabel, type);
+        return getDelegate().getObject(findColumn(columnLabel), type);
     }
 
     @Override
@@ -374,7 +375,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Ref getRef(String columnLabel) throws SQLException {
-        return getDelegate().getRef(columnLabel);
+        return getDelegate().getRef(findColumn(columnLabel));
     }
 
     @Override
@@ -389,7 +390,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default RowId getRowId(String columnLabel) throws SQLException {
-        return getDelegate().getRowId(columnLabel);
+        return getDelegate().getRowId(findColumn(columnLabel));
     }
 
     @Override
@@ -399,7 +400,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default SQLXML getSQLXML(String columnLabel) throws SQLException {
-        return getDelegate().getSQLXML(columnLabel);
+        return getDelegate().getSQLXML(findColumn(columnLabel));
     }
 
     @Override
@@ -409,7 +410,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default short getShort(String columnLabel) throws SQLException {
-        return getDelegate().getShort(columnLabel);
+        return getDelegate().getShort(findColumn(columnLabel));
     }
 
     @Override
@@ -419,7 +420,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default String getString(String columnLabel) throws SQLException {
-        return getDelegate().getString(columnLabel);
+        return getDelegate().getString(findColumn(columnLabel));
     }
 
     @Override
@@ -429,7 +430,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Time getTime(String columnLabel) throws SQLException {
-        return getDelegate().getTime(columnLabel);
+        return getDelegate().getTime(findColumn(columnLabel));
     }
 
     @Override
@@ -439,7 +440,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Time getTime(String columnLabel, Calendar cal) throws SQLException {
-        return getDelegate().getTime(columnLabel, cal);
+        return getDelegate().getTime(findColumn(columnLabel), cal);
     }
 
     @Override
@@ -449,7 +450,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Timestamp getTimestamp(String columnLabel) throws SQLException {
-        return getDelegate().getTimestamp(columnLabel);
+        return getDelegate().getTimestamp(findColumn(columnLabel));
     }
 
     @Override
@@ -459,7 +460,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
-        return getDelegate().getTimestamp(columnLabel, cal);
+        return getDelegate().getTimestamp(findColumn(columnLabel), cal);
     }
 
     @Override
@@ -474,7 +475,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
 
     @Override
     default URL getURL(String columnLabel) throws SQLException {
-        return getDelegate().getURL(columnLabel);
+        return getDelegate().getURL(findColumn(columnLabel));
     }
 
     @Deprecated
@@ -486,7 +487,7 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
     @Deprecated
     @Override
     default InputStream getUnicodeStream(String columnLabel) throws SQLException {
-        return getDelegate().getUnicodeStream(columnLabel);
+        return getDelegate().getUnicodeStream(findColumn(columnLabel));
     }
 
     @Override
@@ -596,6 +597,32 @@ public interface ProxyResultSet extends ResultSet, JdbcObjectProxy<ResultSet> {
         return getDelegate().unwrap(iface);
     }
 
+    /**
+     * Returns a {@link java.util.Spliterator} over the remaining rows of this result set.
+     *
+     * @param factory the factory of the row mapper, called once with the metadata of this result set
+     * @param <T>     the type of the objects created from the rows
+     * @return the spliterator
+     * @throws SQLException if a database access error occurs
+     */
+    default <T> ResultSetSpliterator<T> spliterator(final RowMapperFactory<T> factory) throws SQLException {
+        return new ResultSetSpliterator<>(this, factory);
+    }
+
+    /**
+     * Returns a sequential stream over the remaining rows of this result set. Closing the stream closes this result
+     * set and its statement. The {@link java.sql.SQLException}s thrown while reading the rows are wrapped with
+     * {@link com.dattack.jtoolbox.jdbc.UncheckedSQLException}.
+     *
+     * @param factory the factory of the row mapper, called once with the metadata of this result set
+     * @param <T>     the type of the objects created from the rows
+     * @return the stream
+     * @throws SQLException if a database access error occurs
+     */
+    default <T> Stream<T> stream(final RowMapperFactory<T> factory) throws SQLException {
+        return ResultSetSpliterator.stream(this, factory);
+    }
+
     @Override
     default void updateArray(int columnIndex, Array x) throws SQLException {
         getDelegate().updateArray(columnIndex, x);
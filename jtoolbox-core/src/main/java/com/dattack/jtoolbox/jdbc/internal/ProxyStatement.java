@@ -17,6 +17,7 @@ package com.dattack.jtoolbox.jdbc.internal;
 
 import com.dattack.jtoolbox.jdbc.JdbcObjectProxy;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
@@ -169,7 +170,46 @@ public interface ProxyStatement<S extends Statement> extends Statement, Extended
     }
 
     @Override
-    default int getLobPrefetchSize() {
+    default void defineColumnType(final int columnIndex, final int type) throws SQLException {
+        if (getDelegate() instanceof ExtendedStatement) {
+            ((ExtendedStatement) getDelegate()).defineColumnType(columnIndex, type);
+        }
+    }
+
+    @Override
+    default void defineColumnType(final int columnIndex, final int type, final int maxSize) throws SQLException {
+        if (getDelegate() instanceof ExtendedStatement) {
+            ((ExtendedStatement) getDelegate()).defineColumnType(columnIndex, type, maxSize);
+        }
+    }
+
+    @Override
+    default void enableStreaming(final int fetchSize) throws SQLException {
+        final Connection connection = getConnection();
+        if (connection instanceof ExtendedConnection) {
+            ((ExtendedConnection) connection).getDialect().enableStreaming(this, fetchSize);
+        } else {
+            setFetchSize(fetchSize);
+        }
+    }
+
+    @Override
+    default int getExecuteBatch() throws SQLException {
+        if (getDelegate() instanceof ExtendedStatement) {
+            return ((ExtendedStatement) getDelegate()).getExecuteBatch();
+        }
+        return 1;
+    }
+
+    @Override
+    default void setExecuteBatch(final int value) throws SQLException {
+        if (getDelegate() instanceof ExtendedStatement) {
+            ((ExtendedStatement) getDelegate()).setExecuteBatch(value);
+        }
+    }
+
+    @Override
+    default int getLobPrefetchSize() throws SQLException {
         if (getDelegate() instanceof ProxyStatement) {
             return ((ProxyStatement<?>) getDelegate()).getLobPrefetchSize();
         }
@@ -177,12 +217,29 @@ public interface ProxyStatement<S extends Statement> extends Statement, Extended
     }
 
     @Override
-    default void setLobPrefetchSize(final int value) {
+    default void setLobPrefetchSize(final int value) throws SQLException {
         if (getDelegate() instanceof ProxyStatement) {
             ((ProxyStatement<?>) getDelegate()).setLobPrefetchSize(value);
         }
     }
 
+    @Override
+    default int getRowPrefetch() throws SQLException {
+        if (getDelegate() instanceof ExtendedStatement) {
+            return ((ExtendedStatement) getDelegate()).getRowPrefetch();
+        }
+        return getFetchSize();
+    }
+
+    @Override
+    default void setRowPrefetch(final int value) throws SQLException {
+        if (getDelegate() instanceof ExtendedStatement) {
+            ((ExtendedStatement) getDelegate()).setRowPrefetch(value);
+        } else {
+            setFetchSize(value);
+        }
+    }
+
     @Override
     default int getMaxFieldSize() throws SQLException {
         return getDelegate().getMaxFieldSize();
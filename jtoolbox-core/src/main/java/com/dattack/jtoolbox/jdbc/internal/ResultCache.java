@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.util.LruCache;
+import com.dattack.jtoolbox.util.function.ThrowingSupplier;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A client-side cache of the results of the named queries, keyed by the SQL text and the values bound to its
+ * parameters. Only the queries of the named statements marked as cacheable are cached, see
+ * {@link NamedPreparedStatement#setCacheable(boolean, String...)}; hits are served as a {@link CachedResultSet}
+ * without reaching the database.
+ *
+ * <p>The entries expire after a time-to-live, and the least recently used ones are evicted when the cache is
+ * full. The queries are tagged with the tables they read, so the results that depend on a table can be invalidated
+ * with {@link #invalidate(String)} after modifying it. The results are only cached when all the parameters have been
+ * bound through their names with values of immutable types (such as numbers, strings and dates).</p>
+ *
+ * <p>A cache is shared by all the connections of a DataSource, so the results are also keyed by the user and the
+ * schema of the connection, and the queries executed inside a transaction are neither cached nor served from the
+ * cache: they could read rows not committed yet, or rolled back later.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class ResultCache {
+
+    private final transient LruCache<Key, Entry> cache;
+    private final transient long ttlNanos;
+    private final transient ConcurrentMap<String, AtomicLong> tagVersions;
+    private final transient AtomicLong version;
+
+    /* default */ ResultCache(final ResultCacheBuilder builder) {
+        this.cache = new LruCache<>(builder.maxSize);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(builder.ttlMillis);
+        this.tagVersions = new ConcurrentHashMap<>();
+        this.version = new AtomicLong();
+    }
+
+    private static boolean isCacheable(final Object value) {
+        return Objects.isNull(value) || value instanceof String || value instanceof Number
+            || value instanceof Boolean || value instanceof Character || value instanceof java.util.Date
+            || value instanceof Temporal || value instanceof UUID || value instanceof Enum || value instanceof byte[];
+    }
+
+    /**
+     * Builds the key of the current execution of a statement.
+     *
+     * @return the key or null when the values bound can't be used as a key or a transaction is in progress
+     */
+    private static Key keyOf(final ProxyNamedPreparedStatement statement) throws SQLException {
+        final ParameterValues values = statement.getParameterValues();
+        if (Objects.isNull(values) || values.isIndexBound()) {
+            return null;
+        }
+        final Connection connection = statement.getConnection();
+        if (!connection.getAutoCommit()) {
+            return null;
+        }
+        final Object[] key = new Object[values.size()];
+        for (int i = 0; i < key.length; i++) {
+            final Object value = values.get(i);
+            if (!values.isSet(i) || !isCacheable(value)) {
+                return null;
+            }
+            // copy the mutable values, the caller can modify them once bound
+            if (value instanceof byte[]) {
+                key[i] = ((byte[]) value).clone();
+            } else if (value instanceof java.util.Date) {
+                key[i] = ((java.util.Date) value).clone();
+            } else {
+                key[i] = value;
+            }
+        }
+        return new Key(statement.getNamedPreparedStatementConfig().getSql(), connection.getMetaData().getUserName(),
+            connection.getSchema(), key);
+    }
+
+    private long[] versionsOf(final String... tags) {
+        final long[] versions = new long[tags.length + 1];
+        versions[0] = version.get();
+        for (int i = 0; i < tags.length; i++) {
+            versions[i + 1] = tagVersions.computeIfAbsent(tags[i], k -> new AtomicLong()).get();
+        }
+        return versions;
+    }
+
+    /**
+     * Executes a query of a named statement, unless its result is cached.
+     *
+     * @param statement the statement
+     * @param tags      the tags of the query
+     * @param query     the execution of the query
+     * @return the cached result set, or the result of the query when it can't be cached
+     * @throws SQLException if a database access error occurs
+     */
+    public ResultSet executeQuery(final ProxyNamedPreparedStatement statement, final String[] tags,
+        final ThrowingSupplier<ResultSet, SQLException> query) throws SQLException
+    {
+        final Key key = keyOf(statement);
+        if (Objects.isNull(key)) {
+            return query.get();
+        }
+
+        final Entry entry = cache.get(key);
+        final long now = System.nanoTime();
+        if (Objects.nonNull(entry)) {
+            if (now - entry.expiresAt < 0 && Arrays.equals(entry.versions, versionsOf(entry.tags))) {
+                return entry.resultSet.copy(statement);
+            }
+            cache.remove(key);
+        }
+
+        // the versions are taken before the execution, so an invalidation during the query discards its result
+        final long[] versions = versionsOf(tags);
+        final CachedResultSet resultSet;
+        try (ResultSet source = query.get()) {
+            resultSet = CachedResultSet.of(source, null);
+        }
+        cache.put(key, new Entry(resultSet, tags.clone(), versions, now + ttlNanos));
+        return resultSet.copy(statement);
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return the statistics
+     */
+    public LruCache.Stats getStats() {
+        return cache.getStats();
+    }
+
+    /**
+     * Invalidates the cached results of the queries tagged with the given tag.
+     *
+     * @param tag the tag, usually the name of a table that has been modified
+     */
+    public void invalidate(final String tag) {
+        final AtomicLong tagVersion = tagVersions.get(tag);
+        if (Objects.nonNull(tagVersion)) {
+            tagVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Invalidates all the cached results.
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * The key of a cached result: the named SQL text, the user and schema of the connection and the values of its
+     * parameters, by slot.
+     */
+    private static final class Key {
+
+        private final String sql;
+        private final String user;
+        private final String schema;
+        private final Object[] values;
+        private final int hash;
+
+        private Key(final String sql, final String user, final String schema, final Object... values) {
+            this.sql = sql;
+            this.user = user;
+            this.schema = schema;
+            this.values = values;
+            this.hash = 31 * Objects.hash(sql, user, schema) + Arrays.deepHashCode(values);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hash == other.hash && sql.equals(other.sql) && Objects.equals(user, other.user)
+                && Objects.equals(schema, other.schema) && Arrays.deepEquals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A cached result along with the versions of its tags when the query was executed.
+     */
+    private static final class Entry {
+
+        private final CachedResultSet resultSet;
+        private final String[] tags;
+        private final long[] versions;
+        private final long expiresAt;
+
+        private Entry(final CachedResultSet resultSet, final String[] tags, final long[] versions,
+            final long expiresAt)
+        {
+            this.resultSet = resultSet;
+            this.tags = tags;
+            this.versions = versions;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * The Builder pattern implementation.
+     */
+    public static class ResultCacheBuilder {
+
+        private static final int DEFAULT_MAX_SIZE = 1000;
+        private static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+        private transient int maxSize = DEFAULT_MAX_SIZE;
+        private transient long ttlMillis = DEFAULT_TTL_MILLIS;
+
+        /**
+         * Creates the cache.
+         *
+         * @return the cache
+         * @throws IllegalArgumentException if the size or the time-to-live are not positive numbers
+         */
+        public ResultCache build() {
+            if (maxSize <= 0 || ttlMillis <= 0) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid result cache (max size: %d, ttl: %d ms)", maxSize, ttlMillis));
+            }
+            return new ResultCache(this);
+        }
+
+        /**
+         * Sets the maximum number of results kept in the cache.
+         *
+         * @param value the maximum number of results
+         * @return this builder object
+         */
+        public ResultCacheBuilder withMaxSize(final int value) {
+            this.maxSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the time a result is kept in the cache.
+         *
+         * @param value the time-to-live in milliseconds
+         * @return this builder object
+         */
+        public ResultCacheBuilder withTtl(final long value) {
+            this.ttlMillis = value;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.JDBCUtils;
+import com.dattack.jtoolbox.jdbc.UncheckedSQLException;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sequential {@link Spliterator} over the rows of a {@link ResultSet}. Each row is read from the driver when the
+ * stream asks for it, so the memory used depends on the fetch size of the result set, not on the number of rows.
+ *
+ * @param <T> the type of the objects created from the rows
+ * @author cvarela
+ * @since 0.7
+ */
+public final class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final transient ResultSet resultSet;
+    private final transient RowMapper<T> mapper;
+
+    /**
+     * Creates a spliterator over the rows of a result set.
+     *
+     * @param resultSet the result set, positioned before the first row to read
+     * @param factory   the factory of the row mapper, called once with the metadata of the result set
+     * @throws SQLException if a database access error occurs
+     */
+    public ResultSetSpliterator(final ResultSet resultSet, final RowMapperFactory<T> factory) throws SQLException {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.resultSet = resultSet;
+        this.mapper = factory.compile(resultSet.getMetaData());
+    }
+
+    /**
+     * Returns a sequential stream over the rows of a result set. Closing the stream closes the result set and its
+     * statement, so the stream should be used in a try-with-resources block.
+     *
+     * @param resultSet the result set
+     * @param factory   the factory of the row mapper
+     * @param <T>       the type of the objects created from the rows
+     * @return the stream
+     * @throws SQLException if a database access error occurs
+     */
+    public static <T> Stream<T> stream(final ResultSet resultSet, final RowMapperFactory<T> factory)
+        throws SQLException
+    {
+        final Statement statement = resultSet.getStatement();
+        return StreamSupport.stream(new ResultSetSpliterator<>(resultSet, factory), false).onClose(() -> {
+            try {
+                resultSet.close();
+            } catch (final SQLException e) {
+                throw new UncheckedSQLException(e);
+            } finally {
+                JDBCUtils.closeQuietly(statement);
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        try {
+            if (!resultSet.next()) {
+                return false;
+            }
+            action.accept(mapper.mapRow(resultSet));
+            return true;
+        } catch (final SQLException e) {
+            throw new UncheckedSQLException(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a {@link ResultSet} to an object. A mapper is created by a {@link RowMapperFactory} for a
+ * specific result set, so it can rely on the column indexes resolved from its metadata.
+ *
+ * @param <T> the type of the objects created
+ * @author cvarela
+ * @since 0.7
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Maps the current row. The mapper must not move the cursor.
+     *
+     * @param resultSet the result set, positioned on a row
+     * @return the object of the row
+     * @throws SQLException if a database access error occurs
+     */
+    T mapRow(ResultSet resultSet) throws SQLException;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Creates the {@link RowMapper} of a result set from its metadata. The work that only depends on the shape of the
+ * result set, such as resolving the column labels to indexes, is done once here instead of once per row.
+ *
+ * @param <T> the type of the objects created by the mappers
+ * @author cvarela
+ * @since 0.7
+ */
+@FunctionalInterface
+public interface RowMapperFactory<T> {
+
+    /**
+     * Returns a factory whose mappers read a single column.
+     *
+     * @param label the label of the column
+     * @param type  the class of the values of the column
+     * @param <C>   the type of the values of the column
+     * @return the factory
+     * @see java.sql.ResultSet#getObject(int, Class)
+     */
+    static <C> RowMapperFactory<C> column(final String label, final Class<C> type) {
+        return metaData -> {
+            final int index = findColumn(metaData, label);
+            return resultSet -> resultSet.getObject(index, type);
+        };
+    }
+
+    /**
+     * Returns the index of the column with the given label. The labels are compared ignoring the case.
+     *
+     * @param metaData the metadata of the result set
+     * @param label    the label of the column
+     * @return the index of the column
+     * @throws SQLException if the result set doesn't contain the column
+     */
+    static int findColumn(final ResultSetMetaData metaData, final String label) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (label.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return i;
+            }
+        }
+        throw new SQLException("Column not found: " + label);
+    }
+
+    /**
+     * Returns a factory whose mappers ignore the metadata.
+     *
+     * @param mapper the row mapper
+     * @param <T>    the type of the objects created
+     * @return the factory
+     */
+    static <T> RowMapperFactory<T> of(final RowMapper<T> mapper) {
+        return metaData -> mapper;
+    }
+
+    /**
+     * Returns a factory whose mappers create an array with the values of the columns.
+     *
+     * @return the factory
+     */
+    static RowMapperFactory<Object[]> toArray() {
+        return metaData -> {
+            final int columnCount = metaData.getColumnCount();
+            return resultSet -> {
+                final Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = resultSet.getObject(i + 1);
+                }
+                return row;
+            };
+        };
+    }
+
+    /**
+     * Returns a factory whose mappers create a map from column label to value, in the order of the columns.
+     *
+     * @return the factory
+     */
+    static RowMapperFactory<Map<String, Object>> toMap() {
+        return metaData -> {
+            final String[] labels = new String[metaData.getColumnCount()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = metaData.getColumnLabel(i + 1);
+            }
+            // the capacity avoids the rehash of the map of each row
+            final int capacity = (int) (labels.length / 0.75f) + 1;
+            return resultSet -> {
+                final Map<String, Object> row = new LinkedHashMap<>(capacity);
+                for (int i = 0; i < labels.length; i++) {
+                    row.put(labels[i], resultSet.getObject(i + 1));
+                }
+                return row;
+            };
+        };
+    }
+
+    /**
+     * Creates the mapper of a result set.
+     *
+     * @param metaData the metadata of the result set
+     * @return the mapper
+     * @throws SQLException if a database access error occurs
+     */
+    RowMapper<T> compile(ResultSetMetaData metaData) throws SQLException;
+}
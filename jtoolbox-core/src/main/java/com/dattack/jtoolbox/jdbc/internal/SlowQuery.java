@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An execution of a {@link NamedPreparedStatement} that exceeded the threshold of a {@link SlowQueryLog}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class SlowQuery {
+
+    private final transient String sql;
+    private final transient Map<String, String> parameters;
+    private final transient long elapsedNanos;
+    private final transient long timestamp;
+    private final transient String threadName;
+    private final transient boolean failed;
+
+    /* default */ SlowQuery(final String sql, final Map<String, String> parameters, final long elapsedNanos,
+        final boolean failed)
+    {
+        this.sql = sql;
+        this.parameters = Collections.unmodifiableMap(parameters);
+        this.elapsedNanos = elapsedNanos;
+        this.failed = failed;
+        this.timestamp = System.currentTimeMillis();
+        this.threadName = Thread.currentThread().getName();
+    }
+
+    /**
+     * Returns the elapsed time of the execution.
+     *
+     * @param unit the time unit of the result
+     * @return the elapsed time
+     */
+    public long getElapsedTime(final TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the values bound to the named parameters, already rendered and redacted, in the order of the parameters
+     * in the SQL text.
+     *
+     * @return an unmodifiable map from parameter name to value
+     */
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns the SQL text with the named parameters.
+     *
+     * @return the SQL text
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Returns the name of the thread that executed the statement.
+     *
+     * @return the thread name
+     */
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Returns the time the execution ended, as returned by {@link System#currentTimeMillis()}.
+     *
+     * @return the end time of the execution
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns true when the execution ended with an exception.
+     *
+     * @return true when the execution failed
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQuery{" + "elapsed=" + getElapsedTime(TimeUnit.MILLISECONDS) + "ms, failed=" + failed + ", sql='"
+            + sql + '\'' + ", parameters=" + parameters + '}';
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.concurrent.SimpleThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLXML;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Log of the executions of {@link NamedPreparedStatement}s that exceed a time threshold. Each slow execution is
+ * reported with the SQL text with the named parameters, the values bound to them and the elapsed time. The values of
+ * the parameters whose names match the redaction rules are masked.
+ *
+ * <p>The executing thread only renders the slow executions. They are handed to a background thread through a bounded
+ * buffer, so logging never blocks the execution: when the buffer is full, the slow execution is dropped and
+ * counted.</p>
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class SlowQueryLog implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final long DEFAULT_THRESHOLD_MILLIS = 1_000;
+    private static final int DEFAULT_BUFFER_SIZE = 1_024;
+    private static final int DEFAULT_MAX_VALUE_LENGTH = 256;
+    private static final String REDACTED = "****";
+
+    private final transient long thresholdNanos;
+    private final transient Set<String> redactedParameters;
+    private final transient Pattern redactionPattern;
+    private final transient int maxValueLength;
+    private final transient Consumer<SlowQuery> consumer;
+    private final transient ThreadPoolExecutor executor;
+    private final transient LongAdder droppedCount;
+
+    /* default */ SlowQueryLog(final SlowQueryLogBuilder builder) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(builder.thresholdMillis);
+        this.redactedParameters = builder.redactedParameters;
+        this.redactionPattern = builder.redactionPattern;
+        this.maxValueLength = builder.maxValueLength;
+        this.consumer = Objects.isNull(builder.consumer) ? SlowQueryLog::log : builder.consumer;
+        this.droppedCount = new LongAdder();
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(builder.bufferSize), //
+            new SimpleThreadFactory.ThreadFactoryBuilder() //
+                .withThreadNamePrefix("slow-query-log") //
+                .withDaemon(true) //
+                .build(), //
+            (task, pool) -> droppedCount.increment());
+    }
+
+    private static void log(final SlowQuery query) {
+        LOGGER.warn("Slow query ({} ms{}): {} {}", query.getElapsedTime(TimeUnit.MILLISECONDS),
+            query.isFailed() ? ", failed" : "", query.getSql(), query.getParameters());
+    }
+
+    /**
+     * Stops the background thread. The slow executions already buffered are still reported.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the number of slow executions discarded because the buffer was full.
+     *
+     * @return the number of discarded executions
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getThreshold(final TimeUnit unit) {
+        return unit.convert(thresholdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Reports the execution of a statement when it exceeds the threshold.
+     *
+     * @param statement    the statement executed
+     * @param elapsedNanos the elapsed time of the execution
+     * @param failed       true when the execution ended with an exception
+     */
+    /* default */ void record(final ProxyNamedPreparedStatement statement, final long elapsedNanos,
+        final boolean failed)
+    {
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+
+        final NamedPreparedStatementConfig config = statement.getNamedPreparedStatementConfig();
+        final ParameterValues values = statement.getParameterValues();
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        if (Objects.nonNull(values)) {
+            for (int slot = 0; slot < values.size(); slot++) {
+                if (values.isSet(slot)) {
+                    final String name = config.getSlotName(slot);
+                    parameters.put(name, isRedacted(name) ? REDACTED : render(values.get(slot)));
+                }
+            }
+        }
+        executor.execute(() -> consumer.accept(new SlowQuery(config.getSql(), parameters, elapsedNanos, failed)));
+    }
+
+    private boolean isRedacted(final String name) {
+        return redactedParameters.contains(name)
+            || Objects.nonNull(redactionPattern) && redactionPattern.matcher(name).find();
+    }
+
+    private String render(final Object value) {
+        if (Objects.isNull(value)) {
+            return "NULL";
+        }
+        if (value instanceof InputStream || value instanceof Reader || value instanceof Blob
+            || value instanceof Clob || value instanceof SQLXML)
+        {
+            // the content can't be read without consuming it
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        if (value instanceof byte[]) {
+            return "<byte[" + ((byte[]) value).length + "]>";
+        }
+
+        final String text = value.toString();
+        final String truncated = text.length() > maxValueLength ? text.substring(0, maxValueLength) + "..." : text;
+        return value instanceof CharSequence ? "'" + truncated + "'" : truncated;
+    }
+
+    /**
+     * Builder used to create {@link SlowQueryLog} instances.
+     */
+    public static final class SlowQueryLogBuilder {
+
+        private transient long thresholdMillis = DEFAULT_THRESHOLD_MILLIS;
+        private transient int bufferSize = DEFAULT_BUFFER_SIZE;
+        private transient int maxValueLength = DEFAULT_MAX_VALUE_LENGTH;
+        private final transient Set<String> redactedParameters = new HashSet<>();
+        private transient Pattern redactionPattern;
+        private transient Consumer<SlowQuery> consumer;
+
+        public SlowQueryLog build() {
+            if (thresholdMillis < 0 || bufferSize <= 0 || maxValueLength <= 0) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid slow query log (threshold: %d, buffer size: %d, max value length: %d)",
+                        thresholdMillis, bufferSize, maxValueLength));
+            }
+            return new SlowQueryLog(this);
+        }
+
+        /**
+         * Sets the maximum number of slow executions waiting to be reported.
+         *
+         * @param value the size of the buffer
+         * @return the builder
+         */
+        public SlowQueryLogBuilder withBufferSize(final int value) {
+            this.bufferSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the action that reports the slow executions. It is called from a background thread. By default, the
+         * slow executions are logged with level WARN.
+         *
+         * @param value the action
+         * @return the builder
+         */
+        public SlowQueryLogBuilder withConsumer(final Consumer<SlowQuery> value) {
+            this.consumer = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of characters of a rendered value. Longer values are truncated.
+         *
+         * @param value the maximum length
+         * @return the builder
+         */
+        public SlowQueryLogBuilder withMaxValueLength(final int value) {
+            this.maxValueLength = value;
+            return this;
+        }
+
+        /**
+         * Masks the values bound to the parameters with the given names. The names are case-insensitive.
+         *
+         * @param names the parameter names
+         * @return the builder
+         */
+        public SlowQueryLogBuilder withRedactedParameters(final String... names) {
+            for (final String name : names) {
+                redactedParameters.add(name.toLowerCase(Locale.getDefault()));
+            }
+            return this;
+        }
+
+        /**
+         * Masks the values bound to the parameters whose (lower case) names contain a match of the given pattern, such
+         * as <code>passw|secret|token</code>.
+         *
+         * @param value the pattern
+         * @return the builder
+         */
+        public SlowQueryLogBuilder withRedactionPattern(final Pattern value) {
+            this.redactionPattern = value;
+            return this;
+        }
+
+        /**
+         * Sets the elapsed time beyond which an execution is reported.
+         *
+         * @param value the threshold, in milliseconds
+         * @return the builder
+         */
+        public SlowQueryLogBuilder withThreshold(final long value) {
+            this.thresholdMillis = value;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the executions of a normalised SQL statement. The latencies are recorded in a histogram whose buckets
+ * cover power-of-two ranges of microseconds.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+/* default */ final class SqlMetrics {
+
+    /* default */ static final int BUCKETS = 32;
+
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    private final transient String sql;
+    private final transient LongAdder executions = new LongAdder();
+    private final transient LongAdder errors = new LongAdder();
+    private final transient LongAdder executionNanos = new LongAdder();
+    private final transient LongAccumulator maxExecutionNanos = new LongAccumulator(Math::max, 0);
+    private final transient LongAdder fetchNanos = new LongAdder();
+    private final transient LongAdder rowsRead = new LongAdder();
+    private final transient LongAdder batches = new LongAdder();
+    private final transient LongAdder batchEntries = new LongAdder();
+    private final transient LongAdder updateCount = new LongAdder();
+    private final transient LongAdder[] histogram;
+
+    /* default */ SqlMetrics(final String sql) {
+        this.sql = sql;
+        this.histogram = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Returns the histogram bucket of a latency: bucket <code>i</code> holds the latencies lower than
+     * <code>2^i</code> microseconds.
+     */
+    private static int bucket(final long nanos) {
+        final long micros = nanos / NANOS_PER_MICRO;
+        return Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(micros));
+    }
+
+    /* default */ void recordBatch(final int size, final long updates) {
+        batches.increment();
+        batchEntries.add(size);
+        recordUpdateCount(updates);
+    }
+
+    /* default */ void recordError(final long nanos) {
+        errors.increment();
+        recordExecution(nanos);
+    }
+
+    /* default */ void recordExecution(final long nanos) {
+        executions.increment();
+        executionNanos.add(nanos);
+        maxExecutionNanos.accumulate(nanos);
+        histogram[bucket(nanos)].increment();
+    }
+
+    /* default */ void recordFetch(final long rows, final long nanos) {
+        rowsRead.add(rows);
+        fetchNanos.add(nanos);
+    }
+
+    /* default */ void recordUpdateCount(final long updates) {
+        if (updates > 0) {
+            updateCount.add(updates);
+        }
+    }
+
+    /* default */ SqlStatistics snapshot() {
+        final long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = histogram[i].sum();
+        }
+        return new SqlStatistics.SqlStatisticsBuilder() //
+            .withSql(sql) //
+            .withExecutions(executions.sum()) //
+            .withErrors(errors.sum()) //
+            .withTotalExecutionNanos(executionNanos.sum()) //
+            .withMaxExecutionNanos(maxExecutionNanos.get()) //
+            .withTotalFetchNanos(fetchNanos.sum()) //
+            .withRowsRead(rowsRead.sum()) //
+            .withBatches(batches.sum()) //
+            .withBatchEntries(batchEntries.sum()) //
+            .withUpdateCount(updateCount.sum()) //
+            .withHistogram(buckets) //
+            .build();
+    }
+}
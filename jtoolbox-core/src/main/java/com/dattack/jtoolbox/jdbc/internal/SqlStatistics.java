@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of the metrics of a normalised SQL statement.
+ *
+ * @author cvarela
+ * @see JdbcMetrics
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.TooManyFields")
+public final class SqlStatistics {
+
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    private final transient String sql;
+    private final transient long executions;
+    private final transient long errors;
+    private final transient long totalExecutionNanos;
+    private final transient long maxExecutionNanos;
+    private final transient long totalFetchNanos;
+    private final transient long rowsRead;
+    private final transient long batches;
+    private final transient long batchEntries;
+    private final transient long updateCount;
+    private final transient long[] histogram;
+
+    /* default */ SqlStatistics(final SqlStatisticsBuilder builder) {
+        this.sql = builder.sql;
+        this.executions = builder.executions;
+        this.errors = builder.errors;
+        this.totalExecutionNanos = builder.totalExecutionNanos;
+        this.maxExecutionNanos = builder.maxExecutionNanos;
+        this.totalFetchNanos = builder.totalFetchNanos;
+        this.rowsRead = builder.rowsRead;
+        this.batches = builder.batches;
+        this.batchEntries = builder.batchEntries;
+        this.updateCount = builder.updateCount;
+        this.histogram = builder.histogram;
+    }
+
+    /**
+     * Returns the average execution time.
+     *
+     * @param unit the time unit of the result
+     * @return the average execution time, or 0 when the statement has not been executed
+     */
+    public long getAverageExecutionTime(final TimeUnit unit) {
+        return executions == 0 ? 0 : unit.convert(totalExecutionNanos / executions, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of entries of the batches executed.
+     *
+     * @return the number of entries
+     */
+    public long getBatchEntries() {
+        return batchEntries;
+    }
+
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Returns the number of executions that ended with an exception. They are included in the executions count.
+     *
+     * @return the number of failed executions
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    /**
+     * Returns the number of executions by latency: the element <code>i</code> is the number of executions that took
+     * less than <code>2^i</code> microseconds, and more than the previous bucket. The last bucket holds every
+     * execution beyond the previous one.
+     *
+     * @return a copy of the histogram
+     */
+    public long[] getHistogram() {
+        return Arrays.copyOf(histogram, histogram.length);
+    }
+
+    public long getMaxExecutionNanos() {
+        return maxExecutionNanos;
+    }
+
+    /**
+     * Returns an estimation of the given percentile of the execution time, as the upper bound of the histogram bucket
+     * that contains it.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @param unit       the time unit of the result
+     * @return the estimated percentile, or 0 when the statement has not been executed
+     */
+    public long getPercentile(final double percentile, final TimeUnit unit) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile: " + percentile);
+        }
+
+        long total = 0;
+        for (final long count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long accumulated = 0;
+        int bucket = 0;
+        while (bucket < histogram.length - 1) {
+            accumulated += histogram[bucket];
+            if (accumulated >= rank) {
+                break;
+            }
+            bucket++;
+        }
+        final long upperBoundNanos = Math.min((1L << bucket) * NANOS_PER_MICRO, maxExecutionNanos);
+        return unit.convert(upperBoundNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of rows read through the result sets of the statement.
+     *
+     * @return the number of rows read
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    /**
+     * Returns the normalised SQL text.
+     *
+     * @return the normalised SQL text
+     * @see JdbcMetrics#normalize(String)
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    public long getTotalExecutionNanos() {
+        return totalExecutionNanos;
+    }
+
+    /**
+     * Returns the time spent moving through the result sets of the statement with {@link java.sql.ResultSet#next()}.
+     *
+     * @return the fetch time, in nanoseconds
+     */
+    public long getTotalFetchNanos() {
+        return totalFetchNanos;
+    }
+
+    /**
+     * Returns the sum of the update counts reported by the driver. Unknown update counts are ignored.
+     *
+     * @return the number of rows updated
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    @Override
+    public String toString() {
+        return "SqlStatistics{" + "sql='" + sql + '\'' + ", executions=" + executions + ", errors=" + errors
+            + ", totalExecutionNanos=" + totalExecutionNanos + ", maxExecutionNanos=" + maxExecutionNanos
+            + ", totalFetchNanos=" + totalFetchNanos + ", rowsRead=" + rowsRead + ", batches=" + batches
+            + ", batchEntries=" + batchEntries + ", updateCount=" + updateCount + '}';
+    }
+
+    /**
+     * Builder used to create {@link SqlStatistics} instances.
+     */
+    /* default */ static final class SqlStatisticsBuilder {
+
+        private transient String sql;
+        private transient long executions;
+        private transient long errors;
+        private transient long totalExecutionNanos;
+        private transient long maxExecutionNanos;
+        private transient long totalFetchNanos;
+        private transient long rowsRead;
+        private transient long batches;
+        private transient long batchEntries;
+        private transient long updateCount;
+        private transient long[] histogram = new long[0];
+
+        /* default */ SqlStatistics build() {
+            return new SqlStatistics(this);
+        }
+
+        /* default */ SqlStatisticsBuilder withBatchEntries(final long value) {
+            this.batchEntries = value;
+            return this;
+        }
+
+        /* default */ SqlStatisticsBuilder withBatches(final long value) {
+            this.batches = value;
+            return this;
+        }
+
+        /* default */ SqlStatisticsBuilder withErrors(final long value) {
+            this.errors = value;
+            return this;
+        }
+
+        /* default */ SqlStatisticsBuilder withExecutions(final long value) {
+            this.executions = value;
+            return this;
+        }
+
+        /* default */ SqlStatisticsBuilder withHistogram(final long[] value) {
+            this.histogram = value;
+            return this;
+        }
+
+        /* default */ SqlStatisticsBuilder withMaxExecutionNanos(final long value) {
+            this.maxExecutionNanos = value;
+            return this;
+        }
+
+        /* default */ SqlStatisticsBuilder withRowsRead(final long value) {
+            this.rowsRead = value;
+            return this;
+        }
+
+        /* default */ SqlStatisticsBuilder withSql(final String value) {
+            this.sql = value;
+            return this;
+        }
+
+        /* default */ SqlStatisticsBuilder withTotalExecutionNanos(final long value) {
+            this.totalExecutionNanos = value;
+            return this;
+        }
+
+        /* default */ SqlStatisticsBuilder withTotalFetchNanos(final long value) {
+            this.totalFetchNanos = value;
+            return this;
+        }
+
+        /* default */ SqlStatisticsBuilder withUpdateCount(final long value) {
+            this.updateCount = value;
+            return this;
+        }
+    }
+}
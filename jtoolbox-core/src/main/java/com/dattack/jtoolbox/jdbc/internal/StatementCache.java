@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.util.LruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A per-connection cache of the idle prepared statements. Statements are checked out from the cache when they are
+ * prepared and returned to it when they are closed; the least recently used idle statements are physically closed
+ * when the cache exceeds its capacity.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+/* default */ final class StatementCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementCache.class);
+
+    private final transient LruCache<Key, CachedPreparedStatement> idleStatements;
+    private final transient LongAdder hits;
+    private final transient LongAdder misses;
+    private transient volatile boolean closed;
+
+    /* default */ StatementCache(final int maxSize) {
+        this.idleStatements = new LruCache<>(maxSize, (key, statement) -> statement.closeDelegate());
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Physically closes all the idle statements. The statements in use are closed when they are released.
+     */
+    /* default */ void close() {
+        closed = true;
+        for (final CachedPreparedStatement statement : idleStatements.values()) {
+            statement.closeDelegate();
+        }
+        idleStatements.clear();
+    }
+
+    /* default */ int getMaxSize() {
+        return idleStatements.getMaxSize();
+    }
+
+    /* default */ void setMaxSize(final int maxSize) {
+        idleStatements.setMaxSize(maxSize);
+    }
+
+    /* default */ LruCache.Stats getStats() {
+        return new LruCache.Stats(hits.sum(), misses.sum(), idleStatements.getStats().getEvictionCount(),
+                                  idleStatements.size());
+    }
+
+    /**
+     * Wraps a new physical statement so that closing it returns it to this cache.
+     *
+     * @param key       the key of the statement
+     * @param statement the physical statement
+     * @return the cached statement
+     */
+    /* default */ CachedPreparedStatement register(final Key key, final PreparedStatement statement) {
+        misses.increment();
+        return new CachedPreparedStatement(this, key, statement);
+    }
+
+    /* default */ void release(final CachedPreparedStatement statement) {
+        if (closed || !statement.isReusable()) {
+            statement.closeDelegate();
+            return;
+        }
+
+        try {
+            if (statement.getPhysicalStatement().isClosed()) {
+                return;
+            }
+            statement.reset();
+        } catch (final SQLException e) {
+            LOGGER.debug("Unable to reuse statement '{}': {}", statement.getKey().getSql(), e.getMessage());
+            statement.closeDelegate();
+            return;
+        }
+
+        final CachedPreparedStatement previous = idleStatements.put(statement.getKey(), statement);
+        if (Objects.nonNull(previous) && previous.getPhysicalStatement() != statement.getPhysicalStatement()) { //NOPMD
+            previous.closeDelegate();
+        }
+    }
+
+    /**
+     * Checks out the idle statement associated with the key.
+     *
+     * @param key the key of the statement
+     * @return a new cached statement for the idle statement or <code>null</code> if the cache doesn't contain a
+     *         reusable statement
+     * @throws SQLException if a database access error occurs
+     */
+    /* default */ CachedPreparedStatement take(final Key key) throws SQLException {
+        final CachedPreparedStatement statement = idleStatements.remove(key);
+        if (Objects.nonNull(statement)) {
+            if (!statement.getPhysicalStatement().isClosed()) {
+                hits.increment();
+                return statement.reopen();
+            }
+            statement.closeDelegate();
+        }
+        return null;
+    }
+
+    /**
+     * The key of a cached statement: the SQL text and the properties of the result sets it produces.
+     */
+    /* default */ static final class Key {
+
+        private final String sql;
+        private final int resultSetType;
+        private final int resultSetConcurrency;
+        private final int resultSetHoldability;
+        private final int hashCode;
+
+        /* default */ Key(final String sql, final int resultSetType, final int resultSetConcurrency,
+            final int resultSetHoldability)
+        {
+            this.sql = sql;
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+            this.resultSetHoldability = resultSetHoldability;
+            this.hashCode = Objects.hash(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return resultSetType == other.resultSetType && resultSetConcurrency == other.resultSetConcurrency
+                && resultSetHoldability == other.resultSetHoldability && sql.equals(other.sql);
+        }
+
+        /* default */ String getSql() {
+            return sql;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal.generic;
+
+import com.dattack.jtoolbox.jdbc.internal.JdbcDialect;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
+
+import java.sql.Connection;
+
+/**
+ * {@link JdbcDialect} used when no specific dialect supports the driver of a connection.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class GenericDialect implements JdbcDialect {
+
+    public static final GenericDialect INSTANCE = new GenericDialect();
+
+    private GenericDialect() {
+        // singleton
+    }
+
+    @Override
+    public String getName() {
+        return "Generic";
+    }
+
+    @Override
+    public boolean supports(final String driverName) {
+        return true;
+    }
+
+    @Override
+    public ProxyConnection wrap(final Connection connection) {
+        return GenericProxyConnection.build(connection, this);
+    }
+}
@@ -30,14 +30,20 @@ public final class GenericProxyCallableStatement extends GenericProxyPreparedSta
         implements ProxyCallableStatement
 {
     private GenericProxyCallableStatement(final GenericProxyConnection connection,
-            final CallableStatement delegate)
+            final CallableStatement delegate, final String sql)
     {
-        super(connection, delegate);
+        super(connection, delegate, sql);
     }
 
     public static GenericProxyCallableStatement build(final GenericProxyConnection connection,
             final CallableStatement delegate)
     {
-        return new GenericProxyCallableStatement(connection, delegate);
+        return new GenericProxyCallableStatement(connection, delegate, null);
+    }
+
+    public static GenericProxyCallableStatement build(final GenericProxyConnection connection,
+            final CallableStatement delegate, final String sql)
+    {
+        return new GenericProxyCallableStatement(connection, delegate, sql);
     }
 }
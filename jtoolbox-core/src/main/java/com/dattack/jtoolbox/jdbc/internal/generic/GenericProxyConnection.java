@@ -16,6 +16,7 @@
 package com.dattack.jtoolbox.jdbc.internal.generic;
 
 import com.dattack.jtoolbox.jdbc.internal.AbstractProxyConnection;
+import com.dattack.jtoolbox.jdbc.internal.JdbcDialect;
 import com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatement;
 import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
 
@@ -38,10 +39,18 @@ public class GenericProxyConnection extends AbstractProxyConnection {
         super(delegate);
     }
 
+    protected GenericProxyConnection(final Connection delegate, final JdbcDialect dialect) {
+        super(delegate, dialect);
+    }
+
     public static GenericProxyConnection build(Connection delegate) {
         return new GenericProxyConnection(delegate);
     }
 
+    public static GenericProxyConnection build(final Connection delegate, final JdbcDialect dialect) {
+        return new GenericProxyConnection(delegate, dialect);
+    }
+
     @Override
     public NamedPreparedStatement prepareNamedStatement(String sql) throws SQLException {
         return GenericProxyNamedPreparedStatement.build(this, sql);
@@ -53,12 +62,12 @@ public class GenericProxyConnection extends AbstractProxyConnection {
     }
 
     @Override
-    protected CallableStatement doPrepareCall(final CallableStatement callableStatement) {
-        return GenericProxyCallableStatement.build(this, callableStatement);
+    protected CallableStatement doPrepareCall(final String sql, final CallableStatement callableStatement) {
+        return GenericProxyCallableStatement.build(this, callableStatement, sql);
     }
 
     @Override
-    protected PreparedStatement doPrepareStatement(final PreparedStatement preparedStatement) {
-        return GenericProxyPreparedStatement.build(this, preparedStatement);
+    protected PreparedStatement doPrepareStatement(final String sql, final PreparedStatement preparedStatement) {
+        return GenericProxyPreparedStatement.build(this, preparedStatement, sql);
     }
 }
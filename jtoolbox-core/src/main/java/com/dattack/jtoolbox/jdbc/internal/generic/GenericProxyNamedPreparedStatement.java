@@ -15,11 +15,20 @@
  */
 package com.dattack.jtoolbox.jdbc.internal.generic;
 
+import com.dattack.jtoolbox.jdbc.internal.ListParameters;
+import com.dattack.jtoolbox.jdbc.internal.MultiRowInsertBatch;
 import com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatementConfig;
+import com.dattack.jtoolbox.jdbc.internal.ParameterValues;
 import com.dattack.jtoolbox.jdbc.internal.ProxyNamedPreparedStatement;
+import com.dattack.jtoolbox.jdbc.internal.ResultCache;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
 
 /**
  * A delegating implementation of {@link java.sql.PreparedStatement} with support for <i>parameter-name</i>. The
@@ -34,12 +43,20 @@ public class GenericProxyNamedPreparedStatement extends GenericProxyPreparedStat
 {
 
     private final transient NamedPreparedStatementConfig namedPreparedStatementConfig;
+    private transient ParameterValues parameterValues;
+    private transient String[] cacheTags;
+    private transient ListParameters listParameters;
+    private transient MultiRowInsertBatch multiRowInsertBatch;
 
     protected GenericProxyNamedPreparedStatement(final GenericProxyConnection connection,
         final PreparedStatement delegate, final NamedPreparedStatementConfig namedPreparedStatementConfig)
     {
         super(connection, delegate);
         this.namedPreparedStatementConfig = namedPreparedStatementConfig;
+        // the values are also bound again when a collection is bound to an IN list
+        this.parameterValues = Objects.isNull(connection.getSlowQueryLog())
+            && !namedPreparedStatementConfig.hasInListParameters() ? null
+            : new ParameterValues(namedPreparedStatementConfig.getSlotCount());
     }
 
     /**
@@ -59,8 +76,214 @@ public class GenericProxyNamedPreparedStatement extends GenericProxyPreparedStat
             preparedStatementConfig.getCompiledSql()), preparedStatementConfig);
     }
 
+    @Override
+    public void addBatch() throws SQLException {
+        if (Objects.nonNull(prepareListStatement())) {
+            listParameters.release();
+            throw new SQLException("A statement with collections bound can't be batched");
+        }
+        if (Objects.isNull(multiRowInsertBatch)) {
+            super.addBatch();
+        } else if (parameterValues.isIndexBound()) {
+            throw new SQLException("A multi-row insert can't be batched with values bound by index");
+        } else {
+            multiRowInsertBatch.add(parameterValues);
+        }
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        if (Objects.nonNull(multiRowInsertBatch)) {
+            multiRowInsertBatch.clear();
+        }
+        super.clearBatch();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            super.close();
+        } finally {
+            try {
+                if (Objects.nonNull(multiRowInsertBatch)) {
+                    multiRowInsertBatch.close();
+                    multiRowInsertBatch = null;
+                }
+            } finally {
+                if (Objects.nonNull(listParameters)) {
+                    listParameters.close();
+                    listParameters = null;
+                }
+            }
+        }
+    }
+
+    @Override
+    protected int[] executeDelegateBatch() throws SQLException {
+        if (Objects.isNull(multiRowInsertBatch) || multiRowInsertBatch.isEmpty()) {
+            return super.executeDelegateBatch();
+        }
+        // the rows are inserted with statements prepared on the physical connection
+        return multiRowInsertBatch.execute(getProxyConnection().getDelegate());
+    }
+
+    @Override
+    protected long[] executeDelegateLargeBatch() throws SQLException {
+        if (Objects.isNull(multiRowInsertBatch) || multiRowInsertBatch.isEmpty()) {
+            return super.executeDelegateLargeBatch();
+        }
+        return Arrays.stream(executeDelegateBatch()).asLongStream().toArray();
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        if (Objects.nonNull(prepareListStatement())) {
+            listParameters.release();
+            throw new SQLFeatureNotSupportedException(
+                "A statement with collections bound must be run with executeQuery or executeUpdate");
+        }
+        return super.execute();
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        final PreparedStatement listStatement = prepareListStatement();
+        if (Objects.isNull(listStatement)) {
+            return super.executeLargeUpdate();
+        }
+        try {
+            return listStatement.executeLargeUpdate();
+        } finally {
+            listParameters.release();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        final PreparedStatement listStatement = prepareListStatement();
+        if (Objects.nonNull(listStatement)) {
+            try {
+                // the result set reports this statement; its rows are recorded by the statement of the collections
+                return wrapResultSet(null, listStatement.executeQuery());
+            } finally {
+                // the arrays are read by the execution, the rows don't depend on them
+                listParameters.release();
+            }
+        }
+        final ResultCache resultCache = Objects.isNull(cacheTags) ? null : getResultCache();
+        if (Objects.isNull(resultCache)) {
+            return super.executeQuery();
+        }
+        return resultCache.executeQuery(this, cacheTags, super::executeQuery);
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        final PreparedStatement listStatement = prepareListStatement();
+        if (Objects.isNull(listStatement)) {
+            return super.executeUpdate();
+        }
+        try {
+            return listStatement.executeUpdate();
+        } finally {
+            listParameters.release();
+        }
+    }
+
+    @Override
+    protected long estimateBatchRowSize() {
+        return Objects.isNull(parameterValues) ? 0 : parameterValues.estimateSize();
+    }
+
     @Override
     public NamedPreparedStatementConfig getNamedPreparedStatementConfig() {
         return namedPreparedStatementConfig;
     }
+
+    @Override
+    public ParameterValues getParameterValues() {
+        return parameterValues;
+    }
+
+    /**
+     * Returns the statement that runs this one with the collections bound to its parameters.
+     *
+     * @return the statement or null when no collection is bound
+     */
+    private PreparedStatement prepareListStatement() throws SQLException {
+        if (Objects.isNull(listParameters) || Objects.isNull(parameterValues)
+            || !listParameters.isBound(parameterValues))
+        {
+            return null;
+        }
+        if (parameterValues.isIndexBound()) {
+            throw new SQLException("A statement with collections bound can't have values bound by index");
+        }
+        return listParameters.prepare(getProxyConnection(), getProxyConnection().getDialect(),
+            parameterValues);
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return Objects.nonNull(cacheTags);
+    }
+
+    @Override
+    public boolean isMultiRowInsert() {
+        return Objects.nonNull(multiRowInsertBatch);
+    }
+
+    @Override
+    public void setAutoBatch(final int maxRows, final long maxBytes) throws SQLException {
+        super.setAutoBatch(maxRows, maxBytes);
+        if (maxBytes > 0 && Objects.isNull(parameterValues)) {
+            // the values are needed to estimate the size of the batch
+            parameterValues = new ParameterValues(getNamedPreparedStatementConfig().getSlotCount());
+        }
+    }
+
+    @Override
+    public void setCacheable(final boolean cacheable, final String... tags) {
+        if (cacheable) {
+            cacheTags = Objects.isNull(tags) ? new String[0] : tags.clone();
+            if (Objects.isNull(parameterValues)) {
+                // the values are the key of the cached results
+                parameterValues = new ParameterValues(getNamedPreparedStatementConfig().getSlotCount());
+            }
+        } else {
+            cacheTags = null;
+        }
+    }
+
+    @Override
+    public void setList(final String parameterName, final Collection<?> values) throws SQLException {
+        if (Objects.isNull(listParameters)) {
+            listParameters = new ListParameters(getNamedPreparedStatementConfig());
+        }
+        recordValue(parameterName, listParameters.set(parameterName, values));
+    }
+
+    @Override
+    public void setMultiRowInsert(final boolean enabled) throws SQLException {
+        if (enabled == isMultiRowInsert()) {
+            return;
+        }
+        if (enabled) {
+            multiRowInsertBatch = MultiRowInsertBatch.of(getNamedPreparedStatementConfig(),
+                getProxyConnection().getDialect());
+            if (Objects.nonNull(multiRowInsertBatch) && Objects.isNull(parameterValues)) {
+                // the rows of the batch are built from the values bound by name
+                parameterValues = new ParameterValues(getNamedPreparedStatementConfig().getSlotCount());
+            }
+        } else {
+            try {
+                if (!multiRowInsertBatch.isEmpty()) {
+                    executeBatch();
+                }
+            } finally {
+                multiRowInsertBatch.close();
+                multiRowInsertBatch = null;
+            }
+        }
+    }
 }
@@ -36,14 +36,49 @@ public class GenericProxyPreparedStatement<P extends PreparedStatement> extends
         super(connection, delegate);
     }
 
+    protected GenericProxyPreparedStatement(final GenericProxyConnection connection, final P delegate,
+            final String sql)
+    {
+        super(connection, delegate, sql);
+    }
+
     public static <P extends PreparedStatement> GenericProxyPreparedStatement<P> build(
             final GenericProxyConnection connection, final P delegate)
     {
         return new GenericProxyPreparedStatement<>(connection, delegate);
     }
 
+    public static <P extends PreparedStatement> GenericProxyPreparedStatement<P> build(
+            final GenericProxyConnection connection, final P delegate, final String sql)
+    {
+        return new GenericProxyPreparedStatement<>(connection, delegate, sql);
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        adviseFetchSize(getSql());
+        return measure(getSql(), () -> getDelegate().execute());
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        if (isAutoBatch()) {
+            return addAutoBatchRow();
+        }
+        return recordUpdateCount(getSql(), measure(getSql(), () -> getDelegate().executeLargeUpdate()));
+    }
+
     @Override
     public ResultSet executeQuery() throws SQLException {
-        return GenericProxyResultSet.build(this, getDelegate().executeQuery());
+        adviseFetchSize(getSql());
+        return wrapResultSet(getSql(), measure(getSql(), () -> getDelegate().executeQuery()));
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        if (isAutoBatch()) {
+            return addAutoBatchRow();
+        }
+        return (int) recordUpdateCount(getSql(), measure(getSql(), () -> getDelegate().executeUpdate()));
     }
 }
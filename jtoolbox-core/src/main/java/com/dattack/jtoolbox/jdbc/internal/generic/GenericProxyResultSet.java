@@ -15,10 +15,9 @@
  */
 package com.dattack.jtoolbox.jdbc.internal.generic;
 
-import com.dattack.jtoolbox.jdbc.internal.ProxyResultSet;
+import com.dattack.jtoolbox.jdbc.internal.AbstractProxyResultSet;
 
 import java.sql.ResultSet;
-import java.sql.Statement;
 
 /**
  * A delegating implementation of {@link ResultSet}. All methods call the corresponding method on the "delegate"
@@ -27,27 +26,13 @@ import java.sql.Statement;
  * @author cvarela
  * @since 0.6
  */
-public final class GenericProxyResultSet implements ProxyResultSet {
-
-    private final GenericProxyStatement<?> statement;
-    private final ResultSet delegate;
+public final class GenericProxyResultSet extends AbstractProxyResultSet {
 
     private GenericProxyResultSet(GenericProxyStatement<?> statement, ResultSet delegate) {
-        this.statement = statement;
-        this.delegate = delegate;
+        super(statement, delegate);
     }
 
     public static GenericProxyResultSet build(GenericProxyStatement<?> statement, ResultSet delegate) {
         return new GenericProxyResultSet(statement, delegate);
     }
-
-    @Override
-    public ResultSet getDelegate() {
-        return delegate;
-    }
-
-    @Override
-    public Statement getStatement() {
-        return statement;
-    }
 }
@@ -15,11 +15,9 @@
  */
 package com.dattack.jtoolbox.jdbc.internal.generic;
 
-import com.dattack.jtoolbox.jdbc.internal.ProxyStatement;
+import com.dattack.jtoolbox.jdbc.internal.AbstractProxyStatement;
 
-import java.sql.Connection;
 import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.sql.Statement;
 
 /**
@@ -29,14 +27,14 @@ import java.sql.Statement;
  * @author cvarela
  * @since 0.6
  */
-public class GenericProxyStatement<S extends Statement> implements ProxyStatement<S> {
-
-    private final S delegate;
-    private final Connection connection;
+public class GenericProxyStatement<S extends Statement> extends AbstractProxyStatement<S> {
 
     protected GenericProxyStatement(final GenericProxyConnection connection, final S delegate) {
-        this.delegate = delegate;
-        this.connection = connection;
+        this(connection, delegate, null);
+    }
+
+    protected GenericProxyStatement(final GenericProxyConnection connection, final S delegate, final String sql) {
+        super(connection, delegate, sql);
     }
 
     public static <S extends Statement> GenericProxyStatement<?> build(
@@ -46,27 +44,7 @@ public class GenericProxyStatement<S extends Statement> implements ProxyStatemen
     }
 
     @Override
-    public ResultSet executeQuery(final String sql) throws SQLException {
-        return GenericProxyResultSet.build(this, getDelegate().executeQuery(sql));
-    }
-
-    @Override
-    public Connection getConnection() {
-        return connection;
-    }
-
-    @Override
-    public S getDelegate() {
-        return delegate;
-    }
-
-    @Override
-    public ResultSet getGeneratedKeys() throws SQLException {
-        return GenericProxyResultSet.build(this, getDelegate().getGeneratedKeys());
-    }
-
-    @Override
-    public ResultSet getResultSet() throws SQLException {
-        return GenericProxyResultSet.build(this, getDelegate().getResultSet());
+    protected ResultSet doWrapResultSet(final ResultSet resultSet) {
+        return GenericProxyResultSet.build(this, resultSet);
     }
 }
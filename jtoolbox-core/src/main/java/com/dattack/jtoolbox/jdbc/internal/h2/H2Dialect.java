@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal.h2;
+
+import com.dattack.jtoolbox.jdbc.internal.JdbcDialect;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
+import com.dattack.jtoolbox.jdbc.internal.generic.GenericProxyConnection;
+import org.apache.commons.lang.StringUtils;
+
+import java.sql.Connection;
+
+/**
+ * {@link JdbcDialect} for the H2 database engine.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public class H2Dialect implements JdbcDialect {
+
+    @Override
+    public String getName() {
+        return "H2";
+    }
+
+    @Override
+    public boolean supports(final String driverName) {
+        return StringUtils.containsIgnoreCase(driverName, "H2 JDBC Driver");
+    }
+
+    @Override
+    public boolean acceptsUrl(final String url) {
+        return StringUtils.startsWithIgnoreCase(url, "jdbc:h2:");
+    }
+
+    @Override
+    public ProxyConnection wrap(final Connection connection) {
+        return GenericProxyConnection.build(connection, this);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal.mysql;
+
+import com.dattack.jtoolbox.jdbc.internal.JdbcDialect;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
+import com.dattack.jtoolbox.jdbc.internal.generic.GenericProxyConnection;
+import org.apache.commons.lang.StringUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * {@link JdbcDialect} for the MySQL Connector/J driver. Batches are rewritten by the driver into multi-value
+ * statements (<code>rewriteBatchedStatements</code>) and streaming uses the row-by-row mode of the driver, enabled
+ * with a fetch size of {@link Integer#MIN_VALUE}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public class MySqlDialect implements JdbcDialect {
+
+    /* default */ static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+    @Override
+    public String getName() {
+        return "MySQL";
+    }
+
+    @Override
+    public boolean supports(final String driverName) {
+        return StringUtils.containsIgnoreCase(driverName, "MySQL");
+    }
+
+    @Override
+    public boolean acceptsUrl(final String url) {
+        return StringUtils.startsWithIgnoreCase(url, "jdbc:mysql:");
+    }
+
+    @Override
+    public void configureProperties(final Properties properties) {
+        properties.putIfAbsent(REWRITE_BATCHED_STATEMENTS, Boolean.TRUE.toString());
+    }
+
+    @Override
+    public void enableStreaming(final Statement statement, final int fetchSize) throws SQLException {
+        // the driver only streams the rows when the fetch size is Integer.MIN_VALUE
+        statement.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @Override
+    public int getMaxBindVariables() {
+        return 65_535; // NOPMD - the number of parameters is an unsigned 16-bit integer in the protocol
+    }
+
+    @Override
+    public ProxyConnection wrap(final Connection connection) {
+        return GenericProxyConnection.build(connection, this);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal.oracle;
+
+import com.dattack.jtoolbox.jdbc.internal.JdbcDialect;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
+import org.apache.commons.lang.StringUtils;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link JdbcDialect} for the Oracle drivers.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public class OracleDialect implements JdbcDialect {
+
+    // the built-in collection types are VARRAY(32767) of NUMBER and VARCHAR2(4000)
+    private static final int MAX_COLLECTION_SIZE = 32_767;
+    private static final int MAX_VARCHAR2_LENGTH = 4_000;
+    private static final int MAX_IN_LIST_ELEMENTS = 1_000;
+    private static final String NUMBER_LIST_TYPE = "SYS.ODCINUMBERLIST";
+    private static final String VARCHAR2_LIST_TYPE = "SYS.ODCIVARCHAR2LIST";
+
+    /**
+     * Binds the collections of numbers and strings as arrays of the built-in types <code>SYS.ODCINUMBERLIST</code>
+     * and <code>SYS.ODCIVARCHAR2LIST</code>, read with <code>TABLE(?)</code>.
+     *
+     * @param connection the connection
+     * @param elements   the elements of the collection
+     * @return the array or null when the elements don't fit one of the built-in collection types
+     * @throws SQLException if a database access error occurs
+     */
+    @Override
+    public Array createInListArray(final Connection connection, final Object[] elements) throws SQLException {
+        final String typeName = getCollectionType(elements);
+        return Objects.isNull(typeName) ? null : OracleUtils.createOracleArray(connection, typeName, elements);
+    }
+
+    private static String getCollectionType(final Object[] elements) {
+        if (elements.length > MAX_COLLECTION_SIZE) {
+            return null;
+        }
+        boolean numbers = true;
+        boolean strings = true;
+        for (final Object element : elements) {
+            if (Objects.nonNull(element)) {
+                numbers &= element instanceof Number;
+                strings &= element instanceof String && ((String) element).length() <= MAX_VARCHAR2_LENGTH;
+            }
+        }
+        if (strings) {
+            return VARCHAR2_LIST_TYPE; // also when the collection has no values
+        }
+        return numbers ? NUMBER_LIST_TYPE : null;
+    }
+
+    @Override
+    public String getInListArraySql() {
+        return "SELECT column_value FROM TABLE(?)";
+    }
+
+    /**
+     * An <code>IN (...)</code> list can't contain more than 1000 expressions (ORA-01795).
+     *
+     * @return 1000
+     */
+    @Override
+    public int getMaxInListElements() {
+        return MAX_IN_LIST_ELEMENTS;
+    }
+
+    @Override
+    public String getName() {
+        return "Oracle";
+    }
+
+    @Override
+    public boolean supports(final String driverName) {
+        return StringUtils.containsIgnoreCase(driverName, "Oracle");
+    }
+
+    @Override
+    public boolean acceptsUrl(final String url) {
+        return StringUtils.startsWithIgnoreCase(url, "jdbc:oracle:");
+    }
+
+    /**
+     * Combines the statements into a PL/SQL anonymous block that runs each of them with <code>EXECUTE
+     * IMMEDIATE</code>, so DDL and <code>ALTER SESSION</code> statements are accepted too.
+     *
+     * @param statements the statements to combine
+     * @return the anonymous block
+     */
+    @Override
+    public String toAnonymousBlock(final List<String> statements) {
+        final StringBuilder block = new StringBuilder("BEGIN\n");
+        for (final String statement : statements) {
+            String sql = StringUtils.stripEnd(statement.trim(), "/ \t\r\n");
+            if (!isPlsqlBlock(sql)) {
+                sql = StringUtils.stripEnd(sql, "; \t\r\n");
+            }
+            block.append("  EXECUTE IMMEDIATE '").append(StringUtils.replace(sql, "'", "''")).append("';\n");
+        }
+        return block.append("END;").toString();
+    }
+
+    private static boolean isPlsqlBlock(final String sql) {
+        // the terminator of a block is part of its syntax
+        return StringUtils.startsWithIgnoreCase(sql, "BEGIN") || StringUtils.startsWithIgnoreCase(sql, "DECLARE");
+    }
+
+    /**
+     * The multi-row <code>VALUES</code> clause is only available since Oracle 23ai, so it is never used.
+     *
+     * @return false
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return false;
+    }
+
+    @Override
+    public ProxyConnection wrap(final Connection connection) {
+        return OracleProxyConnection.build(connection);
+    }
+}
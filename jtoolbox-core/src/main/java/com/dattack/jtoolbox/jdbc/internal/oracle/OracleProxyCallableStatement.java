@@ -29,13 +29,21 @@ public final class OracleProxyCallableStatement extends OracleProxyPreparedState
         implements ProxyCallableStatement
 {
 
-    private OracleProxyCallableStatement(final OracleProxyConnection connection, final CallableStatement delegate) {
-        super(connection, delegate);
+    private OracleProxyCallableStatement(final OracleProxyConnection connection, final CallableStatement delegate,
+            final String sql)
+    {
+        super(connection, delegate, sql);
     }
 
     public static OracleProxyCallableStatement build(final OracleProxyConnection connection,
             final CallableStatement delegate)
     {
-        return new OracleProxyCallableStatement(connection, delegate);
+        return new OracleProxyCallableStatement(connection, delegate, null);
+    }
+
+    public static OracleProxyCallableStatement build(final OracleProxyConnection connection,
+            final CallableStatement delegate, final String sql)
+    {
+        return new OracleProxyCallableStatement(connection, delegate, sql);
     }
 }
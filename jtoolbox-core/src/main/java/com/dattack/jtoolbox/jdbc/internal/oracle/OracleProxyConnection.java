@@ -34,13 +34,23 @@ import java.sql.Statement;
 public class OracleProxyConnection extends AbstractProxyConnection {
 
     public OracleProxyConnection(final Connection delegate) {
-        super(delegate);
+        super(delegate, new OracleDialect());
     }
 
     public static ProxyConnection build(Connection delegate) {
         return new OracleProxyConnection(delegate);
     }
 
+    @Override
+    public int getImplicitStatementCacheSize() throws SQLException {
+        return OracleUtils.getImplicitStatementCacheSize(getInnermostDelegate());
+    }
+
+    @Override
+    public void setImplicitStatementCacheSize(final int size) throws SQLException {
+        OracleUtils.setImplicitStatementCacheSize(getInnermostDelegate(), size);
+    }
+
     @Override
     public NamedPreparedStatement prepareNamedStatement(String sql) throws SQLException {
         return OracleProxyNamedPreparedStatement.build(this, sql);
@@ -52,12 +62,12 @@ public class OracleProxyConnection extends AbstractProxyConnection {
     }
 
     @Override
-    protected CallableStatement doPrepareCall(final CallableStatement callableStatement) {
-        return OracleProxyCallableStatement.build(this, callableStatement);
+    protected CallableStatement doPrepareCall(final String sql, final CallableStatement callableStatement) {
+        return OracleProxyCallableStatement.build(this, callableStatement, sql);
     }
 
     @Override
-    protected PreparedStatement doPrepareStatement(final PreparedStatement preparedStatement) {
-        return OracleProxyPreparedStatement.build(this, preparedStatement);
+    protected PreparedStatement doPrepareStatement(final String sql, final PreparedStatement preparedStatement) {
+        return OracleProxyPreparedStatement.build(this, preparedStatement, sql);
     }
 }
@@ -15,13 +15,20 @@
  */
 package com.dattack.jtoolbox.jdbc.internal.oracle;
 
+import com.dattack.jtoolbox.jdbc.internal.ListParameters;
 import com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatementConfig;
+import com.dattack.jtoolbox.jdbc.internal.ParameterValues;
 import com.dattack.jtoolbox.jdbc.internal.ProxyNamedPreparedStatement;
+import com.dattack.jtoolbox.jdbc.internal.ResultCache;
 import org.apache.commons.lang.StringUtils;
 
 import java.sql.Clob;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collection;
+import java.util.Objects;
 
 /**
  * {@link ProxyNamedPreparedStatement} specific implementation for an Oracle underlying {@link PreparedStatement}.
@@ -36,12 +43,19 @@ public class OracleProxyNamedPreparedStatement extends OracleProxyPreparedStatem
     private static final int MAX_LENGTH_CLOB_AS_VARCHAR = 4_000;
 
     private final transient NamedPreparedStatementConfig namedPreparedStatementConfig;
+    private transient ParameterValues parameterValues;
+    private transient String[] cacheTags;
+    private transient ListParameters listParameters;
 
     protected OracleProxyNamedPreparedStatement(final OracleProxyConnection connection,
             final PreparedStatement delegate, final NamedPreparedStatementConfig namedPreparedStatementConfig)
     {
         super(connection, delegate);
         this.namedPreparedStatementConfig = namedPreparedStatementConfig;
+        // the values are also bound again when a collection is bound to an IN list
+        this.parameterValues = Objects.isNull(connection.getSlowQueryLog())
+            && !namedPreparedStatementConfig.hasInListParameters() ? null
+            : new ParameterValues(namedPreparedStatementConfig.getSlotCount());
     }
 
     /**
@@ -61,11 +75,125 @@ public class OracleProxyNamedPreparedStatement extends OracleProxyPreparedStatem
                 preparedStatementConfig.getCompiledSql()), preparedStatementConfig);
     }
 
+    @Override
+    public void addBatch() throws SQLException {
+        if (Objects.nonNull(prepareListStatement())) {
+            throw new SQLException("A statement with collections bound can't be batched");
+        }
+        super.addBatch();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            super.close();
+        } finally {
+            if (Objects.nonNull(listParameters)) {
+                listParameters.close();
+                listParameters = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        if (Objects.nonNull(prepareListStatement())) {
+            throw new SQLFeatureNotSupportedException(
+                "A statement with collections bound must be run with executeQuery or executeUpdate");
+        }
+        return super.execute();
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        final PreparedStatement listStatement = prepareListStatement();
+        return Objects.isNull(listStatement) ? super.executeLargeUpdate() : listStatement.executeLargeUpdate();
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        final PreparedStatement listStatement = prepareListStatement();
+        if (Objects.nonNull(listStatement)) {
+            return listStatement.executeQuery();
+        }
+        final ResultCache resultCache = Objects.isNull(cacheTags) ? null : getResultCache();
+        if (Objects.isNull(resultCache)) {
+            return super.executeQuery();
+        }
+        return resultCache.executeQuery(this, cacheTags, super::executeQuery);
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        final PreparedStatement listStatement = prepareListStatement();
+        return Objects.isNull(listStatement) ? super.executeUpdate() : listStatement.executeUpdate();
+    }
+
+    @Override
+    protected long estimateBatchRowSize() {
+        return Objects.isNull(parameterValues) ? 0 : parameterValues.estimateSize();
+    }
+
     @Override
     public NamedPreparedStatementConfig getNamedPreparedStatementConfig() {
         return namedPreparedStatementConfig;
     }
 
+    @Override
+    public ParameterValues getParameterValues() {
+        return parameterValues;
+    }
+
+    /**
+     * Returns the statement that runs this one with the collections bound to its parameters.
+     *
+     * @return the statement or null when no collection is bound
+     */
+    private PreparedStatement prepareListStatement() throws SQLException {
+        if (Objects.isNull(listParameters) || Objects.isNull(parameterValues)
+            || !listParameters.isBound(parameterValues))
+        {
+            return null;
+        }
+        return listParameters.prepare(getProxyConnection(), getProxyConnection().getDialect(),
+            parameterValues);
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return Objects.nonNull(cacheTags);
+    }
+
+    @Override
+    public void setAutoBatch(final int maxRows, final long maxBytes) throws SQLException {
+        super.setAutoBatch(maxRows, maxBytes);
+        if (maxBytes > 0 && Objects.isNull(parameterValues)) {
+            // the values are needed to estimate the size of the batch
+            parameterValues = new ParameterValues(getNamedPreparedStatementConfig().getSlotCount());
+        }
+    }
+
+    @Override
+    public void setCacheable(final boolean cacheable, final String... tags) {
+        if (cacheable) {
+            cacheTags = Objects.isNull(tags) ? new String[0] : tags.clone();
+            if (Objects.isNull(parameterValues)) {
+                // the values are the key of the cached results
+                parameterValues = new ParameterValues(getNamedPreparedStatementConfig().getSlotCount());
+            }
+        } else {
+            cacheTags = null;
+        }
+    }
+
+    @Override
+    public void setList(final String parameterName, final Collection<?> values) throws SQLException {
+        if (Objects.isNull(listParameters)) {
+            listParameters = new ListParameters(getNamedPreparedStatementConfig());
+        }
+        recordValue(parameterName, listParameters.set(parameterName, values));
+    }
+
     @Override
     public void setClob(final String parameterName, final String value) throws SQLException {
         if (StringUtils.length(value) < MAX_LENGTH_CLOB_AS_VARCHAR) {
@@ -35,14 +35,49 @@ public class OracleProxyPreparedStatement<P extends PreparedStatement> extends O
         super(connection, delegate);
     }
 
+    protected OracleProxyPreparedStatement(final OracleProxyConnection connection, final P delegate,
+            final String sql)
+    {
+        super(connection, delegate, sql);
+    }
+
     public static <P extends PreparedStatement> OracleProxyPreparedStatement<P> build(
             final OracleProxyConnection connection, final P delegate)
     {
         return new OracleProxyPreparedStatement<>(connection, delegate);
     }
 
+    public static <P extends PreparedStatement> OracleProxyPreparedStatement<P> build(
+            final OracleProxyConnection connection, final P delegate, final String sql)
+    {
+        return new OracleProxyPreparedStatement<>(connection, delegate, sql);
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        adviseFetchSize(getSql());
+        return measure(getSql(), () -> getDelegate().execute());
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        if (isAutoBatch()) {
+            return addAutoBatchRow();
+        }
+        return recordUpdateCount(getSql(), measure(getSql(), () -> getDelegate().executeLargeUpdate()));
+    }
+
     @Override
     public ResultSet executeQuery() throws SQLException {
-        return OracleProxyResultSet.build(this, getDelegate().executeQuery());
+        adviseFetchSize(getSql());
+        return wrapResultSet(getSql(), measure(getSql(), () -> getDelegate().executeQuery()));
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        if (isAutoBatch()) {
+            return addAutoBatchRow();
+        }
+        return (int) recordUpdateCount(getSql(), measure(getSql(), () -> getDelegate().executeUpdate()));
     }
 }
@@ -15,10 +15,10 @@
  */
 package com.dattack.jtoolbox.jdbc.internal.oracle;
 
+import com.dattack.jtoolbox.jdbc.internal.AbstractProxyResultSet;
 import com.dattack.jtoolbox.jdbc.internal.ProxyResultSet;
 
 import java.sql.ResultSet;
-import java.sql.Statement;
 
 /**
  * {@link ProxyResultSet} specific implementation for an Oracle underlying {@link ResultSet}.
@@ -26,27 +26,13 @@ import java.sql.Statement;
  * @author cvarela
  * @since 0.6
  */
-public final class OracleProxyResultSet implements ProxyResultSet {
-
-    private final OracleProxyStatement<?> statement;
-    private final ResultSet delegate;
+public final class OracleProxyResultSet extends AbstractProxyResultSet {
 
     private OracleProxyResultSet(OracleProxyStatement<?> statement, ResultSet delegate) {
-        this.statement = statement;
-        this.delegate = delegate;
+        super(statement, delegate);
     }
 
     public static OracleProxyResultSet build(OracleProxyStatement<?> statement, ResultSet delegate) {
         return new OracleProxyResultSet(statement, delegate);
     }
-
-    @Override
-    public ResultSet getDelegate() {
-        return delegate;
-    }
-
-    @Override
-    public Statement getStatement() {
-        return statement;
-    }
 }
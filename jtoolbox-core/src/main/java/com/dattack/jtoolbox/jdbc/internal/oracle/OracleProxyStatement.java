@@ -15,9 +15,9 @@
  */
 package com.dattack.jtoolbox.jdbc.internal.oracle;
 
+import com.dattack.jtoolbox.jdbc.internal.AbstractProxyStatement;
 import com.dattack.jtoolbox.jdbc.internal.ProxyStatement;
 
-import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -25,17 +25,27 @@ import java.sql.Statement;
 /**
  * {@link ProxyStatement} specific implementation for an Oracle underlying {@link Statement}.
  *
+ * <p>The Oracle settings changed through this proxy are restored when it is closed, since the underlying statement
+ * may be returned to a statement cache and handed out again.</p>
+ *
  * @author cvarela
  * @since 0.6
  */
-public class OracleProxyStatement<S extends Statement> implements ProxyStatement<S> {
+public class OracleProxyStatement<S extends Statement> extends AbstractProxyStatement<S> {
+
+    private static final int UNCHANGED = Integer.MIN_VALUE;
 
-    private final S delegate;
-    private final OracleProxyConnection connection;
+    private transient int initialExecuteBatch = UNCHANGED;
+    private transient int initialLobPrefetchSize = UNCHANGED;
+    private transient int initialRowPrefetch = UNCHANGED;
+    private transient boolean columnTypesDefined;
 
     protected OracleProxyStatement(final OracleProxyConnection connection, final S delegate) {
-        this.delegate = delegate;
-        this.connection = connection;
+        this(connection, delegate, null);
+    }
+
+    protected OracleProxyStatement(final OracleProxyConnection connection, final S delegate, final String sql) {
+        super(connection, delegate, sql);
     }
 
     public static <S extends Statement> OracleProxyStatement<S> build(final OracleProxyConnection connection,
@@ -45,37 +55,89 @@ public class OracleProxyStatement<S extends Statement> implements ProxyStatement
     }
 
     @Override
-    public ResultSet executeQuery(final String sql) throws SQLException {
-        return OracleProxyResultSet.build(this, getDelegate().executeQuery(sql));
+    public void close() throws SQLException {
+        try {
+            restoreSettings();
+        } finally {
+            super.close();
+        }
     }
 
     @Override
-    public Connection getConnection() throws SQLException {
-        return connection;
+    protected ResultSet doWrapResultSet(final ResultSet resultSet) {
+        return OracleProxyResultSet.build(this, resultSet);
     }
 
     @Override
-    public S getDelegate() {
-        return delegate;
+    public void defineColumnType(final int columnIndex, final int type) throws SQLException {
+        columnTypesDefined = true;
+        OracleUtils.defineColumnType(getInnermostDelegate(), columnIndex, type);
     }
 
     @Override
-    public ResultSet getGeneratedKeys() throws SQLException {
-        return OracleProxyResultSet.build(this, getDelegate().getGeneratedKeys());
+    public void defineColumnType(final int columnIndex, final int type, final int maxSize) throws SQLException {
+        columnTypesDefined = true;
+        OracleUtils.defineColumnType(getInnermostDelegate(), columnIndex, type, maxSize);
     }
 
     @Override
-    public int getLobPrefetchSize() {
+    public int getExecuteBatch() throws SQLException {
+        return OracleUtils.getExecuteBatch(getInnermostDelegate());
+    }
+
+    @Override
+    public void setExecuteBatch(final int value) throws SQLException {
+        if (initialExecuteBatch == UNCHANGED) {
+            initialExecuteBatch = getExecuteBatch();
+        }
+        OracleUtils.setExecuteBatch(getInnermostDelegate(), value);
+    }
+
+    @Override
+    public int getLobPrefetchSize() throws SQLException {
         return OracleUtils.getLobPrefetchSize(getInnermostDelegate());
     }
 
     @Override
-    public void setLobPrefetchSize(final int value) {
+    public void setLobPrefetchSize(final int value) throws SQLException {
+        if (initialLobPrefetchSize == UNCHANGED) {
+            initialLobPrefetchSize = getLobPrefetchSize();
+        }
         OracleUtils.setLobPrefetchSize(getInnermostDelegate(), value);
     }
 
     @Override
-    public ResultSet getResultSet() throws SQLException {
-        return OracleProxyResultSet.build(this, getDelegate().getResultSet());
+    public int getRowPrefetch() throws SQLException {
+        return OracleUtils.getRowPrefetch(getInnermostDelegate());
+    }
+
+    @Override
+    public void setRowPrefetch(final int value) throws SQLException {
+        if (initialRowPrefetch == UNCHANGED) {
+            initialRowPrefetch = getRowPrefetch();
+        }
+        OracleUtils.setRowPrefetch(getInnermostDelegate(), value);
+    }
+
+    private void restoreSettings() throws SQLException {
+        if (getInnermostDelegate().isClosed()) {
+            return;
+        }
+        if (columnTypesDefined) {
+            OracleUtils.clearDefines(getInnermostDelegate());
+            columnTypesDefined = false;
+        }
+        if (initialExecuteBatch != UNCHANGED) {
+            OracleUtils.setExecuteBatch(getInnermostDelegate(), initialExecuteBatch);
+            initialExecuteBatch = UNCHANGED;
+        }
+        if (initialLobPrefetchSize != UNCHANGED) {
+            OracleUtils.setLobPrefetchSize(getInnermostDelegate(), initialLobPrefetchSize);
+            initialLobPrefetchSize = UNCHANGED;
+        }
+        if (initialRowPrefetch != UNCHANGED) {
+            OracleUtils.setRowPrefetch(getInnermostDelegate(), initialRowPrefetch);
+            initialRowPrefetch = UNCHANGED;
+        }
     }
 }
@@ -15,59 +15,253 @@
  */
 package com.dattack.jtoolbox.jdbc.internal.oracle;
 
+import com.dattack.jtoolbox.jdbc.internal.ExtendedConnection;
 import com.dattack.jtoolbox.jdbc.internal.ExtendedStatement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.Array;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Wrapper;
+import java.util.Objects;
 
 /**
- * Utility methods to handle operations on oracle.jdbc.OracleStatement instances.
+ * Utility methods to handle operations on oracle.jdbc.OracleStatement, oracle.jdbc.OraclePreparedStatement and
+ * oracle.jdbc.OracleConnection instances. The methods of the Oracle driver are resolved only once into
+ * {@link MethodHandle} objects; when the driver is not available, the handles are <code>null</code> and every
+ * operation falls back to a no-op without further lookups.
  *
  * @author cvarela
  * @since 0.6
  */
+@SuppressWarnings("PMD.AvoidCatchingThrowable")
 public final class OracleUtils {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OracleUtils.class);
+
     private static final String ORACLE_STMT_CLASS = "oracle.jdbc.OracleStatement";
+    private static final String ORACLE_PSTMT_CLASS = "oracle.jdbc.OraclePreparedStatement";
+    private static final String ORACLE_CONN_CLASS = "oracle.jdbc.OracleConnection";
+
+    private static final MethodType INT_GETTER = MethodType.methodType(int.class);
+    private static final MethodType INT_SETTER = MethodType.methodType(void.class, int.class);
+
+    private static final Class<?> STATEMENT_CLASS = loadClass(ORACLE_STMT_CLASS);
+    private static final Class<?> PREPARED_STATEMENT_CLASS = loadClass(ORACLE_PSTMT_CLASS);
+    private static final Class<?> CONNECTION_CLASS = loadClass(ORACLE_CONN_CLASS);
+
+    private static final MethodHandle GET_LOB_PREFETCH_SIZE = //
+        findVirtual(STATEMENT_CLASS, "getLobPrefetchSize", INT_GETTER);
+    private static final MethodHandle SET_LOB_PREFETCH_SIZE = //
+        findVirtual(STATEMENT_CLASS, "setLobPrefetchSize", INT_SETTER);
+    private static final MethodHandle GET_ROW_PREFETCH = findVirtual(STATEMENT_CLASS, "getRowPrefetch", INT_GETTER);
+    private static final MethodHandle SET_ROW_PREFETCH = findVirtual(STATEMENT_CLASS, "setRowPrefetch", INT_SETTER);
+    private static final MethodHandle DEFINE_COLUMN_TYPE = findVirtual(STATEMENT_CLASS, "defineColumnType",
+        MethodType.methodType(void.class, int.class, int.class));
+    private static final MethodHandle DEFINE_COLUMN_TYPE_WITH_SIZE = findVirtual(STATEMENT_CLASS, "defineColumnType",
+        MethodType.methodType(void.class, int.class, int.class, int.class));
+    private static final MethodHandle CLEAR_DEFINES = findVirtual(STATEMENT_CLASS, "clearDefines",
+        MethodType.methodType(void.class));
+    private static final MethodHandle GET_EXECUTE_BATCH = //
+        findVirtual(PREPARED_STATEMENT_CLASS, "getExecuteBatch", INT_GETTER);
+    private static final MethodHandle SET_EXECUTE_BATCH = //
+        findVirtual(PREPARED_STATEMENT_CLASS, "setExecuteBatch", INT_SETTER);
+    private static final MethodHandle GET_STATEMENT_CACHE_SIZE = //
+        findVirtual(CONNECTION_CLASS, "getStatementCacheSize", INT_GETTER);
+    private static final MethodHandle SET_STATEMENT_CACHE_SIZE = //
+        findVirtual(CONNECTION_CLASS, "setStatementCacheSize", INT_SETTER);
+    private static final MethodHandle SET_IMPLICIT_CACHING_ENABLED = findVirtual(CONNECTION_CLASS,
+        "setImplicitCachingEnabled", MethodType.methodType(void.class, boolean.class));
+    private static final MethodHandle CREATE_ORACLE_ARRAY = findVirtual(CONNECTION_CLASS, "createOracleArray",
+        MethodType.methodType(Array.class, String.class, Object.class));
 
     private OracleUtils() {
         // static class
     }
 
+    /**
+     * Dynamic execution of the method createOracleArray(String, Object) on an instance of
+     * oracle.jdbc.OracleConnection.
+     *
+     * @param connection the connection
+     * @param typeName   the name of the SQL collection type
+     * @param elements   the elements of the array
+     * @return the array or null when the connection is not an Oracle connection
+     * @throws SQLException if a database access error occurs
+     */
+    public static Array createOracleArray(final Connection connection, final String typeName,
+        final Object[] elements) throws SQLException
+    {
+        final Object target = unwrap(connection, CONNECTION_CLASS);
+        if (Objects.isNull(target) || Objects.isNull(CREATE_ORACLE_ARRAY)) {
+            return null;
+        }
+        try {
+            return (Array) CREATE_ORACLE_ARRAY.invokeExact(target, typeName, (Object) elements);
+        } catch (final Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Dynamic execution of the method clearDefines on an instance of oracle.jdbc.OracleStatement.
+     *
+     * @param statement the statement
+     * @throws SQLException if a database access error occurs
+     * @see #defineColumnType(Statement, int, int)
+     */
+    public static void clearDefines(final Statement statement) throws SQLException {
+        final Object target = unwrap(statement, STATEMENT_CLASS);
+        if (Objects.nonNull(target) && Objects.nonNull(CLEAR_DEFINES)) {
+            try {
+                CLEAR_DEFINES.invokeExact(target);
+            } catch (final Throwable e) {
+                throw propagate(e);
+            }
+        }
+    }
+
+    /**
+     * Dynamic execution of the method defineColumnType(int, int) on an instance of oracle.jdbc.OracleStatement.
+     *
+     * @param statement   the statement
+     * @param columnIndex the index of the column (first is 1)
+     * @param type        the type to be used when fetching the column, as defined in {@link java.sql.Types}
+     * @throws SQLException if a database access error occurs
+     * @see ExtendedStatement#defineColumnType(int, int)
+     */
+    public static void defineColumnType(final Statement statement, final int columnIndex, final int type)
+        throws SQLException
+    {
+        final Object target = unwrap(statement, STATEMENT_CLASS);
+        if (Objects.nonNull(target) && Objects.nonNull(DEFINE_COLUMN_TYPE)) {
+            try {
+                DEFINE_COLUMN_TYPE.invokeExact(target, columnIndex, type);
+            } catch (final Throwable e) {
+                throw propagate(e);
+            }
+        }
+    }
+
+    /**
+     * Dynamic execution of the method defineColumnType(int, int, int) on an instance of oracle.jdbc.OracleStatement.
+     *
+     * @param statement   the statement
+     * @param columnIndex the index of the column (first is 1)
+     * @param type        the type to be used when fetching the column, as defined in {@link java.sql.Types}
+     * @param maxSize     the maximum length of the data to fetch
+     * @throws SQLException if a database access error occurs
+     * @see ExtendedStatement#defineColumnType(int, int, int)
+     */
+    public static void defineColumnType(final Statement statement, final int columnIndex, final int type,
+        final int maxSize) throws SQLException
+    {
+        final Object target = unwrap(statement, STATEMENT_CLASS);
+        if (Objects.nonNull(target) && Objects.nonNull(DEFINE_COLUMN_TYPE_WITH_SIZE)) {
+            try {
+                DEFINE_COLUMN_TYPE_WITH_SIZE.invokeExact(target, columnIndex, type, maxSize);
+            } catch (final Throwable e) {
+                throw propagate(e);
+            }
+        }
+    }
+
+    /**
+     * Dynamic execution of the method getExecuteBatch on an instance of oracle.jdbc.OraclePreparedStatement.
+     *
+     * @param statement the statement
+     * @return the batch value or 1 when the statement is not an Oracle prepared statement
+     * @throws SQLException if a database access error occurs
+     * @see ExtendedStatement#getExecuteBatch()
+     */
+    public static int getExecuteBatch(final Statement statement) throws SQLException {
+        return getInt(statement, PREPARED_STATEMENT_CLASS, GET_EXECUTE_BATCH, 1);
+    }
+
+    /**
+     * Dynamic execution of the method getStatementCacheSize on an instance of oracle.jdbc.OracleConnection.
+     *
+     * @param connection the connection
+     * @return the size of the implicit statement cache
+     * @throws SQLException if a database access error occurs
+     * @see ExtendedConnection#getImplicitStatementCacheSize()
+     */
+    public static int getImplicitStatementCacheSize(final Connection connection) throws SQLException {
+        return getInt(connection, CONNECTION_CLASS, GET_STATEMENT_CACHE_SIZE, 0);
+    }
+
     /**
      * Dynamic execution of the method getLobPrefetchSize on an instance of oracle.jdbc.OracleStatement.
      *
      * @param statement the statement
      * @return the LOB prefetch size
+     * @throws SQLException if a database access error occurs
      * @see ExtendedStatement#getLobPrefetchSize()
      */
-    public static int getLobPrefetchSize(final Statement statement) {
-        if (statement != null) {
-            try {
-                Object oracleStmt = getOracle(statement);
-                if (oracleStmt != null) {
-                    final Method method = oracleStmt.getClass().getDeclaredMethod("getLobPrefetchSize");
-                    method.setAccessible(true);
-                    return (int) method.invoke(oracleStmt);
-                }
-            } catch (SQLException | ReflectiveOperationException e) {
-                LOGGER.warn("Unable to get LOB prefetch size ({})", e.getMessage());
-            }
+    public static int getLobPrefetchSize(final Statement statement) throws SQLException {
+        return getInt(statement, STATEMENT_CLASS, GET_LOB_PREFETCH_SIZE, -1);
+    }
+
+    /**
+     * Dynamic execution of the method getRowPrefetch on an instance of oracle.jdbc.OracleStatement.
+     *
+     * @param statement the statement
+     * @return the row prefetch value
+     * @throws SQLException if a database access error occurs
+     * @see ExtendedStatement#getRowPrefetch()
+     */
+    public static int getRowPrefetch(final Statement statement) throws SQLException {
+        final Object target = unwrap(statement, STATEMENT_CLASS);
+        if (Objects.isNull(target) || Objects.isNull(GET_ROW_PREFETCH)) {
+            return Objects.isNull(statement) ? 0 : statement.getFetchSize();
         }
-        return -1;
+        return invokeGetter(GET_ROW_PREFETCH, target);
     }
 
-    private static Object getOracle(final Statement statement) throws SQLException, ClassNotFoundException {
-        Object oraStmt = null;
-        final Class<?> oracleClass = Class.forName(ORACLE_STMT_CLASS);
-        if (statement.isWrapperFor(oracleClass)) {
-            oraStmt = statement.unwrap(oracleClass);
+    /**
+     * Dynamic execution of the method setExecuteBatch(int) on an instance of oracle.jdbc.OraclePreparedStatement.
+     *
+     * @param statement the statement
+     * @param value     the batch value
+     * @throws SQLException if a database access error occurs
+     * @see ExtendedStatement#setExecuteBatch(int)
+     */
+    public static void setExecuteBatch(final Statement statement, final int value) throws SQLException {
+        setInt(statement, PREPARED_STATEMENT_CLASS, SET_EXECUTE_BATCH, value);
+    }
+
+    /**
+     * Dynamic execution of the methods setImplicitCachingEnabled(boolean) and setStatementCacheSize(int) on an
+     * instance of oracle.jdbc.OracleConnection.
+     *
+     * @param connection the connection
+     * @param size       the size of the implicit statement cache; 0 or a negative value disables the cache
+     * @throws SQLException if a database access error occurs
+     * @see ExtendedConnection#setImplicitStatementCacheSize(int)
+     */
+    public static void setImplicitStatementCacheSize(final Connection connection, final int size)
+        throws SQLException
+    {
+        final Object target = unwrap(connection, CONNECTION_CLASS);
+        if (Objects.nonNull(target) && Objects.nonNull(SET_IMPLICIT_CACHING_ENABLED)
+            && Objects.nonNull(SET_STATEMENT_CACHE_SIZE))
+        {
+            try {
+                if (size > 0) {
+                    SET_STATEMENT_CACHE_SIZE.invokeExact(target, size);
+                    SET_IMPLICIT_CACHING_ENABLED.invokeExact(target, true);
+                } else {
+                    SET_IMPLICIT_CACHING_ENABLED.invokeExact(target, false);
+                }
+            } catch (final Throwable e) {
+                throw propagate(e);
+            }
         }
-        return oraStmt;
     }
 
     /**
@@ -75,20 +269,112 @@ public final class OracleUtils {
      *
      * @param statement the statement
      * @param value     the value to set
+     * @throws SQLException if a database access error occurs
      * @see ExtendedStatement#setLobPrefetchSize(int)
      */
-    public static void setLobPrefetchSize(final Statement statement, final int value) {
-        if (statement != null) {
-            try {
-                Object oracleStmt = getOracle(statement);
-                if (oracleStmt != null) {
-                    final Method method = oracleStmt.getClass().getDeclaredMethod("setLobPrefetchSize", int.class);
-                    method.setAccessible(true);
-                    method.invoke(oracleStmt, value);
-                }
-            } catch (SQLException | ReflectiveOperationException e) {
-                LOGGER.warn("Unable to set LOB prefetch size ({})", e.getMessage());
+    public static void setLobPrefetchSize(final Statement statement, final int value) throws SQLException {
+        setInt(statement, STATEMENT_CLASS, SET_LOB_PREFETCH_SIZE, value);
+    }
+
+    /**
+     * Dynamic execution of the method setRowPrefetch(int) on an instance of oracle.jdbc.OracleStatement.
+     *
+     * @param statement the statement
+     * @param value     the number of rows to prefetch
+     * @throws SQLException if a database access error occurs
+     * @see ExtendedStatement#setRowPrefetch(int)
+     */
+    public static void setRowPrefetch(final Statement statement, final int value) throws SQLException {
+        final Object target = unwrap(statement, STATEMENT_CLASS);
+        if (Objects.isNull(target) || Objects.isNull(SET_ROW_PREFETCH)) {
+            if (Objects.nonNull(statement)) {
+                statement.setFetchSize(value);
             }
+        } else {
+            invokeSetter(SET_ROW_PREFETCH, target, value);
+        }
+    }
+
+    private static MethodHandle findVirtual(final Class<?> clazz, final String name, final MethodType type) {
+        if (Objects.isNull(clazz)) {
+            return null;
+        }
+        try {
+            final MethodHandle handle = MethodHandles.publicLookup().findVirtual(clazz, name, type);
+            // erase the receiver type so the handle can be invoked with invokeExact on an Object reference
+            return handle.asType(handle.type().changeParameterType(0, Object.class));
+        } catch (final ReflectiveOperationException e) {
+            LOGGER.debug("Method {}.{} not available ({})", clazz.getName(), name, e.getMessage());
+            return null;
+        }
+    }
+
+    private static int getInt(final Wrapper object, final Class<?> oracleClass, final MethodHandle getter,
+        final int defaultValue) throws SQLException
+    {
+        final Object target = unwrap(object, oracleClass);
+        if (Objects.isNull(target) || Objects.isNull(getter)) {
+            return defaultValue;
+        }
+        return invokeGetter(getter, target);
+    }
+
+    private static int invokeGetter(final MethodHandle getter, final Object target) throws SQLException {
+        try {
+            return (int) getter.invokeExact(target);
+        } catch (final Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    private static void invokeSetter(final MethodHandle setter, final Object target, final int value)
+        throws SQLException
+    {
+        try {
+            setter.invokeExact(target, value);
+        } catch (final Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    private static Class<?> loadClass(final String className) {
+        try {
+            return Class.forName(className);
+        } catch (final ClassNotFoundException | LinkageError e) {
+            LOGGER.debug("Oracle driver class {} not available ({})", className, e.getMessage());
+            return null;
+        }
+    }
+
+    private static SQLException propagate(final Throwable throwable) {
+        if (throwable instanceof SQLException) {
+            return (SQLException) throwable;
+        }
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new SQLException(throwable.getMessage(), throwable);
+    }
+
+    private static void setInt(final Wrapper object, final Class<?> oracleClass, final MethodHandle setter,
+        final int value) throws SQLException
+    {
+        final Object target = unwrap(object, oracleClass);
+        if (Objects.nonNull(target) && Objects.nonNull(setter)) {
+            invokeSetter(setter, target, value);
+        }
+    }
+
+    private static Object unwrap(final Wrapper object, final Class<?> oracleClass) throws SQLException {
+        if (Objects.isNull(object) || Objects.isNull(oracleClass)) {
+            return null;
+        }
+        if (oracleClass.isInstance(object)) {
+            return object;
         }
+        return object.isWrapperFor(oracleClass) ? object.unwrap(oracleClass) : null;
     }
 }
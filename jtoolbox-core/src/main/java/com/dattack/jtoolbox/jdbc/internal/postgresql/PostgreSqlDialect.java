@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal.postgresql;
+
+import com.dattack.jtoolbox.jdbc.internal.JdbcDialect;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
+import com.dattack.jtoolbox.jdbc.internal.generic.GenericProxyConnection;
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * {@link JdbcDialect} for the PostgreSQL driver. Batched inserts are rewritten by the driver into multi-row
+ * statements (<code>reWriteBatchedInserts</code>) and streaming relies on server-side cursors, which the driver only
+ * uses when the fetch size is positive and auto-commit is disabled.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public class PostgreSqlDialect implements JdbcDialect {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgreSqlDialect.class);
+
+    /* default */ static final String REWRITE_BATCHED_INSERTS = "reWriteBatchedInserts";
+
+    @Override
+    public String getName() {
+        return "PostgreSQL";
+    }
+
+    @Override
+    public boolean supports(final String driverName) {
+        return StringUtils.containsIgnoreCase(driverName, "PostgreSQL");
+    }
+
+    @Override
+    public boolean acceptsUrl(final String url) {
+        return StringUtils.startsWithIgnoreCase(url, "jdbc:postgresql:");
+    }
+
+    @Override
+    public void configureProperties(final Properties properties) {
+        properties.putIfAbsent(REWRITE_BATCHED_INSERTS, Boolean.TRUE.toString());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The driver only uses a server-side cursor inside a transaction, so this method disables the auto-commit mode
+     * of the connection when it is enabled. Otherwise, the driver would silently load the whole result in memory.
+     * The caller is responsible for ending the transaction and restoring the auto-commit mode.</p>
+     */
+    @Override
+    public void enableStreaming(final Statement statement, final int fetchSize) throws SQLException {
+        final Connection connection = statement.getConnection();
+        if (connection.getAutoCommit()) {
+            LOGGER.debug("Disabling auto-commit: the PostgreSQL driver only uses server-side cursors in a transaction");
+            connection.setAutoCommit(false);
+        }
+        statement.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public int getMaxBindVariables() {
+        return Short.MAX_VALUE; // the protocol sends the number of parameters as a 16-bit integer
+    }
+
+    @Override
+    public ProxyConnection wrap(final Connection connection) {
+        return GenericProxyConnection.build(connection, this);
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A thread-safe, size-bounded cache that evicts the least recently used entry when the maximum size is exceeded.
+ * The cache keeps hit, miss and eviction counters that can be consulted through {@link #getStats()}.
+ *
+ * <p>The entries are kept in a {@link ConcurrentHashMap}, so the lookups don't take any lock. Each entry is stamped
+ * with the value of a logical clock that only moves forward on insertions, so a lookup only writes the stamp of an
+ * entry when it has been inserted or read before the last insertion. The eviction is an approximation of LRU: the
+ * victim is the least recently used entry of a sample, taken with an iterator that keeps its position from one
+ * eviction to the next. The evictions are serialised by a lock, but the eviction listener is notified after
+ * releasing it.</p>
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ * @author cvarela
+ * @since 0.7
+ */
+public final class LruCache<K, V> {
+
+    private static final int SAMPLE_SIZE = 16;
+
+    private final transient ConcurrentHashMap<K, Node<V>> map;
+    private final transient BiConsumer<K, V> evictionListener;
+    private final transient LongAdder hits;
+    private final transient LongAdder misses;
+    private final transient LongAdder evictions;
+    private final transient AtomicLong clock;
+    private final transient ReentrantLock evictionLock;
+    private transient Iterator<Map.Entry<K, Node<V>>> sampler;
+    private transient volatile int maxSize;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize the maximum number of entries
+     */
+    public LruCache(final int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Creates a new cache that notifies the evicted entries to the given listener.
+     *
+     * @param maxSize          the maximum number of entries
+     * @param evictionListener the listener to notify when an entry is evicted, may be null
+     * @throws IllegalArgumentException if <code>maxSize</code> is not a positive number
+     */
+    public LruCache(final int maxSize, final BiConsumer<K, V> evictionListener) {
+        checkMaxSize(maxSize);
+        this.maxSize = maxSize;
+        this.evictionListener = evictionListener;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.clock = new AtomicLong();
+        this.evictionLock = new ReentrantLock();
+        this.map = new ConcurrentHashMap<>();
+    }
+
+    private static void checkMaxSize(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(String.format("Cache size must be greater than 0 (%d)", maxSize));
+        }
+    }
+
+    /**
+     * Creates the node of a new entry. Its stamp is newer than the stamps of all the existing entries, and the clock
+     * moves past it, so the entries read from now on are newer than this one.
+     */
+    private Node<V> newNode(final V value) {
+        return new Node<>(value, clock.addAndGet(2) - 1);
+    }
+
+    /**
+     * Evicts the least recently used entries until the size of this cache is not above its maximum size, and then
+     * notifies the evicted entries to the listener.
+     */
+    private void evict() {
+        if (map.size() <= maxSize) {
+            return;
+        }
+        final List<Map.Entry<K, Node<V>>> evicted = new ArrayList<>();
+        evictionLock.lock();
+        try {
+            while (map.size() > maxSize) {
+                final Map.Entry<K, Node<V>> victim = sample();
+                if (Objects.nonNull(victim) && map.remove(victim.getKey(), victim.getValue())) {
+                    evicted.add(victim);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        for (final Map.Entry<K, Node<V>> entry : evicted) {
+            evictions.increment();
+            if (Objects.nonNull(evictionListener)) {
+                evictionListener.accept(entry.getKey(), entry.getValue().value);
+            }
+        }
+    }
+
+    /**
+     * Returns the least recently used entry among the next entries of the sampler. Must be called with the eviction
+     * lock held.
+     */
+    private Map.Entry<K, Node<V>> sample() {
+        Map.Entry<K, Node<V>> victim = null;
+        final int count = Math.min(SAMPLE_SIZE, map.size());
+        boolean restarted = false;
+        for (int i = 0; i < count; i++) {
+            if (Objects.isNull(sampler) || !sampler.hasNext()) {
+                if (restarted) {
+                    break;
+                }
+                sampler = map.entrySet().iterator();
+                restarted = true;
+                if (!sampler.hasNext()) {
+                    break;
+                }
+            }
+            final Map.Entry<K, Node<V>> entry = sampler.next();
+            if (Objects.isNull(victim) || entry.getValue().stamp < victim.getValue().stamp) {
+                victim = entry;
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * Removes all the entries of this cache. The eviction listener is not notified.
+     */
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * Returns the value associated to the key, computing it with the given function when it is not present. The
+     * function is evaluated without any lock, so it may be called more than once for the same key under contention;
+     * only the first computed value is retained.
+     *
+     * @param key             the key
+     * @param mappingFunction the function used to compute the value
+     * @return the current (existing or computed) value associated with the specified key
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+        if (Objects.isNull(value)) {
+            final V newValue = mappingFunction.apply(key);
+            if (Objects.nonNull(newValue)) {
+                final Node<V> previous = map.putIfAbsent(key, newNode(newValue));
+                if (Objects.isNull(previous)) {
+                    evict();
+                } else {
+                    value = previous.value;
+                }
+            }
+            if (Objects.isNull(value)) {
+                value = newValue;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value associated to the key or <code>null</code> if this cache contains no mapping for the key.
+     *
+     * @param key the key
+     * @return the value associated to the key or null
+     */
+    public V get(final K key) {
+        final Node<V> node = map.get(key);
+        if (Objects.isNull(node)) {
+            misses.increment();
+            return null;
+        }
+        final long now = clock.get();
+        if (node.stamp != now) {
+            node.stamp = now;
+        }
+        hits.increment();
+        return node.value;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Changes the maximum number of entries, evicting the least recently used entries if needed.
+     *
+     * @param value the new maximum size
+     * @throws IllegalArgumentException if <code>value</code> is not a positive number
+     */
+    public void setMaxSize(final int value) {
+        checkMaxSize(value);
+        this.maxSize = value;
+        evict();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the statistics of this cache
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    /**
+     * Associates the value with the key.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value associated with the key, or null if there was no mapping for the key
+     */
+    public V put(final K key, final V value) {
+        final Node<V> previous = map.put(key, newNode(value));
+        evict();
+        return Objects.isNull(previous) ? null : previous.value;
+    }
+
+    /**
+     * Removes the mapping for a key from this cache if it is present. The eviction listener is not notified.
+     *
+     * @param key the key
+     * @return the previous value associated with the key, or null if there was no mapping for the key
+     */
+    public V remove(final K key) {
+        final Node<V> previous = map.remove(key);
+        return Objects.isNull(previous) ? null : previous.value;
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns a snapshot of the values of this cache, from the least to the most recently used.
+     *
+     * @return a new list containing the cached values
+     */
+    public List<V> values() {
+        return map.values().stream() //
+            .sorted(Comparator.comparingLong(node -> node.stamp)) //
+            .map(node -> node.value) //
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * A cached value along with the clock value of its last use.
+     */
+    private static final class Node<V> {
+
+        private final transient V value;
+        private transient volatile long stamp;
+
+        private Node(final V value, final long stamp) {
+            this.value = value;
+            this.stamp = stamp;
+        }
+    }
+
+    /**
+     * Immutable snapshot of the statistics of a {@link LruCache}.
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        public Stats(final long hitCount, final long missCount, final long evictionCount, final int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * Returns the ratio of lookups that found a cached value, or <code>0</code> when no lookup was made.
+         *
+         * @return the hit ratio in range [0..1]
+         */
+        public double getHitRatio() {
+            final long total = hitCount + missCount;
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Stats[hits=%d, misses=%d, evictions=%d, size=%d]", hitCount, missCount,
+                                 evictionCount, size);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.util.function;
+
+/**
+ * Represents a supplier of results. Unlike {@link java.util.function.Supplier} its functional method can throw an
+ * exception.
+ *
+ * @param <T> the type of results supplied by this supplier
+ * @param <E> the exception thrown
+ * @author cvarela
+ * @see java.util.function.Supplier
+ * @since 0.7
+ */
+@FunctionalInterface
+public interface ThrowingSupplier<T, E extends Exception> {
+
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     * @throws E the exception thrown when an error occurs
+     */
+    T get() throws E;
+}
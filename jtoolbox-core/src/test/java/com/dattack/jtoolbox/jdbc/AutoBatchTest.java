@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import com.dattack.jtoolbox.jdbc.internal.ExtendedConnection;
+import com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test for the auto-batching mode of the named statements using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class AutoBatchTest {
+
+    private static final String INSERT = "INSERT INTO event (source, amount) VALUES (:source, :amount)";
+
+    private static SimpleDataSource dataSource(final String database) throws SQLException {
+        return H2TestUtils.dataSource(database,
+            "CREATE TABLE event (id INT AUTO_INCREMENT PRIMARY KEY, source VARCHAR(1), amount INT)");
+    }
+
+    private static NamedPreparedStatement prepare(final Connection connection) throws SQLException {
+        final NamedPreparedStatement stmt = ((ExtendedConnection) connection).prepareNamedStatement(INSERT);
+        stmt.setAutoBatch(10, 0);
+        return stmt;
+    }
+
+    private static void insert(final NamedPreparedStatement stmt, final String source, final int value)
+        throws SQLException
+    {
+        stmt.setString("source", source);
+        stmt.setInt("amount", value);
+        assertEquals(Statement.SUCCESS_NO_INFO, stmt.executeUpdate());
+    }
+
+    private static List<String> events(final Connection connection) throws SQLException {
+        final List<String> events = new ArrayList<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT source, amount FROM event ORDER BY id"))
+        {
+            while (rs.next()) {
+                events.add(rs.getString(1) + rs.getInt(2));
+            }
+        }
+        return events;
+    }
+
+    @Test /* default */ void deferredFlushKeepsOrder() throws SQLException {
+        try (Connection connection = dataSource("auto_batch_order").getConnection();
+             NamedPreparedStatement first = prepare(connection);
+             NamedPreparedStatement second = prepare(connection))
+        {
+            connection.setAutoCommit(false);
+            insert(first, "A", 1);
+            insert(first, "A", 2);
+            insert(second, "B", 3);
+            insert(first, "A", 4);
+            insert(first, "A", 5);
+            connection.commit();
+
+            assertEquals(Arrays.asList("A1", "A2", "B3", "A4", "A5"), events(connection));
+            // the counts of the flush caused by the other statement are kept along with the ones of the commit
+            assertArrayEquals(new int[] {1, 1, 1, 1}, first.getAutoBatchUpdateCounts());
+            assertArrayEquals(new int[] {1}, second.getAutoBatchUpdateCounts());
+            assertArrayEquals(new int[0], first.getAutoBatchUpdateCounts());
+        }
+    }
+
+    @Test /* default */ void rollbackDiscardsPendingRows() throws SQLException {
+        try (Connection connection = dataSource("auto_batch_rollback").getConnection();
+             NamedPreparedStatement stmt = prepare(connection))
+        {
+            connection.setAutoCommit(false);
+            insert(stmt, "A", 1);
+            connection.commit();
+            insert(stmt, "A", 2);
+            insert(stmt, "A", 3);
+            connection.rollback();
+            connection.commit();
+
+            assertEquals(Arrays.asList("A1"), events(connection));
+            assertArrayEquals(new int[] {1}, stmt.getAutoBatchUpdateCounts());
+        }
+    }
+
+    @Test /* default */ void poolFlushesPendingRows() throws SQLException {
+        final SimpleDataSource dataSource = dataSource("auto_batch_pool");
+        try (PooledDataSource pool = new PooledDataSource.PooledDataSourceBuilder() //
+            .withDataSource(dataSource) //
+            .withMaxSize(1) //
+            .build())
+        {
+            try (Connection connection = pool.getConnection(); Connection other = dataSource.getConnection()) {
+                final NamedPreparedStatement stmt = prepare(connection);
+                insert(stmt, "A", 1);
+                insert(stmt, "A", 2);
+                assertEquals(0, events(other).size());
+            }
+            try (Connection connection = pool.getConnection()) {
+                assertEquals(Arrays.asList("A1", "A2"), events(connection));
+            }
+        }
+    }
+}
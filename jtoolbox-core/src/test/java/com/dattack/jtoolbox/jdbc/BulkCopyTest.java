@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link BulkCopy} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class BulkCopyTest {
+
+    private static final String QUERY = "SELECT X AS id, 'item ' || X AS name FROM SYSTEM_RANGE(1, 2500)";
+
+    private static SimpleDataSource dataSource(final String database) throws SQLException {
+        return H2TestUtils.dataSource(database,
+            "CREATE TABLE IF NOT EXISTS copy (id BIGINT PRIMARY KEY, name VARCHAR(32) NOT NULL)", //
+            "DELETE FROM copy");
+    }
+
+    private static long count(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM copy"))
+        {
+            assertTrue(rs.next());
+            return rs.getLong(1);
+        }
+    }
+
+    private static BulkCopy.BulkCopyBuilder builder(final DataSource source, final DataSource target) {
+        return new BulkCopy.BulkCopyBuilder() //
+            .withSource(source) //
+            .withQuery(QUERY) //
+            .withTarget(target) //
+            .withTable("copy") //
+            .withBatchSize(100) //
+            .withCommitInterval(1_000);
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Opens plain H2 connections, not decorated by this library, recording the fetch sizes of their statements.
+     */
+    private static DataSource plainDataSource(final String database, final List<Integer> fetchSizes) {
+        final ClassLoader loader = BulkCopyTest.class.getClassLoader();
+        return (DataSource) Proxy.newProxyInstance(loader, new Class<?>[] {DataSource.class},
+            (proxy, method, args) -> {
+                if (!"getConnection".equals(method.getName())) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                final Connection connection = DriverManager.getConnection(H2TestUtils.url(database), "sa", "");
+                return Proxy.newProxyInstance(loader, new Class<?>[] {Connection.class}, (conn, m, a) -> {
+                    final Object result = invoke(connection, m, a);
+                    if (!"createStatement".equals(m.getName())) {
+                        return result;
+                    }
+                    return Proxy.newProxyInstance(loader, new Class<?>[] {Statement.class}, (stmt, sm, sa) -> {
+                        if ("setFetchSize".equals(sm.getName())) {
+                            fetchSizes.add((Integer) sa[0]);
+                        }
+                        return invoke(result, sm, sa);
+                    });
+                });
+            });
+    }
+
+    @Test /* default */ void copyCommitsEveryInterval() throws SQLException {
+        final SimpleDataSource dataSource = dataSource("bulk_copy");
+        final List<Long> committed = Collections.synchronizedList(new ArrayList<>());
+
+        final BulkCopy.Progress progress = builder(dataSource, dataSource) //
+            .withProgressListener(p -> committed.add(p.getRowsWritten())) //
+            .build() //
+            .execute();
+
+        assertEquals(2_500, progress.getRowsRead());
+        assertEquals(2_500, progress.getRowsWritten());
+        assertEquals(3, progress.getCommitCount());
+        assertEquals(Arrays.asList(1_000L, 2_000L, 2_500L), committed);
+        assertEquals(2_500, count(dataSource));
+    }
+
+    @Test /* default */ void plainSourceIsStreamed() throws SQLException {
+        final SimpleDataSource target = dataSource("bulk_copy_plain");
+        final List<Integer> fetchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        final BulkCopy.Progress progress = builder(plainDataSource("bulk_copy_plain", fetchSizes), target) //
+            .withFetchSize(250) //
+            .build() //
+            .execute();
+
+        assertEquals(2_500, progress.getRowsWritten());
+        assertEquals(Collections.singletonList(250), fetchSizes);
+        assertEquals(2_500, count(target));
+    }
+
+    @Test /* default */ void sourceErrorIsPropagated() throws SQLException {
+        final SimpleDataSource dataSource = dataSource("bulk_copy_source_error");
+        final BulkCopy copy = builder(dataSource, dataSource).withQuery("SELECT id FROM missing_table").build();
+
+        assertThrows(SQLException.class, copy::execute);
+        assertEquals(0, count(dataSource));
+    }
+
+    @Test /* default */ void targetErrorKeepsCommittedRows() throws SQLException {
+        final SimpleDataSource dataSource = dataSource("bulk_copy_target_error");
+        final AtomicInteger commits = new AtomicInteger();
+        final BulkCopy copy = builder(dataSource, dataSource) //
+            .withQuery("SELECT X AS id, CASEWHEN(X = 1500, NULL, 'item') AS name FROM SYSTEM_RANGE(1, 2500)") //
+            .withProgressListener(p -> commits.incrementAndGet()) //
+            .build();
+
+        assertThrows(SQLException.class, copy::execute);
+        assertEquals(1, commits.get());
+        assertEquals(1_000, count(dataSource));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Helpers to create the in-memory H2 databases used by the tests. The databases are kept open until the JVM ends,
+ * so a test can use several connections to the same database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public final class H2TestUtils {
+
+    private H2TestUtils() {
+        // utility class
+    }
+
+    /**
+     * Returns the URL of an in-memory database that is not dropped when its last connection is closed.
+     *
+     * @param database the name of the database
+     * @return the JDBC URL
+     */
+    public static String url(final String database) {
+        return "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1";
+    }
+
+    /**
+     * Creates a data source of an in-memory database and executes the given statements on it.
+     *
+     * @param database   the name of the database
+     * @param statements the statements that set up the database
+     * @return the data source
+     * @throws SQLException if a statement fails
+     */
+    public static SimpleDataSource dataSource(final String database, final String... statements)
+        throws SQLException
+    {
+        final SimpleDataSource dataSource = new SimpleDataSource("org.h2.Driver", url(database), "sa", "");
+        try (Connection connection = dataSource.getConnection(); Statement stmt = connection.createStatement()) {
+            for (final String sql : statements) {
+                stmt.execute(sql);
+            }
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link InitializableDataSource} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class InitializableDataSourceTest {
+
+    private static final List<String> STATEMENTS = Arrays.asList( //
+        "CREATE SCHEMA IF NOT EXISTS app", //
+        "SET SCHEMA app", //
+        "CREATE TABLE IF NOT EXISTS init_count (n INT)", //
+        "INSERT INTO init_count VALUES (1)");
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns a data source that hands out the given connection, as a pool would do.
+     */
+    private static DataSource dataSource(final Connection connection) {
+        return (DataSource) Proxy.newProxyInstance(InitializableDataSourceTest.class.getClassLoader(),
+            new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+                if ("getConnection".equals(method.getName())) {
+                    return connection;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    /**
+     * Wraps a connection whose driver reports that batch updates are not supported.
+     */
+    private static Connection withoutBatches(final Connection connection) throws SQLException {
+        final DatabaseMetaData metaData = connection.getMetaData();
+        final DatabaseMetaData noBatches = (DatabaseMetaData) Proxy.newProxyInstance(
+            InitializableDataSourceTest.class.getClassLoader(), new Class<?>[] {DatabaseMetaData.class},
+            (proxy, method, args) -> "supportsBatchUpdates".equals(method.getName()) ? Boolean.FALSE
+                : invoke(metaData, method, args));
+        return (Connection) Proxy.newProxyInstance(InitializableDataSourceTest.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> "getMetaData".equals(method.getName()) ? noBatches
+                : invoke(connection, method, args));
+    }
+
+    private static Connection h2(final String database) throws SQLException {
+        return DriverManager.getConnection("jdbc:h2:mem:" + database, "sa", "");
+    }
+
+    private static int initCount(final Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM init_count"))
+        {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
+    @Test /* default */ void batchInitialization() throws SQLException {
+        try (Connection physical = h2("init_batch")) {
+            final InitializableDataSource dataSource = new InitializableDataSource(dataSource(physical), STATEMENTS);
+            final Connection connection = dataSource.getConnection();
+            assertEquals("APP", connection.getSchema());
+            assertEquals(1, initCount(connection));
+        }
+    }
+
+    @Test /* default */ void sequentialInitialization() throws SQLException {
+        try (Connection physical = h2("init_sequential")) {
+            final InitializableDataSource dataSource = new InitializableDataSource(
+                dataSource(withoutBatches(physical)), STATEMENTS);
+            final Connection connection = dataSource.getConnection();
+            assertEquals("APP", connection.getSchema());
+            assertEquals(1, initCount(connection));
+        }
+    }
+
+    @Test /* default */ void failedStatementIsReported() throws SQLException {
+        final List<String> statements = Arrays.asList("SET SCHEMA PUBLIC", "SET SCHEMA missing", "SET SCHEMA PUBLIC");
+        try (Connection physical = h2("init_batch_error")) {
+            final InitializableDataSource dataSource = new InitializableDataSource(dataSource(physical), statements);
+            final SQLException error = assertThrows(SQLException.class, dataSource::getConnection);
+            assertTrue(error.getMessage().startsWith("Error executing initialization statement 'SET SCHEMA missing'"),
+                error.getMessage());
+        }
+        try (Connection physical = h2("init_sequential_error")) {
+            final InitializableDataSource dataSource = new InitializableDataSource(
+                dataSource(withoutBatches(physical)), statements);
+            final SQLException error = assertThrows(SQLException.class, dataSource::getConnection);
+            assertTrue(error.getMessage().startsWith("Error executing initialization statement 'SET SCHEMA missing'"),
+                error.getMessage());
+        }
+    }
+
+    @Test /* default */ void initializeOncePerPhysicalConnection() throws SQLException {
+        try (Connection physical = h2("init_once")) {
+            final InitializableDataSource dataSource = new InitializableDataSource(dataSource(physical), STATEMENTS);
+            dataSource.getConnection();
+            final Connection connection = dataSource.getConnection();
+            assertEquals(1, initCount(connection));
+        }
+    }
+
+    @Test /* default */ void initializedConnectionsAreNotRetained() throws SQLException, InterruptedException {
+        final InitializableDataSource dataSource = new InitializableDataSource(
+            new SimpleDataSource("org.h2.Driver", "jdbc:h2:mem:init_weak;DB_CLOSE_DELAY=-1", "sa", ""), STATEMENTS);
+        Connection connection = dataSource.getConnection();
+        final WeakReference<Object> physical = new WeakReference<>(
+            ((JdbcObjectProxy<?>) connection).getInnermostDelegate());
+        connection.close();
+        connection = null; //NOPMD - released for the garbage collector
+
+        for (int i = 0; i < 50 && physical.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(physical.get());
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.naming.Context;
+import javax.naming.NameNotFoundException;
+import javax.naming.spi.InitialContextFactory;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link JNDIDataSource} using an in-memory JNDI context and H2 in-memory databases.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings({"PMD.JUnitTestContainsTooManyAsserts", "checkstyle:AbbreviationAsWordInName"})
+/* default */ class JNDIDataSourceTest {
+
+    private static final Map<String, Object> BINDINGS = new ConcurrentHashMap<>();
+    private static final AtomicInteger LOOKUPS = new AtomicInteger();
+
+    private static String previousFactory;
+
+    @BeforeAll
+    /* default */ static void installContext() {
+        previousFactory = System.setProperty(Context.INITIAL_CONTEXT_FACTORY, MapContextFactory.class.getName());
+    }
+
+    @AfterAll
+    /* default */ static void restoreContext() {
+        if (Objects.isNull(previousFactory)) {
+            System.clearProperty(Context.INITIAL_CONTEXT_FACTORY);
+        } else {
+            System.setProperty(Context.INITIAL_CONTEXT_FACTORY, previousFactory);
+        }
+    }
+
+    private static DataSource h2(final String database) {
+        return new SimpleDataSource("org.h2.Driver", "jdbc:h2:mem:" + database, "sa", "");
+    }
+
+    private static String database(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            final String url = connection.getMetaData().getURL();
+            return url.substring(url.lastIndexOf(':') + 1);
+        }
+    }
+
+    @Test /* default */ void refreshAfterTtl() throws SQLException, InterruptedException {
+        BINDINGS.put("jdbc/ttl", h2("ttl_first"));
+        final JNDIDataSource dataSource = new JNDIDataSource.JNDIDataSourceBuilder() //
+            .withJndiName("jdbc/ttl") //
+            .withTtl(500) //
+            .build();
+
+        final int lookups = LOOKUPS.get();
+        assertEquals("ttl_first", database(dataSource));
+        BINDINGS.put("jdbc/ttl", h2("ttl_second"));
+        assertEquals("ttl_first", database(dataSource));
+        assertEquals(lookups + 1, LOOKUPS.get());
+
+        Thread.sleep(600);
+        assertEquals("ttl_second", database(dataSource));
+        assertEquals(lookups + 2, LOOKUPS.get());
+    }
+
+    @Test /* default */ void failFastDuringBackoff() throws SQLException, InterruptedException {
+        final JNDIDataSource dataSource = new JNDIDataSource.JNDIDataSourceBuilder() //
+            .withJndiName("jdbc/backoff") //
+            .withInitialBackoff(300) //
+            .build();
+
+        final int lookups = LOOKUPS.get();
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(lookups + 1, LOOKUPS.get());
+
+        // the resource is available again, but the lookup is not retried until the backoff elapses
+        BINDINGS.put("jdbc/backoff", h2("backoff"));
+        final SQLException error = assertThrows(SQLException.class, dataSource::getConnection);
+        assertTrue(error.getMessage().startsWith("JNDI lookup unavailable after 1 failed attempt(s)"));
+        assertEquals(lookups + 1, LOOKUPS.get());
+
+        Thread.sleep(350);
+        assertEquals("backoff", database(dataSource));
+        assertEquals(lookups + 2, LOOKUPS.get());
+    }
+
+    @Test /* default */ void failover() throws SQLException, InterruptedException {
+        BINDINGS.put("jdbc/standby", h2("failover_standby"));
+        final JNDIDataSource dataSource = new JNDIDataSource.JNDIDataSourceBuilder() //
+            .withJndiName("jdbc/primary") //
+            .withJndiName("jdbc/standby") //
+            .withTtl(100) //
+            .withInitialBackoff(100) //
+            .build();
+
+        // the preferred name is not available
+        assertEquals("failover_standby", database(dataSource));
+
+        // back to the preferred name once the cached DataSource expires
+        BINDINGS.put("jdbc/primary", h2("failover_primary"));
+        Thread.sleep(150);
+        assertEquals("failover_primary", database(dataSource));
+
+        // the expired DataSource is still used while no name can be resolved
+        BINDINGS.remove("jdbc/primary");
+        BINDINGS.remove("jdbc/standby");
+        Thread.sleep(150);
+        assertEquals("failover_primary", database(dataSource));
+    }
+
+    /**
+     * Creates JNDI contexts that look up the objects of {@link #BINDINGS}.
+     */
+    public static final class MapContextFactory implements InitialContextFactory {
+
+        @Override
+        public Context getInitialContext(final Hashtable<?, ?> environment) { //NOPMD - defined by the interface
+            return (Context) Proxy.newProxyInstance(MapContextFactory.class.getClassLoader(),
+                new Class<?>[] {Context.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "lookup":
+                            LOOKUPS.incrementAndGet();
+                            final Object value = BINDINGS.get(String.valueOf(args[0]));
+                            if (Objects.isNull(value)) {
+                                throw new NameNotFoundException(String.valueOf(args[0]));
+                            }
+                            return value;
+                        case "close":
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        }
+    }
+}
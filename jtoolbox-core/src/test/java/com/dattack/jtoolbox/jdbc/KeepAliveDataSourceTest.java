@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link KeepAliveDataSource} using an H2 in-memory database. The validations are run by the tests, with a
+ * time in the future, instead of waiting for the background task.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class KeepAliveDataSourceTest {
+
+    private static final long IDLE = TimeUnit.HOURS.toNanos(2);
+    private static final long INTERVAL = TimeUnit.HOURS.toNanos(1);
+
+    /**
+     * Opens H2 connections whose validation can be counted, blocked or made to fail.
+     */
+    private static final class PhysicalConnections {
+
+        private final String url;
+        private final List<Connection> opened = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger validations = new AtomicInteger();
+        private final AtomicBoolean broken = new AtomicBoolean();
+        private transient volatile CountDownLatch validationStarted;
+        private transient volatile CountDownLatch validationReleased;
+
+        private PhysicalConnections(final String database) {
+            this.url = "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1";
+        }
+
+        private DataSource dataSource() {
+            return (DataSource) Proxy.newProxyInstance(KeepAliveDataSourceTest.class.getClassLoader(),
+                new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        return open();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        }
+
+        private Connection open() throws SQLException {
+            final Connection connection = DriverManager.getConnection(url, "sa", "");
+            final boolean replacement = !opened.isEmpty();
+            final Connection proxy = (Connection) Proxy.newProxyInstance(
+                KeepAliveDataSourceTest.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (target, method, args) -> {
+                    if ("isValid".equals(method.getName())) {
+                        return validate(replacement);
+                    }
+                    return invoke(connection, method, args);
+                });
+            opened.add(proxy);
+            return proxy;
+        }
+
+        private boolean validate(final boolean replacement) throws InterruptedException {
+            validations.incrementAndGet();
+            final CountDownLatch started = validationStarted;
+            if (started != null) {
+                started.countDown();
+                assertTrue(validationReleased.await(5, TimeUnit.SECONDS));
+            }
+            return replacement || !broken.get();
+        }
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static KeepAliveDataSource keepAlive(final DataSource dataSource) {
+        return new KeepAliveDataSource.KeepAliveDataSourceBuilder() //
+            .withDataSource(dataSource) //
+            .withKeepAliveInterval(TimeUnit.HOURS.toMillis(1)) //
+            .build();
+    }
+
+    private static void keepAlive(final Connection connection) {
+        ((KeepAliveDataSource.KeepAliveConnection) connection).keepAlive(System.nanoTime() + IDLE, INTERVAL);
+    }
+
+    @Test /* default */ void openStatementsAreNotValidated() throws SQLException {
+        final PhysicalConnections physical = new PhysicalConnections("keep_alive_busy");
+        try (KeepAliveDataSource dataSource = keepAlive(physical.dataSource());
+             Connection connection = dataSource.getConnection())
+        {
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT X FROM SYSTEM_RANGE(1, 10)"))
+            {
+                assertSame(connection, stmt.getConnection());
+                assertTrue(rs.next());
+                keepAlive(connection);
+                assertEquals(0, physical.validations.get());
+                assertTrue(rs.next());
+            }
+
+            keepAlive(connection);
+            assertEquals(1, physical.validations.get());
+        }
+    }
+
+    @Test /* default */ void useWaitsForValidation() throws Exception {
+        final PhysicalConnections physical = new PhysicalConnections("keep_alive_wait");
+        try (KeepAliveDataSource dataSource = keepAlive(physical.dataSource());
+             Connection connection = dataSource.getConnection())
+        {
+            physical.validationStarted = new CountDownLatch(1);
+            physical.validationReleased = new CountDownLatch(1);
+            final CompletableFuture<Void> validation = CompletableFuture.runAsync(() -> keepAlive(connection));
+            assertTrue(physical.validationStarted.await(5, TimeUnit.SECONDS));
+
+            final CompletableFuture<Boolean> use = CompletableFuture.supplyAsync(() -> {
+                try (Statement stmt = connection.createStatement()) {
+                    return stmt.execute("SELECT 1");
+                } catch (final SQLException e) {
+                    throw new UncheckedSQLException(e);
+                }
+            });
+            assertThrows(TimeoutException.class, () -> use.get(200, TimeUnit.MILLISECONDS));
+
+            physical.validationReleased.countDown();
+            validation.get(5, TimeUnit.SECONDS);
+            assertTrue(use.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test /* default */ void brokenConnectionIsReplaced() throws SQLException {
+        final PhysicalConnections physical = new PhysicalConnections("keep_alive_replace");
+        try (KeepAliveDataSource dataSource = keepAlive(physical.dataSource());
+             Connection connection = dataSource.getConnection())
+        {
+            connection.setSchema("INFORMATION_SCHEMA");
+            connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            physical.broken.set(true);
+            keepAlive(connection);
+            assertEquals(1, physical.opened.size());
+
+            try (Statement stmt = connection.createStatement()) {
+                assertTrue(stmt.execute("SELECT 1"));
+            }
+            assertEquals(2, physical.opened.size());
+            assertTrue(physical.opened.get(0).isClosed());
+            assertEquals("INFORMATION_SCHEMA", connection.getSchema());
+            assertEquals(Connection.TRANSACTION_SERIALIZABLE, connection.getTransactionIsolation());
+        }
+    }
+
+    @Test /* default */ void transactionInProgressIsNotReplaced() throws SQLException {
+        final PhysicalConnections physical = new PhysicalConnections("keep_alive_transaction");
+        try (KeepAliveDataSource dataSource = keepAlive(physical.dataSource());
+             Connection connection = dataSource.getConnection())
+        {
+            connection.setAutoCommit(false);
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("SELECT 1");
+            }
+            physical.broken.set(true);
+            keepAlive(connection);
+
+            connection.rollback();
+            assertEquals(1, physical.opened.size());
+            assertFalse(physical.opened.get(0).isClosed());
+        }
+    }
+
+    @Test /* default */ void replacementIsInitialized() throws SQLException {
+        final PhysicalConnections physical = new PhysicalConnections("keep_alive_init");
+        final DataSource initializable = new InitializableDataSource(physical.dataSource(),
+            Collections.singletonList("CREATE SCHEMA IF NOT EXISTS app; SET SCHEMA app"));
+        try (KeepAliveDataSource dataSource = keepAlive(initializable);
+             Connection connection = dataSource.getConnection())
+        {
+            assertEquals("APP", connection.getSchema());
+            physical.broken.set(true);
+            keepAlive(connection);
+
+            assertEquals("APP", connection.getSchema());
+            assertEquals(2, physical.opened.size());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import com.dattack.jtoolbox.jdbc.internal.RowMapperFactory;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link PartitionedQueryExecutor} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class PartitionedQueryExecutorTest {
+
+    private static final String QUERY = "SELECT id FROM item WHERE id >= :lo AND id < :hi";
+
+    private static SimpleDataSource dataSource(final String database) throws SQLException {
+        return H2TestUtils.dataSource(database,
+            "CREATE TABLE IF NOT EXISTS item AS SELECT X AS id FROM SYSTEM_RANGE(0, 999)");
+    }
+
+    private static PartitionedQueryExecutor.PartitionedQueryExecutorBuilder builder(final String database)
+        throws SQLException
+    {
+        return new PartitionedQueryExecutor.PartitionedQueryExecutorBuilder() //
+            .withDataSource(dataSource(database)) //
+            .withSql(QUERY) //
+            .withRange(0, 1_000) //
+            .withPartitions(4);
+    }
+
+    @Test /* default */ void forEachReadsEveryPartition() throws SQLException {
+        final AtomicInteger autoCommitReads = new AtomicInteger();
+        final AtomicInteger fetchSizes = new AtomicInteger();
+        final LongAdder sum = new LongAdder();
+        final PartitionedQueryExecutor executor = builder("partitioned_foreach").withFetchSize(50).build();
+
+        final long rows = executor.forEach(RowMapperFactory.of(resultSet -> {
+            // the partitions are read inside a transaction, with the fetch size set through the dialect
+            if (resultSet.getStatement().getConnection().getAutoCommit()) {
+                autoCommitReads.incrementAndGet();
+            }
+            fetchSizes.compareAndSet(0, resultSet.getStatement().getFetchSize());
+            return resultSet.getLong(1);
+        }), sum::add);
+
+        assertEquals(4, executor.getPartitionCount());
+        assertEquals(1_000, rows);
+        assertEquals(LongStream.range(0, 1_000).sum(), sum.sum());
+        assertEquals(0, autoCommitReads.get());
+        assertEquals(50, fetchSizes.get());
+    }
+
+    @Test /* default */ void streamMergesPartitions() throws SQLException {
+        final PartitionedQueryExecutor executor = builder("partitioned_stream").withBufferSize(8).build();
+        try (Stream<Long> ids = executor.stream(RowMapperFactory.column("id", Long.class))) {
+            final List<Long> list = new ArrayList<>(ids.collect(Collectors.toList()));
+            Collections.sort(list);
+            assertEquals(LongStream.range(0, 1_000).boxed().collect(Collectors.toList()), list);
+        }
+    }
+
+    @Test /* default */ void closeStreamEarly() throws SQLException {
+        final PartitionedQueryExecutor executor = builder("partitioned_close").withBufferSize(2).build();
+        try (Stream<Long> ids = executor.stream(RowMapperFactory.column("id", Long.class))) {
+            assertEquals(10, ids.limit(10).count());
+        }
+    }
+
+    @Test /* default */ void partitionErrorIsPropagated() throws SQLException {
+        final PartitionedQueryExecutor executor = builder("partitioned_error") //
+            .withSql("SELECT missing FROM item WHERE id >= :lo AND id < :hi") //
+            .build();
+
+        final SQLException error = assertThrows(SQLException.class,
+            () -> executor.forEach(RowMapperFactory.toArray(), row -> { }));
+        assertEquals(3, error.getSuppressed().length);
+
+        try (Stream<Object[]> rows = executor.stream(RowMapperFactory.toArray())) {
+            assertThrows(UncheckedSQLException.class, rows::count);
+        }
+    }
+
+    @Test /* default */ void smallRange() {
+        final PartitionedQueryExecutor executor = new PartitionedQueryExecutor.PartitionedQueryExecutorBuilder() //
+            .withDataSource(new SimpleDataSource("org.h2.Driver", "jdbc:h2:mem:partitioned_small", "sa", "")) //
+            .withSql(QUERY) //
+            .withRange(10, 13) //
+            .withPartitions(8) //
+            .build();
+        assertEquals(3, executor.getPartitionCount());
+    }
+}
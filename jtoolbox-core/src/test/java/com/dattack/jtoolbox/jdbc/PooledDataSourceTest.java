@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc;
+
+import com.dattack.jtoolbox.jdbc.internal.ExtendedConnection;
+import com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatement;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link com.dattack.jtoolbox.jdbc.PooledDataSource} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class PooledDataSourceTest {
+
+    private static PooledDataSource.PooledDataSourceBuilder builder(final String database) {
+        return new PooledDataSource.PooledDataSourceBuilder() //
+            .withDataSource(new SimpleDataSource("org.h2.Driver", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                                                 "sa", ""));
+    }
+
+    @Test /* default */ void borrowTimeout() throws SQLException {
+        try (PooledDataSource pool = builder("timeout").withMaxSize(1).withBorrowTimeout(100).build();
+             Connection connection = pool.getConnection())
+        {
+            assertTrue(connection.isValid(1));
+            assertThrows(SQLTimeoutException.class, pool::getConnection);
+        }
+    }
+
+    @Test /* default */ void namedStatementOnPooledConnection() throws SQLException {
+        try (PooledDataSource pool = builder("named").withStatementCacheSize(10).build()) {
+            for (int i = 0; i < 3; i++) {
+                try (Connection connection = pool.getConnection();
+                     NamedPreparedStatement stmt = ((ExtendedConnection) connection)
+                         .prepareNamedStatement("SELECT CAST(:value AS INT) + 1"))
+                {
+                    stmt.setInt("value", i);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        assertTrue(rs.next());
+                        assertEquals(i + 1, rs.getInt(1));
+                    }
+                }
+            }
+            assertEquals(1, pool.getTotalConnections());
+        }
+    }
+
+    @Test /* default */ void reuseIdleConnection() throws SQLException {
+        try (PooledDataSource pool = builder("reuse").withMaxSize(2).build()) {
+            final Connection first = pool.getConnection();
+            final Connection physical = ((ProxyConnection) first).getInnermostDelegate();
+            first.close();
+            assertTrue(first.isClosed());
+            assertEquals(1, pool.getIdleConnections());
+
+            try (Connection second = pool.getConnection()) {
+                assertSame(physical, ((ProxyConnection) second).getInnermostDelegate());
+                assertEquals(1, pool.getActiveConnections());
+                assertEquals(0, pool.getIdleConnections());
+            }
+            assertEquals(1, pool.getTotalConnections());
+        }
+    }
+
+    @Test /* default */ void releaseClosesStatementsAndRestoresSession() throws SQLException {
+        try (PooledDataSource pool = builder("release").withMaxSize(1).build()) {
+            final Connection first = pool.getConnection();
+            final int isolation = first.getTransactionIsolation();
+            first.createStatement().execute("CREATE SCHEMA IF NOT EXISTS other");
+            final Statement stmt = first.createStatement();
+            final PreparedStatement ps = first.prepareStatement("SELECT 1");
+            assertSame(first, stmt.getConnection());
+            assertSame(first, ps.getConnection());
+            first.setReadOnly(true);
+            first.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            first.setSchema("OTHER");
+            first.close();
+
+            assertTrue(stmt.isClosed());
+            assertTrue(ps.isClosed());
+            assertThrows(SQLException.class, first::createStatement);
+            assertThrows(SQLException.class, () -> first.setAutoCommit(false));
+            assertThrows(SQLException.class, () -> ((ExtendedConnection) first).prepareNamedStatement("SELECT 1"));
+
+            try (Connection second = pool.getConnection()) {
+                assertFalse(second.isReadOnly());
+                assertEquals(isolation, second.getTransactionIsolation());
+                assertEquals("PUBLIC", second.getSchema());
+            }
+        }
+    }
+
+    @Test /* default */ void rollbackOnRelease() throws SQLException {
+        try (PooledDataSource pool = builder("rollback").withMaxSize(1).build()) {
+            try (Connection connection = pool.getConnection()) {
+                connection.createStatement().execute("CREATE TABLE t (id INT)");
+                connection.setAutoCommit(false);
+                connection.createStatement().executeUpdate("INSERT INTO t VALUES (1)");
+            }
+            try (Connection connection = pool.getConnection();
+                 ResultSet rs = connection.createStatement().executeQuery("SELECT COUNT(*) FROM t"))
+            {
+                assertTrue(connection.getAutoCommit());
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.internal.generic.GenericProxyResultSet;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for the resolution of the column labels of {@link AbstractProxyResultSet}, using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class AbstractProxyResultSetTest {
+
+    private static final String QUERY = "SELECT X AS ID, 'n' || X AS \"Name\", X * 2 AS ID FROM SYSTEM_RANGE(1, 100)";
+
+    /**
+     * Wraps a result set with a proxy that counts the calls to <code>findColumn</code>.
+     */
+    private static ResultSet counting(final ResultSet resultSet, final AtomicInteger findColumnCalls) {
+        return (ResultSet) Proxy.newProxyInstance(AbstractProxyResultSetTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+                if ("findColumn".equals(method.getName())) {
+                    findColumnCalls.incrementAndGet();
+                }
+                try {
+                    return method.invoke(resultSet, args);
+                } catch (final InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    @Test /* default */ void findColumnWithoutDriver() throws SQLException {
+        final AtomicInteger findColumnCalls = new AtomicInteger();
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:find_column", "sa", "");
+             Statement stmt = connection.createStatement();
+             ResultSet rs = GenericProxyResultSet.build(null, counting(stmt.executeQuery(QUERY), findColumnCalls)))
+        {
+            int rows = 0;
+            while (rs.next()) {
+                rows++;
+                assertEquals(rows, rs.getInt("ID"));
+                assertEquals("n" + rows, rs.getString("Name"));
+                assertEquals("n" + rows, rs.getString("name"));
+                assertEquals("n" + rows, rs.getString("NAME"));
+                assertEquals(rows, rs.getInt("id"));
+            }
+            assertEquals(100, rows);
+            assertEquals(0, findColumnCalls.get());
+
+            // the first column with a duplicate label wins, as in findColumn of the JDBC specification
+            assertEquals(1, rs.findColumn("id"));
+            assertEquals(2, rs.findColumn("nAmE"));
+
+            // the unknown labels are reported by the driver
+            assertThrows(SQLException.class, () -> rs.findColumn("missing"));
+            assertEquals(1, findColumnCalls.get());
+        }
+    }
+}
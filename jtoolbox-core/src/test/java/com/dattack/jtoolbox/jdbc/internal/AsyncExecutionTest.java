@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link AsyncExecution}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class AsyncExecutionTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    /**
+     * Creates a statement whose <code>cancel</code> method runs the given action. The other methods are not used.
+     */
+    private static Statement statement(final Runnable onCancel) {
+        return (Statement) Proxy.newProxyInstance(AsyncExecutionTest.class.getClassLoader(),
+            new Class<?>[] {Statement.class}, (proxy, method, args) -> {
+                if ("cancel".equals(method.getName())) {
+                    onCancel.run();
+                    return null;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private static ResultSet resultSet(final AtomicBoolean closed) {
+        return (ResultSet) Proxy.newProxyInstance(AsyncExecutionTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+                if ("close".equals(method.getName())) {
+                    closed.set(true);
+                    return null;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    @Test /* default */ void completeWithResult() throws Exception {
+        final CompletableFuture<Integer> future = AsyncExecution.submit(statement(() -> { }),
+            AsyncExecution.defaultExecutor(), () -> 42);
+        assertEquals(42, future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test /* default */ void completeWithError() {
+        final CompletableFuture<Integer> future = AsyncExecution.submit(statement(() -> { }),
+            AsyncExecution.defaultExecutor(), () -> {
+                throw new SQLException("failed");
+            });
+        final ExecutionException error = assertThrows(ExecutionException.class,
+            () -> future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof SQLException);
+    }
+
+    @Test /* default */ void cancelBeforeExecution() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final AtomicInteger executions = new AtomicInteger();
+        final AtomicInteger cancellations = new AtomicInteger();
+        final CompletableFuture<Integer> future = AsyncExecution.submit(statement(cancellations::incrementAndGet),
+            tasks::add, executions::incrementAndGet);
+
+        assertTrue(future.cancel(true));
+        tasks.forEach(Runnable::run);
+
+        assertEquals(0, executions.get());
+        assertEquals(0, cancellations.get());
+    }
+
+    @Test /* default */ void cancelDuringExecution() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CompletableFuture<Integer> future = AsyncExecution.submit(statement(cancelled::countDown), executor,
+            () -> {
+                started.countDown();
+                try {
+                    // the execution ends when the statement is cancelled, as a query would do
+                    assertTrue(cancelled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new SQLException("cancelled");
+            });
+
+        try {
+            assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertTrue(future.cancel(true));
+            assertTrue(cancelled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertTrue(future.isCancelled());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test /* default */ void closeResultSetOfCancelledQuery() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+        final AtomicBoolean closed = new AtomicBoolean();
+        final AtomicBoolean finished = new AtomicBoolean();
+        final ResultSet resultSet = resultSet(closed);
+        final CountDownLatch done = new CountDownLatch(1);
+        final CompletableFuture<ResultSet> future = AsyncExecution.submit(statement(() -> { }), task -> {
+            final Thread thread = new Thread(() -> {
+                task.run();
+                done.countDown();
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }, () -> {
+            started.countDown();
+            try {
+                // the query completes although the statement has been cancelled
+                assertTrue(proceed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.set(true);
+            return resultSet;
+        });
+
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(future.cancel(true));
+        proceed.countDown();
+        assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertTrue(finished.get());
+        assertTrue(closed.get());
+    }
+
+    @Test /* default */ void defaultExecutor() throws Exception {
+        final CompletableFuture<Thread> future = new CompletableFuture<>();
+        AsyncExecution.defaultExecutor().execute(() -> future.complete(Thread.currentThread()));
+        final Thread thread = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        final Method isVirtual = findIsVirtual();
+        if (Objects.isNull(isVirtual)) {
+            // JDK without virtual threads: the bounded pool of daemon threads
+            assertTrue(thread.getName().startsWith("jdbc-async"));
+            assertTrue(thread.isDaemon());
+        } else {
+            // JDK 21 or later: the executor is created through reflection
+            assertTrue((Boolean) isVirtual.invoke(thread));
+        }
+        assertSame(AsyncExecution.defaultExecutor(), AsyncExecution.defaultExecutor());
+    }
+
+    private static Method findIsVirtual() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Thread.class.getMethod("isVirtual");
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
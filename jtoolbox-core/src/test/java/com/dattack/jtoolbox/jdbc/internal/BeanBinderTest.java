@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for the binding of maps and beans to the parameters of a {@link NamedPreparedStatement}, using an H2
+ * in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class BeanBinderTest {
+
+    private static final String INSERT = "INSERT INTO customer (id, name) VALUES (:id, :customer_name)";
+
+    private static ProxyConnection connection(final String database) throws SQLException {
+        final ProxyConnection connection = ProxyConnectionFactory.build(
+            DriverManager.getConnection("jdbc:h2:mem:" + database, "sa", ""));
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE customer (id INT, name VARCHAR(32))");
+        }
+        return connection;
+    }
+
+    private static Map<String, Object> row(final Object id, final Object name) {
+        final Map<String, Object> row = new HashMap<>();
+        row.put("ID", id);
+        row.put("customer_name", name);
+        return row;
+    }
+
+    private static String names(final Connection connection) throws SQLException {
+        final StringBuilder names = new StringBuilder();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id, name FROM customer ORDER BY id"))
+        {
+            while (rs.next()) {
+                names.append(rs.getInt(1)).append('=').append(rs.getString(2)).append(';');
+            }
+        }
+        return names.toString();
+    }
+
+    @Test /* default */ void mapBatch() throws SQLException {
+        try (ProxyConnection connection = connection("bind_map");
+             NamedPreparedStatement stmt = connection.prepareNamedStatement(INSERT))
+        {
+            stmt.addBatch(Arrays.asList(row(1, "Alice"), row(2, null)));
+            assertArrayEquals(new int[] {1, 1}, stmt.executeBatch());
+
+            final Map<String, Object> missing = new HashMap<>();
+            missing.put("id", 3);
+            final SQLException error = assertThrows(SQLException.class, () -> stmt.addBatch(missing));
+            assertTrue(error.getMessage().contains("customer_name"));
+
+            final Map<String, Object> unknown = row(4, "Bob");
+            unknown.put("email", "bob@example.com");
+            assertThrows(SQLException.class, () -> stmt.addBatch(unknown));
+            assertThrows(SQLException.class, () -> stmt.setParameters(unknown));
+            assertEquals(0, stmt.executeBatch().length);
+
+            assertEquals("1=Alice;2=null;", names(connection));
+        }
+    }
+
+    @Test /* default */ void beanBatch() throws SQLException {
+        try (ProxyConnection connection = connection("bind_bean");
+             NamedPreparedStatement stmt = connection.prepareNamedStatement(INSERT))
+        {
+            stmt.addBeanBatch(Arrays.asList(new Customer(1, "Alice"), new Customer(2, "Bob")));
+            assertArrayEquals(new int[] {1, 1}, stmt.executeBatch());
+
+            final SQLException error = assertThrows(SQLException.class, () -> stmt.addBeanBatch(new Account(3)));
+            assertTrue(error.getMessage().contains("customer_name"));
+
+            // outside of a batch, the parameters without a property are left unchanged
+            stmt.setString("customer_name", "Carol");
+            stmt.setBeanParameters(new Account(3));
+            assertEquals(1, stmt.executeUpdate());
+
+            assertEquals("1=Alice;2=Bob;3=Carol;", names(connection));
+        }
+    }
+
+    @Test /* default */ void sameClassOnSeveralStatements() throws SQLException {
+        try (ProxyConnection connection = connection("bind_statements");
+             NamedPreparedStatement insert = connection.prepareNamedStatement(INSERT);
+             NamedPreparedStatement update = connection.prepareNamedStatement(
+                 "UPDATE customer SET name = UPPER(name) WHERE id = :id"))
+        {
+            for (int id = 1; id <= 3; id++) {
+                insert.setBeanParameters(new Customer(id, "name" + id));
+                assertEquals(1, insert.executeUpdate());
+                update.setBeanParameters(new Customer(id, null));
+                assertEquals(1, update.executeUpdate());
+            }
+            assertEquals("1=NAME1;2=NAME2;3=NAME3;", names(connection));
+        }
+    }
+
+    /**
+     * A bean with JavaBeans getters.
+     */
+    public static final class Customer {
+
+        private final transient int id;
+        private final transient String customerName;
+
+        /* default */ Customer(final int id, final String customerName) {
+            this.id = id;
+            this.customerName = customerName;
+        }
+
+        public String getCustomerName() {
+            return customerName;
+        }
+
+        public int getId() {
+            return id;
+        }
+    }
+
+    /**
+     * A bean with a public field and without the name of the customer.
+     */
+    public static final class Account {
+
+        public final int id; //NOPMD - read as a property
+
+        /* default */ Account(final int id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.SimpleDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link ColumnarResultSet} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class ColumnarResultSetTest {
+
+    private static ColumnarResultSet load() throws SQLException {
+        final SimpleDataSource dataSource = new SimpleDataSource("org.h2.Driver",
+            "jdbc:h2:mem:columnar;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Connection connection = dataSource.getConnection(); Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS sample (id INT, amount NUMERIC(10), rate DOUBLE, "
+                + "active BOOLEAN, name VARCHAR(16))");
+            stmt.execute("DELETE FROM sample");
+            stmt.execute("INSERT INTO sample SELECT x, x * 100, x / 4.0, MOD(x, 2) = 0, "
+                + "CASE WHEN MOD(x, 10) = 0 THEN NULL ELSE 'name' || MOD(x, 3) END FROM SYSTEM_RANGE(1, 100)");
+            try (ResultSet rs = stmt.executeQuery("SELECT * FROM sample ORDER BY id")) {
+                return ColumnarResultSet.of(rs, null);
+            }
+        }
+    }
+
+    @Test /* default */ void readAfterClose() throws SQLException {
+        try (ResultSet rs = load()) {
+            assertTrue(rs.absolute(42));
+            assertEquals(42, rs.getInt("id"));
+            assertEquals(new BigDecimal(4_200), rs.getObject("amount"));
+            assertEquals(10.5, rs.getDouble("rate"));
+            assertTrue(rs.getBoolean("active"));
+            assertEquals("name0", rs.getString("name"));
+
+            assertTrue(rs.absolute(-91));
+            assertEquals(10, rs.getLong(1));
+            assertNull(rs.getString("name"));
+            assertTrue(rs.wasNull());
+            assertTrue(rs.getBoolean("active"));
+        }
+    }
+
+    @Test /* default */ void scrollCopies() throws SQLException {
+        final ColumnarResultSet rs = load();
+        try (ResultSet copy = rs.copy(null)) {
+            assertTrue(copy.last());
+            assertEquals(100, copy.getRow());
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt("id"));
+            assertTrue(copy.previous());
+            assertEquals(99, copy.getInt("id"));
+        } finally {
+            rs.close();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.internal.generic.GenericDialect;
+import com.dattack.jtoolbox.jdbc.internal.generic.GenericProxyConnection;
+import com.dattack.jtoolbox.jdbc.internal.h2.H2Dialect;
+import com.dattack.jtoolbox.jdbc.internal.mysql.MySqlDialect;
+import com.dattack.jtoolbox.jdbc.internal.oracle.OracleDialect;
+import com.dattack.jtoolbox.jdbc.internal.postgresql.PostgreSqlDialect;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link com.dattack.jtoolbox.jdbc.internal.DialectRegistry}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class DialectRegistryTest {
+
+    @Test /* default */ void dialectProperties() {
+        final Properties properties = new Properties();
+        properties.setProperty("rewriteBatchedStatements", "false");
+        DialectRegistry.resolveByUrl("jdbc:mysql://localhost/test").configureProperties(properties);
+        DialectRegistry.resolveByUrl("jdbc:postgresql://localhost/test").configureProperties(properties);
+
+        assertEquals("false", properties.getProperty("rewriteBatchedStatements"));
+        assertEquals("true", properties.getProperty("reWriteBatchedInserts"));
+    }
+
+    @Test /* default */ void resolveByDriverName() {
+        assertTrue(DialectRegistry.resolve("Oracle JDBC driver") instanceof OracleDialect);
+        assertTrue(DialectRegistry.resolve("PostgreSQL JDBC Driver") instanceof PostgreSqlDialect);
+        assertTrue(DialectRegistry.resolve("MySQL Connector/J") instanceof MySqlDialect);
+        assertSame(GenericDialect.INSTANCE, DialectRegistry.resolve("Unknown driver"));
+        assertSame(GenericDialect.INSTANCE, DialectRegistry.resolve((String) null));
+    }
+
+    @Test /* default */ void resolveByUrl() {
+        assertTrue(DialectRegistry.resolveByUrl("jdbc:oracle:thin:@localhost:1521/XE") instanceof OracleDialect);
+        assertTrue(DialectRegistry.resolveByUrl("jdbc:h2:mem:test") instanceof H2Dialect);
+        assertSame(GenericDialect.INSTANCE, DialectRegistry.resolveByUrl("jdbc:unknown:test"));
+    }
+
+    @Test /* default */ void resolverMemoisesDialect() throws SQLException {
+        final DialectResolver resolver = new DialectResolver();
+        assertNull(resolver.getDialect());
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:dialect", "sa", "");
+             ProxyConnection proxy = ProxyConnectionFactory.build(connection, resolver))
+        {
+            assertTrue(proxy instanceof GenericProxyConnection);
+            assertTrue(resolver.getDialect() instanceof H2Dialect);
+            assertSame(resolver.getDialect(), proxy.getDialect());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link com.dattack.jtoolbox.jdbc.internal.FetchSizeAdvisor}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class FetchSizeAdvisorTest {
+
+    private static final String SQL = "SELECT * FROM customer";
+
+    @Test /* default */ void invalidConfiguration() {
+        final FetchSizeAdvisor.FetchSizeAdvisorBuilder builder = new FetchSizeAdvisor.FetchSizeAdvisorBuilder() //
+            .withInitialFetchSize(500) //
+            .withMaxFetchSize(100);
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test /* default */ void memoryCeiling() {
+        // the default row width (no metadata available) is 48 bytes
+        final FetchSizeAdvisor advisor = new FetchSizeAdvisor.FetchSizeAdvisorBuilder() //
+            .withInitialFetchSize(10) //
+            .withMaxBytesPerFetch(48 * 300) //
+            .build();
+        advisor.record(SQL, 5_000, null);
+        assertEquals(300, advisor.getFetchSize(SQL));
+    }
+
+    @Test /* default */ void raiseFetchSize() {
+        final FetchSizeAdvisor advisor = new FetchSizeAdvisor.FetchSizeAdvisorBuilder() //
+            .withInitialFetchSize(10) //
+            .withMaxFetchSize(1_000) //
+            .withMaxBytesPerFetch(0) //
+            .build();
+        assertEquals(10, advisor.getFetchSize(SQL));
+
+        advisor.record(SQL, 700, null);
+        assertEquals(1_000, advisor.getFetchSize(SQL));
+
+        advisor.record(SQL, 100, null);
+        assertEquals(512, advisor.getFetchSize(SQL));
+
+        advisor.record(SQL, 1, null);
+        assertEquals(256, advisor.getFetchSize(SQL));
+        assertEquals(10, advisor.getFetchSize("SELECT * FROM other"));
+    }
+}
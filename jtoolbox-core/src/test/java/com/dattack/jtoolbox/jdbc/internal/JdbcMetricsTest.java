@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test for {@link com.dattack.jtoolbox.jdbc.internal.JdbcMetrics}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class JdbcMetricsTest {
+
+    @Test /* default */ void normalize() {
+        assertEquals("SELECT a1, \"T 1\", ? FROM t2 WHERE x IN (?, ?) AND y = ?",
+            JdbcMetrics.normalize("  SELECT /* hint */ a1, \"T 1\", 3.5 FROM t2\n WHERE x IN (1, 2) AND y = 'it''s' "));
+        assertEquals("DELETE FROM t WHERE id = ?", JdbcMetrics.normalize("DELETE FROM t -- comment\nWHERE id = 42"));
+    }
+
+    @Test /* default */ void snapshot() {
+        final JdbcMetrics metrics = new JdbcMetrics();
+        final SqlMetrics sqlMetrics = metrics.forSql("UPDATE t SET a = 1");
+        sqlMetrics.recordExecution(TimeUnit.MICROSECONDS.toNanos(10));
+        sqlMetrics.recordExecution(TimeUnit.MICROSECONDS.toNanos(20));
+        sqlMetrics.recordError(TimeUnit.MILLISECONDS.toNanos(5));
+        sqlMetrics.recordBatch(3, 3);
+        sqlMetrics.recordFetch(7, 100);
+        metrics.forSql("SELECT 1").recordExecution(1);
+
+        final List<SqlStatistics> statistics = metrics.getStatistics();
+        assertEquals(2, statistics.size());
+
+        final SqlStatistics update = statistics.get(0);
+        assertEquals("UPDATE t SET a = ?", update.getSql());
+        assertEquals(3, update.getExecutions());
+        assertEquals(1, update.getErrors());
+        assertEquals(1, update.getBatches());
+        assertEquals(3, update.getBatchEntries());
+        assertEquals(3, update.getUpdateCount());
+        assertEquals(7, update.getRowsRead());
+        assertEquals(32, update.getPercentile(50, TimeUnit.MICROSECONDS));
+        assertEquals(5, update.getPercentile(100, TimeUnit.MILLISECONDS));
+        assertEquals(3, metrics.getStatistics("UPDATE t SET a = 2").getExecutions());
+
+        metrics.reset();
+        assertNull(metrics.getStatistics("UPDATE t SET a = 1"));
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.internal.h2.H2Dialect;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link ListParameters} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class ListParametersTest {
+
+    private static final String QUERY = "SELECT X FROM SYSTEM_RANGE(1, 100) WHERE X IN (:ids) AND X < :max ORDER BY X";
+
+    /**
+     * The H2 dialect with the given limits.
+     */
+    private static JdbcDialect dialect(final int maxBindVariables, final int maxInListElements) {
+        return new H2Dialect() {
+            @Override
+            public int getMaxBindVariables() {
+                return maxBindVariables;
+            }
+
+            @Override
+            public int getMaxInListElements() {
+                return maxInListElements;
+            }
+        };
+    }
+
+    private static List<Integer> ids(final int count) {
+        return IntStream.rangeClosed(1, count).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Prepares the query with the given collection and returns the number of parameter markers of the statement.
+     */
+    private static int markers(final Connection connection, final JdbcDialect dialect, final List<Integer> ids)
+        throws SQLException
+    {
+        final NamedPreparedStatementConfig config = NamedPreparedStatementConfig.parse(QUERY);
+        try (ListParameters lists = new ListParameters(config)) {
+            final ParameterValues values = new ParameterValues(config.getSlotCount());
+            values.set(config.getSlot("ids"), lists.set("ids", ids));
+            values.set(config.getSlot("max"), 1_000);
+            final PreparedStatement statement = lists.prepare(connection, dialect, values);
+            try (ResultSet rs = statement.executeQuery()) {
+                int rows = 0;
+                while (rs.next()) {
+                    rows++;
+                }
+                assertEquals(ids.size(), rows);
+            }
+            return statement.getParameterMetaData().getParameterCount();
+        }
+    }
+
+    @Test /* default */ void paddingIsCappedByTheBindLimit() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:list_bind_limit", "sa", "")) {
+            final JdbcDialect dialect = dialect(10, Integer.MAX_VALUE);
+            assertEquals(1 + 8, markers(connection, dialect, ids(7)));
+            // a bucket of 16 markers doesn't fit, so the collection is not padded
+            assertEquals(1 + 9, markers(connection, dialect, ids(9)));
+
+            final SQLException error = assertThrows(SQLException.class,
+                () -> markers(connection, dialect, ids(10)));
+            assertTrue(error.getMessage().contains("11 parameter markers"), error.getMessage());
+        }
+    }
+
+    @Test /* default */ void paddingIsCappedByTheInListLimit() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:list_in_limit", "sa", "")) {
+            final JdbcDialect dialect = dialect(2_000, 5);
+            assertEquals(1 + 4, markers(connection, dialect, ids(3)));
+            assertEquals(1 + 5, markers(connection, dialect, ids(5)));
+
+            final SQLException error = assertThrows(SQLException.class,
+                () -> markers(connection, dialect, ids(6)));
+            assertTrue(error.getMessage().contains("'ids' has 6 elements"), error.getMessage());
+        }
+    }
+
+    @Test /* default */ void arraysAreFreedAfterExecution() throws SQLException {
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger freed = new AtomicInteger();
+        final JdbcDialect dialect = new H2Dialect() {
+            @Override
+            public Array createInListArray(final Connection connection, final Object[] elements)
+                throws SQLException
+            {
+                created.incrementAndGet();
+                final Array array = connection.createArrayOf("INTEGER", elements);
+                return (Array) Proxy.newProxyInstance(ListParametersTest.class.getClassLoader(),
+                    new Class<?>[] {Array.class}, (proxy, method, args) -> {
+                        if ("free".equals(method.getName())) {
+                            freed.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(array, args);
+                        } catch (final InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+            }
+
+            @Override
+            public String getInListArraySql() {
+                return "SELECT * FROM UNNEST(CAST(? AS INTEGER ARRAY))";
+            }
+        };
+
+        try (ProxyConnection connection = ProxyConnectionFactory.build(
+            DriverManager.getConnection("jdbc:h2:mem:list_arrays", "sa", ""), new DialectResolver(dialect));
+             NamedPreparedStatement stmt = connection.prepareNamedStatement(QUERY))
+        {
+            stmt.setInt("max", 50);
+            for (final List<Integer> ids : Arrays.asList(Arrays.asList(3, 5, 60), Arrays.asList(7, 8))) {
+                stmt.setList("ids", ids);
+                final List<Long> rows = new ArrayList<>();
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(rs.getLong(1));
+                    }
+                }
+                assertEquals(created.get(), freed.get());
+                assertEquals(ids.stream().filter(id -> id < 50).map(Long::valueOf).collect(Collectors.toList()),
+                    rows);
+            }
+            assertEquals(2, created.get());
+        }
+    }
+
+    @Test /* default */ void emptyCollectionIsRejectedInNotIn() throws SQLException {
+        try (ProxyConnection connection = ProxyConnectionFactory.build(
+            DriverManager.getConnection("jdbc:h2:mem:list_not_in", "sa", ""));
+             NamedPreparedStatement stmt = connection.prepareNamedStatement(
+                 "SELECT X FROM SYSTEM_RANGE(1, 2) WHERE X NOT IN (:ids)"))
+        {
+            stmt.setList("ids", Collections.singletonList(1));
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(2, rs.getInt(1));
+            }
+
+            stmt.setList("ids", Collections.emptyList());
+            final SQLException error = assertThrows(SQLException.class, stmt::executeQuery);
+            assertTrue(error.getMessage().contains("NOT IN"), error.getMessage());
+        }
+    }
+
+    @Test /* default */ void notInIsDetected() {
+        final NamedPreparedStatementConfig config = NamedPreparedStatementConfig.parse(
+            "SELECT 1 FROM t WHERE a NOT IN (:a) AND b IN (:b) AND c not\n in ( :c ) AND knot IN (:d)");
+        assertTrue(config.isNotInListParameter(config.getSlot("a")));
+        assertFalse(config.isNotInListParameter(config.getSlot("b")));
+        assertTrue(config.isNotInListParameter(config.getSlot("c")));
+        assertFalse(config.isNotInListParameter(config.getSlot("d")));
+    }
+
+    @Test /* default */ void closedStatementIsPreparedAgain() throws SQLException {
+        final NamedPreparedStatementConfig config = NamedPreparedStatementConfig.parse(QUERY);
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:list_closed", "sa", "");
+             ListParameters lists = new ListParameters(config))
+        {
+            final ParameterValues values = new ParameterValues(config.getSlotCount());
+            values.set(config.getSlot("ids"), lists.set("ids", ids(2)));
+            values.set(config.getSlot("max"), 1_000);
+            final PreparedStatement closed = lists.prepare(connection, new H2Dialect(), values);
+            closed.close();
+
+            final PreparedStatement statement = lists.prepare(connection, new H2Dialect(), values);
+            assertNotSame(closed, statement);
+            try (ResultSet rs = statement.executeQuery()) {
+                assertTrue(rs.next());
+            }
+        }
+    }
+
+    @Test /* default */ void resultSetReportsTheNamedStatement() throws SQLException {
+        try (ProxyConnection connection = ProxyConnectionFactory.build(
+            DriverManager.getConnection("jdbc:h2:mem:list_stream", "sa", "")))
+        {
+            final NamedPreparedStatement stmt = connection.prepareNamedStatement(QUERY);
+            stmt.setList("ids", Arrays.asList(2, 4));
+            stmt.setInt("max", 50);
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertSame(stmt, rs.getStatement());
+            }
+
+            stmt.setList("ids", Arrays.asList(3, 5));
+            final ProxyResultSet rs = (ProxyResultSet) stmt.executeQuery();
+            try (Stream<Long> rows = rs.stream(RowMapperFactory.of(r -> r.getLong(1)))) {
+                assertEquals(Arrays.asList(3L, 5L), rows.collect(Collectors.toList()));
+            }
+            // the stream closes the named statement, as it does with any other query
+            assertTrue(stmt.isClosed());
+
+            try (NamedPreparedStatement other = connection.prepareNamedStatement(QUERY)) {
+                other.setList("ids", Collections.singletonList(7));
+                other.setInt("max", 50);
+                try (ResultSet again = other.executeQuery()) {
+                    assertTrue(again.next());
+                    assertEquals(7, again.getInt(1));
+                }
+            }
+        }
+    }
+}
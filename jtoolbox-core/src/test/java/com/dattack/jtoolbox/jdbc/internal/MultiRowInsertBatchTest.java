@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.internal.h2.H2Dialect;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link MultiRowInsertBatch} using an H2 in-memory database. The physical connection records the statements
+ * it prepares and the types of the null values bound to them.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class MultiRowInsertBatchTest {
+
+    private static final String INSERT = "INSERT INTO item (id, name) VALUES (:id, :name)";
+
+    private final transient List<String> prepared = Collections.synchronizedList(new ArrayList<>());
+    private final transient List<Integer> nullTypes = Collections.synchronizedList(new ArrayList<>());
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ProxyConnection connection(final String database, final JdbcDialect dialect) throws SQLException {
+        final Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + database, "sa", "");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(32))");
+        }
+        final ClassLoader loader = MultiRowInsertBatchTest.class.getClassLoader();
+        final Connection recording = (Connection) Proxy.newProxyInstance(loader, new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                final Object result = invoke(connection, method, args);
+                if (!"prepareStatement".equals(method.getName())) {
+                    return result;
+                }
+                prepared.add((String) args[0]);
+                return Proxy.newProxyInstance(loader, new Class<?>[] {PreparedStatement.class},
+                    (stmt, m, a) -> {
+                        if ("setNull".equals(m.getName())) {
+                            nullTypes.add((Integer) a[1]);
+                        }
+                        return invoke(result, m, a);
+                    });
+            });
+        return ProxyConnectionFactory.build(recording, new DialectResolver(dialect));
+    }
+
+    /**
+     * Returns the number of rows of the multi-row inserts prepared so far, skipping the named statement.
+     */
+    private List<Integer> preparedRows() {
+        return prepared.stream() //
+            .filter(sql -> sql.startsWith("INSERT")) //
+            .skip(1) //
+            .map(sql -> sql.split("\\(\\?").length - 1) //
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> names(final Connection connection) throws SQLException {
+        final List<String> names = new ArrayList<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT name FROM item ORDER BY id"))
+        {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+
+    private static void addRows(final NamedPreparedStatement stmt, final int from, final int to)
+        throws SQLException
+    {
+        for (int id = from; id < to; id++) {
+            stmt.setInt("id", id);
+            stmt.setString("name", "item " + id);
+            stmt.addBatch();
+        }
+    }
+
+    @Test /* default */ void batchIsSplitInPowersOfTwo() throws SQLException {
+        try (ProxyConnection connection = connection("multi_row_chunks", new H2Dialect());
+             NamedPreparedStatement stmt = connection.prepareNamedStatement(INSERT))
+        {
+            stmt.setMultiRowInsert(true);
+            assertTrue(stmt.isMultiRowInsert());
+            addRows(stmt, 0, 7);
+            assertArrayEquals(new int[] {1, 1, 1, 1, 1, 1, 1}, stmt.executeBatch());
+            assertEquals(Arrays.asList(4, 2, 1), preparedRows());
+
+            // the statements are prepared once and reused by the next batches
+            addRows(stmt, 7, 14);
+            assertEquals(7, stmt.executeBatch().length);
+            assertEquals(3, preparedRows().size());
+            assertEquals(14, names(connection).size());
+        }
+    }
+
+    @Test /* default */ void rowsAreCappedByTheBindLimit() throws SQLException {
+        final JdbcDialect dialect = new H2Dialect() {
+            @Override
+            public int getMaxBindVariables() {
+                return 7;
+            }
+        };
+        try (ProxyConnection connection = connection("multi_row_cap", dialect);
+             NamedPreparedStatement stmt = connection.prepareNamedStatement(INSERT))
+        {
+            stmt.setMultiRowInsert(true);
+            addRows(stmt, 0, 5);
+            assertEquals(5, stmt.executeBatch().length);
+            assertEquals(Arrays.asList(2, 1), preparedRows());
+            assertEquals(5, names(connection).size());
+        }
+    }
+
+    @Test /* default */ void singleRowLimitDisablesRewrite() throws SQLException {
+        final JdbcDialect dialect = new H2Dialect() {
+            @Override
+            public int getMaxBindVariables() {
+                return 3;
+            }
+        };
+        try (ProxyConnection connection = connection("multi_row_disabled", dialect);
+             NamedPreparedStatement stmt = connection.prepareNamedStatement(INSERT))
+        {
+            stmt.setMultiRowInsert(true);
+            assertFalse(stmt.isMultiRowInsert());
+            addRows(stmt, 0, 3);
+            assertEquals(3, stmt.executeBatch().length);
+            assertEquals(3, names(connection).size());
+        }
+    }
+
+    @Test /* default */ void nullsKeepTheirType() throws SQLException {
+        try (ProxyConnection connection = connection("multi_row_nulls", new H2Dialect());
+             NamedPreparedStatement stmt = connection.prepareNamedStatement(INSERT))
+        {
+            stmt.setMultiRowInsert(true);
+            stmt.setInt("id", 1);
+            stmt.setNull("name", Types.VARCHAR);
+            stmt.addBatch();
+            stmt.setInt("id", 2);
+            stmt.setString("name", "second");
+            stmt.addBatch();
+            stmt.executeBatch();
+
+            // bound to the named statement and to the multi-row insert
+            assertEquals(Arrays.asList(Types.VARCHAR, Types.VARCHAR), nullTypes);
+            assertEquals(Arrays.asList(null, "second"), names(connection));
+        }
+    }
+
+    @Test /* default */ void failureReportsTheRowsInserted() throws SQLException {
+        try (ProxyConnection connection = connection("multi_row_failure", new H2Dialect());
+             NamedPreparedStatement stmt = connection.prepareNamedStatement(INSERT))
+        {
+            stmt.setMultiRowInsert(true);
+            addRows(stmt, 0, 4);
+            addRows(stmt, 3, 6);
+
+            final BatchUpdateException error = assertThrows(BatchUpdateException.class, stmt::executeBatch);
+            assertArrayEquals(new int[] {1, 1, 1, 1}, error.getUpdateCounts());
+            assertEquals(4, names(connection).size());
+
+            // the failed rows are discarded
+            assertEquals(0, stmt.executeBatch().length);
+        }
+    }
+}
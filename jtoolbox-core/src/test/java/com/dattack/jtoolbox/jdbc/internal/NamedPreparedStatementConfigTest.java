@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link com.dattack.jtoolbox.jdbc.internal.NamedPreparedStatementConfig}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class NamedPreparedStatementConfigTest {
+
+    @Test /* default */ void cachedParseResult() {
+        final String sql = "SELECT * FROM customer WHERE id = :id";
+        assertSame(NamedPreparedStatementConfig.parse(sql), NamedPreparedStatementConfig.parse(sql));
+    }
+
+    @Test /* default */ void handleFromAnotherStatement() {
+        final NamedPreparedStatementConfig config = NamedPreparedStatementConfig.parse("SELECT :a, :b FROM dual");
+        final NamedPreparedStatementConfig other = NamedPreparedStatementConfig.parse("SELECT :b FROM dual");
+        final ParameterHandle handle = config.getHandle("B");
+
+        assertSame(handle, config.getHandle("b"));
+        assertEquals("b", handle.getName());
+        assertArrayEquals(new int[] {2}, config.getParameterPositions(handle));
+        assertThrows(IllegalArgumentException.class, () -> other.getParameterPositions(handle));
+
+        // same compiled SQL, but the parameters are swapped
+        final NamedPreparedStatementConfig swapped = NamedPreparedStatementConfig.parse("SELECT :b, :a FROM dual");
+        assertEquals(config.getCompiledSql(), swapped.getCompiledSql());
+        assertThrows(IllegalArgumentException.class, () -> swapped.getParameterPositions(handle));
+        assertArrayEquals(new int[] {2}, new NamedPreparedStatementConfig.Builder().withSql("SELECT :a, :b FROM dual")
+            .build().getParameterPositions(handle));
+    }
+
+    @Test /* default */ void ignoreQuotesAndComments() {
+        final NamedPreparedStatementConfig config = NamedPreparedStatementConfig.parse(
+            "SELECT ':a', \":b\" /* :c */ FROM t -- :d\n WHERE x = :e");
+
+        assertEquals("SELECT ':a', \":b\" /* :c */ FROM t -- :d\n WHERE x = ?", config.getCompiledSql());
+        assertEquals(1, config.getParameterCount());
+        assertFalse(config.hasNamedParameter("a"));
+        assertTrue(config.hasNamedParameter("e"));
+    }
+
+    @Test /* default */ void inListParameters() {
+        final NamedPreparedStatementConfig config = NamedPreparedStatementConfig.parse(
+            "SELECT * FROM t WHERE id IN ( :ids ) AND x = :x AND y NOT IN (:x, :y) AND MIN(:y) > 0");
+
+        assertTrue(config.hasInListParameters());
+        assertTrue(config.isInListParameter(config.getSlot("ids")));
+        assertFalse(config.isInListParameter(config.getSlot("x")));
+        assertFalse(config.isInListParameter(config.getSlot("y")));
+
+        final String[] fragments = new String[config.getSlotCount()];
+        fragments[config.getSlot("ids")] = "?, ?, ?, ?";
+        assertEquals("SELECT * FROM t WHERE id IN ( ?, ?, ?, ? ) AND x = ? AND y NOT IN (?, ?) AND MIN(?) > 0",
+            config.getCompiledSql(fragments));
+        assertFalse(NamedPreparedStatementConfig.parse("SELECT * FROM t WHERE id = :id").hasInListParameters());
+    }
+
+    @Test /* default */ void multiRowInsert() {
+        final NamedPreparedStatementConfig config = NamedPreparedStatementConfig.parse(
+            "INSERT INTO t (a, b, c) VALUES (:a, 'x', :b);");
+
+        assertTrue(config.isSimpleInsert());
+        assertEquals("INSERT INTO t (a, b, c) VALUES (?, 'x', ?), (?, 'x', ?)", config.getMultiRowInsertSql(2));
+        assertFalse(NamedPreparedStatementConfig.parse("INSERT INTO t VALUES (:a), (:b)").isSimpleInsert());
+        assertFalse(NamedPreparedStatementConfig.parse("INSERT INTO t SELECT :a FROM dual").isSimpleInsert());
+        assertFalse(NamedPreparedStatementConfig.parse("INSERT INTO t VALUES (:a) RETURNING id").isSimpleInsert());
+        assertThrows(IllegalStateException.class,
+            () -> NamedPreparedStatementConfig.parse("UPDATE t SET a = :a").getMultiRowInsertSql(2));
+    }
+
+    @Test /* default */ void repeatedParameters() {
+        final NamedPreparedStatementConfig config = NamedPreparedStatementConfig.parse(
+            "UPDATE t SET a = :Value, b = :other WHERE c = :value");
+
+        assertEquals("UPDATE t SET a = ?, b = ? WHERE c = ?", config.getCompiledSql());
+        assertEquals(3, config.getParameterCount());
+        assertEquals(2, config.getSlotCount());
+        assertArrayEquals(new int[] {1, 3}, config.getParameterPositions("value"));
+        assertArrayEquals(new int[] {1, 3}, config.getParameterPositions("VALUE"));
+        assertArrayEquals(new int[] {2}, config.getParameterPositions("other"));
+        assertEquals(config.getSlot("Value"), config.getSlot("value"));
+    }
+
+    @Test /* default */ void unknownParameter() {
+        final NamedPreparedStatementConfig config = NamedPreparedStatementConfig.parse("SELECT :a FROM dual");
+        assertThrows(IllegalArgumentException.class, () -> config.getParameterPositions("b"));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.H2TestUtils;
+import com.dattack.jtoolbox.jdbc.SimpleDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link ResultCache} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class ResultCacheTest {
+
+    private static final String QUERY = "SELECT name FROM country WHERE code = :code";
+
+    private static SimpleDataSource dataSource(final String database, final ResultCache cache) throws SQLException {
+        final SimpleDataSource dataSource = H2TestUtils.dataSource(database,
+            "CREATE TABLE IF NOT EXISTS country (code VARCHAR(2), name VARCHAR(32))", //
+            "DELETE FROM country", //
+            "INSERT INTO country VALUES ('ES', 'Spain'), ('FR', 'France')");
+        dataSource.setResultCache(cache);
+        return dataSource;
+    }
+
+    private static String queryName(final Connection connection, final String code) throws SQLException {
+        try (NamedPreparedStatement stmt = ((ExtendedConnection) connection).prepareNamedStatement(QUERY)) {
+            stmt.setCacheable(true, "country");
+            stmt.setString("code", code);
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs instanceof CachedResultSet);
+                return rs.next() ? rs.getString("NAME") : null;
+            }
+        }
+    }
+
+    @Test /* default */ void invalidateByTag() throws SQLException {
+        final ResultCache cache = new ResultCache.ResultCacheBuilder().build();
+        try (Connection connection = dataSource("cache_invalidate", cache).getConnection()) {
+            assertEquals("Spain", queryName(connection, "ES"));
+            assertEquals("France", queryName(connection, "FR"));
+
+            try (Statement stmt = connection.createStatement()) {
+                stmt.executeUpdate("UPDATE country SET name = 'Espana' WHERE code = 'ES'");
+            }
+            assertEquals("Spain", queryName(connection, "ES"));
+            assertEquals(1, cache.getStats().getHitCount());
+
+            cache.invalidate("country");
+            assertEquals("Espana", queryName(connection, "ES"));
+        }
+    }
+
+    @Test /* default */ void indexBoundValuesAreNotCached() throws SQLException {
+        final ResultCache cache = new ResultCache.ResultCacheBuilder().build();
+        try (Connection connection = dataSource("cache_index", cache).getConnection();
+             NamedPreparedStatement stmt = ((ExtendedConnection) connection).prepareNamedStatement(QUERY))
+        {
+            stmt.setCacheable(true, "country");
+            stmt.setString("code", "ES");
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals("Spain", rs.getString(1));
+            }
+
+            stmt.setString(1, "FR");
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertFalse(rs instanceof CachedResultSet);
+                assertTrue(rs.next());
+                assertEquals("France", rs.getString(1));
+            }
+
+            stmt.clearParameters();
+            stmt.setString("code", "ES");
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs instanceof CachedResultSet);
+                assertTrue(rs.next());
+                assertEquals("Spain", rs.getString(1));
+            }
+            assertEquals(1, cache.getStats().getHitCount());
+        }
+    }
+
+    @Test /* default */ void transactionBypassesCache() throws SQLException {
+        final ResultCache cache = new ResultCache.ResultCacheBuilder().build();
+        final SimpleDataSource dataSource = dataSource("cache_transaction", cache);
+        try (Connection writer = dataSource.getConnection(); Connection reader = dataSource.getConnection()) {
+            writer.setAutoCommit(false);
+            try (Statement stmt = writer.createStatement()) {
+                stmt.executeUpdate("UPDATE country SET name = 'Espana' WHERE code = 'ES'");
+            }
+            try (NamedPreparedStatement stmt = ((ExtendedConnection) writer).prepareNamedStatement(QUERY)) {
+                stmt.setCacheable(true, "country");
+                stmt.setString("code", "ES");
+                try (ResultSet rs = stmt.executeQuery()) {
+                    assertFalse(rs instanceof CachedResultSet);
+                    assertTrue(rs.next());
+                    assertEquals("Espana", rs.getString(1));
+                }
+            }
+            writer.rollback();
+
+            // the uncommitted row has not been published to the other connections
+            assertEquals("Spain", queryName(reader, "ES"));
+            assertEquals(0, cache.getStats().getHitCount());
+        }
+    }
+
+    @Test /* default */ void schemasDoNotShareResults() throws SQLException {
+        final ResultCache cache = new ResultCache.ResultCacheBuilder().build();
+        final SimpleDataSource dataSource = dataSource("cache_schema", cache);
+        try (Connection connection = dataSource.getConnection(); Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE SCHEMA IF NOT EXISTS other");
+            stmt.execute("CREATE TABLE IF NOT EXISTS other.country (code VARCHAR(2), name VARCHAR(32))");
+            stmt.execute("DELETE FROM other.country");
+            stmt.execute("INSERT INTO other.country VALUES ('ES', 'Reino de Espana')");
+
+            assertEquals("Spain", queryName(connection, "ES"));
+            connection.setSchema("OTHER");
+            assertEquals("Reino de Espana", queryName(connection, "ES"));
+            assertEquals(0, cache.getStats().getHitCount());
+        }
+    }
+
+    @Test /* default */ void scrollCachedResult() throws SQLException {
+        final ResultCache cache = new ResultCache.ResultCacheBuilder().build();
+        try (Connection connection = dataSource("cache_scroll", cache).getConnection();
+             NamedPreparedStatement stmt = ((ExtendedConnection) connection)
+                 .prepareNamedStatement("SELECT code, name FROM country WHERE code <> :code ORDER BY code"))
+        {
+            stmt.setCacheable(true, "country");
+            stmt.setString("code", "XX");
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs.last());
+                assertEquals(2, rs.getRow());
+                assertEquals("France", rs.getString(2));
+                assertTrue(rs.absolute(1));
+                assertEquals("ES", rs.getString("code"));
+                assertFalse(rs.previous());
+                assertTrue(rs.isBeforeFirst());
+            }
+        }
+    }
+}
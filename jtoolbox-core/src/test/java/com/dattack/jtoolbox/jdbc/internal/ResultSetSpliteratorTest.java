@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.UncheckedSQLException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link ResultSetSpliterator} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class ResultSetSpliteratorTest {
+
+    private static final String QUERY = "SELECT X AS ID, 'row' || X AS NAME FROM SYSTEM_RANGE(1, 5)";
+
+    private static Connection connection() throws SQLException {
+        return DriverManager.getConnection("jdbc:h2:mem:spliterator", "sa", "");
+    }
+
+    @Test /* default */ void streamRows() throws SQLException {
+        try (Connection connection = connection();
+             Statement stmt = connection.createStatement();
+             Stream<String> names = ResultSetSpliterator.stream(stmt.executeQuery(QUERY),
+                 RowMapperFactory.column("name", String.class)))
+        {
+            assertEquals(Arrays.asList("row1", "row2", "row3", "row4", "row5"), names.collect(Collectors.toList()));
+        }
+    }
+
+    @Test /* default */ void mapperCompiledOnce() throws SQLException {
+        final AtomicInteger compilations = new AtomicInteger();
+        final RowMapperFactory<Long> factory = metaData -> {
+            compilations.incrementAndGet();
+            final int index = RowMapperFactory.findColumn(metaData, "id");
+            return resultSet -> resultSet.getLong(index);
+        };
+        try (Connection connection = connection();
+             Statement stmt = connection.createStatement();
+             Stream<Long> ids = ResultSetSpliterator.stream(stmt.executeQuery(QUERY), factory))
+        {
+            assertEquals(15L, ids.mapToLong(Long::longValue).sum());
+            assertEquals(1, compilations.get());
+        }
+    }
+
+    @Test /* default */ void closeStreamClosesStatement() throws SQLException {
+        try (Connection connection = connection()) {
+            final Statement stmt = connection.createStatement();
+            final ResultSet resultSet = stmt.executeQuery(QUERY);
+            try (Stream<Object[]> rows = ResultSetSpliterator.stream(resultSet, RowMapperFactory.toArray())) {
+                // only the rows requested are read
+                assertEquals(2, rows.limit(2).count());
+                assertEquals(2, resultSet.getRow());
+            }
+            assertTrue(resultSet.isClosed());
+            assertTrue(stmt.isClosed());
+        }
+    }
+
+    @Test /* default */ void readErrorIsUnchecked() throws SQLException {
+        try (Connection connection = connection();
+             Statement stmt = connection.createStatement();
+             Stream<Object> values = ResultSetSpliterator.stream(stmt.executeQuery(QUERY),
+                 RowMapperFactory.of(resultSet -> resultSet.getObject(99))))
+        {
+            assertThrows(UncheckedSQLException.class, values::count);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link RowMapperFactory} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class RowMapperFactoryTest {
+
+    private static final String QUERY = "SELECT 7 AS ID, 'Alice' AS NAME";
+
+    private static <T> T mapRow(final RowMapperFactory<T> factory) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:row_mapper", "sa", "");
+             Statement stmt = connection.createStatement();
+             ResultSet resultSet = stmt.executeQuery(QUERY))
+        {
+            final RowMapper<T> mapper = factory.compile(resultSet.getMetaData());
+            assertTrue(resultSet.next());
+            return mapper.mapRow(resultSet);
+        }
+    }
+
+    @Test /* default */ void column() throws SQLException {
+        assertEquals("Alice", mapRow(RowMapperFactory.column("name", String.class)));
+        assertEquals(7, mapRow(RowMapperFactory.column("Id", Integer.class)));
+        assertThrows(SQLException.class, () -> mapRow(RowMapperFactory.column("email", String.class)));
+    }
+
+    @Test /* default */ void toArray() throws SQLException {
+        assertArrayEquals(new Object[] {7, "Alice"}, mapRow(RowMapperFactory.toArray()));
+    }
+
+    @Test /* default */ void toMap() throws SQLException {
+        final Map<String, Object> row = mapRow(RowMapperFactory.toMap());
+        assertEquals(Arrays.asList("ID", "NAME"), Arrays.asList(row.keySet().toArray()));
+        assertEquals(7, row.get("ID"));
+        assertEquals("Alice", row.get("NAME"));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import com.dattack.jtoolbox.jdbc.SimpleDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Test for {@link SlowQueryLog} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class SlowQueryLogTest {
+
+    private static final String QUERY = "SELECT :user_password, :api_token, :note, :amount FROM DUAL";
+
+    private static SimpleDataSource dataSource(final SlowQueryLog log) {
+        final SimpleDataSource dataSource = new SimpleDataSource("org.h2.Driver", "jdbc:h2:mem:slow_query_log", "sa",
+            "");
+        dataSource.setSlowQueryLog(log);
+        return dataSource;
+    }
+
+    private static void execute(final Connection connection) throws SQLException {
+        try (NamedPreparedStatement stmt = ((ExtendedConnection) connection).prepareNamedStatement(QUERY)) {
+            stmt.setString("user_password", "secret");
+            stmt.setString("api_token", "abc");
+            stmt.setString("note", "abcdefghij");
+            stmt.setInt("amount", 42);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) { //NOPMD - the rows are only consumed
+                }
+            }
+        }
+    }
+
+    @Test /* default */ void redactAndTruncate() throws SQLException, InterruptedException {
+        final BlockingQueue<SlowQuery> queries = new LinkedBlockingQueue<>();
+        try (SlowQueryLog log = new SlowQueryLog.SlowQueryLogBuilder() //
+            .withThreshold(0) //
+            .withMaxValueLength(5) //
+            .withRedactedParameters("USER_PASSWORD") //
+            .withRedactionPattern(Pattern.compile("token")) //
+            .withConsumer(queries::add) //
+            .build();
+             Connection connection = dataSource(log).getConnection())
+        {
+            execute(connection);
+
+            final SlowQuery query = queries.poll(5, TimeUnit.SECONDS);
+            assertNotNull(query);
+            assertEquals(QUERY, query.getSql());
+            assertFalse(query.isFailed());
+            final Map<String, String> parameters = query.getParameters();
+            assertEquals("****", parameters.get("user_password"));
+            assertEquals("****", parameters.get("api_token"));
+            assertEquals("'abcde...'", parameters.get("note"));
+            assertEquals("42", parameters.get("amount"));
+            assertEquals(0, log.getDroppedCount());
+        }
+    }
+
+    @Test /* default */ void dropWhenBufferIsFull() throws SQLException, InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final BlockingQueue<SlowQuery> queries = new LinkedBlockingQueue<>();
+        try (SlowQueryLog log = new SlowQueryLog.SlowQueryLogBuilder() //
+            .withThreshold(0) //
+            .withBufferSize(1) //
+            .withConsumer(query -> {
+                try {
+                    release.await();
+                    queries.add(query);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }) //
+            .build();
+             Connection connection = dataSource(log).getConnection())
+        {
+            // the first execution blocks the background thread, the second one fills the buffer
+            for (int i = 0; i < 4; i++) {
+                execute(connection);
+            }
+            assertEquals(2, log.getDroppedCount());
+
+            release.countDown();
+            assertNotNull(queries.poll(5, TimeUnit.SECONDS));
+            assertNotNull(queries.poll(5, TimeUnit.SECONDS));
+            assertEquals(2, log.getDroppedCount());
+        }
+    }
+}
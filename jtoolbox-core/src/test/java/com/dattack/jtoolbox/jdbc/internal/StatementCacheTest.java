@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link StatementCache} using an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class StatementCacheTest {
+
+    private static final String QUERY = "SELECT X FROM SYSTEM_RANGE(1, 10)";
+
+    private static ProxyConnection connection(final String database) throws SQLException {
+        final Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + database, "sa", "");
+        final ProxyConnection proxy = ProxyConnectionFactory.build(connection);
+        proxy.setStatementCacheSize(4);
+        return proxy;
+    }
+
+    @Test /* default */ void closedStatementFails() throws SQLException {
+        try (ProxyConnection connection = connection("cache_closed")) {
+            final PreparedStatement stale = connection.prepareStatement(QUERY);
+            final PreparedStatement physical = ((ProxyPreparedStatement<?>) stale).getInnermostDelegate();
+            stale.close();
+            assertTrue(stale.isClosed());
+
+            try (PreparedStatement current = connection.prepareStatement(QUERY)) {
+                assertNotSame(stale, current);
+                assertSame(physical, ((ProxyPreparedStatement<?>) current).getInnermostDelegate());
+                assertThrows(SQLException.class, stale::executeQuery);
+                assertThrows(SQLException.class, () -> stale.setMaxRows(1));
+                assertEquals(10, count(current));
+            }
+            assertEquals(1, connection.getStatementCacheStats().getHitCount());
+        }
+    }
+
+    @Test /* default */ void resetOnRelease() throws SQLException {
+        try (ProxyConnection connection = connection("cache_reset")) {
+            final ResultSet openResultSet;
+            try (PreparedStatement stmt = connection.prepareStatement(QUERY)) {
+                stmt.setMaxRows(2);
+                stmt.setFetchSize(1);
+                stmt.setQueryTimeout(5);
+                stmt.setMaxFieldSize(7);
+                assertEquals(2, count(stmt));
+                openResultSet = stmt.executeQuery();
+                assertTrue(openResultSet.next());
+            }
+            assertTrue(openResultSet.isClosed());
+
+            try (PreparedStatement stmt = connection.prepareStatement(QUERY)) {
+                assertEquals(0, stmt.getMaxRows());
+                assertTrue(stmt.getFetchSize() != 1);
+                assertEquals(0, stmt.getQueryTimeout());
+                assertEquals(0, stmt.getMaxFieldSize());
+                assertEquals(10, count(stmt));
+            }
+        }
+    }
+
+    @Test /* default */ void cursorNameIsNotReused() throws SQLException {
+        try (ProxyConnection connection = connection("cache_cursor")) {
+            final PreparedStatement physical;
+            try (PreparedStatement stmt = connection.prepareStatement(QUERY)) {
+                stmt.setCursorName("c1");
+                physical = ((ProxyPreparedStatement<?>) stmt).getInnermostDelegate();
+            }
+            assertTrue(physical.isClosed());
+            assertEquals(0, connection.getStatementCacheStats().getSize());
+        }
+    }
+
+    private static int count(final PreparedStatement stmt) throws SQLException {
+        int rows = 0;
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal.mysql;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test for {@link MySqlDialect}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class MySqlDialectTest {
+
+    @Test /* default */ void batchedStatementsAreRewritten() {
+        final Properties properties = new Properties();
+        new MySqlDialect().configureProperties(properties);
+
+        assertEquals("true", properties.getProperty(MySqlDialect.REWRITE_BATCHED_STATEMENTS));
+    }
+
+    @Test /* default */ void explicitRewriteIsKept() {
+        final Properties properties = new Properties();
+        properties.setProperty(MySqlDialect.REWRITE_BATCHED_STATEMENTS, "false");
+        new MySqlDialect().configureProperties(properties);
+
+        assertEquals("false", properties.getProperty(MySqlDialect.REWRITE_BATCHED_STATEMENTS));
+    }
+
+    @Test /* default */ void streamingUsesTheMinimumFetchSize() throws SQLException {
+        final List<Object> fetchSizes = new ArrayList<>();
+        final Statement statement = (Statement) Proxy.newProxyInstance(MySqlDialectTest.class.getClassLoader(),
+            new Class<?>[] {Statement.class}, (proxy, method, args) -> {
+                if ("setFetchSize".equals(method.getName())) {
+                    fetchSizes.add(args[0]);
+                    return null;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+        new MySqlDialect().enableStreaming(statement, 500);
+
+        assertEquals(Collections.singletonList(Integer.MIN_VALUE), fetchSizes);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal.oracle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Test for {@link OracleDialect}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class OracleDialectTest {
+
+    @Test /* default */ void anonymousBlock() {
+        final String block = new OracleDialect().toAnonymousBlock(Arrays.asList( //
+            "ALTER SESSION SET NLS_DATE_FORMAT = 'YYYY-MM-DD';", //
+            "  CREATE TABLE t (id NUMBER)  \n/\n", //
+            "BEGIN dbms_application_info.set_module('app', NULL); END;"));
+
+        assertEquals("BEGIN\n" //
+            + "  EXECUTE IMMEDIATE 'ALTER SESSION SET NLS_DATE_FORMAT = ''YYYY-MM-DD''';\n" //
+            + "  EXECUTE IMMEDIATE 'CREATE TABLE t (id NUMBER)';\n" //
+            + "  EXECUTE IMMEDIATE 'BEGIN dbms_application_info.set_module(''app'', NULL); END;';\n" //
+            + "END;", block);
+    }
+
+    @Test /* default */ void singleStatementBlock() {
+        assertEquals("BEGIN\n  EXECUTE IMMEDIATE 'SET ROLE ALL';\nEND;",
+            new OracleDialect().toAnonymousBlock(Collections.singletonList("SET ROLE ALL")));
+    }
+
+    @Test /* default */ void multiRowInsertNotSupported() {
+        assertFalse(new OracleDialect().supportsMultiRowInsert());
+    }
+
+    @Test /* default */ void inListLimit() {
+        assertEquals(1_000, new OracleDialect().getMaxInListElements());
+    }
+}
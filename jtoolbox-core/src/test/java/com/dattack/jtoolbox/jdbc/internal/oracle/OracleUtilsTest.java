@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal.oracle;
+
+import com.dattack.jtoolbox.jdbc.internal.ExtendedStatement;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnection;
+import com.dattack.jtoolbox.jdbc.internal.ProxyConnectionFactory;
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OraclePreparedStatement;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link OracleUtils}. The Oracle extensions are checked against the stubs of the driver interfaces of the
+ * test tree, and the fallbacks of the other drivers against an H2 in-memory database.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class OracleUtilsTest {
+
+    /**
+     * A stub of the Oracle driver: its connection and statements record the calls and keep the integer settings.
+     */
+    private static final class StubDriver {
+
+        private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, Integer> settings = new HashMap<>();
+        private transient SQLException failure;
+
+        private StubDriver() {
+            settings.put("RowPrefetch", 10);
+            settings.put("ExecuteBatch", 1);
+            settings.put("LobPrefetchSize", 4_000);
+            settings.put("StatementCacheSize", 0);
+        }
+
+        private static Object defaultValue(final Class<?> type) {
+            if (type == int.class) {
+                return 0;
+            }
+            return type == boolean.class ? Boolean.FALSE : null;
+        }
+
+        private OracleConnection connection() {
+            return (OracleConnection) Proxy.newProxyInstance(OracleUtilsTest.class.getClassLoader(),
+                new Class<?>[] {OracleConnection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "createStatement":
+                        case "prepareStatement":
+                            return statement();
+                        case "createOracleArray":
+                            calls.add("createOracleArray(" + args[0] + ", " + ((Object[]) args[1]).length + ")");
+                            return Proxy.newProxyInstance(OracleUtilsTest.class.getClassLoader(),
+                                new Class<?>[] {Array.class}, (array, m, a) -> defaultValue(m.getReturnType()));
+                        default:
+                            return invoke(method, args);
+                    }
+                });
+        }
+
+        private OraclePreparedStatement statement() {
+            return (OraclePreparedStatement) Proxy.newProxyInstance(OracleUtilsTest.class.getClassLoader(),
+                new Class<?>[] {OraclePreparedStatement.class}, (proxy, method, args) -> invoke(method, args));
+        }
+
+        private Object invoke(final Method method, final Object[] args) throws SQLException {
+            final String name = method.getName();
+            if ("setRowPrefetch".equals(name) && failure != null) {
+                throw failure;
+            }
+            if (name.startsWith("get") && settings.containsKey(name.substring(3))) {
+                return settings.get(name.substring(3));
+            }
+            if (name.startsWith("set") && settings.containsKey(name.substring(3))) {
+                settings.put(name.substring(3), (Integer) args[0]);
+            }
+            if (!name.startsWith("is") && !"close".equals(name)) {
+                calls.add(name + Arrays.stream(args == null ? new Object[0] : args).map(String::valueOf)
+                    .collect(Collectors.joining(", ", "(", ")")));
+            }
+            return defaultValue(method.getReturnType());
+        }
+    }
+
+    @Test /* default */ void statementExtensionsReachTheDriver() throws SQLException {
+        final StubDriver driver = new StubDriver();
+        try (ProxyConnection connection = OracleProxyConnection.build(driver.connection())) {
+            final ExtendedStatement stmt = (ExtendedStatement) connection.createStatement();
+            stmt.setRowPrefetch(50);
+            assertEquals(50, stmt.getRowPrefetch());
+            stmt.setExecuteBatch(20);
+            assertEquals(20, stmt.getExecuteBatch());
+            stmt.setLobPrefetchSize(-1);
+            assertEquals(-1, stmt.getLobPrefetchSize());
+            stmt.defineColumnType(1, Types.VARCHAR);
+            stmt.defineColumnType(2, Types.VARCHAR, 30);
+            assertTrue(driver.calls.containsAll(Arrays.asList("setRowPrefetch(50)", "setExecuteBatch(20)",
+                "setLobPrefetchSize(-1)", "defineColumnType(1, 12)", "defineColumnType(2, 12, 30)")));
+
+            // the settings are restored when the statement is closed
+            stmt.close();
+            assertTrue(driver.calls.contains("clearDefines()"));
+            assertEquals(10, driver.settings.get("RowPrefetch"));
+            assertEquals(1, driver.settings.get("ExecuteBatch"));
+            assertEquals(4_000, driver.settings.get("LobPrefetchSize"));
+        }
+    }
+
+    @Test /* default */ void connectionExtensionsReachTheDriver() throws SQLException {
+        final StubDriver driver = new StubDriver();
+        final OracleConnection oracle = driver.connection();
+        try (ProxyConnection connection = OracleProxyConnection.build(oracle)) {
+            connection.setImplicitStatementCacheSize(20);
+            assertEquals(20, connection.getImplicitStatementCacheSize());
+            connection.setImplicitStatementCacheSize(0);
+            assertEquals(Arrays.asList("setStatementCacheSize(20)", "setImplicitCachingEnabled(true)",
+                "setImplicitCachingEnabled(false)"), driver.calls);
+
+            assertNotNull(new OracleDialect().createInListArray(oracle, new Object[] {1, 2, 3}));
+            assertTrue(driver.calls.contains("createOracleArray(SYS.ODCINUMBERLIST, 3)"));
+        }
+    }
+
+    @Test /* default */ void driverErrorsArePropagated() throws SQLException {
+        final StubDriver driver = new StubDriver();
+        driver.failure = new SQLException("ORA-17068: Invalid arguments in call");
+        try (ProxyConnection connection = OracleProxyConnection.build(driver.connection())) {
+            final ExtendedStatement stmt = (ExtendedStatement) connection.createStatement();
+            assertSame(driver.failure, assertThrows(SQLException.class, () -> stmt.setRowPrefetch(0)));
+        }
+    }
+
+    private static void checkFallbacks(final Connection connection) throws SQLException {
+        final ProxyConnection proxy = (ProxyConnection) connection;
+        try (ExtendedStatement stmt = (ExtendedStatement) connection.createStatement()) {
+            stmt.setRowPrefetch(25);
+            assertEquals(25, stmt.getFetchSize());
+            assertEquals(25, stmt.getRowPrefetch());
+
+            stmt.defineColumnType(1, Types.VARCHAR);
+            stmt.defineColumnType(1, Types.VARCHAR, 30);
+            stmt.setExecuteBatch(20);
+            assertEquals(1, stmt.getExecuteBatch());
+            stmt.setLobPrefetchSize(100);
+            assertEquals(-1, stmt.getLobPrefetchSize());
+            try (ResultSet rs = stmt.executeQuery("SELECT 'a'")) {
+                assertTrue(rs.next());
+                assertEquals("a", rs.getString(1));
+            }
+        }
+        proxy.setImplicitStatementCacheSize(20);
+        assertEquals(0, proxy.getImplicitStatementCacheSize());
+        assertNull(OracleUtils.createOracleArray(connection, "SYS.ODCINUMBERLIST", new Object[] {1}));
+    }
+
+    @Test /* default */ void otherDriversFallBack() throws SQLException {
+        try (Connection connection = ProxyConnectionFactory.build(
+            DriverManager.getConnection("jdbc:h2:mem:oracle_generic", "sa", "")))
+        {
+            checkFallbacks(connection);
+        }
+    }
+
+    @Test /* default */ void oracleProxyOverOtherDriversFallsBack() throws SQLException {
+        try (Connection connection = OracleProxyConnection.build(
+            DriverManager.getConnection("jdbc:h2:mem:oracle_proxy", "sa", "")))
+        {
+            checkFallbacks(connection);
+        }
+    }
+}
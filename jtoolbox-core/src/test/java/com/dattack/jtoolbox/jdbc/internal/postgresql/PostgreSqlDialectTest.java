@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.jdbc.internal.postgresql;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test for {@link PostgreSqlDialect}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class PostgreSqlDialectTest {
+
+    @Test /* default */ void batchedInsertsAreRewritten() {
+        final Properties properties = new Properties();
+        new PostgreSqlDialect().configureProperties(properties);
+
+        assertEquals("true", properties.getProperty(PostgreSqlDialect.REWRITE_BATCHED_INSERTS));
+    }
+
+    @Test /* default */ void explicitRewriteIsKept() {
+        final Properties properties = new Properties();
+        properties.setProperty(PostgreSqlDialect.REWRITE_BATCHED_INSERTS, "false");
+        new PostgreSqlDialect().configureProperties(properties);
+
+        assertEquals("false", properties.getProperty(PostgreSqlDialect.REWRITE_BATCHED_INSERTS));
+    }
+
+    @Test /* default */ void streamingDisablesAutoCommit() throws SQLException {
+        final Map<String, Object> state = new HashMap<>();
+        state.put("autoCommit", Boolean.TRUE);
+        new PostgreSqlDialect().enableStreaming(statement(state), 500);
+
+        assertEquals(500, state.get("fetchSize"));
+        assertEquals(Boolean.FALSE, state.get("autoCommit"));
+    }
+
+    @Test /* default */ void streamingKeepsTheTransaction() throws SQLException {
+        final Map<String, Object> state = new HashMap<>();
+        state.put("autoCommit", Boolean.FALSE);
+        new PostgreSqlDialect().enableStreaming(statement(state), 100);
+
+        assertEquals(100, state.get("fetchSize"));
+        assertEquals(Boolean.FALSE, state.get("autoCommit"));
+        assertNull(state.get("setAutoCommit"));
+    }
+
+    /**
+     * Returns a statement that keeps its fetch size, and the auto-commit mode of its connection, in the given map.
+     */
+    private static Statement statement(final Map<String, Object> state) {
+        final ClassLoader loader = PostgreSqlDialectTest.class.getClassLoader();
+        final Connection connection = (Connection) Proxy.newProxyInstance(loader, new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getAutoCommit":
+                        return state.get("autoCommit");
+                    case "setAutoCommit":
+                        state.put("autoCommit", args[0]);
+                        state.put("setAutoCommit", args[0]);
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        return (Statement) Proxy.newProxyInstance(loader, new Class<?>[] {Statement.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getConnection":
+                        return connection;
+                    case "setFetchSize":
+                        state.put("fetchSize", args[0]);
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dattack.jtoolbox.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link com.dattack.jtoolbox.util.LruCache}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+/* default */ class LruCacheTest {
+
+    @Test /* default */ void evictLeastRecentlyUsed() {
+        final List<String> evicted = new ArrayList<>();
+        final LruCache<String, Integer> cache = new LruCache<>(2, (key, value) -> evicted.add(key));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a"); // 'b' is now the least recently used entry
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a"));
+        assertEquals(1, evicted.size());
+        assertEquals("b", evicted.get(0));
+    }
+
+    @Test /* default */ void concurrentUpdatesKeepTheBound() throws Exception {
+        final AtomicInteger evicted = new AtomicInteger();
+        final LruCache<Integer, Integer> cache = new LruCache<>(64, (key, value) -> evicted.incrementAndGet());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int offset = t * 1_000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        cache.put(offset + i, i);
+                        cache.get(offset + i / 2);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(64, cache.size());
+        assertEquals(4_000 - 64, evicted.get());
+        assertEquals(evicted.get(), cache.getStats().getEvictionCount());
+    }
+
+    @Test /* default */ void listenerRunsOutsideTheLock() throws Exception {
+        final List<String> evicted = new ArrayList<>();
+        final AtomicReference<LruCache<String, Integer>> reference = new AtomicReference<>();
+        final LruCache<String, Integer> cache = new LruCache<>(1, (key, value) -> {
+            if ("a".equals(key)) {
+                // another thread must be able to evict while this listener is running
+                final ExecutorService executor = Executors.newSingleThreadExecutor();
+                try {
+                    executor.submit(() -> reference.get().put("c", 3)).get(30, TimeUnit.SECONDS);
+                } catch (final InterruptedException | ExecutionException | TimeoutException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+            evicted.add(key);
+        });
+        reference.set(cache);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertEquals(Arrays.asList("b", "a"), evicted);
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test /* default */ void hitAndMissCounters() {
+        final LruCache<String, String> cache = new LruCache<>(10);
+        cache.computeIfAbsent("key", String::toUpperCase);
+        cache.computeIfAbsent("key", String::toUpperCase);
+        cache.get("unknown");
+
+        final LruCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0, stats.getEvictionCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test /* default */ void invalidMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+    }
+
+    @Test /* default */ void shrinkMaxSize() {
+        final LruCache<Integer, Integer> cache = new LruCache<>(5);
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, i);
+        }
+        cache.setMaxSize(2);
+
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.getStats().getEvictionCount());
+        assertEquals(4, cache.get(4));
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package oracle.jdbc;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Test stub of the interface of the Oracle driver, with the methods resolved by
+ * {@link com.dattack.jtoolbox.jdbc.internal.oracle.OracleUtils}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public interface OracleConnection extends Connection {
+
+    Array createOracleArray(String typeName, Object elements) throws SQLException;
+
+    int getStatementCacheSize() throws SQLException;
+
+    void setImplicitCachingEnabled(boolean cache) throws SQLException;
+
+    void setStatementCacheSize(int size) throws SQLException;
+}
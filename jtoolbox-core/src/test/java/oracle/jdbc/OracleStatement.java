@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, The Dattack team (http://www.dattack.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package oracle.jdbc;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Test stub of the interface of the Oracle driver, with the methods resolved by
+ * {@link com.dattack.jtoolbox.jdbc.internal.oracle.OracleUtils}.
+ *
+ * @author cvarela
+ * @since 0.7
+ */
+public interface OracleStatement extends Statement {
+
+    void clearDefines() throws SQLException;
+
+    void defineColumnType(int columnIndex, int type) throws SQLException;
+
+    void defineColumnType(int columnIndex, int type, int maxSize) throws SQLException;
+
+    int getLobPrefetchSize();
+
+    void setLobPrefetchSize(int value) throws SQLException;
+
+    int getRowPrefetch();
+
+    void setRowPrefetch(int value) throws SQLException;
+}